@@ -2,6 +2,7 @@ package org.apereo.cas.configuration.model.core.authentication;
 
 import org.apereo.cas.configuration.model.support.email.EmailProperties;
 import org.apereo.cas.configuration.model.support.sms.SmsProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -51,6 +52,12 @@ public class RiskBasedAuthenticationProperties implements Serializable {
      */
     private Response response = new Response();
 
+    /**
+     * Control how authentication history is aggregated
+     * into risk profiles for each principal.
+     */
+    private Profile profile = new Profile();
+
     /**
      * The risk threshold factor beyond which the authentication
      * event may be considered risky.
@@ -129,6 +136,35 @@ public class RiskBasedAuthenticationProperties implements Serializable {
         private int windowInHours = 2;
     }
 
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    @RequiresModule(name = "cas-server-support-electrofence")
+    public static class Profile implements Serializable {
+
+        private static final long serialVersionUID = -2379284107456234517L;
+
+        /**
+         * Authentication events lose half of their weight in the risk profile
+         * every time this period elapses, so that recent events count more than older ones.
+         * A zero or negative value disables time decay.
+         */
+        @DurationCapable
+        private String halfLife = "P14D";
+
+        /**
+         * Maximum number of risk profiles that are kept in memory.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Risk profiles are rebuilt from the events repository once this period elapses,
+         * to account for events recorded by other nodes.
+         */
+        @DurationCapable
+        private String expireAfterWrite = "PT30M";
+    }
+
     @Getter
     @Setter
     @Accessors(chain = true)
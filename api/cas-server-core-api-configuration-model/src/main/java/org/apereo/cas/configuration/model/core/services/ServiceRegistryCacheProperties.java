@@ -40,4 +40,12 @@ public class ServiceRegistryCacheProperties implements Serializable {
      * Services cache capacity sets the minimum total size for the internal data structures.
      */
     private int initialCapacity = 2_000;
+
+    /**
+     * Maximum number of service urls for which the matching service definition is remembered,
+     * so that repeated lookups for the same url skip evaluating service definitions.
+     * Remembered matches are discarded whenever service definitions are loaded or changed.
+     * A value of zero disables the cache.
+     */
+    private long matchResultCacheSize = 10_000L;
 }
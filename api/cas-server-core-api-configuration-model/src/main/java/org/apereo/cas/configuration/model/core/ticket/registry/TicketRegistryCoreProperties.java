@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.core.ticket.registry;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -31,4 +32,34 @@ public class TicketRegistryCoreProperties implements Serializable {
      * separate from the registry technology itself.
      */
     private boolean enableLocking = true;
+
+    /**
+     * When set to true, tickets that are read from or written to the registry
+     * while processing a request are kept for the duration of that request,
+     * so that repeated lookups of the same ticket, such as the ticket-granting ticket,
+     * within the same request do not go back to the registry.
+     */
+    private boolean enableRequestCache = true;
+
+    /**
+     * When set to true, the update that records the use of a ticket-granting ticket when a service ticket is granted
+     * is not written to the registry on the request thread. Such updates are collected,
+     * coalesced per ticket and written to the registry in the background; all other updates are written immediately.
+     * Tickets with pending updates may appear stale to other CAS server nodes until updates are written.
+     * Pending updates are written when the registry is shut down, and are lost if the CAS server node goes down abruptly.
+     */
+    private boolean enableWriteBehind;
+
+    /**
+     * Maximum amount of time that updates may be kept before they are written
+     * to the registry, when updates are written behind.
+     */
+    @DurationCapable
+    private String writeBehindMaxDelay = "PT1S";
+
+    /**
+     * Number of pending updates that, once reached, causes
+     * updates to be written to the registry without waiting for the maximum delay.
+     */
+    private int writeBehindBatchSize = 100;
 }
@@ -140,5 +140,15 @@ public class TicketRegistryProperties implements Serializable {
     @NestedConfigurationProperty
     private TicketRegistryCoreProperties core = new TicketRegistryCoreProperties();
 
+    /**
+     * Settings that control how tickets are partitioned across multiple backing stores.
+     */
+    @NestedConfigurationProperty
+    private TicketRegistryShardingProperties sharding = new TicketRegistryShardingProperties();
 
+    /**
+     * Settings that control how ticket types are placed in different backing stores.
+     */
+    @NestedConfigurationProperty
+    private TicketRegistryRoutingProperties routing = new TicketRegistryRoutingProperties();
 }
@@ -0,0 +1,36 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This is {@link TicketRegistryRoutingProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class TicketRegistryRoutingProperties implements Serializable {
+    private static final long serialVersionUID = -2298871583163428436L;
+
+    /**
+     * Backing stores for ticket types, keyed by the prefix of the ticket type
+     * as defined in the ticket catalog, such as {@code ST} or {@code TGT}.
+     * The value may be {@code default} for the ticket registry configured for CAS,
+     * {@code memory} for a store kept in the memory of the CAS server node,
+     * or the name of any other ticket registry bean.
+     * Ticket types that are not listed are kept by the ticket registry configured for CAS.
+     * Note that tickets kept in memory are only known to the CAS server node that creates them.
+     */
+    private Map<String, String> routes = new LinkedHashMap<>();
+}
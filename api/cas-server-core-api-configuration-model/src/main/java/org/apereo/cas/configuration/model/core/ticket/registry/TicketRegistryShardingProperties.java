@@ -0,0 +1,39 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link TicketRegistryShardingProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class TicketRegistryShardingProperties implements Serializable {
+    private static final long serialVersionUID = 3181393715312958617L;
+
+    /**
+     * Number of partitions (up to 256) across which tickets are distributed.
+     * When more than one partition is defined, ticket ids carry a signed token
+     * that identifies the partition that owns the ticket, allowing registries
+     * that support partitioning to route operations for a ticket to its partition directly.
+     * The number of partitions must match the number of backing stores defined by the registry.
+     */
+    private int partitions = 1;
+
+    /**
+     * Key used to sign the partition token embedded in ticket ids.
+     * The key must be the same for all CAS nodes. If left undefined,
+     * a random key is generated which is only suitable for single-node deployments.
+     */
+    private String signingKey;
+}
@@ -58,10 +58,58 @@ public class WebflowSessionManagementProperties implements Serializable {
      */
     private boolean storage;
 
+    /**
+     * Controls how webflow state is encoded when stored on the client side.
+     * State encoded in either format can always be decoded; the {@code COMPACT} format
+     * should only be selected once all nodes are able to decode it.
+     * Only relevant if session storage is done on the client.
+     */
+    private ClientStateEncodingTypes clientStateEncoding = ClientStateEncodingTypes.SERIALIZATION;
+
+    /**
+     * Compression algorithm applied to webflow state before encryption, when state is stored on the client
+     * and encoded in the {@code COMPACT} format.
+     */
+    private ClientStateCompressionTypes clientStateCompression = ClientStateCompressionTypes.GZIP;
+
     /**
      * If sessions are to be replicated via Hazelcast, controls and defines how state should be replicated.
      * Only relevant if session storage is done on the server.
      */
     @NestedConfigurationProperty
     private BaseHazelcastProperties hazelcast = new BaseHazelcastProperties();
+
+    /**
+     * Encoding formats for webflow state stored on the client.
+     */
+    public enum ClientStateEncodingTypes {
+        /**
+         * Standard java serialization of the flow execution.
+         */
+        SERIALIZATION,
+        /**
+         * Java serialization with compact class descriptors,
+         * prefixed by a header that identifies the format.
+         */
+        COMPACT
+    }
+
+    /**
+     * Compression algorithms for webflow state stored on the client.
+     */
+    public enum ClientStateCompressionTypes {
+        /**
+         * No compression.
+         */
+        NONE,
+        /**
+         * Gzip compression.
+         */
+        GZIP,
+        /**
+         * Deflate compression tuned for speed,
+         * which trades a slightly larger state for faster compression.
+         */
+        DEFLATE
+    }
 }
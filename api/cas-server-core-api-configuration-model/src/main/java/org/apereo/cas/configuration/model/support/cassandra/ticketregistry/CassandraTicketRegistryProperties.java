@@ -28,6 +28,12 @@ public class CassandraTicketRegistryProperties extends BaseCassandraProperties {
      */
     private boolean dropTablesOnStartup;
 
+    /**
+     * Number of rows fetched from each ticket table per request
+     * when tickets are streamed from the registry.
+     */
+    private int pageSize = 500;
+
     /**
      * Crypto settings for the registry.
      */
@@ -23,6 +23,12 @@ public class CouchbaseTicketRegistryProperties extends BaseCouchbaseProperties {
 
     private static final long serialVersionUID = 2123040809519673836L;
 
+    /**
+     * Number of documents fetched per query
+     * when tickets are streamed from the registry.
+     */
+    private int pageSize = 500;
+
     /**
      * Crypto settings for the registry.
      */
@@ -47,6 +47,12 @@ public class DynamoDbTicketRegistryProperties extends AbstractDynamoDbProperties
      */
     private String transientSessionTicketsTableName = "transientSessionTicketsTable";
 
+    /**
+     * Number of segments used to scan ticket tables in parallel,
+     * when all tickets are fetched or removed. A value of {@code 1} scans tables sequentially.
+     */
+    private int scanSegments = 4;
+
     /**
      * Crypto settings for the registry.
      */
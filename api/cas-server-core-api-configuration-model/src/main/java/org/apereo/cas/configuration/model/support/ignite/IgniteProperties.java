@@ -257,5 +257,18 @@ public class IgniteProperties implements Serializable {
          * </ul>
          */
         private String writeSynchronizationMode = "FULL_SYNC";
+
+        /**
+         * Whether caches holding ticket-granting tickets should be fronted by a near cache,
+         * which keeps recently accessed tickets on the local node so that reads do not
+         * always go to the primary node. This is only useful with the {@code PARTITIONED} cache mode.
+         */
+        private boolean nearCacheEnabled;
+
+        /**
+         * Maximum number of entries kept in the near cache,
+         * beyond which the least recently used entries are evicted.
+         */
+        private int nearCacheMaxSize = 100_000;
     }
 }
@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.support.jms;
 
 import org.apereo.cas.configuration.model.core.util.EncryptionRandomizedSigningJwtCryptographyProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -33,6 +34,39 @@ public class JmsTicketRegistryProperties implements Serializable {
      */
     private String queueIdentifier;
 
+    /**
+     * Window during which changes to tickets are collected before they are published
+     * to peers in a single message. Multiple changes to the same ticket within this window
+     * are coalesced so that only the last change is published. By default, this is set to zero
+     * and every change is published immediately in its own message. Note that when a window is set,
+     * changes only become visible to peers once the window elapses, so that a ticket issued by one node,
+     * such as a service ticket, may not yet be found by another node that is asked to validate it.
+     */
+    @DurationCapable
+    private String publishLinger = "PT0S";
+
+    /**
+     * Maximum number of ticket changes collected in a single message.
+     * Collected changes are published once this limit is reached,
+     * even if the {@link #publishLinger} window has not yet elapsed.
+     */
+    private int publishBatchSize = 100;
+
+    /**
+     * Time to wait, on startup, for a peer to respond with the tickets it currently holds,
+     * so that a node joining the cluster does not start serving requests without existing tickets.
+     * Set to zero to skip requesting a snapshot of tickets from peers.
+     */
+    @DurationCapable
+    private String snapshotTimeout = "PT5S";
+
+    /**
+     * Maximum number of tickets sent by a peer in a single snapshot message.
+     * Larger snapshots are sent in multiple pages, each of which is requested separately
+     * and is subject to the snapshot timeout.
+     */
+    private int snapshotPageSize = 500;
+
     /**
      * Crypto settings for the registry.
      */
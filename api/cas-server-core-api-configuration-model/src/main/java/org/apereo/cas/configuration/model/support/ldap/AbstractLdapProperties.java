@@ -96,6 +96,14 @@ public abstract class AbstractLdapProperties implements Serializable {
      */
     private int maxPoolSize = 10;
 
+    /**
+     * Whether the connection pool should adapt its size to demand.
+     * When enabled, the pool opens additional connections in the background, up to its maximum size,
+     * when checking out connections is consistently slow, and idle connections beyond the
+     * minimum pool size are pruned as soon as they exceed the configured idle time.
+     */
+    private boolean adaptivePoolSizing;
+
     /**
      * You may receive unexpected LDAP failures, when CAS is configured to authenticate
      * using {@code DIRECT} or {@code AUTHENTICATED} types and LDAP is locked down to not allow anonymous binds/searches.
@@ -274,6 +282,12 @@ public abstract class AbstractLdapProperties implements Serializable {
     @NestedConfigurationProperty
     private LdapValidatorProperties validator = new LdapValidatorProperties();
 
+    /**
+     * Settings to cache the results of search operations.
+     */
+    @NestedConfigurationProperty
+    private LdapSearchCacheProperties searchCache = new LdapSearchCacheProperties();
+
     /**
      * Hostname verification options.
      */
@@ -102,6 +102,15 @@ public class LdapAuthenticationProperties extends AbstractLdapAuthenticationProp
      */
     private boolean collectDnAttribute;
 
+    /**
+     * Hand off attributes collected from the authenticated entry to principal resolution
+     * for the current authentication transaction. If the handed-off attributes cover all attributes
+     * that attribute repositories are able to produce, principal resolution uses them and does not
+     * query attribute repositories for the same principal again. This should only be enabled
+     * when attribute repositories are backed by the same directory as this authentication handler.
+     */
+    private boolean handOffPrincipalAttributes;
+
     /**
      * Order of the authentication handler in the chain.
      */
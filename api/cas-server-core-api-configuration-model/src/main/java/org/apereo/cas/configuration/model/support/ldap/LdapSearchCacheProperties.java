@@ -0,0 +1,58 @@
+package org.apereo.cas.configuration.model.support.ldap;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link LdapSearchCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@RequiresModule(name = "cas-server-support-ldap")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("LdapSearchCacheProperties")
+public class LdapSearchCacheProperties implements Serializable {
+
+    private static final long serialVersionUID = -3259318225714960227L;
+
+    /**
+     * Whether results of search operations should be cached.
+     */
+    private boolean enabled;
+
+    /**
+     * Name of the cache that holds search results.
+     * LDAP configurations that point to the same cache name share cached results.
+     * If left undefined, the cache is shared by all configurations that
+     * connect to the same LDAP URL with the same bind DN.
+     */
+    private String name;
+
+    /**
+     * Maximum number of search results to keep in the cache.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Duration for which search results that contain entries are cached.
+     */
+    @DurationCapable
+    private String expireAfterWrite = "PT5M";
+
+    /**
+     * Duration for which search results that contain no entries are cached.
+     * Set this to zero to avoid caching negative results.
+     */
+    @DurationCapable
+    private String negativeExpireAfterWrite = "PT1M";
+}
@@ -138,6 +138,13 @@ public class BaseMemcachedProperties implements Serializable {
      */
     private boolean kryoRegistrationRequired = true;
 
+    /**
+     * Objects encoded by kryo whose size in bytes exceeds this threshold
+     * are compressed before they are stored. A value of zero or less disables compression.
+     * Compressed values can only be read by CAS nodes that support kryo compression.
+     */
+    private int kryoCompressionThreshold;
+
     public enum TranscoderTypes {
         /**
          * CAS transcoder implementation based on Kryo fast serialization framework
@@ -46,6 +46,23 @@ public class OAuthAccessTokenProperties implements Serializable {
      */
     private boolean createAsJwt;
 
+    /**
+     * Validate access tokens that are issued as signed JWTs locally,
+     * using the token signature and claims, without looking up the token
+     * in the ticket registry. Revoked tokens are tracked in a deny-list
+     * until they would have naturally expired.
+     * Access tokens are still stored in the ticket registry so that
+     * refresh tokens, revocation and token management continue to function.
+     */
+    private boolean stateless;
+
+    /**
+     * The expected number of revoked access tokens tracked in the deny-list
+     * at any given time, when access tokens are validated statelessly.
+     * This value is used to size the bloom filter that guards the deny-list.
+     */
+    private long denyListExpectedInsertions = 100_000;
+
     /**
      * The storage object name used and created by CAS to hold OAuth access tokens
      * in the backing ticket registry implementation.
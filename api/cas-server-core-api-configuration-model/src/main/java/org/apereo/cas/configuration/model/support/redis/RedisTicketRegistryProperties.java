@@ -9,6 +9,9 @@ import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Configuration properties for Redis.
  *
@@ -30,6 +33,14 @@ public class RedisTicketRegistryProperties extends BaseRedisProperties {
     @NestedConfigurationProperty
     private EncryptionRandomizedSigningJwtCryptographyProperties crypto = new EncryptionRandomizedSigningJwtCryptographyProperties();
 
+    /**
+     * Additional Redis deployments that act as partitions of the ticket registry.
+     * When defined, tickets are distributed across the main Redis deployment and these partitions
+     * based on the partition token embedded in ticket ids, and the number of partitions
+     * defined in the ticket registry sharding settings must match the total number of deployments.
+     */
+    private List<BaseRedisProperties> partitions = new ArrayList<>(0);
+
     public RedisTicketRegistryProperties() {
         this.crypto.setEnabled(false);
     }
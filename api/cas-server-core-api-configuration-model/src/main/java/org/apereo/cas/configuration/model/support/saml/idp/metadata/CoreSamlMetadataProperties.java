@@ -42,6 +42,28 @@ public class CoreSamlMetadataProperties implements Serializable {
      */
     private boolean requireValidMetadata = true;
 
+    /**
+     * Whether metadata for all SAML service providers should be resolved and cached
+     * once service definitions are loaded, so that the first request to each service provider
+     * after startup does not pay the cost of downloading and parsing metadata.
+     * Metadata for services that are loaded at startup is resolved before the server
+     * reports itself as ready to accept traffic.
+     */
+    private boolean warmUpEnabled;
+
+    /**
+     * The number of service providers whose metadata is resolved in parallel
+     * while the metadata cache is warmed up.
+     */
+    private int warmUpParallelism = 4;
+
+    /**
+     * How long to wait for the metadata cache to warm up before giving up.
+     * Metadata that is not resolved in time is resolved on demand.
+     */
+    @DurationCapable
+    private String warmUpTimeout = "PT60S";
+
     /**
      * Whether metadata generation process
      * should support SSO service POST binding.
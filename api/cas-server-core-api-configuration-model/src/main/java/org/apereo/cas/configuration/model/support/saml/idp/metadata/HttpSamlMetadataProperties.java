@@ -32,6 +32,13 @@ public class HttpSamlMetadataProperties implements Serializable {
      */
     private boolean forceMetadataRefresh = true;
 
+    /**
+     * Whether downloaded metadata should be written to the backup location
+     * in the background, off the request thread. Metadata is parsed in memory
+     * and pending writes to the same backup file are coalesced.
+     */
+    private boolean asynchronousBackup = true;
+
     /**
      * Directory location where downloaded SAML metadata is cached
      * as backup files. If left undefined, the directory is calculated
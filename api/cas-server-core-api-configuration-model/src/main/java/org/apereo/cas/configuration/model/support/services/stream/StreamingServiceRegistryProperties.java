@@ -33,6 +33,12 @@ public class StreamingServiceRegistryProperties implements Serializable {
     @NestedConfigurationProperty
     private StreamingServicesCoreProperties core = new StreamingServicesCoreProperties();
 
+    /**
+     * Settings that control publishing service definitions as cluster-wide snapshots.
+     */
+    @NestedConfigurationProperty
+    private StreamingServicesSnapshotProperties snapshot = new StreamingServicesSnapshotProperties();
+
     /**
      * Stream services with hazelcast.
      */
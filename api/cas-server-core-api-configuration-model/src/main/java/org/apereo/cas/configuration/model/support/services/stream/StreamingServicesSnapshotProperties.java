@@ -0,0 +1,40 @@
+package org.apereo.cas.configuration.model.support.services.stream;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link StreamingServicesSnapshotProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Getter
+@Setter
+@RequiresModule(name = "cas-server-support-service-registry-stream")
+@Accessors(chain = true)
+public class StreamingServicesSnapshotProperties implements Serializable {
+
+    private static final long serialVersionUID = 3172245312508963152L;
+
+    /**
+     * Whether service definitions should be loaded from the service registry
+     * by a single elected node and published to the cluster as a versioned, compressed snapshot.
+     * All other nodes stop loading definitions from the service registry directly
+     * and instead apply the latest published snapshot. Nodes fall back to
+     * loading definitions from the service registry until a snapshot is available.
+     */
+    private boolean enabled;
+
+    /**
+     * Whether this node should act as the node that loads and publishes snapshots.
+     * This setting only applies to streaming strategies that are unable to elect a leader
+     * on their own, such as Apache Kafka. Hazelcast always elects the oldest member of the cluster.
+     */
+    private boolean leader;
+}
@@ -32,6 +32,16 @@ public interface ServicesManagerRegisteredServiceLocator extends Ordered {
      */
     boolean supports(RegisteredService registeredService, Service service);
 
+    /**
+     * Whether the registered service located by this locator only depends on
+     * the service id, so the result may be remembered until service definitions change.
+     *
+     * @return true/false
+     */
+    default boolean isCacheable() {
+        return false;
+    }
+
     @Override
     default int getOrder() {
         return Ordered.LOWEST_PRECEDENCE;
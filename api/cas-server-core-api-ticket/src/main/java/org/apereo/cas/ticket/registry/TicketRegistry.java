@@ -71,6 +71,43 @@ public interface TicketRegistry {
      */
     Ticket getTicket(String ticketId, Predicate<Ticket> predicate);
 
+    /**
+     * Consume the ticket by retrieving it and recording its use as a single operation.
+     * Tickets that are expired, or have no remaining uses once this use is recorded, are removed
+     * from the registry; otherwise, the ticket is stored again with its updated state.
+     * <p>
+     * Registries should carry out this operation atomically using the native facilities of
+     * the underlying store, such that a ticket that permits a single use is handed out
+     * to at most one caller, without the need to lock the ticket separately. A ticket that permits
+     * further uses may be taken out of the registry while its use is recorded, in which case concurrent
+     * uses of the same ticket should be serialized by the caller.
+     * The default implementation is not atomic.
+     * </p>
+     *
+     * @param <T>      the generic ticket type to return that extends {@link Ticket}
+     * @param ticketId the id of the ticket we wish to consume
+     * @param clazz    the expected class of the ticket we wish to consume
+     * @return the consumed ticket, or null if the ticket cannot be found or has expired
+     * @throws Exception the exception
+     */
+    default <T extends Ticket> T consumeTicket(final String ticketId, final Class<T> clazz) throws Exception {
+        final T ticket = getTicket(ticketId, clazz);
+        if (ticket == null) {
+            return null;
+        }
+        if (ticket.isExpired()) {
+            deleteTicket(ticket);
+            return null;
+        }
+        ticket.update();
+        if (ticket.isExpired()) {
+            deleteTicket(ticket);
+        } else {
+            updateTicket(ticket);
+        }
+        return ticket;
+    }
+
     /**
      * Remove a specific ticket from the registry.
      * If ticket to delete is TGT then related service tickets are removed as well.
@@ -127,6 +164,22 @@ public interface TicketRegistry {
      */
     Ticket updateTicket(Ticket ticket) throws Exception;
 
+    /**
+     * Update the received ticket, allowing the registry to write the update later
+     * if the update is deferrable. Updates that are not critical to the consistency of the registry,
+     * such as recording the usage of a ticket-granting ticket, may be marked as deferrable;
+     * all other updates should use {@link #updateTicket(Ticket)}.
+     * The default implementation always updates the ticket immediately.
+     *
+     * @param ticket     the ticket
+     * @param deferrable whether the update may be written later
+     * @return the updated ticket
+     * @throws Exception the exception
+     */
+    default Ticket updateTicket(final Ticket ticket, final boolean deferrable) throws Exception {
+        return updateTicket(ticket);
+    }
+
     /**
      * Computes the number of SSO sessions stored in the ticket registry.
      *
@@ -2,6 +2,7 @@ package org.apereo.cas.validation;
 
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.services.RegisteredService;
 
 import java.io.Serializable;
 import java.util.List;
@@ -47,4 +48,14 @@ public interface Assertion extends Serializable {
      */
     WebApplicationService getService();
 
+    /**
+     * Gets the registered service that was located for the service
+     * when the ticket was validated, so that components that process the assertion
+     * later on in the same request need not locate it again.
+     *
+     * @return the registered service, or null if it is unknown
+     */
+    default RegisteredService getRegisteredService() {
+        return null;
+    }
 }
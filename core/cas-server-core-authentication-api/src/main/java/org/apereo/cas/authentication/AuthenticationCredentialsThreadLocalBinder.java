@@ -1,5 +1,7 @@
 package org.apereo.cas.authentication;
 
+import org.apereo.cas.authentication.attribute.PrincipalAttributesHandOff;
+
 import lombok.NoArgsConstructor;
 
 import java.util.Arrays;
@@ -136,6 +138,7 @@ public class AuthenticationCredentialsThreadLocalBinder {
         CURRENT_CREDENTIAL_IDS.remove();
         CURRENT_AUTHENTICATION.remove();
         CURRENT_AUTHENTICATION_BUILDER.remove();
+        PrincipalAttributesHandOff.clear();
         clearInProgressAuthentication();
     }
 }
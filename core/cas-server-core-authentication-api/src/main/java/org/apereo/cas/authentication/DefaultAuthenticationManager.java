@@ -3,6 +3,7 @@ package org.apereo.cas.authentication;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
 import org.apereo.cas.audit.AuditableActions;
+import org.apereo.cas.authentication.attribute.PrincipalAttributesHandOff;
 import org.apereo.cas.authentication.exceptions.UnresolvedPrincipalException;
 import org.apereo.cas.authentication.metadata.BasicCredentialMetaData;
 import org.apereo.cas.authentication.principal.NullPrincipal;
@@ -65,7 +66,9 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
             throw new AuthenticationException("Authentication pre-processor has failed to process transaction");
         }
         AuthenticationCredentialsThreadLocalBinder.bindCurrent(transaction.getCredentials());
+        PrincipalAttributesHandOff.clear();
         val builder = authenticateInternal(transaction);
+        PrincipalAttributesHandOff.clear();
         AuthenticationCredentialsThreadLocalBinder.bindCurrent(builder);
 
         val authentication = builder.build();
@@ -48,16 +48,7 @@ public class PrincipalAttributeRepositoryFetcher {
      * @return the map
      */
     public Map<String, List<Object>> retrieve() {
-        var filter = IPersonAttributeDaoFilter.alwaysChoose();
-        if (!activeAttributeRepositoryIdentifiers.isEmpty()) {
-            val repoIdsArray = activeAttributeRepositoryIdentifiers.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
-            LOGGER.trace("Active attribute repository identifiers [{}]", activeAttributeRepositoryIdentifiers);
-            filter = dao -> Arrays.stream(dao.getId())
-                .anyMatch(daoId -> daoId.equalsIgnoreCase(IPersonAttributeDao.WILDCARD)
-                                   || StringUtils.equalsAnyIgnoreCase(daoId, repoIdsArray)
-                                   || StringUtils.equalsAnyIgnoreCase(IPersonAttributeDao.WILDCARD, repoIdsArray));
-        }
-
+        val filter = getAttributeRepositoryFilter();
         val query = new LinkedHashMap<String, Object>();
         if (currentPrincipal != null) {
             query.put("principal", currentPrincipal.getId());
@@ -83,4 +74,21 @@ public class PrincipalAttributeRepositoryFetcher {
         LOGGER.debug("Retrieved person [{}] from attribute repositories for query [{}]", person, query);
         return person.getAttributes();
     }
+
+    /**
+     * Gets the filter that selects the active attribute repositories.
+     *
+     * @return the attribute repository filter
+     */
+    public IPersonAttributeDaoFilter getAttributeRepositoryFilter() {
+        if (activeAttributeRepositoryIdentifiers.isEmpty()) {
+            return IPersonAttributeDaoFilter.alwaysChoose();
+        }
+        val repoIdsArray = activeAttributeRepositoryIdentifiers.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
+        LOGGER.trace("Active attribute repository identifiers [{}]", activeAttributeRepositoryIdentifiers);
+        return dao -> Arrays.stream(dao.getId())
+            .anyMatch(daoId -> daoId.equalsIgnoreCase(IPersonAttributeDao.WILDCARD)
+                               || StringUtils.equalsAnyIgnoreCase(daoId, repoIdsArray)
+                               || StringUtils.equalsAnyIgnoreCase(IPersonAttributeDao.WILDCARD, repoIdsArray));
+    }
 }
@@ -0,0 +1,140 @@
+package org.apereo.cas.authentication.attribute;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * ThreadLocal based hand-off of principal attributes that are retrieved by an authentication handler
+ * during the current authentication transaction, such as attributes read from the authenticated LDAP entry.
+ * Principal resolution may consume the handed-off attributes instead of querying attribute repositories
+ * again for the same principal, provided they cover every attribute the repositories are able to produce.
+ * <p>
+ * The thread local state carried by this class is removed once consumed, and is otherwise cleared
+ * along with the rest of the authentication thread local state at the end of the request.
+ * </p>
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@UtilityClass
+public class PrincipalAttributesHandOff {
+    private static final ThreadLocal<Map<String, HandOff>> HAND_OFFS = new ThreadLocal<>();
+
+    private static final LongAdder RECORDED = new LongAdder();
+
+    private static final LongAdder CONSUMED = new LongAdder();
+
+    private static final LongAdder FETCHED = new LongAdder();
+
+    /**
+     * Hand off attributes retrieved for the principal.
+     *
+     * @param principalId    the principal id
+     * @param attributeNames the names of all attributes that were requested, whether or not values were found
+     * @param attributes     the attributes
+     */
+    public static void record(final String principalId, final Collection<String> attributeNames,
+                              final Map<String, List<Object>> attributes) {
+        var handOffs = HAND_OFFS.get();
+        if (handOffs == null) {
+            handOffs = new HashMap<>();
+            HAND_OFFS.set(handOffs);
+        }
+        val names = new HashSet<>(attributeNames);
+        names.addAll(attributes.keySet());
+        LOGGER.trace("Handing off attributes [{}] for principal [{}]", names, principalId);
+        handOffs.put(principalId, new HandOff(names, new LinkedHashMap<>(attributes)));
+        RECORDED.increment();
+    }
+
+    /**
+     * Consume attributes handed off for the principal, if they cover all required attribute names.
+     * Any attributes handed off for the principal are discarded once this method is called.
+     *
+     * @param principalId            the principal id
+     * @param requiredAttributeNames the attribute names that must be covered by the hand-off,
+     *                               only looked up if attributes were handed off for the principal
+     * @return the attributes limited to the required names, or empty if attributes must be fetched
+     */
+    public static Optional<Map<String, List<Object>>> consume(final String principalId,
+                                                              final Supplier<Set<String>> requiredAttributeNames) {
+        val handOffs = HAND_OFFS.get();
+        val handOff = handOffs == null ? null : handOffs.remove(principalId);
+        if (handOff == null) {
+            FETCHED.increment();
+            return Optional.empty();
+        }
+        val required = requiredAttributeNames.get();
+        if (required == null || required.isEmpty() || !handOff.getAttributeNames().containsAll(required)) {
+            LOGGER.debug("Attributes handed off for [{}] do not cover required attributes [{}]", principalId, required);
+            FETCHED.increment();
+            return Optional.empty();
+        }
+        val attributes = new LinkedHashMap<String, List<Object>>();
+        handOff.getAttributes().forEach((name, values) -> {
+            if (required.contains(name)) {
+                attributes.put(name, values);
+            }
+        });
+        LOGGER.debug("Using attributes [{}] handed off for [{}]", attributes, principalId);
+        CONSUMED.increment();
+        return Optional.of(attributes);
+    }
+
+    /**
+     * Clear ThreadLocal state.
+     */
+    public static void clear() {
+        HAND_OFFS.remove();
+    }
+
+    /**
+     * Gets the number of attribute hand-offs recorded.
+     *
+     * @return the count
+     */
+    public static double getRecordedCount() {
+        return RECORDED.sum();
+    }
+
+    /**
+     * Gets the number of principal resolutions that used handed-off attributes.
+     *
+     * @return the count
+     */
+    public static double getConsumedCount() {
+        return CONSUMED.sum();
+    }
+
+    /**
+     * Gets the number of principal resolutions that had to fetch attributes from attribute repositories.
+     *
+     * @return the count
+     */
+    public static double getFetchedCount() {
+        return FETCHED.sum();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class HandOff {
+        private final Set<String> attributeNames;
+
+        private final Map<String, List<Object>> attributes;
+    }
+}
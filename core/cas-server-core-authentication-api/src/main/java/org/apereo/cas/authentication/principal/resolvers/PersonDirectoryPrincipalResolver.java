@@ -3,6 +3,7 @@ package org.apereo.cas.authentication.principal.resolvers;
 import org.apereo.cas.authentication.AuthenticationHandler;
 import org.apereo.cas.authentication.Credential;
 import org.apereo.cas.authentication.attribute.PrincipalAttributeRepositoryFetcher;
+import org.apereo.cas.authentication.attribute.PrincipalAttributesHandOff;
 import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.util.CollectionUtils;
@@ -179,6 +180,8 @@ public class PersonDirectoryPrincipalResolver implements PrincipalResolver {
 
     /**
      * Retrieve person attributes as a map.
+     * Attributes handed off by the authentication handler for the same principal are used
+     * instead of querying attribute repositories, if they cover all attributes the repositories can produce.
      *
      * @param principalId      the principal id
      * @param credential       the credential whose id we have extracted.
@@ -192,14 +195,16 @@ public class PersonDirectoryPrincipalResolver implements PrincipalResolver {
 
         queryAttributes.computeIfAbsent("credentialId", k1 -> CollectionUtils.wrapList(credential.getId()));
         queryAttributes.computeIfAbsent("credentialClass", k -> CollectionUtils.wrapList(credential.getClass().getSimpleName()));
-        return PrincipalAttributeRepositoryFetcher.builder()
+        val fetcher = PrincipalAttributeRepositoryFetcher.builder()
             .attributeRepository(context.getAttributeRepository())
             .principalId(principalId)
             .activeAttributeRepositoryIdentifiers(context.getActiveAttributeRepositoryIdentifiers())
             .currentPrincipal(currentPrincipal.orElse(null))
             .queryAttributes(queryAttributes)
-            .build()
-            .retrieve();
+            .build();
+        return PrincipalAttributesHandOff.consume(principalId,
+                () -> context.getAttributeRepository().getPossibleUserAttributeNames(fetcher.getAttributeRepositoryFilter()))
+            .orElseGet(fetcher::retrieve);
     }
 
     /**
@@ -3,6 +3,7 @@ package org.apereo.cas.authentication.principal.resolvers;
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.authentication.CoreAuthenticationUtils;
 import org.apereo.cas.authentication.Credential;
+import org.apereo.cas.authentication.attribute.PrincipalAttributesHandOff;
 import org.apereo.cas.authentication.handler.support.SimpleTestUsernamePasswordAuthenticationHandler;
 import org.apereo.cas.authentication.principal.DefaultPrincipalElectionStrategy;
 import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
@@ -28,6 +29,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -418,4 +420,33 @@ public class PersonDirectoryPrincipalResolverTests {
             });
 
     }
+
+    @Test
+    public void verifyHandedOffAttributes() {
+        val attributeRepository = mock(IPersonAttributeDao.class);
+        when(attributeRepository.getPossibleUserAttributeNames(any())).thenReturn(Set.of("cn", "mail"));
+        val context = PrincipalResolutionContext.builder()
+            .attributeMerger(CoreAuthenticationUtils.getAttributeMerger(casProperties.getAuthn().getAttributeRepository().getCore().getMerger()))
+            .attributeRepository(attributeRepository)
+            .principalFactory(PrincipalFactoryUtils.newPrincipalFactory())
+            .returnNullIfNoAttributes(false)
+            .resolveAttributes(true)
+            .build();
+        val resolver = new PersonDirectoryPrincipalResolver(context);
+        val credential = CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword("casuser");
+
+        PrincipalAttributesHandOff.record("casuser", Set.of("cn", "mail", "givenName"),
+            Map.of("cn", List.of("CAS"), "givenName", List.of("Apereo")));
+        val principal = resolver.resolve(credential, Optional.empty(), Optional.empty());
+        assertNotNull(principal);
+        assertEquals(List.of("CAS"), principal.getAttributes().get("cn"));
+        assertFalse(principal.getAttributes().containsKey("givenName"));
+        verify(attributeRepository, never()).getPeople(anyMap(), any());
+
+        PrincipalAttributesHandOff.record("casuser", Set.of("cn"), Map.of("cn", List.of("CAS")));
+        assertNotNull(resolver.resolve(credential, Optional.empty(), Optional.empty()));
+        verify(attributeRepository, times(1)).getPeople(anyMap(), any());
+        assertNotNull(resolver.resolve(credential, Optional.empty(), Optional.empty()));
+        verify(attributeRepository, times(2)).getPeople(anyMap(), any());
+    }
 }
@@ -20,6 +20,8 @@ import org.springframework.context.ApplicationEvent;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -43,6 +45,9 @@ public abstract class AbstractServicesManager implements ServicesManager {
      */
     protected final ServicesManagerConfigurationContext configurationContext;
 
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong version = new AtomicLong();
+
     private static Predicate<RegisteredService> getRegisteredServicesFilteringPredicate(
         final Predicate<RegisteredService>... p) {
         val predicates = Stream.of(p).collect(Collectors.toCollection(ArrayList::new));
@@ -59,6 +64,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         publishEvent(new CasRegisteredServicePreSaveEvent(this, registeredService));
         val r = configurationContext.getServiceRegistry().save(registeredService);
         cacheRegisteredService(r);
+        invalidateRegisteredServiceMatchResults();
         saveInternal(registeredService);
 
         if (publishEvent) {
@@ -76,6 +82,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             if (registeredService != null) {
                 publishEvent(new CasRegisteredServicePreSaveEvent(this, registeredService));
                 cacheRegisteredService(registeredService);
+                invalidateRegisteredServiceMatchResults();
                 saveInternal(registeredService);
                 publishEvent(new CasRegisteredServiceSavedEvent(this, registeredService));
                 return registeredService;
@@ -91,6 +98,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         configurationContext.getServiceRegistry().save(resultingStream)
             .forEach(r -> {
                 cacheRegisteredService(r);
+                invalidateRegisteredServiceMatchResults();
                 saveInternal(r);
                 publishEvent(new CasRegisteredServiceSavedEvent(this, r));
             });
@@ -100,6 +108,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
     public synchronized void deleteAll() {
         configurationContext.getServicesCache().asMap().forEach((k, v) -> delete(v));
         configurationContext.getServicesCache().invalidateAll();
+        invalidateRegisteredServiceMatchResults();
         publishEvent(new CasRegisteredServicesDeletedEvent(this));
     }
 
@@ -115,6 +124,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             publishEvent(new CasRegisteredServicePreDeleteEvent(this, service));
             configurationContext.getServiceRegistry().delete(service);
             configurationContext.getServicesCache().invalidate(service.getId());
+            invalidateRegisteredServiceMatchResults();
             deleteInternal(service);
             publishEvent(new CasRegisteredServiceDeletedEvent(this, service));
         }
@@ -127,10 +137,12 @@ public abstract class AbstractServicesManager implements ServicesManager {
             return null;
         }
 
-        val candidates = getCandidateServicesToMatch(service.getId());
+        val candidatesToMatch = new AtomicReference<Collection<RegisteredService>>();
+        final Supplier<Collection<RegisteredService>> candidates = () -> candidatesToMatch.updateAndGet(
+            current -> current == null ? getCandidateServicesToMatch(service.getId()) : current);
         var foundService = configurationContext.getRegisteredServiceLocators()
             .stream()
-            .map(locator -> locator.locate(candidates, service))
+            .map(locator -> locateRegisteredService(locator, candidates, service))
             .filter(s -> validateRegisteredService(s) != null)
             .findFirst();
 
@@ -170,6 +182,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             peek(RegisteredService::initialize).
             collect(Collectors.toMap(RegisteredService::getId, Function.identity(), (r, s) -> s));
         configurationContext.getServicesCache().putAll(results);
+        invalidateRegisteredServiceMatchResults();
         return results.values();
     }
 
@@ -302,6 +315,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             }, Function.identity(), (r, s) -> s));
         configurationContext.getServicesCache().invalidateAll();
         configurationContext.getServicesCache().putAll(servicesMap);
+        invalidateRegisteredServiceMatchResults();
         loadInternal();
         publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices()));
         evaluateExpiredServiceDefinitions();
@@ -356,6 +370,55 @@ public abstract class AbstractServicesManager implements ServicesManager {
     private void cacheRegisteredService(final RegisteredService service) {
         if (configurationContext.getServicesCache().getIfPresent(service.getId()) == null) {
             configurationContext.getServicesCache().put(service.getId(), service);
+            invalidateRegisteredServiceMatchResults();
+        }
+    }
+
+    /**
+     * Locate the registered service for the given service via the locator.
+     * Results produced by locators that only consider the service id are remembered
+     * for the current version of service definitions, so that repeated lookups for the
+     * same service url do not have to evaluate every candidate again. Candidates are only
+     * collected if the result is not already remembered.
+     *
+     * @param locator    the locator
+     * @param candidates the supplier of candidates, collected once per lookup
+     * @param service    the service
+     * @return the registered service, or null
+     */
+    private RegisteredService locateRegisteredService(final ServicesManagerRegisteredServiceLocator locator,
+                                                      final Supplier<Collection<RegisteredService>> candidates,
+                                                      final Service service) {
+        val matchResultCache = configurationContext.getRegisteredServiceMatchResultCache();
+        if (matchResultCache == null || !locator.isCacheable()) {
+            return locator.locate(candidates.get(), service);
+        }
+        val key = String.join("|", String.valueOf(System.identityHashCode(this)),
+            String.valueOf(version.get()), locator.getName(), service.getId());
+        val registeredServiceId = matchResultCache.getIfPresent(key);
+        if (registeredServiceId != null) {
+            val registeredService = configurationContext.getServicesCache().getIfPresent(registeredServiceId);
+            if (registeredService != null) {
+                LOGGER.trace("Service [{}] is matched by registered service [{}] from cache", service.getId(), registeredServiceId);
+                return registeredService;
+            }
+        }
+        val registeredService = locator.locate(candidates.get(), service);
+        if (registeredService != null) {
+            matchResultCache.put(key, registeredService.getId());
+        }
+        return registeredService;
+    }
+
+    /**
+     * Moving on to the next version ensures that results located while
+     * service definitions were changing are never served from the cache.
+     */
+    private void invalidateRegisteredServiceMatchResults() {
+        version.incrementAndGet();
+        val matchResultCache = configurationContext.getRegisteredServiceMatchResultCache();
+        if (matchResultCache != null) {
+            matchResultCache.invalidateAll();
         }
     }
 
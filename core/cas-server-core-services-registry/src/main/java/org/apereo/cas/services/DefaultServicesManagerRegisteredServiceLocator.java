@@ -2,6 +2,7 @@ package org.apereo.cas.services;
 
 import org.apereo.cas.authentication.principal.Service;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,11 +26,15 @@ import java.util.function.BiPredicate;
 public class DefaultServicesManagerRegisteredServiceLocator implements ServicesManagerRegisteredServiceLocator {
     private int order = Ordered.LOWEST_PRECEDENCE;
 
-    private BiPredicate<RegisteredService, Service> registeredServiceFilter = (registeredService, service) -> {
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final BiPredicate<RegisteredService, Service> defaultRegisteredServiceFilter = (registeredService, service) -> {
         val supportedType = supports(registeredService, service);
         return supportedType && registeredService.matches(service.getId());
     };
 
+    private BiPredicate<RegisteredService, Service> registeredServiceFilter = defaultRegisteredServiceFilter;
+
     @Override
     public RegisteredService locate(final Collection<RegisteredService> candidates, final Service service) {
         return candidates
@@ -40,6 +45,12 @@ public class DefaultServicesManagerRegisteredServiceLocator implements ServicesM
             .orElse(null);
     }
 
+    @Override
+    public boolean isCacheable() {
+        return getClass().equals(DefaultServicesManagerRegisteredServiceLocator.class)
+            && registeredServiceFilter == defaultRegisteredServiceFilter;
+    }
+
     @Override
     public boolean supports(final RegisteredService registeredService, final Service service) {
         return RegexRegisteredService.class.isAssignableFrom(registeredService.getClass())
@@ -29,6 +29,12 @@ public class ServicesManagerConfigurationContext {
 
     private final Cache<Long, RegisteredService> servicesCache;
 
+    /**
+     * Remembers the identifier of the registered service matched for a given service url.
+     * Optional; matching results are not cached if undefined.
+     */
+    private final Cache<String, Long> registeredServiceMatchResultCache;
+
     @Builder.Default
     private final List<ServicesManagerRegisteredServiceLocator> registeredServiceLocators = new ArrayList<>();
 }
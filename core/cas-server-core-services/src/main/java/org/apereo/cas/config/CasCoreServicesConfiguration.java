@@ -52,6 +52,8 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
@@ -262,6 +264,8 @@ public class CasCoreServicesConfiguration {
             final ChainingServiceRegistry serviceRegistry,
             @Qualifier("servicesManagerCache")
             final Cache<Long, RegisteredService> servicesManagerCache,
+            @Qualifier("servicesManagerMatchResultCache")
+            final Cache<String, Long> servicesManagerMatchResultCache,
             final List<ServicesManagerRegisteredServiceLocator> servicesManagerRegisteredServiceLocators,
             final Environment environment,
             final ConfigurableApplicationContext applicationContext) {
@@ -272,6 +276,7 @@ public class CasCoreServicesConfiguration {
                 .applicationContext(applicationContext)
                 .environments(activeProfiles)
                 .servicesCache(servicesManagerCache)
+                .registeredServiceMatchResultCache(servicesManagerMatchResultCache)
                 .registeredServiceLocators(servicesManagerRegisteredServiceLocators)
                 .build();
         }
@@ -332,6 +337,25 @@ public class CasCoreServicesConfiguration {
                 .build();
         }
 
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Bean
+        @ConditionalOnMissingBean(name = "servicesManagerMatchResultCache")
+        public Cache<String, Long> servicesManagerMatchResultCache(final CasConfigurationProperties casProperties) {
+            val cacheProperties = casProperties.getServiceRegistry().getCache();
+            return Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMatchResultCacheSize())
+                .recordStats()
+                .build();
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = "servicesManagerMatchResultCacheMetrics")
+        public MeterBinder servicesManagerMatchResultCacheMetrics(
+            @Qualifier("servicesManagerMatchResultCache")
+            final Cache<String, Long> servicesManagerMatchResultCache) {
+            return registry -> CaffeineCacheMetrics.monitor(registry, servicesManagerMatchResultCache, "servicesManagerMatchResultCache");
+        }
+
         @EventListener
         public void refreshServicesManagerWhenReady(final ApplicationReadyEvent event) {
             val servicesManager = event.getApplicationContext().getBean(ServicesManager.BEAN_NAME, ChainingServicesManager.class);
@@ -5,6 +5,7 @@ import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.authentication.principal.WebApplicationServiceFactory;
 import org.apereo.cas.util.RandomUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -39,6 +40,11 @@ public abstract class AbstractServicesManagerTests<T extends ServicesManager> {
 
     protected final List<RegisteredService> listOfDefaultServices = new ArrayList<>();
 
+    protected final Cache<String, Long> registeredServiceMatchResultCache = Caffeine.newBuilder()
+        .maximumSize(100)
+        .recordStats()
+        .build();
+
     protected ServiceRegistry serviceRegistry;
 
     protected ServicesManager servicesManager;
@@ -198,6 +204,7 @@ public abstract class AbstractServicesManagerTests<T extends ServicesManager> {
             .environments(new HashSet<>(0))
             .registeredServiceLocators(List.of(new DefaultServicesManagerRegisteredServiceLocator()))
             .servicesCache(Caffeine.newBuilder().expireAfterWrite(Duration.ofSeconds(2)).build())
+            .registeredServiceMatchResultCache(registeredServiceMatchResultCache)
             .build();
     }
 
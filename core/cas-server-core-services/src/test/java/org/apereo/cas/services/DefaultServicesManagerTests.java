@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 /**
  * @author battags
@@ -72,4 +73,47 @@ public class DefaultServicesManagerTests extends AbstractServicesManagerTests<De
         servicesManager.load();
         assertTrue(isServiceInCache(null, service.getId()));
     }
+
+    @Test
+    public void verifyMatchResultsCachedUntilServicesChange() {
+        val service = new RegexRegisteredService();
+        service.setId(7000);
+        service.setName(TEST);
+        service.setServiceId("^https://match.example.org/.*");
+        servicesManager.save(service);
+
+        val request = serviceFactory.createService("https://match.example.org/app");
+        assertEquals(service.getId(), servicesManager.findServiceBy(request).getId());
+        val hits = registeredServiceMatchResultCache.stats().hitCount();
+        assertEquals(service.getId(), servicesManager.findServiceBy(request).getId());
+        assertEquals(hits + 1, registeredServiceMatchResultCache.stats().hitCount());
+
+        val other = new RegexRegisteredService();
+        other.setId(7001);
+        other.setName(TEST);
+        other.setServiceId("^https://match.example.org/app");
+        other.setEvaluationOrder(-1);
+        servicesManager.save(other);
+        assertEquals(0, registeredServiceMatchResultCache.estimatedSize());
+        assertEquals(other.getId(), servicesManager.findServiceBy(request).getId());
+
+        servicesManager.delete(other);
+        assertEquals(service.getId(), servicesManager.findServiceBy(request).getId());
+    }
+
+    @Test
+    public void verifyCandidatesNotCollectedForCachedMatchResults() {
+        val service = new RegexRegisteredService();
+        service.setId(7100);
+        service.setName(TEST);
+        service.setServiceId("^https://candidates.example.org/.*");
+        servicesManager.save(service);
+
+        val manager = spy((DefaultServicesManager) servicesManager);
+        val request = serviceFactory.createService("https://candidates.example.org/app");
+        assertEquals(service.getId(), manager.findServiceBy(request).getId());
+        verify(manager, times(1)).getCandidateServicesToMatch(anyString());
+        assertEquals(service.getId(), manager.findServiceBy(request).getId());
+        verify(manager, times(1)).getCandidateServicesToMatch(anyString());
+    }
 }
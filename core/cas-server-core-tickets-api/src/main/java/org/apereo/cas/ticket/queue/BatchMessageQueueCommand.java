@@ -0,0 +1,46 @@
+package org.apereo.cas.ticket.queue;
+
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link BatchMessageQueueCommand}, which carries a number of
+ * commands in a single message and executes them in order.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@Slf4j
+@Getter
+public class BatchMessageQueueCommand extends BaseMessageQueueCommand {
+    private static final long serialVersionUID = 2946262938410362457L;
+
+    @JsonProperty
+    private List<BaseMessageQueueCommand> commands;
+
+    @JsonCreator
+    public BatchMessageQueueCommand(@JsonProperty("id") final PublisherIdentifier id,
+                                    @JsonProperty("commands") final List<BaseMessageQueueCommand> commands) {
+        super(id);
+        this.commands = new ArrayList<>(commands);
+    }
+
+    @Override
+    public void execute(final TicketRegistry registry) throws Exception {
+        LOGGER.debug("Executing [{}] queue commands on ticket registry id [{}]", commands.size(), getId().getId());
+        for (val command : commands) {
+            command.execute(registry);
+        }
+    }
+}
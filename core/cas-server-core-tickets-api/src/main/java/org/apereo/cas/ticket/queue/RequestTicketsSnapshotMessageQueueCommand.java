@@ -0,0 +1,34 @@
+package org.apereo.cas.ticket.queue;
+
+import org.apereo.cas.util.PublisherIdentifier;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.Getter;
+
+/**
+ * This is {@link RequestTicketsSnapshotMessageQueueCommand}, sent by a node that
+ * is joining the cluster to ask its peers for the tickets they currently hold.
+ * Peers respond with a {@link TicketsSnapshotMessageQueueCommand} that carries a page of tickets.
+ * The first page is requested without a continuation token; subsequent pages are requested
+ * with the continuation token of the previous page.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@Getter
+public class RequestTicketsSnapshotMessageQueueCommand extends BaseMessageQueueCommand {
+    private static final long serialVersionUID = -1841932418385429641L;
+
+    @JsonProperty
+    private String continuationToken;
+
+    @JsonCreator
+    public RequestTicketsSnapshotMessageQueueCommand(@JsonProperty("id") final PublisherIdentifier id,
+                                                     @JsonProperty("continuationToken") final String continuationToken) {
+        super(id);
+        this.continuationToken = continuationToken;
+    }
+}
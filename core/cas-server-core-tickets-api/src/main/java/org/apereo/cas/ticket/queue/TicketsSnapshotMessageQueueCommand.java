@@ -0,0 +1,56 @@
+package org.apereo.cas.ticket.queue;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link TicketsSnapshotMessageQueueCommand}, which carries the tickets held by
+ * a node in response to a {@link RequestTicketsSnapshotMessageQueueCommand}.
+ * Tickets are sent in pages; the continuation token is used to request the next page,
+ * and is absent once the last page is sent. Tickets that are already present in the registry are left untouched.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@Slf4j
+@Getter
+public class TicketsSnapshotMessageQueueCommand extends BaseMessageQueueCommand {
+    private static final long serialVersionUID = 5087381727410862952L;
+
+    @JsonProperty
+    private List<Ticket> tickets;
+
+    @JsonProperty
+    private String continuationToken;
+
+    @JsonCreator
+    public TicketsSnapshotMessageQueueCommand(@JsonProperty("id") final PublisherIdentifier id,
+                                              @JsonProperty("tickets") final List<Ticket> tickets,
+                                              @JsonProperty("continuationToken") final String continuationToken) {
+        super(id);
+        this.tickets = new ArrayList<>(tickets);
+        this.continuationToken = continuationToken;
+    }
+
+    @Override
+    public void execute(final TicketRegistry registry) throws Exception {
+        LOGGER.debug("Executing queue command on ticket registry id [{}] to load [{}] tickets", getId().getId(), tickets.size());
+        for (val ticket : tickets) {
+            if (registry.getTicket(ticket.getId()) == null) {
+                registry.addTicket(ticket);
+            }
+        }
+    }
+}
@@ -61,6 +61,13 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
         return !StringUtils.isBlank(encTicketId) && getMapInstance().remove(encTicketId) != null;
     }
 
+    @Override
+    protected Ticket takeTicket(final String ticketId) {
+        val encTicketId = encodeTicketId(ticketId);
+        val found = getMapInstance().remove(encTicketId);
+        return found == null ? null : decodeTicket(found);
+    }
+
     @Override
     public long deleteAll() {
         val size = getMapInstance().size();
@@ -74,7 +81,7 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     }
 
     @Override
-    public Ticket updateTicket(final Ticket ticket) throws Exception {
+    protected Ticket updateTicketInternal(final Ticket ticket) throws Exception {
         LOGGER.trace("Updating ticket [{}] in registry...", ticket.getId());
         addTicket(ticket);
         return ticket;
@@ -0,0 +1,174 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.jooq.lambda.Unchecked;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link AbstractRoutingTicketRegistry}, a ticket registry that presents a number of
+ * backing registries as a single registry, routing operations for each ticket to the backing
+ * registry that owns the ticket. Operations that span all tickets are carried out by all backing registries.
+ * <p>
+ * Removal of tickets along with their children is handled by this registry, since child tickets
+ * may be owned by a different backing registry than their parent.
+ * </p>
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public abstract class AbstractRoutingTicketRegistry extends AbstractTicketRegistry {
+
+    /**
+     * Gets the backing registry that owns the ticket id.
+     *
+     * @param ticketId the ticket id
+     * @return the ticket registry
+     */
+    protected abstract TicketRegistry getTicketRegistry(String ticketId);
+
+    /**
+     * Gets all backing registries.
+     *
+     * @return the ticket registries
+     */
+    protected abstract List<? extends TicketRegistry> getTicketRegistries();
+
+    /**
+     * Gets the backing registry that owns the ticket.
+     *
+     * @param ticket the ticket
+     * @return the ticket registry
+     */
+    protected TicketRegistry getTicketRegistry(final Ticket ticket) {
+        return getTicketRegistry(ticket.getId());
+    }
+
+    @Override
+    public void setCipherExecutor(final CipherExecutor cipherExecutor) {
+        super.setCipherExecutor(cipherExecutor);
+        getTicketRegistries()
+            .stream()
+            .filter(AbstractTicketRegistry.class::isInstance)
+            .map(AbstractTicketRegistry.class::cast)
+            .forEach(registry -> registry.setCipherExecutor(cipherExecutor));
+    }
+
+    @Override
+    public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
+        if (StringUtils.isBlank(ticketId)) {
+            return null;
+        }
+        return getTicketRegistry(ticketId).getTicket(ticketId, predicate);
+    }
+
+    @Override
+    public <T extends Ticket> T consumeTicket(final String ticketId, final Class<T> clazz) throws Exception {
+        if (StringUtils.isBlank(ticketId)) {
+            return null;
+        }
+        val ticket = getTicketRegistry(ticketId).consumeTicket(ticketId, clazz);
+        if (ticket != null && ticket.isExpired()) {
+            notifyTicketDeleted(ticket);
+        }
+        return ticket;
+    }
+
+    @Override
+    public Ticket updateTicket(final Ticket ticket, final boolean deferrable) throws Exception {
+        return getTicketRegistry(ticket.getId()).updateTicket(ticket, deferrable);
+    }
+
+    @Override
+    public boolean deleteSingleTicket(final String ticketId) {
+        val registry = getTicketRegistry(ticketId);
+        if (registry instanceof AbstractTicketRegistry) {
+            return ((AbstractTicketRegistry) registry).deleteSingleTicket(ticketId);
+        }
+        return Unchecked.supplier(() -> registry.deleteTicket(ticketId)).get() > 0;
+    }
+
+    @Override
+    public long deleteAll() {
+        return sum(TicketRegistry::deleteAll);
+    }
+
+    @Override
+    public Collection<? extends Ticket> getTickets() {
+        return getTicketRegistries()
+            .stream()
+            .flatMap(registry -> registry.getTickets().stream())
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<? extends Ticket> getTickets(final Predicate<Ticket> predicate) {
+        return getTicketRegistries()
+            .stream()
+            .flatMap(registry -> registry.getTickets(predicate));
+    }
+
+    @Override
+    public Stream<? extends Ticket> stream() {
+        return getTicketRegistries()
+            .stream()
+            .flatMap(TicketRegistry::stream);
+    }
+
+    @Override
+    protected Ticket updateTicketInternal(final Ticket ticket) throws Exception {
+        return getTicketRegistry(ticket).updateTicket(ticket);
+    }
+
+    @Override
+    public long sessionCount() {
+        return sum(TicketRegistry::sessionCount);
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return sum(TicketRegistry::serviceTicketCount);
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return sum(registry -> registry.countSessionsFor(principalId));
+    }
+
+    @Override
+    protected void addTicketInternal(final Ticket ticket) throws Exception {
+        val registry = getTicketRegistry(ticket);
+        LOGGER.trace("Adding ticket [{}] to [{}]", ticket.getId(), registry);
+        registry.addTicket(ticket);
+    }
+
+    /**
+     * Sum counts reported by all backing registries, unless one of them
+     * is unable to report its count.
+     *
+     * @param count the count function
+     * @return the sum or {@link Long#MIN_VALUE}
+     */
+    private long sum(final ToLongFunction<TicketRegistry> count) {
+        var total = 0L;
+        for (val registry : getTicketRegistries()) {
+            val value = count.applyAsLong(registry);
+            if (value == Long.MIN_VALUE) {
+                return Long.MIN_VALUE;
+            }
+            total += value;
+        }
+        return total;
+    }
+}
@@ -18,9 +18,12 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
+import org.springframework.beans.factory.DisposableBean;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
@@ -36,7 +39,7 @@ import java.util.stream.Stream;
 @Slf4j
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public abstract class AbstractTicketRegistry implements TicketRegistry {
+public abstract class AbstractTicketRegistry implements TicketRegistry, DisposableBean {
 
     private static final String MESSAGE = "Ticket encryption is not enabled. Falling back to default behavior";
 
@@ -45,6 +48,16 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
      */
     protected CipherExecutor cipherExecutor;
 
+    /**
+     * Deferred ticket updates, if updates are written behind.
+     */
+    protected TicketRegistryWriteBehind writeBehind;
+
+    /**
+     * Listeners notified once tickets are removed from the registry.
+     */
+    protected List<TicketRegistryDeletionListener> deletionListeners = new ArrayList<>(0);
+
     @Override
     public void addTicket(final Ticket ticket) throws Exception {
         if (ticket != null && !ticket.isExpired()) {
@@ -52,12 +65,32 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         }
     }
 
+    @Override
+    public Ticket updateTicket(final Ticket ticket) throws Exception {
+        return updateTicketImmediately(ticket);
+    }
+
+    @Override
+    public Ticket updateTicket(final Ticket ticket, final boolean deferrable) throws Exception {
+        if (deferrable && writeBehind != null && !ticket.isExpired()) {
+            LOGGER.trace("Deferring update of ticket [{}]", ticket.getId());
+            writeBehind.defer(this, ticket);
+            return ticket;
+        }
+        return updateTicket(ticket);
+    }
+
     @Override
     public Ticket getTicket(final String ticketId) {
+        val pendingTicket = writeBehind != null ? writeBehind.getPendingTicket(ticketId) : null;
+        if (pendingTicket != null && !pendingTicket.isExpired()) {
+            return pendingTicket;
+        }
         return getTicket(ticketId, ticket -> {
             if (ticket != null && ticket.isExpired()) {
                 LOGGER.debug("Ticket [{}] has expired and is now removed from the ticket registry", ticket.getId());
                 deleteSingleTicket(ticketId);
+                notifyTicketDeleted(ticket);
                 return false;
             }
             return true;
@@ -77,6 +110,52 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         return clazz.cast(ticket);
     }
 
+    @Override
+    public <T extends Ticket> T consumeTicket(final String ticketId, final @NonNull Class<T> clazz) throws Exception {
+        if (StringUtils.isBlank(ticketId)) {
+            return null;
+        }
+        if (writeBehind != null) {
+            writeBehind.flush(ticketId);
+        }
+        val ticket = takeTicket(ticketId);
+        if (ticket == null) {
+            LOGGER.debug("Ticket [{}] could not be found or is already consumed", ticketId);
+            return null;
+        }
+        if (!clazz.isAssignableFrom(ticket.getClass())) {
+            addTicketInternal(ticket);
+            throw new ClassCastException("Ticket [" + ticket.getId() + " is of type "
+                + ticket.getClass() + " when we were expecting " + clazz);
+        }
+        if (ticket.isExpired()) {
+            LOGGER.debug("Ticket [{}] has expired and is now removed from the ticket registry", ticketId);
+            notifyTicketDeleted(ticket);
+            return null;
+        }
+        ticket.update();
+        if (ticket.isExpired()) {
+            LOGGER.debug("Ticket [{}] is consumed and is now removed from the ticket registry", ticketId);
+            notifyTicketDeleted(ticket);
+        } else {
+            LOGGER.debug("Ticket [{}] permits further uses and is returned to the ticket registry", ticketId);
+            addTicketInternal(ticket);
+        }
+        return clazz.cast(ticket);
+    }
+
+    /**
+     * Write the ticket updates that are still pending, before the registry is shut down.
+     * Registries that release resources of their own when they are destroyed should
+     * invoke this operation first, so that pending updates are written while the store is still available.
+     */
+    @Override
+    public void destroy() {
+        if (writeBehind != null) {
+            writeBehind.stop();
+        }
+    }
+
     @Override
     public long sessionCount() {
         try (val tgtStream = stream().filter(TicketGrantingTicket.class::isInstance)) {
@@ -127,6 +206,9 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public int deleteTicket(final Ticket ticket) throws Exception {
+        if (writeBehind != null) {
+            writeBehind.discard(ticket.getId());
+        }
         val count = new AtomicInteger(0);
         if (ticket instanceof TicketGrantingTicket) {
             LOGGER.debug("Removing children of ticket [{}] from the registry.", ticket.getId());
@@ -142,6 +224,7 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         if (deleteSingleTicket(ticket.getId())) {
             count.incrementAndGet();
         }
+        notifyTicketDeleted(ticket);
         return count.intValue();
     }
 
@@ -162,6 +245,33 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
      */
     protected abstract void addTicketInternal(Ticket ticket) throws Exception;
 
+    /**
+     * Update ticket internally by the
+     * registry implementation.
+     *
+     * @param ticket the ticket
+     * @return the ticket
+     * @throws Exception the exception
+     */
+    protected abstract Ticket updateTicketInternal(Ticket ticket) throws Exception;
+
+    /**
+     * Remove the ticket from the store and return it as a single operation,
+     * such that concurrent attempts to take the same ticket hand it out at most once.
+     * Registries should override this operation with the native facilities of the store, such as
+     * an atomic get-and-delete. The default implementation fetches the ticket and only hands it out
+     * if this attempt is the one that removes it, which relies on {@link #deleteSingleTicket(String)}
+     * to accurately report the outcome of the removal.
+     *
+     * @param ticketId the ticket id
+     * @return the decoded ticket, or null if the ticket is not found
+     * @throws Exception the exception
+     */
+    protected Ticket takeTicket(final String ticketId) throws Exception {
+        val ticket = getTicket(ticketId, t -> true);
+        return ticket != null && deleteSingleTicket(ticketId) ? ticket : null;
+    }
+
     /**
      * Delete tickets.
      *
@@ -199,11 +309,21 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
                 } else {
                     LOGGER.debug("Unable to remove ticket [{}]", ticketId);
                 }
+                deletionListeners.forEach(listener -> listener.onTicketDeleted(ticketId));
             });
         }
         return count.intValue();
     }
 
+    /**
+     * Notify deletion listeners that the ticket is removed from the registry.
+     *
+     * @param ticket the ticket
+     */
+    protected void notifyTicketDeleted(final Ticket ticket) {
+        deletionListeners.forEach(listener -> listener.onTicketDeleted(ticket));
+    }
+
     /**
      * Encode ticket id into a SHA-512.
      *
@@ -321,12 +441,19 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         if (hasPgts) {
             LOGGER.debug("Removing proxy-granting tickets from parent ticket-granting ticket");
             tgt.getProxyGrantingTickets().clear();
-            updateTicket(tgt);
+            updateTicketImmediately(tgt);
         }
     }
 
     private void deleteProxyGrantingTicketFromParent(final ProxyGrantingTicket ticket) throws Exception {
         ticket.getTicketGrantingTicket().getProxyGrantingTickets().remove(ticket.getId());
-        updateTicket(ticket.getTicketGrantingTicket());
+        updateTicketImmediately(ticket.getTicketGrantingTicket());
+    }
+
+    private Ticket updateTicketImmediately(final Ticket ticket) throws Exception {
+        if (writeBehind != null) {
+            writeBehind.discard(ticket.getId());
+        }
+        return updateTicketInternal(ticket);
     }
 }
@@ -5,7 +5,6 @@ import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 
-
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -28,12 +27,18 @@ public class DefaultTicketRegistrySupport implements TicketRegistrySupport {
 
     private final TicketRegistry ticketRegistry;
 
+    private final TicketRegistryRequestCache ticketRegistryRequestCache;
+
+    public DefaultTicketRegistrySupport(final TicketRegistry ticketRegistry) {
+        this(ticketRegistry, new TicketRegistryRequestCache(false));
+    }
+
     @Override
     public Ticket getTicket(final String ticketId) {
         if (StringUtils.isBlank(ticketId)) {
             return null;
         }
-        val state = this.ticketRegistry.getTicket(ticketId, Ticket.class);
+        val state = ticketRegistryRequestCache.getTicket(ticketId, Ticket.class, ticketRegistry);
         return state == null || state.isExpired() ? null : state;
     }
 
@@ -42,7 +47,7 @@ public class DefaultTicketRegistrySupport implements TicketRegistrySupport {
         if (StringUtils.isBlank(ticketGrantingTicketId)) {
             return null;
         }
-        val tgt = this.ticketRegistry.getTicket(ticketGrantingTicketId, TicketGrantingTicket.class);
+        val tgt = ticketRegistryRequestCache.getTicket(ticketGrantingTicketId, TicketGrantingTicket.class, ticketRegistry);
         return tgt == null || tgt.isExpired() ? null : tgt;
     }
 
@@ -70,10 +75,11 @@ public class DefaultTicketRegistrySupport implements TicketRegistrySupport {
     @Override
     public void updateAuthentication(final String ticketGrantingTicketId, final Authentication authentication) throws Exception {
         if (StringUtils.isNotBlank(ticketGrantingTicketId)) {
-            val tgt = this.ticketRegistry.getTicket(ticketGrantingTicketId, TicketGrantingTicket.class);
+            val tgt = ticketRegistryRequestCache.getTicket(ticketGrantingTicketId, TicketGrantingTicket.class, ticketRegistry);
             if (tgt != null && !tgt.isExpired()) {
                 tgt.getAuthentication().update(authentication);
                 this.ticketRegistry.updateTicket(tgt);
+                ticketRegistryRequestCache.put(tgt);
             }
         }
     }
@@ -0,0 +1,51 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.util.TicketIdShardCodec;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.jooq.lambda.Unchecked;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.List;
+
+/**
+ * This is {@link ShardedTicketRegistry} that distributes tickets across a number of
+ * partitions, each backed by its own ticket registry. The partition that owns a ticket
+ * is determined by the partition token embedded in the ticket id by the {@link TicketIdShardCodec},
+ * so that operations on a single ticket are carried out by a single partition.
+ * Ticket registries that back the partitions are owned by this registry, and are destroyed along with it.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Getter
+@ToString(of = "ticketRegistries")
+public class ShardedTicketRegistry extends AbstractRoutingTicketRegistry {
+    private final TicketIdShardCodec codec;
+
+    private final List<? extends TicketRegistry> ticketRegistries;
+
+    public ShardedTicketRegistry(final TicketIdShardCodec codec, final List<? extends TicketRegistry> ticketRegistries) {
+        if (codec.getPartitions() != ticketRegistries.size()) {
+            throw new IllegalArgumentException("Number of ticket registries " + ticketRegistries.size()
+                                               + " does not match the number of partitions " + codec.getPartitions());
+        }
+        this.codec = codec;
+        this.ticketRegistries = List.copyOf(ticketRegistries);
+    }
+
+    @Override
+    public void destroy() {
+        super.destroy();
+        ticketRegistries.stream()
+            .filter(DisposableBean.class::isInstance)
+            .map(DisposableBean.class::cast)
+            .forEach(Unchecked.consumer(DisposableBean::destroy));
+    }
+
+    @Override
+    protected TicketRegistry getTicketRegistry(final String ticketId) {
+        return ticketRegistries.get(codec.locate(ticketId));
+    }
+}
@@ -0,0 +1,32 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+/**
+ * This is {@link TicketRegistryDeletionListener}, which is notified once a ticket
+ * is removed from the ticket registry, whether it is deleted explicitly, deleted along with its parent,
+ * found to be expired, or consumed.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@FunctionalInterface
+public interface TicketRegistryDeletionListener {
+
+    /**
+     * Invoked once the ticket is removed from the ticket registry,
+     * when only the id of the ticket is known.
+     *
+     * @param ticketId the ticket id
+     */
+    void onTicketDeleted(String ticketId);
+
+    /**
+     * Invoked once the ticket is removed from the ticket registry.
+     *
+     * @param ticket the ticket
+     */
+    default void onTicketDeleted(final Ticket ticket) {
+        onTicketDeleted(ticket.getId());
+    }
+}
@@ -0,0 +1,34 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link TicketRegistryDeletionListenerPostProcessor}.
+ * Registers all {@link TicketRegistryDeletionListener} beans with the ticket registry.
+ * This post processor is not ordered, so that it runs after ordered post processors
+ * that may wrap the ticket registry, and the listeners are registered with the outermost registry.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TicketRegistryDeletionListenerPostProcessor implements BeanPostProcessor {
+    private final ObjectProvider<TicketRegistryDeletionListener> deletionListeners;
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (TicketRegistry.BEAN_NAME.equals(beanName) && bean instanceof AbstractTicketRegistry) {
+            val listeners = deletionListeners.orderedStream().collect(Collectors.toList());
+            LOGGER.debug("Ticket registry [{}] will notify [{}] deletion listener(s)", bean.getClass().getSimpleName(), listeners.size());
+            ((AbstractTicketRegistry) bean).setDeletionListeners(listeners);
+        }
+        return bean;
+    }
+}
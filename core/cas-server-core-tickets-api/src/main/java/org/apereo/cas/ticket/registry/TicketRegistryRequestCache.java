@@ -0,0 +1,146 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link TicketRegistryRequestCache}, which keeps tickets read from or written to
+ * the ticket registry during the current request, so that the same ticket fetched several times
+ * within one request is read, decoded and deserialized only once. Tickets are kept as request attributes
+ * and are discarded when the request completes. Outside of a request, the ticket registry is always used.
+ * Tickets are evicted as they are removed from the ticket registry, since the cache is notified
+ * of deleted and consumed tickets by the ticket registry itself.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TicketRegistryRequestCache implements MeterBinder, TicketRegistryDeletionListener {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "ticketRegistryRequestCache";
+
+    private static final String REQUEST_ATTRIBUTE_NAME = TicketRegistryRequestCache.class.getName();
+
+    private final boolean enabled;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Gets the ticket from the current request, or from the ticket registry
+     * if the ticket is not yet known to the current request.
+     *
+     * @param <T>            the type of the ticket
+     * @param ticketId       the ticket id
+     * @param clazz          the ticket type
+     * @param ticketRegistry the ticket registry
+     * @return the ticket, or null
+     */
+    public <T extends Ticket> T getTicket(final String ticketId, final Class<T> clazz, final TicketRegistry ticketRegistry) {
+        val tickets = getRequestTickets();
+        if (tickets.isEmpty() || StringUtils.isBlank(ticketId)) {
+            return ticketRegistry.getTicket(ticketId, clazz);
+        }
+        val cachedTicket = tickets.get().get(ticketId);
+        if (cachedTicket != null) {
+            LOGGER.trace("Ticket [{}] is found in the current request", ticketId);
+            hits.increment();
+            return clazz.cast(cachedTicket);
+        }
+        misses.increment();
+        val ticket = ticketRegistry.getTicket(ticketId, clazz);
+        if (ticket != null) {
+            tickets.get().put(ticketId, ticket);
+        }
+        return ticket;
+    }
+
+    /**
+     * Record the ticket, typically after it is added to or updated in the registry.
+     *
+     * @param ticket the ticket
+     */
+    public void put(final Ticket ticket) {
+        getRequestTickets().ifPresent(tickets -> tickets.put(ticket.getId(), ticket));
+    }
+
+    /**
+     * Remove the ticket, typically after it is deleted from the registry.
+     *
+     * @param ticketId the ticket id
+     */
+    public void evict(final String ticketId) {
+        if (StringUtils.isNotBlank(ticketId)) {
+            getRequestTickets().ifPresent(tickets -> tickets.remove(ticketId));
+        }
+    }
+
+    @Override
+    public void onTicketDeleted(final String ticketId) {
+        evict(ticketId);
+    }
+
+    /**
+     * Gets the number of ticket reads served from the current request.
+     *
+     * @return the count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of ticket reads passed on to the ticket registry.
+     *
+     * @return the count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("cas.ticket.registry.request.cache", this, TicketRegistryRequestCache::getHitCount)
+            .tag("result", "hit")
+            .description("Ticket reads served from the current request instead of the ticket registry")
+            .register(registry);
+        FunctionCounter.builder("cas.ticket.registry.request.cache", this, TicketRegistryRequestCache::getMissCount)
+            .tag("result", "miss")
+            .description("Ticket reads passed on to the ticket registry")
+            .register(registry);
+    }
+
+    private Optional<Map<String, Ticket>> getRequestTickets() {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        val attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+        var tickets = (Map<String, Ticket>) attributes.getAttribute(REQUEST_ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        if (tickets == null) {
+            tickets = new ConcurrentHashMap<>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE_NAME, tickets, RequestAttributes.SCOPE_REQUEST);
+        }
+        return Optional.of(tickets);
+    }
+}
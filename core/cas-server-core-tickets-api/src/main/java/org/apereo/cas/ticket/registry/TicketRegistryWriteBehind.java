@@ -0,0 +1,234 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.LoggingUtils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link TicketRegistryWriteBehind}, which defers ticket updates that are not critical
+ * to the consistency of the ticket registry, such as recording usage of a ticket-granting ticket
+ * when a service ticket is granted. Deferred updates are coalesced per ticket, such that only the last
+ * update of a ticket is written, and are flushed to the ticket registry in batches, no later than
+ * the configured delay. Critical operations such as adding, deleting and consuming tickets are never deferred,
+ * and flush or discard the pending update of the ticket before they proceed.
+ * <p>
+ * Only updates that are explicitly marked as deferrable are written behind.
+ * Pending updates are written when the ticket registry is shut down; updates that are pending
+ * when a CAS server node goes down abruptly are lost, which is the price paid
+ * for not writing each update to the ticket registry on the request thread.
+ * </p>
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class TicketRegistryWriteBehind implements MeterBinder {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "ticketRegistryWriteBehind";
+
+    private static final String METER_NAME = "cas.ticket.registry.write.behind";
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Map<String, PendingTicketUpdate> pendingUpdates = new ConcurrentHashMap<>();
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        val thread = new Thread(runnable, "ticket-registry-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final LongAdder deferred = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    private final LongAdder flushed = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder lagInNanos = new LongAdder();
+
+    private final long maxDelayInMillis;
+
+    private final int batchSize;
+
+    public TicketRegistryWriteBehind(final Duration maxDelay, final int batchSize) {
+        this.maxDelayInMillis = Math.max(1, maxDelay.toMillis());
+        this.batchSize = batchSize;
+        Arrays.setAll(locks, i -> new Object());
+    }
+
+    /**
+     * Defer the ticket update, replacing the update of the same ticket that may still be pending.
+     *
+     * @param ticketRegistry the ticket registry that receives the update
+     * @param ticket         the ticket
+     */
+    public void defer(final AbstractTicketRegistry ticketRegistry, final Ticket ticket) {
+        if (started.compareAndSet(false, true)) {
+            scheduler.scheduleWithFixedDelay(this::flush, maxDelayInMillis, maxDelayInMillis, TimeUnit.MILLISECONDS);
+        }
+        deferred.increment();
+        synchronized (getLock(ticket.getId())) {
+            pendingUpdates.merge(ticket.getId(), new PendingTicketUpdate(ticketRegistry, ticket, System.nanoTime()),
+                (previous, update) -> {
+                    coalesced.increment();
+                    return new PendingTicketUpdate(update.getTicketRegistry(), update.getTicket(), previous.getDeferredAt());
+                });
+        }
+        if (pendingUpdates.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::flush);
+        }
+    }
+
+    /**
+     * Gets the ticket whose update is still pending.
+     *
+     * @param ticketId the ticket id
+     * @return the ticket, or null
+     */
+    public Ticket getPendingTicket(final String ticketId) {
+        val update = pendingUpdates.get(ticketId);
+        return update != null ? update.getTicket() : null;
+    }
+
+    /**
+     * Write the pending update of the ticket, if any, to the ticket registry.
+     *
+     * @param ticketId the ticket id
+     */
+    public void flush(final String ticketId) {
+        synchronized (getLock(ticketId)) {
+            val update = pendingUpdates.remove(ticketId);
+            if (update != null && !write(update)) {
+                pendingUpdates.putIfAbsent(ticketId, update);
+            }
+        }
+    }
+
+    /**
+     * Write all pending updates to the ticket registry.
+     */
+    public void flush() {
+        flushRequested.set(false);
+        new ArrayList<>(pendingUpdates.keySet()).forEach(this::flush);
+    }
+
+    /**
+     * Discard the pending update of the ticket, if any.
+     * Once this operation returns, the ticket is not written to the ticket registry
+     * unless it is updated again, and an update of the ticket that is being written
+     * at the same time is complete.
+     *
+     * @param ticketId the ticket id
+     */
+    public void discard(final String ticketId) {
+        synchronized (getLock(ticketId)) {
+            pendingUpdates.remove(ticketId);
+        }
+    }
+
+    /**
+     * Gets the number of updates that are not yet written to the ticket registry.
+     *
+     * @return the count
+     */
+    public int getPendingCount() {
+        return pendingUpdates.size();
+    }
+
+    /**
+     * Stop writing updates in the background, and write all pending updates to the ticket registry.
+     * This is invoked by the ticket registry as it is shut down.
+     */
+    public void stop() {
+        scheduler.shutdownNow();
+        LOGGER.debug("Flushing [{}] pending ticket updates", pendingUpdates.size());
+        flush();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder(METER_NAME, deferred, LongAdder::sum)
+            .tag("result", "deferred")
+            .description("Ticket updates deferred to be written to the ticket registry later")
+            .register(registry);
+        FunctionCounter.builder(METER_NAME, coalesced, LongAdder::sum)
+            .tag("result", "coalesced")
+            .description("Deferred ticket updates replaced by a later update of the same ticket")
+            .register(registry);
+        FunctionCounter.builder(METER_NAME, failed, LongAdder::sum)
+            .tag("result", "failed")
+            .description("Attempts to write deferred ticket updates that have failed")
+            .register(registry);
+        Gauge.builder(METER_NAME + ".pending", this, TicketRegistryWriteBehind::getPendingCount)
+            .description("Deferred ticket updates that are not yet written to the ticket registry")
+            .register(registry);
+        FunctionTimer.builder(METER_NAME + ".lag", this,
+                writeBehind -> writeBehind.flushed.sum(),
+                writeBehind -> writeBehind.lagInNanos.sum(), TimeUnit.NANOSECONDS)
+            .description("Time between deferring a ticket update and writing it to the ticket registry")
+            .register(registry);
+    }
+
+    private Object getLock(final String ticketId) {
+        return locks[Math.floorMod(ticketId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private boolean write(final PendingTicketUpdate update) {
+        val ticket = update.getTicket();
+        if (ticket.isExpired()) {
+            LOGGER.trace("Skipping deferred update of expired ticket [{}]", ticket.getId());
+            return true;
+        }
+        try {
+            update.getTicketRegistry().updateTicketInternal(ticket);
+            flushed.increment();
+            lagInNanos.add(System.nanoTime() - update.getDeferredAt());
+            return true;
+        } catch (final Exception e) {
+            failed.increment();
+            LOGGER.warn("Unable to write deferred update of ticket [{}]; the update will be attempted again", ticket.getId());
+            LoggingUtils.warn(LOGGER, e);
+            return false;
+        }
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    private static class PendingTicketUpdate {
+        private final AbstractTicketRegistry ticketRegistry;
+
+        private final Ticket ticket;
+
+        private final long deferredAt;
+    }
+}
@@ -0,0 +1,29 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * This is {@link TicketRegistryWriteBehindPostProcessor}.
+ * Lets the ticket registry write non-critical ticket updates behind,
+ * using the {@link TicketRegistryWriteBehind} instance.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TicketRegistryWriteBehindPostProcessor implements BeanPostProcessor {
+    private final ObjectProvider<TicketRegistryWriteBehind> writeBehind;
+
+    @Override
+    public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+        if (TicketRegistry.BEAN_NAME.equals(beanName) && bean instanceof AbstractTicketRegistry) {
+            LOGGER.debug("Ticket registry [{}] will write ticket updates behind", bean.getClass().getSimpleName());
+            ((AbstractTicketRegistry) bean).setWriteBehind(writeBehind.getObject());
+        }
+        return bean;
+    }
+}
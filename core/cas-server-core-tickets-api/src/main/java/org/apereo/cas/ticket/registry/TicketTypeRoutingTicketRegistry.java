@@ -0,0 +1,166 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.jooq.lambda.Unchecked;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link TicketTypeRoutingTicketRegistry} that places each ticket type in its own
+ * backing registry, as defined by the ticket type prefix in the {@link TicketCatalog}, so that
+ * short-lived tickets such as service tickets may be kept in a faster store than long-lived tickets.
+ * Ticket types that are not routed are kept by the default ticket registry.
+ * The time spent in each backing registry is recorded per backing registry.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@ToString(of = "routes")
+public class TicketTypeRoutingTicketRegistry extends AbstractRoutingTicketRegistry implements MeterBinder {
+    /**
+     * Name of the default backing registry.
+     */
+    public static final String DEFAULT_BACKEND = "default";
+
+    @Getter
+    private final Map<String, String> routes;
+
+    @Getter
+    private final Map<String, TicketRegistry> backends;
+
+    @Getter
+    private final List<TicketRegistry> ticketRegistries;
+
+    private final Map<String, LongAdder> counts = new LinkedHashMap<>();
+
+    private final Map<String, LongAdder> timesInNanos = new LinkedHashMap<>();
+
+    public TicketTypeRoutingTicketRegistry(final TicketCatalog ticketCatalog,
+                                           final Map<String, String> routes,
+                                           final Map<String, ? extends TicketRegistry> backends) {
+        if (!backends.containsKey(DEFAULT_BACKEND)) {
+            throw new IllegalArgumentException("No default ticket registry is defined");
+        }
+        routes.forEach((prefix, backend) -> {
+            if (!backends.containsKey(backend)) {
+                throw new IllegalArgumentException("Ticket registry " + backend + " for ticket type " + prefix + " is not defined");
+            }
+        });
+        this.routes = routes.entrySet()
+            .stream()
+            .collect(Collectors.toUnmodifiableMap(entry -> getTicketPrefix(ticketCatalog, entry.getKey()), Map.Entry::getValue));
+        this.backends = new LinkedHashMap<>(backends);
+        this.ticketRegistries = new ArrayList<>(this.backends.values());
+        this.backends.keySet().forEach(backend -> {
+            counts.put(backend, new LongAdder());
+            timesInNanos.put(backend, new LongAdder());
+        });
+    }
+
+    /**
+     * Gets the name of the backing registry that owns the ticket id.
+     *
+     * @param ticketId the ticket id
+     * @return the backend name
+     */
+    public String getBackend(final String ticketId) {
+        if (StringUtils.isBlank(ticketId)) {
+            return DEFAULT_BACKEND;
+        }
+        val index = ticketId.indexOf(UniqueTicketIdGenerator.SEPARATOR);
+        val prefix = index != -1 ? ticketId.substring(0, index) : ticketId;
+        return routes.getOrDefault(prefix, DEFAULT_BACKEND);
+    }
+
+    /**
+     * Gets the number of operations carried out by the backing registry.
+     *
+     * @param backend the backend name
+     * @return the count
+     */
+    public long getCount(final String backend) {
+        return counts.get(backend).sum();
+    }
+
+    @Override
+    public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
+        return Unchecked.supplier(() -> record(ticketId, () -> super.getTicket(ticketId, predicate))).get();
+    }
+
+    @Override
+    public <T extends Ticket> T consumeTicket(final String ticketId, final Class<T> clazz) throws Exception {
+        return record(ticketId, () -> super.consumeTicket(ticketId, clazz));
+    }
+
+    @Override
+    public boolean deleteSingleTicket(final String ticketId) {
+        return Unchecked.supplier(() -> record(ticketId, () -> super.deleteSingleTicket(ticketId))).get();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        backends.keySet().forEach(backend -> FunctionTimer.builder("cas.ticket.registry.backend", this,
+                routing -> routing.counts.get(backend).sum(),
+                routing -> routing.timesInNanos.get(backend).sum(), TimeUnit.NANOSECONDS)
+            .tag("backend", backend)
+            .description("Time spent in each backing ticket registry")
+            .register(registry));
+    }
+
+    @Override
+    protected TicketRegistry getTicketRegistry(final String ticketId) {
+        return backends.get(getBackend(ticketId));
+    }
+
+    @Override
+    protected void addTicketInternal(final Ticket ticket) throws Exception {
+        record(ticket.getId(), () -> {
+            super.addTicketInternal(ticket);
+            return ticket;
+        });
+    }
+
+    @Override
+    protected Ticket updateTicketInternal(final Ticket ticket) throws Exception {
+        return record(ticket.getId(), () -> super.updateTicketInternal(ticket));
+    }
+
+    private static String getTicketPrefix(final TicketCatalog ticketCatalog, final String ticketType) {
+        return ticketCatalog.findAll()
+            .stream()
+            .map(TicketDefinition::getPrefix)
+            .filter(prefix -> prefix.equalsIgnoreCase(ticketType))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Ticket type " + ticketType + " is not defined in the ticket catalog"));
+    }
+
+    private <T> T record(final String ticketId, final Callable<T> operation) throws Exception {
+        val backend = getBackend(ticketId);
+        val startTime = System.nanoTime();
+        try {
+            return operation.call();
+        } finally {
+            counts.get(backend).increment();
+            timesInNanos.get(backend).add(System.nanoTime() - startTime);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.ticket.TicketCatalog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+
+import java.util.LinkedHashMap;
+
+/**
+ * This is {@link TicketTypeRoutingTicketRegistryPostProcessor}.
+ * Wraps the ticket registry in a {@link TicketTypeRoutingTicketRegistry} so that
+ * ticket types may be routed to other backing registries, when routes are configured. The ticket registry itself
+ * remains the default backing registry. The {@value #MEMORY_BACKEND} backend is the in-memory
+ * ticket registry bean named {@value #MEMORY_BACKEND_BEAN_NAME}, which is kept across refreshes of the ticket registry;
+ * any other backend is looked up as a ticket registry bean by name.
+ * This post processor is ordered, so that it runs before unordered post processors that
+ * expect to see the outermost ticket registry.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TicketTypeRoutingTicketRegistryPostProcessor implements BeanPostProcessor, Ordered {
+    /**
+     * Name of the in-memory backing registry.
+     */
+    public static final String MEMORY_BACKEND = "memory";
+
+    /**
+     * Bean name of the in-memory backing registry.
+     */
+    public static final String MEMORY_BACKEND_BEAN_NAME = "memoryBackendTicketRegistry";
+
+    private final ObjectProvider<TicketCatalog> ticketCatalog;
+
+    private final ObjectProvider<CasConfigurationProperties> casProperties;
+
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (TicketRegistry.BEAN_NAME.equals(beanName) && bean instanceof TicketRegistry
+            && !(bean instanceof TicketTypeRoutingTicketRegistry)) {
+            val routes = casProperties.getObject().getTicket().getRegistry().getRouting().getRoutes();
+            if (routes.isEmpty()) {
+                return bean;
+            }
+            val backends = new LinkedHashMap<String, TicketRegistry>();
+            backends.put(TicketTypeRoutingTicketRegistry.DEFAULT_BACKEND, (TicketRegistry) bean);
+            routes.values()
+                .stream()
+                .distinct()
+                .filter(backend -> !backends.containsKey(backend))
+                .forEach(backend -> backends.put(backend, getTicketRegistry(backend)));
+            val registry = new TicketTypeRoutingTicketRegistry(ticketCatalog.getObject(), routes, backends);
+            LOGGER.debug("Ticket registry [{}] routes tickets by type as [{}]", bean.getClass().getSimpleName(), registry.getRoutes());
+            return registry;
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private TicketRegistry getTicketRegistry(final String backend) {
+        val beanName = MEMORY_BACKEND.equals(backend) ? MEMORY_BACKEND_BEAN_NAME : backend;
+        return applicationContext.getBean(beanName, TicketRegistry.class);
+    }
+}
@@ -1,7 +1,7 @@
 package org.apereo.cas.util;
 
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
-import org.apereo.cas.util.gen.Base64RandomStringGenerator;
+import org.apereo.cas.util.gen.BufferedEntropyRandomStringGenerator;
 import org.apereo.cas.util.gen.DefaultLongNumericGenerator;
 import org.apereo.cas.util.gen.NumericGenerator;
 import org.apereo.cas.util.gen.RandomStringGenerator;
@@ -112,11 +112,13 @@ public class DefaultUniqueTicketIdGenerator implements UniqueTicketIdGenerator {
 
     /**
      * Sets max length of id generation.
+     * The random part of the id is produced by a {@link BufferedEntropyRandomStringGenerator}
+     * which yields the same length and alphabet as url-safe base64 encoding of {@code maxLength} random bytes.
      *
      * @param maxLength the max length
      */
     public void setMaxLength(final long maxLength) {
-        this.randomStringGenerator = new Base64RandomStringGenerator(maxLength);
+        this.randomStringGenerator = new BufferedEntropyRandomStringGenerator(maxLength);
         this.numericGenerator = new DefaultLongNumericGenerator(1);
     }
 }
@@ -0,0 +1,29 @@
+package org.apereo.cas.util;
+
+import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * This is {@link ShardedUniqueTicketIdGenerator} that appends a signed partition token,
+ * produced by a {@link TicketIdShardCodec}, to ticket ids created by another generator.
+ * <p>
+ * Tickets are of the form [TICKET ID]-[PARTITION][SIGNATURE]
+ * </p>
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class ShardedUniqueTicketIdGenerator implements UniqueTicketIdGenerator {
+    private final UniqueTicketIdGenerator generator;
+
+    private final TicketIdShardCodec codec;
+
+    @Override
+    public String getNewTicketId(final String prefix) {
+        return codec.encode(generator.getNewTicketId(prefix));
+    }
+}
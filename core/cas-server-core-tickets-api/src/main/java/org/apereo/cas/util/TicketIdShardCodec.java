@@ -0,0 +1,190 @@
+package org.apereo.cas.util;
+
+import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.OptionalInt;
+
+/**
+ * This is {@link TicketIdShardCodec}, which embeds a compact, signed partition token
+ * at the end of ticket ids and extracts it again so that ticket registries may route
+ * operations for a ticket to the partition that owns it.
+ * <p>
+ * Tokens are of the form {@code [SEPARATOR][PARTITION][SIGNATURE]} where the partition
+ * is written as two hexadecimal characters and the signature is a truncated HMAC of the
+ * ticket id and the partition, written as eight hexadecimal characters. Ticket ids that carry
+ * no valid token, such as ids produced by generators that are not partition-aware,
+ * are assigned to a partition based on a hash of the ticket id.
+ * </p>
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class TicketIdShardCodec {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "ticketIdShardCodec";
+
+    /**
+     * Maximum number of partitions that can be encoded in a token.
+     */
+    public static final int MAX_PARTITIONS = 256;
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final int SIGNATURE_LENGTH = 4;
+
+    private static final int TOKEN_LENGTH = 2 + SIGNATURE_LENGTH * 2;
+
+    @Getter
+    private final int partitions;
+
+    private final ThreadLocal<Mac> mac;
+
+    public TicketIdShardCodec(final int partitions, final String signingKey) {
+        if (partitions < 1 || partitions > MAX_PARTITIONS) {
+            throw new IllegalArgumentException("Number of partitions must be between 1 and " + MAX_PARTITIONS);
+        }
+        this.partitions = partitions;
+        val key = StringUtils.defaultIfBlank(signingKey, null);
+        if (key == null && partitions > 1) {
+            LOGGER.warn("No signing key is defined to sign partition tokens of ticket ids. CAS will generate a random key "
+                        + "which is only suitable for single-node deployments, since tickets must be routed the same way by all nodes.");
+        }
+        val keySpec = new SecretKeySpec(StringUtils.defaultIfBlank(key, RandomUtils.randomAlphanumeric(32))
+            .getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> newMac(keySpec));
+    }
+
+    @SneakyThrows
+    private static Mac newMac(final SecretKeySpec keySpec) {
+        val instance = Mac.getInstance(ALGORITHM);
+        instance.init(keySpec);
+        return instance;
+    }
+
+    private static void appendHex(final StringBuilder builder, final int value) {
+        builder.append(Character.forDigit((value >> 4) & 0xF, 16)).append(Character.forDigit(value & 0xF, 16));
+    }
+
+    private static int parseHex(final String value, final int index) {
+        val high = Character.digit(value.charAt(index), 16);
+        val low = Character.digit(value.charAt(index + 1), 16);
+        return high < 0 || low < 0 ? -1 : (high << 4) | low;
+    }
+
+    /**
+     * Whether ticket ids are partitioned.
+     *
+     * @return true/false
+     */
+    public boolean isEnabled() {
+        return partitions > 1;
+    }
+
+    /**
+     * Append a partition token to the ticket id, assigning the ticket to a partition
+     * based on a hash of the ticket id.
+     *
+     * @param ticketId the ticket id
+     * @return the ticket id with its partition token
+     */
+    public String encode(final String ticketId) {
+        return encode(ticketId, getHashedPartition(ticketId));
+    }
+
+    /**
+     * Append a partition token to the ticket id.
+     *
+     * @param ticketId  the ticket id
+     * @param partition the partition
+     * @return the ticket id with its partition token
+     */
+    public String encode(final String ticketId, final int partition) {
+        val signature = sign(ticketId, partition);
+        val builder = new StringBuilder(ticketId.length() + TOKEN_LENGTH + 1)
+            .append(ticketId).append(UniqueTicketIdGenerator.SEPARATOR);
+        appendHex(builder, partition);
+        for (var i = 0; i < SIGNATURE_LENGTH; i++) {
+            appendHex(builder, signature[i]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Extract the partition from the token of the ticket id, if the token is present and its signature is valid.
+     *
+     * @param ticketId the ticket id
+     * @return the partition
+     */
+    public OptionalInt decode(final String ticketId) {
+        val tokenStart = ticketId.length() - TOKEN_LENGTH;
+        if (tokenStart < 1 || ticketId.charAt(tokenStart - 1) != UniqueTicketIdGenerator.SEPARATOR) {
+            return OptionalInt.empty();
+        }
+        val partition = parseHex(ticketId, tokenStart);
+        if (partition < 0 || partition >= partitions) {
+            return OptionalInt.empty();
+        }
+        val signature = new byte[SIGNATURE_LENGTH];
+        for (var i = 0; i < SIGNATURE_LENGTH; i++) {
+            val value = parseHex(ticketId, tokenStart + 2 + i * 2);
+            if (value < 0) {
+                return OptionalInt.empty();
+            }
+            signature[i] = (byte) value;
+        }
+        val expected = sign(ticketId.substring(0, tokenStart - 1), partition);
+        if (!MessageDigest.isEqual(signature, Arrays.copyOf(expected, SIGNATURE_LENGTH))) {
+            LOGGER.trace("Partition token of ticket id [{}] cannot be verified", ticketId);
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(partition);
+    }
+
+    /**
+     * Locate the partition that owns the ticket id.
+     *
+     * @param ticketId the ticket id
+     * @return the partition
+     */
+    public int locate(final String ticketId) {
+        if (!isEnabled()) {
+            return 0;
+        }
+        val partition = decode(ticketId);
+        return partition.isPresent() ? partition.getAsInt() : getHashedPartition(ticketId);
+    }
+
+    /**
+     * Decorate the ticket id generator so that generated ids carry a partition token.
+     *
+     * @param generator the generator
+     * @return the unique ticket id generator
+     */
+    public UniqueTicketIdGenerator decorate(final UniqueTicketIdGenerator generator) {
+        return isEnabled() ? new ShardedUniqueTicketIdGenerator(generator, this) : generator;
+    }
+
+    private int getHashedPartition(final String ticketId) {
+        return Math.floorMod(ticketId.hashCode(), partitions);
+    }
+
+    private byte[] sign(final String ticketId, final int partition) {
+        val instance = mac.get();
+        instance.update((byte) partition);
+        return instance.doFinal(ticketId.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.AuthenticationEventExecutionPlanConfigurer;
 import org.apereo.cas.authentication.PseudoPlatformTransactionManager;
 import org.apereo.cas.authentication.policy.UniquePrincipalAuthenticationPolicy;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.services.ServicesManager;
@@ -35,11 +36,19 @@ import org.apereo.cas.ticket.registry.CachingTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistrySupport;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryDeletionListener;
+import org.apereo.cas.ticket.registry.TicketRegistryDeletionListenerPostProcessor;
+import org.apereo.cas.ticket.registry.TicketRegistryRequestCache;
+import org.apereo.cas.ticket.registry.TicketRegistryWriteBehind;
+import org.apereo.cas.ticket.registry.TicketRegistryWriteBehindPostProcessor;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
+import org.apereo.cas.ticket.registry.TicketTypeRoutingTicketRegistry;
+import org.apereo.cas.ticket.registry.TicketTypeRoutingTicketRegistryPostProcessor;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.ProxyGrantingTicketIdGenerator;
 import org.apereo.cas.util.ProxyTicketIdGenerator;
 import org.apereo.cas.util.TicketGrantingTicketIdGenerator;
+import org.apereo.cas.util.TicketIdShardCodec;
 import org.apereo.cas.util.cipher.CipherExecutorUtils;
 import org.apereo.cas.util.cipher.ProtocolTicketCipherExecutor;
 import org.apereo.cas.util.crypto.CipherExecutor;
@@ -48,10 +57,12 @@ import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -60,6 +71,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.core.Ordered;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -95,8 +107,16 @@ public class CasCoreTicketsConfiguration {
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public TicketRegistrySupport defaultTicketRegistrySupport(
             @Qualifier(TicketRegistry.BEAN_NAME)
-            final TicketRegistry ticketRegistry) {
-            return new DefaultTicketRegistrySupport(ticketRegistry);
+            final TicketRegistry ticketRegistry,
+            @Qualifier(TicketRegistryRequestCache.BEAN_NAME)
+            final TicketRegistryRequestCache ticketRegistryRequestCache) {
+            return new DefaultTicketRegistrySupport(ticketRegistry, ticketRegistryRequestCache);
+        }
+
+        @ConditionalOnMissingBean(name = TicketRegistryRequestCache.BEAN_NAME)
+        @Bean
+        public TicketRegistryRequestCache ticketRegistryRequestCache(final CasConfigurationProperties casProperties) {
+            return new TicketRegistryRequestCache(casProperties.getTicket().getRegistry().getCore().isEnableRequestCache());
         }
 
     }
@@ -174,34 +194,49 @@ public class CasCoreTicketsConfiguration {
     @Configuration(value = "CasCoreTicketIdGeneratorConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class CasCoreTicketIdGeneratorConfiguration {
+        @ConditionalOnMissingBean(name = TicketIdShardCodec.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public TicketIdShardCodec ticketIdShardCodec(
+            final CasConfigurationProperties casProperties) {
+            val sharding = casProperties.getTicket().getRegistry().getSharding();
+            return new TicketIdShardCodec(sharding.getPartitions(), sharding.getSigningKey());
+        }
+
         @ConditionalOnMissingBean(name = "proxyGrantingTicketUniqueIdGenerator")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public UniqueTicketIdGenerator proxyGrantingTicketUniqueIdGenerator(
+            @Qualifier(TicketIdShardCodec.BEAN_NAME)
+            final TicketIdShardCodec ticketIdShardCodec,
             final CasConfigurationProperties casProperties) {
-            return new ProxyGrantingTicketIdGenerator(
+            return ticketIdShardCodec.decorate(new ProxyGrantingTicketIdGenerator(
                 casProperties.getTicket().getTgt().getCore().getMaxLength(),
-                casProperties.getHost().getName());
+                casProperties.getHost().getName()));
         }
 
         @ConditionalOnMissingBean(name = "ticketGrantingTicketUniqueIdGenerator")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public UniqueTicketIdGenerator ticketGrantingTicketUniqueIdGenerator(
+            @Qualifier(TicketIdShardCodec.BEAN_NAME)
+            final TicketIdShardCodec ticketIdShardCodec,
             final CasConfigurationProperties casProperties) {
-            return new TicketGrantingTicketIdGenerator(
+            return ticketIdShardCodec.decorate(new TicketGrantingTicketIdGenerator(
                 casProperties.getTicket().getTgt().getCore().getMaxLength(),
-                casProperties.getHost().getName());
+                casProperties.getHost().getName()));
         }
 
         @ConditionalOnMissingBean(name = "proxy20TicketUniqueIdGenerator")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public UniqueTicketIdGenerator proxy20TicketUniqueIdGenerator(
+            @Qualifier(TicketIdShardCodec.BEAN_NAME)
+            final TicketIdShardCodec ticketIdShardCodec,
             final CasConfigurationProperties casProperties) {
-            return new ProxyTicketIdGenerator(
+            return ticketIdShardCodec.decorate(new ProxyTicketIdGenerator(
                 casProperties.getTicket().getPgt().getMaxLength(),
-                casProperties.getHost().getName());
+                casProperties.getHost().getName()));
         }
     }
 
@@ -466,4 +501,109 @@ public class CasCoreTicketsConfiguration {
                 .get();
         }
     }
+
+    @Configuration(value = "CasCoreTicketWriteBehindConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    public static class CasCoreTicketWriteBehindConfiguration {
+
+        /**
+         * Create the post processor that lets the ticket registry
+         * write non-critical ticket updates behind.
+         * Note that {@code BeanPostProcessor} beans should be static.
+         *
+         * @param applicationContext        the application context
+         * @param ticketRegistryWriteBehind the write-behind instance
+         * @return the bean post processor
+         */
+        @Bean
+        public static BeanPostProcessor ticketRegistryWriteBehindPostProcessor(
+            final ConfigurableApplicationContext applicationContext,
+            @Qualifier(TicketRegistryWriteBehind.BEAN_NAME)
+            final ObjectProvider<TicketRegistryWriteBehind> ticketRegistryWriteBehind) {
+            return BeanSupplier.of(BeanPostProcessor.class)
+                .when(BeanCondition.on("cas.ticket.registry.core.enable-write-behind").isTrue().given(applicationContext.getEnvironment()))
+                .supply(() -> new TicketRegistryWriteBehindPostProcessor(ticketRegistryWriteBehind))
+                .otherwise(() -> new BeanPostProcessor() {
+                })
+                .get();
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = TicketRegistryWriteBehind.BEAN_NAME)
+        public TicketRegistryWriteBehind ticketRegistryWriteBehind(final CasConfigurationProperties casProperties) {
+            val core = casProperties.getTicket().getRegistry().getCore();
+            return new TicketRegistryWriteBehind(Beans.newDuration(core.getWriteBehindMaxDelay()), core.getWriteBehindBatchSize());
+        }
+    }
+
+    @Configuration(value = "CasCoreTicketRoutingConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    public static class CasCoreTicketRoutingConfiguration {
+
+        /**
+         * Create the post processor that routes ticket types
+         * to their own backing ticket registries.
+         * Note that {@code BeanPostProcessor} beans should be static.
+         *
+         * @param applicationContext the application context
+         * @param casProperties      the cas properties
+         * @param ticketCatalog      the ticket catalog
+         * @return the bean post processor
+         */
+        @Bean
+        public static BeanPostProcessor ticketTypeRoutingTicketRegistryPostProcessor(
+            final ConfigurableApplicationContext applicationContext,
+            final ObjectProvider<CasConfigurationProperties> casProperties,
+            @Qualifier(TicketCatalog.BEAN_NAME)
+            final ObjectProvider<TicketCatalog> ticketCatalog) {
+            return new TicketTypeRoutingTicketRegistryPostProcessor(ticketCatalog, casProperties, applicationContext);
+        }
+
+        /**
+         * Create the in-memory backing registry for ticket types routed to memory.
+         * The bean is not refreshable, so that tickets kept in memory survive refreshes of the ticket registry,
+         * and is not a candidate for autowiring, so that it does not compete with the ticket registry.
+         *
+         * @param logoutManager the logout manager
+         * @return the ticket registry
+         */
+        @Lazy
+        @Bean(name = TicketTypeRoutingTicketRegistryPostProcessor.MEMORY_BACKEND_BEAN_NAME, autowireCandidate = false)
+        @ConditionalOnMissingBean(name = TicketTypeRoutingTicketRegistryPostProcessor.MEMORY_BACKEND_BEAN_NAME)
+        public TicketRegistry memoryBackendTicketRegistry(
+            @Qualifier(LogoutManager.DEFAULT_BEAN_NAME)
+            final ObjectProvider<LogoutManager> logoutManager) {
+            return new CachingTicketRegistry(CipherExecutor.noOp(), logoutManager);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = "ticketTypeRoutingTicketRegistryMetrics")
+        public MeterBinder ticketTypeRoutingTicketRegistryMetrics(
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final TicketRegistry ticketRegistry) {
+            return registry -> {
+                if (ticketRegistry instanceof TicketTypeRoutingTicketRegistry) {
+                    ((TicketTypeRoutingTicketRegistry) ticketRegistry).bindTo(registry);
+                }
+            };
+        }
+    }
+
+    @Configuration(value = "CasCoreTicketDeletionListenerConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    public static class CasCoreTicketDeletionListenerConfiguration {
+
+        /**
+         * Create the post processor that registers ticket deletion listeners with the ticket registry.
+         * Note that {@code BeanPostProcessor} beans should be static.
+         *
+         * @param ticketRegistryDeletionListeners the deletion listeners
+         * @return the bean post processor
+         */
+        @Bean
+        public static BeanPostProcessor ticketRegistryDeletionListenerPostProcessor(
+            final ObjectProvider<TicketRegistryDeletionListener> ticketRegistryDeletionListeners) {
+            return new TicketRegistryDeletionListenerPostProcessor(ticketRegistryDeletionListeners);
+        }
+    }
 }
@@ -7,6 +7,7 @@ import org.apereo.cas.ticket.UniqueTicketIdGenerator;
 import org.apereo.cas.ticket.UniqueTicketIdGeneratorConfigurer;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.ServiceTicketIdGenerator;
+import org.apereo.cas.util.TicketIdShardCodec;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -30,10 +31,13 @@ public class CasDefaultServiceTicketIdGeneratorsConfiguration {
 
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @Bean
-    public UniqueTicketIdGenerator serviceTicketUniqueIdGenerator(final CasConfigurationProperties casProperties) {
-        return new ServiceTicketIdGenerator(
+    public UniqueTicketIdGenerator serviceTicketUniqueIdGenerator(
+        @Qualifier(TicketIdShardCodec.BEAN_NAME)
+        final TicketIdShardCodec ticketIdShardCodec,
+        final CasConfigurationProperties casProperties) {
+        return ticketIdShardCodec.decorate(new ServiceTicketIdGenerator(
             casProperties.getTicket().getSt().getMaxLength(),
-            casProperties.getHost().getName());
+            casProperties.getHost().getName()));
     }
 
     @Bean
@@ -33,11 +33,15 @@ import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleanerTests;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistrySupportTests;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistryTests;
 import org.apereo.cas.ticket.registry.DistributedTicketRegistryTests;
+import org.apereo.cas.ticket.registry.ShardedTicketRegistryTests;
+import org.apereo.cas.ticket.registry.TicketRegistryWriteBehindTests;
+import org.apereo.cas.ticket.registry.TicketTypeRoutingTicketRegistryTests;
 import org.apereo.cas.ticket.serialization.DefaultTicketStringSerializationManagerTests;
 import org.apereo.cas.util.DefaultUniqueTicketIdGeneratorTests;
 import org.apereo.cas.util.GroovyUniqueTicketIdGeneratorTests;
 import org.apereo.cas.util.InternalTicketValidatorTests;
 import org.apereo.cas.util.TicketEncryptionDecryptionTests;
+import org.apereo.cas.util.TicketIdShardCodecTests;
 
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
@@ -86,7 +90,11 @@ import org.junit.platform.suite.api.Suite;
     InternalTicketValidatorTests.class,
     Cas20ProxyHandlerTests.class,
     GroovyUniqueTicketIdGeneratorTests.class,
-    DefaultTicketCatalogTests.class
+    DefaultTicketCatalogTests.class,
+    ShardedTicketRegistryTests.class,
+    TicketIdShardCodecTests.class,
+    TicketRegistryWriteBehindTests.class,
+    TicketTypeRoutingTicketRegistryTests.class
 })
 @Suite
 public class AllTestsSuite {
@@ -37,6 +37,7 @@ import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.TransientSessionTicket;
 import org.apereo.cas.ticket.TransientSessionTicketImpl;
 import org.apereo.cas.ticket.expiration.AlwaysExpiresExpirationPolicy;
+import org.apereo.cas.ticket.expiration.MultiTimeUseOrTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.ticket.expiration.TicketGrantingTicketExpirationPolicy;
 import org.apereo.cas.ticket.expiration.TimeoutExpirationPolicy;
@@ -483,6 +484,31 @@ public abstract class BaseTicketRegistryTests {
         assertNull(ticketRegistry.getTicket(serviceTicketId, ServiceTicket.class));
     }
 
+    @RepeatedTest(2)
+    public void verifyConsumeServiceTicket() throws Exception {
+        val authn = CoreAuthenticationTestUtils.getAuthentication();
+        ticketRegistry.addTicket(new TicketGrantingTicketImpl(ticketGrantingTicketId, authn, NeverExpiresExpirationPolicy.INSTANCE));
+        val tgt = ticketRegistry.getTicket(ticketGrantingTicketId, TicketGrantingTicket.class);
+        val service = RegisteredServiceTestUtils.getService("TGT_CONSUME_TEST");
+        val st = tgt.grantServiceTicket(serviceTicketId, service,
+            new MultiTimeUseOrTimeoutExpirationPolicy(2, 60), false, true);
+        ticketRegistry.addTicket(st);
+        ticketRegistry.updateTicket(tgt);
+
+        assertThrows(ClassCastException.class, () -> ticketRegistry.consumeTicket(ticketGrantingTicketId, ServiceTicket.class));
+        assertNotNull(ticketRegistry.getTicket(ticketGrantingTicketId, TicketGrantingTicket.class));
+
+        val first = ticketRegistry.consumeTicket(serviceTicketId, ServiceTicket.class);
+        assertNotNull(first);
+        assertEquals(1, first.getCountOfUses());
+        assertNotNull(ticketRegistry.getTicket(serviceTicketId, ServiceTicket.class));
+        val second = ticketRegistry.consumeTicket(serviceTicketId, ServiceTicket.class);
+        assertNotNull(second);
+        assertEquals(2, second.getCountOfUses());
+        assertNull(ticketRegistry.getTicket(serviceTicketId, ServiceTicket.class));
+        assertNull(ticketRegistry.consumeTicket(serviceTicketId, ServiceTicket.class));
+    }
+
     @RepeatedTest(2)
     public void verifyExpiredTicket() throws Exception {
         val authn = CoreAuthenticationTestUtils.getAuthentication();
@@ -2,12 +2,20 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.MultiTimeUseOrTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 
 import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.List;
 import java.util.Map;
@@ -41,4 +49,59 @@ public class DefaultTicketRegistrySupportTests {
             .getAuthentication().getAttributes().containsKey("newAuthN"));
 
     }
+
+    @Test
+    public void verifyTicketsCachedPerRequest() throws Exception {
+        val registry = new DefaultTicketRegistry();
+        val tgt = new MockTicketGrantingTicket("casuser", Map.of("name", List.of("CAS")));
+        registry.addTicket(tgt);
+        val cache = new TicketRegistryRequestCache(true);
+        val support = new DefaultTicketRegistrySupport(registry, cache);
+
+        assertNotNull(support.getTicketGrantingTicket(tgt.getId()));
+        assertNotNull(support.getTicketGrantingTicket(tgt.getId()));
+        assertEquals(0, cache.getHitCount());
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            assertNotNull(support.getTicketGrantingTicket(tgt.getId()));
+            assertSame(tgt, support.getTicket(tgt.getId()));
+            assertNotNull(support.getPrincipalAttributesFrom(tgt.getId()));
+            assertEquals(1, cache.getMissCount());
+            assertEquals(2, cache.getHitCount());
+
+            cache.evict(tgt.getId());
+            registry.deleteSingleTicket(tgt.getId());
+            assertNull(support.getTicketGrantingTicket(tgt.getId()));
+            assertEquals(2, cache.getMissCount());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    public void verifyTicketsEvictedOnDeletion() throws Exception {
+        val registry = new DefaultTicketRegistry();
+        val cache = new TicketRegistryRequestCache(true);
+        registry.setDeletionListeners(List.of(cache));
+        val tgt = new TicketGrantingTicketImpl("TGT-1", CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        val st = tgt.grantServiceTicket("ST-1", RegisteredServiceTestUtils.getService(),
+            new MultiTimeUseOrTimeoutExpirationPolicy(1, 60), false, true);
+        registry.addTicket(tgt);
+        registry.addTicket(st);
+        val support = new DefaultTicketRegistrySupport(registry, cache);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            assertNotNull(cache.getTicket(st.getId(), ServiceTicket.class, registry));
+            assertNotNull(registry.consumeTicket(st.getId(), ServiceTicket.class));
+            assertNull(cache.getTicket(st.getId(), ServiceTicket.class, registry));
+
+            assertNotNull(support.getTicketGrantingTicket(tgt.getId()));
+            registry.deleteTicket(tgt.getId());
+            assertNull(support.getTicketGrantingTicket(tgt.getId()));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
 }
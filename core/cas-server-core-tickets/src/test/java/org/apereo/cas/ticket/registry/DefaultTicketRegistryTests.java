@@ -1,19 +1,32 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.mock.MockServiceTicket;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
 import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.MultiTimeUseOrTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
 import lombok.val;
+import org.jooq.lambda.Unchecked;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Tag;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -58,6 +71,56 @@ public class DefaultTicketRegistryTests extends BaseTicketRegistryTests {
     }
 
 
+    @RepeatedTest(1)
+    public void verifyServiceTicketConsumedOnce() throws Exception {
+        val registry = getNewTicketRegistry();
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        val st = tgt.grantServiceTicket(serviceTicketId, RegisteredServiceTestUtils.getService(),
+            new MultiTimeUseOrTimeoutExpirationPolicy(1, 60), false, true);
+        registry.addTicket(tgt);
+        registry.addTicket(st);
+
+        val executor = Executors.newFixedThreadPool(8);
+        try {
+            val tasks = IntStream.range(0, 32)
+                .mapToObj(i -> (Callable<ServiceTicket>) () -> registry.consumeTicket(st.getId(), ServiceTicket.class))
+                .collect(Collectors.toList());
+            val consumed = executor.invokeAll(tasks)
+                .stream()
+                .map(future -> Unchecked.supplier(future::get).get())
+                .filter(Objects::nonNull)
+                .count();
+            assertEquals(1, consumed);
+            assertNull(registry.getTicket(st.getId()));
+            assertNotNull(registry.getTicket(tgt.getId()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @RepeatedTest(1)
+    public void verifyConsumedServiceTicketNotifiesListeners() throws Exception {
+        val registry = (DefaultTicketRegistry) getNewTicketRegistry();
+        val listener = mock(TicketRegistryDeletionListener.class);
+        registry.setDeletionListeners(List.of(listener));
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        val st = tgt.grantServiceTicket(serviceTicketId, RegisteredServiceTestUtils.getService(),
+            new MultiTimeUseOrTimeoutExpirationPolicy(2, 60), false, true);
+        registry.addTicket(tgt);
+        registry.addTicket(st);
+
+        assertThrows(ClassCastException.class, () -> registry.consumeTicket(st.getId(), TicketGrantingTicket.class));
+        assertEquals(0, registry.getTicket(st.getId(), ServiceTicket.class).getCountOfUses());
+        assertNotNull(registry.consumeTicket(st.getId(), ServiceTicket.class));
+        assertEquals(1, registry.getTicket(st.getId(), ServiceTicket.class).getCountOfUses());
+        verify(listener, never()).onTicketDeleted(any(Ticket.class));
+        assertNotNull(registry.consumeTicket(st.getId(), ServiceTicket.class));
+        assertNull(registry.getTicket(st.getId()));
+        verify(listener).onTicketDeleted(any(Ticket.class));
+    }
+
     @RepeatedTest(1)
     public void verifyEncodeFails() throws Exception {
         val cipher = new DefaultTicketCipherExecutor(null, null,
@@ -127,7 +127,7 @@ public class DistributedTicketRegistryTests {
         }
 
         @Override
-        public Ticket updateTicket(final Ticket ticket) {
+        public Ticket updateTicketInternal(final Ticket ticket) {
             this.parent.setWasTicketUpdated(true);
             return ticket;
         }
@@ -0,0 +1,77 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.util.TicketGrantingTicketIdGenerator;
+import org.apereo.cas.util.TicketIdShardCodec;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link ShardedTicketRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@SpringBootTest(classes = BaseTicketRegistryTests.SharedTestConfiguration.class)
+@Tag("Tickets")
+public class ShardedTicketRegistryTests extends BaseTicketRegistryTests {
+    private static final int PARTITIONS = 3;
+
+    private static final TicketIdShardCodec CODEC = new TicketIdShardCodec(PARTITIONS, "SigningKey");
+
+    private static final List<DefaultTicketRegistry> REGISTRIES = IntStream.range(0, PARTITIONS)
+        .mapToObj(i -> new DefaultTicketRegistry(CipherExecutor.noOp()))
+        .collect(Collectors.toList());
+
+    @Override
+    public TicketRegistry getNewTicketRegistry() {
+        return new ShardedTicketRegistry(CODEC, REGISTRIES);
+    }
+
+    @RepeatedTest(1)
+    public void verifyTicketsRoutedToPartition() throws Exception {
+        val registry = getNewTicketRegistry();
+        val generator = CODEC.decorate(new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY));
+        for (var i = 0; i < 10; i++) {
+            val id = generator.getNewTicketId(TicketGrantingTicket.PREFIX);
+            registry.addTicket(new TicketGrantingTicketImpl(id,
+                CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE));
+            val partition = CODEC.locate(id);
+            IntStream.range(0, PARTITIONS).forEach(p ->
+                assertEquals(p == partition, REGISTRIES.get(p).getTicket(id) != null));
+            assertNotNull(registry.getTicket(id, TicketGrantingTicket.class));
+        }
+        assertEquals(10, registry.sessionCount());
+        assertEquals(10, registry.getTickets().size());
+        assertEquals(10, registry.deleteAll());
+    }
+
+    @RepeatedTest(1)
+    public void verifyPartitionsDestroyed() {
+        val registries = IntStream.range(0, PARTITIONS)
+            .mapToObj(i -> spy(new DefaultTicketRegistry(CipherExecutor.noOp())))
+            .collect(Collectors.toList());
+        new ShardedTicketRegistry(CODEC, registries).destroy();
+        registries.forEach(registry -> verify(registry).destroy());
+    }
+
+    @RepeatedTest(1)
+    public void verifyPartitionCountMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedTicketRegistry(CODEC, REGISTRIES.subList(0, 1)));
+    }
+}
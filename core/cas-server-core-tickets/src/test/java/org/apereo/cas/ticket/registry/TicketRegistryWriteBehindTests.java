@@ -0,0 +1,145 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.MultiTimeUseOrTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import lombok.val;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link TicketRegistryWriteBehindTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@SpringBootTest(classes = BaseTicketRegistryTests.SharedTestConfiguration.class)
+@Tag("Tickets")
+public class TicketRegistryWriteBehindTests extends BaseTicketRegistryTests {
+
+    @Override
+    public TicketRegistry getNewTicketRegistry() {
+        val registry = new DefaultTicketRegistry(new ConcurrentHashMap<>(), CipherExecutor.noOp());
+        registry.setWriteBehind(new TicketRegistryWriteBehind(Duration.ofMinutes(1), 100));
+        return registry;
+    }
+
+    @RepeatedTest(1)
+    public void verifyUpdatesCoalescedAndFlushed() throws Exception {
+        val writes = new AtomicInteger();
+        val registry = new CountingTicketRegistry(writes);
+        val writeBehind = new TicketRegistryWriteBehind(Duration.ofMinutes(1), 100);
+        registry.setWriteBehind(writeBehind);
+
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        registry.addTicket(tgt);
+        tgt.update();
+        registry.updateTicket(tgt, true);
+        tgt.update();
+        registry.updateTicket(tgt, true);
+        assertEquals(0, writes.get());
+        assertEquals(1, writeBehind.getPendingCount());
+        assertSame(tgt, registry.getTicket(tgt.getId(), TicketGrantingTicket.class));
+
+        writeBehind.flush();
+        assertEquals(1, writes.get());
+        assertEquals(0, writeBehind.getPendingCount());
+    }
+
+    @RepeatedTest(1)
+    public void verifyCriticalOperationsNotDeferred() throws Exception {
+        val writes = new AtomicInteger();
+        val registry = new CountingTicketRegistry(writes);
+        val writeBehind = new TicketRegistryWriteBehind(Duration.ofMinutes(1), 100);
+        registry.setWriteBehind(writeBehind);
+
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        registry.addTicket(tgt);
+        val st = tgt.grantServiceTicket(serviceTicketId, RegisteredServiceTestUtils.getService(),
+            new MultiTimeUseOrTimeoutExpirationPolicy(2, 60), false, true);
+        registry.addTicket(st);
+        registry.updateTicket(st, true);
+        assertEquals(1, writeBehind.getPendingCount());
+        assertNotNull(registry.consumeTicket(st.getId(), ServiceTicket.class));
+        assertEquals(1, writes.get());
+        assertEquals(0, writeBehind.getPendingCount());
+
+        registry.updateTicket(tgt, true);
+        assertEquals(1, writeBehind.getPendingCount());
+        registry.deleteTicket(tgt.getId());
+        assertEquals(0, writeBehind.getPendingCount());
+        writeBehind.flush();
+        assertEquals(1, writes.get());
+        assertNull(registry.getTicket(tgt.getId()));
+
+        val expired = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        registry.addTicket(expired);
+        expired.markTicketExpired();
+        registry.updateTicket(expired, true);
+        assertEquals(2, writes.get());
+        assertEquals(0, writeBehind.getPendingCount());
+    }
+
+    @RepeatedTest(1)
+    public void verifyUpdatesNotDeferredUnlessRequested() throws Exception {
+        val writes = new AtomicInteger();
+        val registry = new CountingTicketRegistry(writes);
+        val writeBehind = new TicketRegistryWriteBehind(Duration.ofMinutes(1), 100);
+        registry.setWriteBehind(writeBehind);
+
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        registry.addTicket(tgt);
+        registry.updateTicket(tgt, true);
+        assertEquals(1, writeBehind.getPendingCount());
+        registry.updateTicket(tgt);
+        assertEquals(1, writes.get());
+        assertEquals(0, writeBehind.getPendingCount());
+    }
+
+    @RepeatedTest(1)
+    public void verifyPendingUpdatesFlushedOnDestroy() throws Exception {
+        val writes = new AtomicInteger();
+        val registry = new CountingTicketRegistry(writes);
+        registry.setWriteBehind(new TicketRegistryWriteBehind(Duration.ofMinutes(1), 100));
+
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        registry.addTicket(tgt);
+        registry.updateTicket(tgt, true);
+        assertEquals(0, writes.get());
+        registry.destroy();
+        assertEquals(1, writes.get());
+    }
+
+    private static class CountingTicketRegistry extends DefaultTicketRegistry {
+        private final AtomicInteger writes;
+
+        CountingTicketRegistry(final AtomicInteger writes) {
+            this.writes = writes;
+        }
+
+        @Override
+        protected Ticket updateTicketInternal(final Ticket ticket) throws Exception {
+            writes.incrementAndGet();
+            return super.updateTicketInternal(ticket);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.config.CasCoreTicketsConfiguration;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link TicketTypeRoutingTicketRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@SpringBootTest(classes = BaseTicketRegistryTests.SharedTestConfiguration.class)
+@Tag("Tickets")
+public class TicketTypeRoutingTicketRegistryTests extends BaseTicketRegistryTests {
+    @Autowired
+    @Qualifier(TicketCatalog.BEAN_NAME)
+    private TicketCatalog ticketCatalog;
+
+    private DefaultTicketRegistry defaultRegistry;
+
+    private DefaultTicketRegistry serviceTicketRegistry;
+
+    @Override
+    public TicketRegistry getNewTicketRegistry() {
+        defaultRegistry = new DefaultTicketRegistry(CipherExecutor.noOp());
+        serviceTicketRegistry = new DefaultTicketRegistry(CipherExecutor.noOp());
+        return new TicketTypeRoutingTicketRegistry(ticketCatalog, Map.of("st", "serviceTickets"),
+            Map.of(TicketTypeRoutingTicketRegistry.DEFAULT_BACKEND, defaultRegistry, "serviceTickets", serviceTicketRegistry));
+    }
+
+    @RepeatedTest(1)
+    public void verifyTicketsRoutedByType() throws Exception {
+        val registry = (TicketTypeRoutingTicketRegistry) getNewTicketRegistry();
+        assertEquals(Map.of(ServiceTicket.PREFIX, "serviceTickets"), registry.getRoutes());
+
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        registry.addTicket(tgt);
+        val st = tgt.grantServiceTicket(serviceTicketId, RegisteredServiceTestUtils.getService(),
+            NeverExpiresExpirationPolicy.INSTANCE, false, true);
+        registry.addTicket(st);
+        registry.updateTicket(tgt);
+
+        assertNotNull(defaultRegistry.getTicket(tgt.getId()));
+        assertNull(defaultRegistry.getTicket(st.getId()));
+        assertNotNull(serviceTicketRegistry.getTicket(st.getId()));
+        assertNull(serviceTicketRegistry.getTicket(tgt.getId()));
+        assertNotNull(registry.getTicket(st.getId(), ServiceTicket.class));
+        assertEquals(2, registry.getTickets().size());
+        assertEquals(1, registry.sessionCount());
+        assertEquals(1, registry.serviceTicketCount());
+        assertTrue(registry.getCount("serviceTickets") > 0);
+        assertTrue(registry.getCount(TicketTypeRoutingTicketRegistry.DEFAULT_BACKEND) > 0);
+
+        assertEquals(2, registry.deleteTicket(tgt.getId()));
+        assertNull(serviceTicketRegistry.getTicket(st.getId()));
+        assertNull(registry.getTicket(tgt.getId(), TicketGrantingTicket.class));
+    }
+
+    @RepeatedTest(1)
+    public void verifyBackendMetrics() throws Exception {
+        val registry = getNewTicketRegistry();
+        registry.addTicket(new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE));
+        val meterRegistry = new SimpleMeterRegistry();
+        new CasCoreTicketsConfiguration.CasCoreTicketRoutingConfiguration()
+            .ticketTypeRoutingTicketRegistryMetrics(registry)
+            .bindTo(meterRegistry);
+        val timer = meterRegistry.find("cas.ticket.registry.backend")
+            .tag("backend", TicketTypeRoutingTicketRegistry.DEFAULT_BACKEND)
+            .functionTimer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertNotNull(meterRegistry.find("cas.ticket.registry.backend").tag("backend", "serviceTickets").functionTimer());
+    }
+
+    @RepeatedTest(1)
+    public void verifyUnknownRoutes() {
+        assertThrows(IllegalArgumentException.class, () -> new TicketTypeRoutingTicketRegistry(ticketCatalog,
+            Map.of("unknown", TicketTypeRoutingTicketRegistry.DEFAULT_BACKEND),
+            Map.of(TicketTypeRoutingTicketRegistry.DEFAULT_BACKEND, defaultRegistry)));
+        assertThrows(IllegalArgumentException.class, () -> new TicketTypeRoutingTicketRegistry(ticketCatalog,
+            Map.of(ServiceTicket.PREFIX, "unknown"),
+            Map.of(TicketTypeRoutingTicketRegistry.DEFAULT_BACKEND, defaultRegistry)));
+    }
+}
@@ -0,0 +1,66 @@
+package org.apereo.cas.util;
+
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link TicketIdShardCodecTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Tickets")
+public class TicketIdShardCodecTests {
+
+    @Test
+    public void verifyEncodeAndDecode() {
+        val codec = new TicketIdShardCodec(4, "SigningKey");
+        val generator = new TicketGrantingTicketIdGenerator(20, "cas-01");
+        IntStream.range(0, 4).forEach(partition -> {
+            val id = codec.encode(generator.getNewTicketId(TicketGrantingTicket.PREFIX), partition);
+            assertTrue(id.startsWith(TicketGrantingTicket.PREFIX + '-'));
+            assertEquals(partition, codec.decode(id).orElseThrow());
+            assertEquals(partition, codec.locate(id));
+            assertEquals(partition, new TicketIdShardCodec(4, "SigningKey").locate(id));
+        });
+    }
+
+    @Test
+    public void verifyTamperedToken() {
+        val codec = new TicketIdShardCodec(4, "SigningKey");
+        val id = codec.encode("TGT-1-abcdefghijklmnopqrstuvwxyz-cas-01", 1);
+        val tampered = StringUtils.chop(id) + (id.endsWith("0") ? '1' : '0');
+        assertTrue(codec.decode(tampered).isEmpty());
+        val forged = id.substring(0, id.length() - 10) + "02" + id.substring(id.length() - 8);
+        assertTrue(codec.decode(forged).isEmpty());
+        assertTrue(new TicketIdShardCodec(4, "OtherKey").decode(id).isEmpty());
+        assertTrue(codec.decode("ST-1").isEmpty());
+        assertTrue(codec.locate("ST-1-abcdefghijklmnop") < 4);
+    }
+
+    @Test
+    public void verifyDecoratedGenerator() {
+        val generator = new ServiceTicketIdGenerator(20, "cas-01");
+        assertSame(generator, new TicketIdShardCodec(1, null).decorate(generator));
+
+        val codec = new TicketIdShardCodec(8, "SigningKey");
+        val decorated = codec.decorate(generator);
+        assertTrue(decorated instanceof ShardedUniqueTicketIdGenerator);
+        IntStream.range(0, 100).forEach(i -> assertTrue(codec.decode(decorated.getNewTicketId("ST")).isPresent()));
+    }
+
+    @Test
+    public void verifyPartitionCount() {
+        assertThrows(IllegalArgumentException.class, () -> new TicketIdShardCodec(0, null));
+        assertThrows(IllegalArgumentException.class, () -> new TicketIdShardCodec(TicketIdShardCodec.MAX_PARTITIONS + 1, null));
+        assertEquals(0, new TicketIdShardCodec(1, null).locate("ST-1-abcdefghijklmnop"));
+    }
+}
@@ -0,0 +1,176 @@
+package org.apereo.cas.util.gen;
+
+import org.apereo.cas.util.RandomUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * This is {@link BufferedEntropyRandomStringGenerator}, a random string generator
+ * tuned for high throughput.
+ * <p>
+ * Each thread draws random bytes in large blocks from its own DRBG instance, rather than
+ * asking a shared {@link SecureRandom} for a few bytes per string, and encodes them
+ * directly into a reusable character buffer. Characters are picked from the alphabet using
+ * the smallest number of random bits that can address it; values that fall outside the alphabet
+ * are rejected and drawn again, so that every character is equally likely.
+ * Generated strings carry at least as many random bits as the requested number of bytes.
+ * By default, the URL-safe base64 alphabet is used, producing strings of the same
+ * length and alphabet as {@link Base64RandomStringGenerator}.
+ * </p>
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class BufferedEntropyRandomStringGenerator implements RandomStringGenerator {
+    /**
+     * URL-safe base64 alphabet.
+     */
+    public static final String URL_SAFE_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+
+    private static final int BLOCK_SIZE = 4096;
+
+    private static final String ALGORITHM = "DRBG";
+
+    private static final int MAX_ALPHABET_SIZE = 256;
+
+    private static final ThreadLocal<EntropyBlock> ENTROPY = ThreadLocal.withInitial(EntropyBlock::new);
+
+    @Getter
+    private final long defaultLength;
+
+    private final char[] alphabet;
+
+    private final int bitsPerCharacter;
+
+    private final double entropyPerCharacter;
+
+    public BufferedEntropyRandomStringGenerator() {
+        this(DEFAULT_LENGTH);
+    }
+
+    public BufferedEntropyRandomStringGenerator(final long defaultLength) {
+        this(defaultLength, URL_SAFE_ALPHABET);
+    }
+
+    public BufferedEntropyRandomStringGenerator(final long defaultLength, final String alphabet) {
+        if (alphabet.length() < 2 || alphabet.length() > MAX_ALPHABET_SIZE) {
+            throw new IllegalArgumentException("Alphabet must contain between 2 and " + MAX_ALPHABET_SIZE + " characters");
+        }
+        this.defaultLength = defaultLength;
+        this.alphabet = alphabet.toCharArray();
+        this.bitsPerCharacter = Integer.SIZE - Integer.numberOfLeadingZeros(this.alphabet.length - 1);
+        this.entropyPerCharacter = Integer.bitCount(this.alphabet.length) == 1
+            ? bitsPerCharacter
+            : Math.log(this.alphabet.length) / Math.log(2);
+    }
+
+    private static SecureRandom newSecureRandom() {
+        try {
+            return SecureRandom.getInstance(ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            LOGGER.trace(e.getMessage(), e);
+            return RandomUtils.getNativeInstance();
+        }
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return ENTROPY.get().random.getAlgorithm();
+    }
+
+    @Override
+    public String getNewString(final int size) {
+        val length = (int) Math.ceil(size * Byte.SIZE / entropyPerCharacter);
+        val block = ENTROPY.get();
+        val characters = block.getCharacters(length);
+        for (var i = 0; i < length; i++) {
+            var index = block.nextBits(bitsPerCharacter);
+            while (index >= alphabet.length) {
+                index = block.nextBits(bitsPerCharacter);
+            }
+            characters[i] = alphabet[index];
+        }
+        return new String(characters, 0, length);
+    }
+
+    @Override
+    public String getNewString() {
+        return getNewString((int) defaultLength);
+    }
+
+    @Override
+    public byte[] getNewStringAsBytes(final int size) {
+        val bytes = new byte[size];
+        ENTROPY.get().nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * A block of random bytes owned by a single thread,
+     * along with a buffer to encode strings. Bytes are cleared once consumed.
+     */
+    private static final class EntropyBlock {
+        private final SecureRandom random = newSecureRandom();
+
+        private final byte[] bytes = new byte[BLOCK_SIZE];
+
+        private int position = BLOCK_SIZE;
+
+        private int bits;
+
+        private int bitCount;
+
+        private char[] characters = new char[RandomStringGenerator.DEFAULT_LENGTH * 2];
+
+        char[] getCharacters(final int length) {
+            if (characters.length < length) {
+                characters = new char[length];
+            }
+            return characters;
+        }
+
+        int nextBits(final int count) {
+            while (bitCount < count) {
+                bits = (bits << Byte.SIZE) | (nextByte() & 0xFF);
+                bitCount += Byte.SIZE;
+            }
+            bitCount -= count;
+            return (bits >>> bitCount) & ((1 << count) - 1);
+        }
+
+        void nextBytes(final byte[] output) {
+            var offset = 0;
+            while (offset < output.length) {
+                if (position == bytes.length) {
+                    refill();
+                }
+                val length = Math.min(output.length - offset, bytes.length - position);
+                System.arraycopy(bytes, position, output, offset, length);
+                Arrays.fill(bytes, position, position + length, (byte) 0);
+                position += length;
+                offset += length;
+            }
+        }
+
+        private byte nextByte() {
+            if (position == bytes.length) {
+                refill();
+            }
+            val value = bytes[position];
+            bytes[position++] = 0;
+            return value;
+        }
+
+        private void refill() {
+            random.nextBytes(bytes);
+            position = 0;
+        }
+    }
+}
@@ -2,7 +2,9 @@ package org.apereo.cas.util.jwt;
 
 import org.apereo.cas.util.EncodingUtils;
 
+import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -47,6 +49,9 @@ public class JsonWebTokenSigner {
     @Builder.Default
     private final Set<String> allowedAlgorithms = new LinkedHashSet<>();
 
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final AlgorithmConstraints algorithmConstraints = buildAlgorithmConstraints();
+
     /**
      * Sign byte array.
      *
@@ -91,7 +96,7 @@ public class JsonWebTokenSigner {
         return jws.getCompactSerialization();
     }
 
-    private AlgorithmConstraints getAlgorithmConstraints() {
+    private AlgorithmConstraints buildAlgorithmConstraints() {
         return allowedAlgorithms.isEmpty() || allowedAlgorithms.contains("*")
             ? AlgorithmConstraints.DISALLOW_NONE
             : new AlgorithmConstraints(AlgorithmConstraints.ConstraintType.PERMIT,
@@ -20,6 +20,7 @@ import org.apereo.cas.util.cipher.StringCipherExecutorTests;
 import org.apereo.cas.util.cipher.TicketGrantingCookieCipherExecutorTests;
 import org.apereo.cas.util.cipher.WebflowConversationStateCipherExecutorTests;
 import org.apereo.cas.util.feature.DefaultCasRuntimeModuleLoaderTests;
+import org.apereo.cas.util.gen.BufferedEntropyRandomStringGeneratorTests;
 import org.apereo.cas.util.gen.ChainingPrincipalNameTransformerTests;
 import org.apereo.cas.util.gen.DefaultLongNumericGeneratorTests;
 import org.apereo.cas.util.gen.DefaultRandomStringGeneratorTests;
@@ -56,6 +57,7 @@ import org.junit.platform.suite.api.Suite;
     EncodingUtilsTests.class,
     DefaultCasRuntimeModuleLoaderTests.class,
     HexRandomStringGeneratorTests.class,
+    BufferedEntropyRandomStringGeneratorTests.class,
     RegexUtilsTests.class,
     JasyptNumberCipherExecutorTests.class,
     StringCipherExecutorTests.class,
@@ -0,0 +1,89 @@
+package org.apereo.cas.util.gen;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link BufferedEntropyRandomStringGeneratorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Simple")
+public class BufferedEntropyRandomStringGeneratorTests {
+    private static final int LENGTH = 36;
+
+    private static final int ITERATIONS = 5_000;
+
+    private static final int THREADS = 8;
+
+    @Test
+    public void verifyLengthMatchesBase64() {
+        val generator = new BufferedEntropyRandomStringGenerator(LENGTH);
+        assertEquals(LENGTH, generator.getDefaultLength());
+        assertNotNull(generator.getAlgorithm());
+        IntStream.rangeClosed(1, 64).forEach(size -> {
+            val value = generator.getNewString(size);
+            assertEquals(new Base64RandomStringGenerator().getNewString(size).length(), value.length());
+            assertTrue(value.chars().allMatch(c -> BufferedEntropyRandomStringGenerator.URL_SAFE_ALPHABET.indexOf(c) >= 0));
+        });
+        assertEquals(LENGTH, generator.getNewStringAsBytes(LENGTH).length);
+        assertEquals(5000, generator.getNewStringAsBytes(5000).length);
+    }
+
+    @Test
+    public void verifyUniqueStrings() {
+        val generator = new BufferedEntropyRandomStringGenerator(LENGTH);
+        val values = new HashSet<String>();
+        IntStream.range(0, 10_000).forEach(i -> assertTrue(values.add(generator.getNewString())));
+    }
+
+    @Test
+    public void verifyUnbiasedAlphabet() {
+        val alphabet = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ012345679";
+        val generator = new BufferedEntropyRandomStringGenerator(LENGTH, alphabet);
+        val counts = new int[alphabet.length()];
+        var total = 0;
+        for (var i = 0; i < 5_000; i++) {
+            for (val c : generator.getNewString().toCharArray()) {
+                counts[alphabet.indexOf(c)]++;
+                total++;
+            }
+        }
+        val expected = (double) total / alphabet.length();
+        for (val count : counts) {
+            assertEquals(expected, count, expected * 0.1);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new BufferedEntropyRandomStringGenerator(LENGTH, "a"));
+    }
+
+    @Test
+    public void verifyConcurrentUniqueStrings() throws Exception {
+        val generator = new BufferedEntropyRandomStringGenerator(LENGTH);
+        val values = ConcurrentHashMap.<String>newKeySet();
+        val executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            val tasks = IntStream.range(0, THREADS)
+                .mapToObj(i -> (Callable<Boolean>) () -> IntStream.range(0, ITERATIONS)
+                    .mapToObj(j -> generator.getNewString())
+                    .allMatch(values::add))
+                .collect(Collectors.toList());
+            for (val result : executor.invokeAll(tasks)) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(THREADS * ITERATIONS, values.size());
+    }
+}
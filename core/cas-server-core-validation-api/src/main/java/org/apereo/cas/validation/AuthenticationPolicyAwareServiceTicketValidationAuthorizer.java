@@ -37,7 +37,8 @@ public class AuthenticationPolicyAwareServiceTicketValidationAuthorizer implemen
     
     @Override
     public void authorize(final HttpServletRequest request, final Service service, final Assertion assertion) {
-        val registeredService = this.servicesManager.findServiceBy(service);
+        val registeredService = Optional.ofNullable(assertion.getRegisteredService())
+            .orElseGet(() -> servicesManager.findServiceBy(service));
         RegisteredServiceAccessStrategyUtils.ensureServiceAccessIsAllowed(service, registeredService);
 
         LOGGER.debug("Evaluating service [{}] to ensure required authentication handlers can satisfy assertion", service);
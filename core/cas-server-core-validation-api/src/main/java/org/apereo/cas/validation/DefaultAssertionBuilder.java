@@ -2,6 +2,7 @@ package org.apereo.cas.validation;
 
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.services.RegisteredService;
 
 import lombok.Getter;
 
@@ -32,6 +33,10 @@ public class DefaultAssertionBuilder {
      * The New login.
      */
     private boolean newLogin;
+    /**
+     * The registered service.
+     */
+    private RegisteredService registeredService;
 
     /**
      * Instantiates a new Default assertion builder.
@@ -75,12 +80,23 @@ public class DefaultAssertionBuilder {
         return this;
     }
 
+    /**
+     * With default assertion builder.
+     *
+     * @param registeredService the registered service
+     * @return the default assertion builder
+     */
+    public DefaultAssertionBuilder with(final RegisteredService registeredService) {
+        this.registeredService = registeredService;
+        return this;
+    }
+
     /**
      * Build assertion.
      *
      * @return the assertion
      */
     public Assertion build() {
-        return new ImmutableAssertion(this.auth, this.authentications, this.newLogin, this.service);
+        return new ImmutableAssertion(this.auth, this.authentications, this.newLogin, this.service, this.registeredService);
     }
 }
@@ -2,11 +2,12 @@ package org.apereo.cas.validation;
 
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.services.RegisteredService;
 
+import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.io.Serializable;
@@ -20,7 +21,7 @@ import java.util.List;
  * @since 3.0.0
  */
 @ToString
-@RequiredArgsConstructor
+@AllArgsConstructor
 @EqualsAndHashCode
 @Getter
 public class ImmutableAssertion implements Assertion, Serializable {
@@ -46,4 +47,16 @@ public class ImmutableAssertion implements Assertion, Serializable {
      * The service we are asserting this ticket for.
      */
     private final @NonNull WebApplicationService service;
+
+    /**
+     * The registered service located for the service during validation.
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final RegisteredService registeredService;
+
+    public ImmutableAssertion(final Authentication primaryAuthentication, final List<Authentication> chainedAuthentications,
+                              final boolean fromNewLogin, final WebApplicationService service) {
+        this(primaryAuthentication, chainedAuthentications, fromNewLogin, service, null);
+    }
 }
@@ -24,6 +24,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -230,8 +231,12 @@ public abstract class AbstractCasView extends AbstractView {
      * @param model                 the model
      */
     protected void prepareCasResponseAttributesForViewModel(final Map<String, Object> model) {
-        val service = authenticationRequestServiceSelectionStrategies.resolveService(getServiceFrom(model));
-        val registeredService = this.servicesManager.findServiceBy(service);
+        val registeredService = Optional.ofNullable(getAssertionFrom(model))
+            .map(Assertion::getRegisteredService)
+            .orElseGet(() -> {
+                val service = authenticationRequestServiceSelectionStrategies.resolveService(getServiceFrom(model));
+                return servicesManager.findServiceBy(service);
+            });
 
         val principalAttributes = getCasPrincipalAttributes(model, registeredService);
         val attributes = new HashMap<String, Object>(principalAttributes);
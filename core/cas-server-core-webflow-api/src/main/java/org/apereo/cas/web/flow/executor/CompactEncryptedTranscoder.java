@@ -0,0 +1,369 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cryptacular.bean.CipherBean;
+import org.springframework.util.ClassUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Encodes an object with a compact variant of java serialization before encrypting it.
+ * Class descriptors of types that commonly appear in flow scopes are replaced by their position
+ * in a fixed schema, and descriptors of all other types are reduced to the class name. Descriptors
+ * keep their serial version UID and are resolved locally when decoding, where the serial version UID
+ * is checked against the local class just as java serialization would. Encoded state starts with a short header that identifies the
+ * format and the compression algorithm, so that state produced by {@link EncryptedTranscoder}
+ * remains decodable while nodes are upgraded.
+ * <p>
+ * Buffers and deflaters are pooled per thread to avoid allocating them on every request.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class CompactEncryptedTranscoder extends EncryptedTranscoder implements MeterBinder {
+    private static final byte FORMAT_MARKER = (byte) 0xCA;
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final int HEADER_LENGTH = 3;
+
+    private static final int STREAM_VERSION = 1;
+
+    private static final int DESCRIPTOR_FULL = 0;
+
+    private static final int DESCRIPTOR_SCHEMA = 1;
+
+    private static final int DESCRIPTOR_NAME = 2;
+
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+
+    private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Types that commonly appear in flow scopes. Positions are part of the encoded format;
+     * entries may only ever be appended.
+     */
+    private static final List<String> SCHEMA = List.of(
+        "org.springframework.webflow.engine.impl.FlowExecutionImpl",
+        "org.springframework.webflow.engine.impl.FlowSessionImpl",
+        "org.springframework.webflow.core.collection.LocalAttributeMap",
+        "org.springframework.webflow.core.collection.LocalSharedAttributeMap",
+        "org.springframework.webflow.core.collection.LocalParameterMap",
+        "org.springframework.binding.message.Message",
+        "org.springframework.binding.message.Severity",
+        "java.lang.Enum",
+        "java.lang.Number",
+        "java.lang.Boolean",
+        "java.lang.Integer",
+        "java.lang.Long",
+        "java.util.HashMap",
+        "java.util.LinkedHashMap",
+        "java.util.TreeMap",
+        "java.util.ArrayList",
+        "java.util.HashSet",
+        "java.util.LinkedHashSet",
+        "java.time.Ser",
+        "org.apereo.cas.authentication.credential.AbstractCredential",
+        "org.apereo.cas.authentication.credential.UsernamePasswordCredential",
+        "org.apereo.cas.authentication.credential.RememberMeUsernamePasswordCredential",
+        "org.apereo.cas.authentication.principal.AbstractWebApplicationService",
+        "org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImpl",
+        "org.apereo.cas.authentication.principal.SimplePrincipal",
+        "org.apereo.cas.authentication.metadata.BasicCredentialMetaData",
+        "org.apereo.cas.authentication.DefaultAuthentication",
+        "org.apereo.cas.authentication.DefaultAuthenticationHandlerExecutionResult",
+        "org.apereo.cas.services.AbstractRegisteredService",
+        "org.apereo.cas.services.RegexRegisteredService");
+
+    private static final Map<String, Integer> SCHEMA_INDEX = IntStream.range(0, SCHEMA.size())
+        .boxed()
+        .collect(Collectors.toMap(SCHEMA::get, Function.identity()));
+
+    private static final ThreadLocal<ByteArrayOutputStream> BUFFERS =
+        ThreadLocal.withInitial(() -> new ByteArrayOutputStream(INITIAL_BUFFER_SIZE));
+
+    private static final ThreadLocal<Deflater> DEFLATERS = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+
+    private static final ThreadLocal<Inflater> INFLATERS = ThreadLocal.withInitial(Inflater::new);
+
+    /**
+     * Whether state should be encoded in the compact format,
+     * or in the format produced by {@link EncryptedTranscoder}.
+     */
+    private final boolean compact;
+
+    private final CompressionTypes compression;
+
+    private final LongAdder encodeCount = new LongAdder();
+
+    private final LongAdder encodeTimeInNanos = new LongAdder();
+
+    private final LongAdder decodeCount = new LongAdder();
+
+    private final LongAdder decodeTimeInNanos = new LongAdder();
+
+    private final LongAdder encodedBytes = new LongAdder();
+
+    private final LongAdder legacyDecodeCount = new LongAdder();
+
+    public CompactEncryptedTranscoder(final CipherBean cipherBean, final boolean compact,
+                                      final CompressionTypes compression) {
+        super(cipherBean, true);
+        this.compact = compact;
+        this.compression = compression;
+    }
+
+    public CompactEncryptedTranscoder(final CipherBean cipherBean) {
+        this(cipherBean, true, CompressionTypes.GZIP);
+    }
+
+    @Override
+    public byte[] encode(final Object o) throws IOException {
+        val startTime = System.nanoTime();
+        try {
+            val encoded = compact ? encodeCompact(o) : super.encode(o);
+            encodedBytes.add(encoded.length);
+            return encoded;
+        } finally {
+            encodeCount.increment();
+            encodeTimeInNanos.add(System.nanoTime() - startTime);
+        }
+    }
+
+    @Override
+    public Object decode(final byte[] encoded) throws IOException {
+        val startTime = System.nanoTime();
+        try {
+            val data = decrypt(encoded);
+            if (data.length >= HEADER_LENGTH && data[0] == FORMAT_MARKER) {
+                return decodeCompact(data);
+            }
+            legacyDecodeCount.increment();
+            return deserialize(data);
+        } finally {
+            decodeCount.increment();
+            decodeTimeInNanos.add(System.nanoTime() - startTime);
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionTimer.builder("cas.webflow.state.transcoding", this,
+                transcoder -> transcoder.encodeCount.sum(),
+                transcoder -> transcoder.encodeTimeInNanos.sum(), TimeUnit.NANOSECONDS)
+            .tag("operation", "encode")
+            .description("Time spent encoding webflow state stored on the client")
+            .register(registry);
+        FunctionTimer.builder("cas.webflow.state.transcoding", this,
+                transcoder -> transcoder.decodeCount.sum(),
+                transcoder -> transcoder.decodeTimeInNanos.sum(), TimeUnit.NANOSECONDS)
+            .tag("operation", "decode")
+            .description("Time spent decoding webflow state stored on the client")
+            .register(registry);
+        FunctionCounter.builder("cas.webflow.state.size", encodedBytes, LongAdder::sum)
+            .baseUnit(BaseUnits.BYTES)
+            .description("Total size of encoded webflow state stored on the client")
+            .register(registry);
+        FunctionCounter.builder("cas.webflow.state.legacy", legacyDecodeCount, LongAdder::sum)
+            .description("Webflow state decoded from the serialization format that precedes the compact format")
+            .register(registry);
+    }
+
+    private byte[] encodeCompact(final Object o) throws IOException {
+        if (o == null) {
+            return ArrayUtils.EMPTY_BYTE_ARRAY;
+        }
+        val buffer = BUFFERS.get();
+        buffer.reset();
+        try {
+            buffer.write(FORMAT_MARKER);
+            buffer.write(FORMAT_VERSION);
+            buffer.write(compression.ordinal());
+            try (val out = new CompactObjectOutputStream(compress(buffer))) {
+                writeObjectToOutputStream(o, out);
+            } catch (final NotSerializableException e) {
+                LoggingUtils.warn(LOGGER, e);
+            }
+            return encrypt(buffer);
+        } finally {
+            if (buffer.size() > MAX_POOLED_BUFFER_SIZE) {
+                BUFFERS.remove();
+            }
+        }
+    }
+
+    @SuppressWarnings("BanSerializableRead")
+    private static Object decodeCompact(final byte[] data) throws IOException {
+        if (data[1] != FORMAT_VERSION || data[2] < 0 || data[2] >= CompressionTypes.values().length) {
+            throw new IOException("Unsupported webflow state format " + data[1] + " with compression " + data[2]);
+        }
+        val compression = CompressionTypes.values()[data[2]];
+        val inBuffer = new ByteArrayInputStream(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+        try (val in = new CompactObjectInputStream(decompress(compression, inBuffer))) {
+            return in.readObject();
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new IOException("Deserialization error", e);
+        }
+    }
+
+    private OutputStream compress(final ByteArrayOutputStream buffer) throws IOException {
+        switch (compression) {
+            case GZIP:
+                return new GZIPOutputStream(buffer);
+            case DEFLATE: {
+                val deflater = DEFLATERS.get();
+                deflater.reset();
+                return new DeflaterOutputStream(buffer, deflater);
+            }
+            case NONE:
+            default:
+                return buffer;
+        }
+    }
+
+    private static InputStream decompress(final CompressionTypes compression, final InputStream inBuffer) throws IOException {
+        switch (compression) {
+            case GZIP:
+                return new GZIPInputStream(inBuffer);
+            case DEFLATE: {
+                val inflater = INFLATERS.get();
+                inflater.reset();
+                return new InflaterInputStream(inBuffer, inflater);
+            }
+            case NONE:
+            default:
+                return inBuffer;
+        }
+    }
+
+    /**
+     * Compression algorithms applied to the encoded state before encryption.
+     * Positions are part of the encoded format; entries may only ever be appended.
+     */
+    public enum CompressionTypes {
+        /**
+         * No compression.
+         */
+        NONE,
+        /**
+         * Gzip compression.
+         */
+        GZIP,
+        /**
+         * Deflate compression, tuned for speed.
+         */
+        DEFLATE
+    }
+
+    private static class CompactObjectOutputStream extends ObjectOutputStream {
+        CompactObjectOutputStream(final OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void writeStreamHeader() throws IOException {
+            writeByte(STREAM_VERSION);
+        }
+
+        @Override
+        protected void writeClassDescriptor(final ObjectStreamClass desc) throws IOException {
+            val index = SCHEMA_INDEX.get(desc.getName());
+            if (index != null) {
+                write(DESCRIPTOR_SCHEMA);
+                writeShort(index);
+                writeLong(desc.getSerialVersionUID());
+                return;
+            }
+            val clazz = desc.forClass();
+            if (clazz == null || clazz.isPrimitive() || clazz.isArray() || clazz.isInterface()) {
+                write(DESCRIPTOR_FULL);
+                super.writeClassDescriptor(desc);
+                return;
+            }
+            write(DESCRIPTOR_NAME);
+            writeUTF(desc.getName());
+            writeLong(desc.getSerialVersionUID());
+        }
+    }
+
+    private static class CompactObjectInputStream extends ObjectInputStream {
+        CompactObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        private static ObjectStreamClass lookup(final String className, final long serialVersionUID)
+            throws ClassNotFoundException, InvalidClassException {
+            val desc = ObjectStreamClass.lookupAny(ClassUtils.forName(className, ClassUtils.getDefaultClassLoader()));
+            if (desc.getSerialVersionUID() != serialVersionUID) {
+                throw new InvalidClassException(className, "local class incompatible: stream classdesc serialVersionUID = "
+                    + serialVersionUID + ", local class serialVersionUID = " + desc.getSerialVersionUID());
+            }
+            return desc;
+        }
+
+        @Override
+        protected void readStreamHeader() throws IOException {
+            val version = readByte();
+            if (version != STREAM_VERSION) {
+                throw new StreamCorruptedException("Unsupported stream version " + version);
+            }
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            val type = read();
+            switch (type) {
+                case DESCRIPTOR_FULL:
+                    return super.readClassDescriptor();
+                case DESCRIPTOR_SCHEMA: {
+                    val index = readUnsignedShort();
+                    if (index >= SCHEMA.size()) {
+                        throw new StreamCorruptedException("Unknown class descriptor index " + index);
+                    }
+                    return lookup(SCHEMA.get(index), readLong());
+                }
+                case DESCRIPTOR_NAME:
+                    return lookup(readUTF(), readLong());
+                case -1:
+                    throw new EOFException();
+                default:
+                    throw new StreamCorruptedException("Unexpected class descriptor type " + type);
+            }
+        }
+    }
+}
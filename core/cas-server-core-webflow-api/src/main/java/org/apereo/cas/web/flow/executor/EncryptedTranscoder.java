@@ -109,9 +109,19 @@ public class EncryptedTranscoder implements Transcoder {
     }
 
     @Override
-    @SuppressWarnings("BanSerializableRead")
     public Object decode(final byte[] encoded) throws IOException {
-        val data = decrypt(encoded);
+        return deserialize(decrypt(encoded));
+    }
+
+    /**
+     * Deserialize the decrypted byte stream back into an object.
+     *
+     * @param data the decrypted data
+     * @return the object
+     * @throws IOException the io exception
+     */
+    @SuppressWarnings("BanSerializableRead")
+    protected Object deserialize(final byte[] data) throws IOException {
         try (val inBuffer = new ByteArrayInputStream(data);
              val in = this.compression
                  ? new ObjectInputStream(new GZIPInputStream(inBuffer))
@@ -123,7 +133,14 @@ public class EncryptedTranscoder implements Transcoder {
         }
     }
 
-    private byte[] decrypt(final byte[] encoded) throws IOException {
+    /**
+     * Decrypt.
+     *
+     * @param encoded the encoded
+     * @return the byte [ ]
+     * @throws IOException the io exception
+     */
+    protected byte[] decrypt(final byte[] encoded) throws IOException {
         try {
             return cipherBean.decrypt(encoded);
         } catch (final Exception e) {
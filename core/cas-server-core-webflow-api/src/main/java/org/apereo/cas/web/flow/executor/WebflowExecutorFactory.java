@@ -1,10 +1,11 @@
 package org.apereo.cas.web.flow.executor;
 
 import org.apereo.cas.configuration.model.core.web.flow.WebflowProperties;
+import org.apereo.cas.configuration.model.core.web.flow.WebflowSessionManagementProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
-import lombok.RequiredArgsConstructor;
+import lombok.AllArgsConstructor;
 import lombok.val;
 import org.springframework.webflow.conversation.impl.SessionBindingConversationManager;
 import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
@@ -22,12 +23,37 @@ import org.springframework.webflow.executor.FlowExecutorImpl;
  * @author Misagh Moayyed
  * @since 5.3.0
  */
-@RequiredArgsConstructor
+@AllArgsConstructor
 public class WebflowExecutorFactory {
     private final WebflowProperties webflowProperties;
     private final FlowDefinitionRegistry flowDefinitionRegistry;
     private final CipherExecutor webflowCipherExecutor;
     private final FlowExecutionListener[] executionListeners;
+    private final Transcoder webflowStateTranscoder;
+
+    public WebflowExecutorFactory(final WebflowProperties webflowProperties,
+                                  final FlowDefinitionRegistry flowDefinitionRegistry,
+                                  final CipherExecutor webflowCipherExecutor,
+                                  final FlowExecutionListener[] executionListeners) {
+        this(webflowProperties, flowDefinitionRegistry, webflowCipherExecutor, executionListeners,
+            buildWebflowStateTranscoder(webflowProperties, webflowCipherExecutor));
+    }
+
+    /**
+     * Build the transcoder for webflow state stored on the client.
+     *
+     * @param webflowProperties     the webflow properties
+     * @param webflowCipherExecutor the webflow cipher executor
+     * @return the transcoder
+     */
+    public static Transcoder buildWebflowStateTranscoder(final WebflowProperties webflowProperties,
+                                                         final CipherExecutor webflowCipherExecutor) {
+        val cipherBean = new WebflowCipherBean(webflowCipherExecutor);
+        val session = webflowProperties.getSession();
+        return new CompactEncryptedTranscoder(cipherBean,
+            session.getClientStateEncoding() == WebflowSessionManagementProperties.ClientStateEncodingTypes.COMPACT,
+            CompactEncryptedTranscoder.CompressionTypes.valueOf(session.getClientStateCompression().name()));
+    }
 
     /**
      * Build flow executor.
@@ -62,7 +88,7 @@ public class WebflowExecutorFactory {
     private FlowExecutor buildFlowExecutorViaClientFlowExecution() {
         val repository = new ClientFlowExecutionRepository();
         repository.setFlowDefinitionLocator(this.flowDefinitionRegistry);
-        repository.setTranscoder(getWebflowStateTranscoder());
+        repository.setTranscoder(webflowStateTranscoder);
 
         val factory = new FlowExecutionImplFactory();
         factory.setExecutionKeyFactory(repository);
@@ -71,9 +97,4 @@ public class WebflowExecutorFactory {
         factory.setExecutionListenerLoader(new StaticFlowExecutionListenerLoader(executionListeners));
         return new FlowExecutorImpl(this.flowDefinitionRegistry, factory, repository);
     }
-
-    private Transcoder getWebflowStateTranscoder() {
-        val cipherBean = new WebflowCipherBean(this.webflowCipherExecutor);
-        return new EncryptedTranscoder(cipherBean);
-    }
 }
@@ -10,6 +10,7 @@ import org.apereo.cas.web.flow.configurer.DynamicFlowModelBuilderTests;
 import org.apereo.cas.web.flow.decorator.GroovyLoginWebflowDecoratorTests;
 import org.apereo.cas.web.flow.decorator.RestfulLoginWebflowDecoratorTests;
 import org.apereo.cas.web.flow.executor.ClientFlowExecutionRepositoryTests;
+import org.apereo.cas.web.flow.executor.CompactEncryptedTranscoderTests;
 import org.apereo.cas.web.flow.executor.EncryptedTranscoderTests;
 import org.apereo.cas.web.flow.services.DefaultRegisteredServiceUserInterfaceInfoTests;
 
@@ -34,7 +35,8 @@ import org.junit.platform.suite.api.Suite;
     StaticEventExecutionActionTests.class,
     WebflowActionBeanSupplierTests.class,
     GroovyScriptWebflowActionTests.class,
-    EncryptedTranscoderTests.class
+    EncryptedTranscoderTests.class,
+    CompactEncryptedTranscoderTests.class
 })
 @Suite
 public class AllTestsSuite {
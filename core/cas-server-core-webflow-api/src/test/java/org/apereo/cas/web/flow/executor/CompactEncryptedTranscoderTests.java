@@ -0,0 +1,139 @@
+package org.apereo.cas.web.flow.executor;
+
+import com.google.common.primitives.Bytes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.cryptacular.bean.AEADBlockCipherBean;
+import org.cryptacular.bean.CipherBean;
+import org.cryptacular.bean.KeyStoreFactoryBean;
+import org.cryptacular.generator.sp80038d.RBGNonce;
+import org.cryptacular.io.FileResource;
+import org.cryptacular.spec.AEADBlockCipherSpec;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CompactEncryptedTranscoderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Webflow")
+public class CompactEncryptedTranscoderTests {
+
+    private static CipherBean getCipherBean() {
+        val ksFactory = new KeyStoreFactoryBean();
+        ksFactory.setResource(new FileResource(new File("src/test/resources/test-keystore.jceks")));
+        ksFactory.setType("JCEKS");
+        ksFactory.setPassword("changeit");
+
+        val cipherBean = new AEADBlockCipherBean();
+        cipherBean.setBlockCipherSpec(new AEADBlockCipherSpec("AES", "GCM"));
+        cipherBean.setKeyStore(ksFactory.newInstance());
+        cipherBean.setKeyAlias("aes128");
+        cipherBean.setKeyPassword("changeit");
+        cipherBean.setNonce(new RBGNonce());
+        return cipherBean;
+    }
+
+    private static LocalAttributeMap<Object> getFlowScope() {
+        val scope = new LocalAttributeMap<>();
+        val messages = new ArrayList<String>();
+        for (var i = 0; i < 10; i++) {
+            messages.add("message-" + i);
+        }
+        scope.put("service", "https://app.example.org/login");
+        scope.put("messages", messages);
+        scope.put("attributes", Map.of("uid", List.of("casuser")));
+        scope.put("warnCookieValue", Boolean.TRUE);
+        scope.put("authenticationAttempts", 3L);
+        return scope;
+    }
+
+    @ParameterizedTest
+    @EnumSource(CompactEncryptedTranscoder.CompressionTypes.class)
+    public void verifyEncodeDecode(final CompactEncryptedTranscoder.CompressionTypes compression) throws Exception {
+        val transcoder = new CompactEncryptedTranscoder(getCipherBean(), true, compression);
+        val scope = getFlowScope();
+        for (var i = 0; i < 3; i++) {
+            assertEquals(scope, transcoder.decode(transcoder.encode(scope)));
+        }
+    }
+
+    @Test
+    public void verifyPreviousFormatDecodes() throws Exception {
+        val cipherBean = getCipherBean();
+        val legacy = new EncryptedTranscoder(cipherBean);
+        val transcoder = new CompactEncryptedTranscoder(cipherBean);
+        val scope = getFlowScope();
+        assertEquals(scope, transcoder.decode(legacy.encode(scope)));
+
+        val registry = new SimpleMeterRegistry();
+        transcoder.bindTo(registry);
+        assertEquals(1, registry.get("cas.webflow.state.legacy").functionCounter().count());
+    }
+
+    @Test
+    public void verifyCompactFormatIsSmaller() throws Exception {
+        val cipherBean = getCipherBean();
+        val scope = getFlowScope();
+        val legacy = new CompactEncryptedTranscoder(cipherBean, false, CompactEncryptedTranscoder.CompressionTypes.GZIP);
+        val compact = new CompactEncryptedTranscoder(cipherBean, true, CompactEncryptedTranscoder.CompressionTypes.GZIP);
+        assertTrue(compact.encode(scope).length < legacy.encode(scope).length);
+    }
+
+    @Test
+    public void verifyMetrics() throws Exception {
+        val transcoder = new CompactEncryptedTranscoder(getCipherBean(), true, CompactEncryptedTranscoder.CompressionTypes.DEFLATE);
+        val registry = new SimpleMeterRegistry();
+        transcoder.bindTo(registry);
+        val encoded = transcoder.encode(getFlowScope());
+        assertNotNull(transcoder.decode(encoded));
+        assertEquals(1, registry.get("cas.webflow.state.transcoding").tag("operation", "encode").functionTimer().count());
+        assertEquals(1, registry.get("cas.webflow.state.transcoding").tag("operation", "decode").functionTimer().count());
+        assertEquals(encoded.length, registry.get("cas.webflow.state.size").functionCounter().count());
+    }
+
+    @Test
+    public void verifySerialVersionMismatchIsRejected() throws Exception {
+        val transcoder = new CompactEncryptedTranscoder(getCipherBean(), true, CompactEncryptedTranscoder.CompressionTypes.NONE);
+        val state = new SampleFlowState("casuser");
+        assertEquals(state, transcoder.decode(transcoder.encode(state)));
+
+        val data = transcoder.decrypt(transcoder.encode(state));
+        val serialVersionUID = ByteBuffer.allocate(Long.BYTES).putLong(SampleFlowState.serialVersionUID).array();
+        val position = Bytes.indexOf(data, serialVersionUID);
+        assertTrue(position > 0);
+        data[position + Long.BYTES - 1]++;
+        val tampered = new ByteArrayOutputStream();
+        tampered.write(data);
+
+        val e = assertThrows(IOException.class, () -> transcoder.decode(transcoder.encrypt(tampered)));
+        assertTrue(e.getCause() instanceof InvalidClassException);
+    }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static class SampleFlowState implements Serializable {
+        private static final long serialVersionUID = 4711829451537719341L;
+
+        private final String principal;
+    }
+}
@@ -12,6 +12,7 @@ import org.apereo.cas.web.flow.CasWebflowConstants;
 import org.apereo.cas.web.flow.CasWebflowExecutionPlan;
 import org.apereo.cas.web.flow.CasWebflowExecutionPlanConfigurer;
 import org.apereo.cas.web.flow.configurer.acct.AccountProfileWebflowConfigurer;
+import org.apereo.cas.web.flow.executor.Transcoder;
 import org.apereo.cas.web.flow.executor.WebflowExecutorFactory;
 
 import lombok.val;
@@ -75,9 +76,11 @@ public class CasWebflowAccountProfileConfiguration {
         @Qualifier(CasWebflowConstants.BEAN_NAME_ACCOUNT_PROFILE_FLOW_DEFINITION_REGISTRY)
         final FlowDefinitionRegistry accountProfileFlowRegistry,
         @Qualifier("webflowCipherExecutor")
-        final CipherExecutor webflowCipherExecutor) {
+        final CipherExecutor webflowCipherExecutor,
+        @Qualifier("webflowStateTranscoder")
+        final Transcoder webflowStateTranscoder) {
         val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
-            accountProfileFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS);
+            accountProfileFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS, webflowStateTranscoder);
         return factory.build();
     }
 
@@ -20,10 +20,12 @@ import org.apereo.cas.web.flow.configurer.DefaultLogoutWebflowConfigurer;
 import org.apereo.cas.web.flow.configurer.DynamicFlowModelBuilder;
 import org.apereo.cas.web.flow.configurer.GroovyWebflowConfigurer;
 import org.apereo.cas.web.flow.configurer.plan.DefaultCasWebflowExecutionPlan;
+import org.apereo.cas.web.flow.executor.Transcoder;
 import org.apereo.cas.web.flow.executor.WebflowExecutorFactory;
 import org.apereo.cas.web.support.ArgumentExtractor;
 import org.apereo.cas.web.support.CasLocaleChangeInterceptor;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -166,9 +168,11 @@ public class CasWebflowContextConfiguration {
             @Qualifier(CasWebflowConstants.BEAN_NAME_LOGOUT_FLOW_DEFINITION_REGISTRY)
             final FlowDefinitionRegistry logoutFlowRegistry,
             @Qualifier("webflowCipherExecutor")
-            final CipherExecutor webflowCipherExecutor) {
+            final CipherExecutor webflowCipherExecutor,
+            @Qualifier("webflowStateTranscoder")
+            final Transcoder webflowStateTranscoder) {
             val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
-                logoutFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS);
+                logoutFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS, webflowStateTranscoder);
             return factory.build();
         }
 
@@ -179,13 +183,37 @@ public class CasWebflowContextConfiguration {
             @Qualifier(CasWebflowConstants.BEAN_NAME_LOGIN_FLOW_DEFINITION_REGISTRY)
             final FlowDefinitionRegistry loginFlowRegistry,
             @Qualifier("webflowCipherExecutor")
-            final CipherExecutor webflowCipherExecutor) {
+            final CipherExecutor webflowCipherExecutor,
+            @Qualifier("webflowStateTranscoder")
+            final Transcoder webflowStateTranscoder) {
             val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
                 loginFlowRegistry, webflowCipherExecutor,
-                FLOW_EXECUTION_LISTENERS);
+                FLOW_EXECUTION_LISTENERS, webflowStateTranscoder);
 
             return factory.build();
         }
+
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Bean
+        @ConditionalOnMissingBean(name = "webflowStateTranscoder")
+        public Transcoder webflowStateTranscoder(
+            final CasConfigurationProperties casProperties,
+            @Qualifier("webflowCipherExecutor")
+            final CipherExecutor webflowCipherExecutor) {
+            return WebflowExecutorFactory.buildWebflowStateTranscoder(casProperties.getWebflow(), webflowCipherExecutor);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = "webflowStateTranscoderMetrics")
+        public MeterBinder webflowStateTranscoderMetrics(
+            @Qualifier("webflowStateTranscoder")
+            final Transcoder webflowStateTranscoder) {
+            return registry -> {
+                if (webflowStateTranscoder instanceof MeterBinder) {
+                    ((MeterBinder) webflowStateTranscoder).bindTo(registry);
+                }
+            };
+        }
     }
 
     @Configuration(value = "CasWebflowContextInterceptorConfiguration", proxyBeanMethods = false)
@@ -61,7 +61,8 @@ public abstract class AbstractCentralAuthenticationService implements CentralAut
     @Transactional(transactionManager = "ticketTransactionManager", noRollbackFor = InvalidTicketException.class)
     @Override
     public Ticket getTicket(final @NonNull String ticketId) throws InvalidTicketException {
-        val ticket = configurationContext.getTicketRegistry().getTicket(ticketId);
+        val ticket = configurationContext.getTicketRegistryRequestCache()
+            .getTicket(ticketId, Ticket.class, configurationContext.getTicketRegistry());
         verifyTicketState(ticket, ticketId, null);
         return ticket;
     }
@@ -77,7 +78,8 @@ public abstract class AbstractCentralAuthenticationService implements CentralAut
     @Transactional(transactionManager = "ticketTransactionManager", noRollbackFor = InvalidTicketException.class)
     @Override
     public <T extends Ticket> T getTicket(final @NonNull String ticketId, final Class<T> clazz) throws InvalidTicketException {
-        val ticket = configurationContext.getTicketRegistry().getTicket(ticketId, clazz);
+        val ticket = configurationContext.getTicketRegistryRequestCache()
+            .getTicket(ticketId, clazz, configurationContext.getTicketRegistry());
         verifyTicketState(ticket, ticketId, clazz);
         return (T) ticket;
     }
@@ -111,12 +113,14 @@ public abstract class AbstractCentralAuthenticationService implements CentralAut
     @Override
     public Ticket updateTicket(final Ticket ticket) throws Exception {
         configurationContext.getTicketRegistry().updateTicket(ticket);
+        configurationContext.getTicketRegistryRequestCache().put(ticket);
         return ticket;
     }
 
     @Override
     public Ticket addTicket(final Ticket ticket) throws Exception {
         configurationContext.getTicketRegistry().addTicket(ticket);
+        configurationContext.getTicketRegistryRequestCache().put(ticket);
         return ticket;
     }
 
@@ -7,11 +7,14 @@ import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.ServiceMatchingStrategy;
 import org.apereo.cas.services.ServiceContext;
 import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryRequestCache;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.lock.LockRepository;
 
+import lombok.Builder;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -39,6 +42,8 @@ public class CentralAuthenticationServiceContext {
 
     private final TicketFactory ticketFactory;
 
+    private final TicketCatalog ticketCatalog;
+
     private final AuditableExecution registeredServiceAccessStrategyEnforcer;
 
     private final ContextualAuthenticationPolicyFactory<ServiceContext> authenticationPolicyFactory;
@@ -46,4 +51,10 @@ public class CentralAuthenticationServiceContext {
     private final ServiceMatchingStrategy serviceMatchingStrategy;
 
     private final ConfigurableApplicationContext applicationContext;
+
+    @Builder.Default
+    private final ServiceTicketValidationMetrics serviceTicketValidationMetrics = new ServiceTicketValidationMetrics();
+
+    @Builder.Default
+    private final TicketRegistryRequestCache ticketRegistryRequestCache = new TicketRegistryRequestCache(false);
 }
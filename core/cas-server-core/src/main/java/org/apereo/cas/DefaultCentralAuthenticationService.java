@@ -51,7 +51,15 @@ import org.jooq.lambda.Unchecked;
 import org.jooq.lambda.fi.util.function.CheckedSupplier;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Concrete implementation of a {@link CentralAuthenticationService}, and also the
@@ -73,6 +81,22 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
         super(context);
     }
 
+    /**
+     * Collect attributes from all sources into a single map in one pass,
+     * keeping the distinct values of each attribute.
+     *
+     * @param sources the attribute sources
+     * @return the attributes
+     */
+    private static Map<String, List<Object>> collectAccessAttributes(final List<Map<String, List<Object>>> sources) {
+        val attributes = new LinkedHashMap<String, Set<Object>>();
+        sources.forEach(source -> source.forEach((name, values) ->
+            attributes.computeIfAbsent(name, key -> new LinkedHashSet<>()).addAll(CollectionUtils.toCollection(values))));
+        return attributes.entrySet()
+            .stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> new ArrayList<>(entry.getValue()), (v1, v2) -> v1, LinkedHashMap::new));
+    }
+
     private static Authentication evaluatePossibilityOfMixedPrincipals(final AuthenticationResult context,
                                                                        final TicketGrantingTicket ticketGrantingTicket) {
         if (context == null) {
@@ -103,6 +127,7 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
             Unchecked.supplier(new CheckedSupplier<ServiceTicket>() {
                 @Override
                 public ServiceTicket get() throws Throwable {
+                    configurationContext.getTicketRegistryRequestCache().evict(ticketGrantingTicketId);
                     val ticketGrantingTicket = getTicket(ticketGrantingTicketId, TicketGrantingTicket.class);
                     val selectedService = resolveServiceFromAuthenticationRequest(service);
                     val registeredService = configurationContext.getServicesManager().findServiceBy(selectedService);
@@ -131,7 +156,7 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
 
                     val factory = (ServiceTicketFactory) configurationContext.getTicketFactory().get(ServiceTicket.class);
                     val serviceTicket = factory.create(ticketGrantingTicket, selectedService, credentialProvided, ServiceTicket.class);
-                    configurationContext.getTicketRegistry().updateTicket(ticketGrantingTicket);
+                    configurationContext.getTicketRegistry().updateTicket(ticketGrantingTicket, true);
                     configurationContext.getTicketRegistry().addTicket(serviceTicket);
 
                     LOGGER.info("Granted service ticket [{}] for service [{}] and principal [{}]",
@@ -248,105 +273,87 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
             throw new InvalidTicketException(serviceTicketId);
         }
 
-        val serviceTicket = configurationContext.getTicketRegistry().getTicket(serviceTicketId, ServiceTicket.class);
-        if (serviceTicket == null) {
-            LOGGER.warn("Service ticket [{}] does not exist.", serviceTicketId);
+        val ticketDefinition = Optional.ofNullable(configurationContext.getTicketCatalog()).map(catalog -> catalog.find(serviceTicketId));
+        if (ticketDefinition.isPresent() && !ServiceTicket.class.isAssignableFrom(ticketDefinition.get().getImplementationClass())) {
+            LOGGER.warn("Ticket [{}] is not a service ticket.", serviceTicketId);
             throw new InvalidTicketException(serviceTicketId);
         }
 
-        try {
-            val selectedService = resolveServiceFromAuthenticationRequest(serviceTicket.getService());
-            val resolvedService = resolveServiceFromAuthenticationRequest(service);
-            LOGGER.debug("Resolved service [{}] from the authentication request with service [{}] linked to service ticket [{}]",
-                resolvedService, selectedService, serviceTicket.getId());
+        val metrics = configurationContext.getServiceTicketValidationMetrics();
+        val serviceTicket = metrics.record(ServiceTicketValidationMetrics.Stage.TICKET,
+            () -> configurationContext.getLockRepository().execute(serviceTicketId,
+                Unchecked.supplier(() -> configurationContext.getTicketRegistry().consumeTicket(serviceTicketId, ServiceTicket.class))).orElse(null));
+        if (serviceTicket == null) {
+            LOGGER.warn("Service ticket [{}] does not exist or has expired.", serviceTicketId);
+            throw new InvalidTicketException(serviceTicketId);
+        }
 
-            configurationContext.getLockRepository().execute(serviceTicket.getId(),
-                Unchecked.supplier(() -> {
-                    if (serviceTicket.isExpired()) {
-                        LOGGER.info("ServiceTicket [{}] has expired.", serviceTicketId);
-                        throw new InvalidTicketException(serviceTicketId);
-                    }
-                    if (!configurationContext.getServiceMatchingStrategy().matches(selectedService, resolvedService)) {
-                        LOGGER.error("Service ticket [{}] with service [{}] does not match supplied service [{}]",
-                            serviceTicketId, serviceTicket.getService().getId(), resolvedService.getId());
-                        throw new UnrecognizableServiceForServiceTicketValidationException(selectedService);
-                    }
-                    serviceTicket.update();
-                    configurationContext.getTicketRegistry().updateTicket(serviceTicket);
-                    return serviceTicket;
-                }));
+        val selectedService = resolveServiceFromAuthenticationRequest(serviceTicket.getService());
+        val resolvedService = resolveServiceFromAuthenticationRequest(service);
+        LOGGER.debug("Resolved service [{}] from the authentication request with service [{}] linked to service ticket [{}]",
+            resolvedService, selectedService, serviceTicket.getId());
+        if (!configurationContext.getServiceMatchingStrategy().matches(selectedService, resolvedService)) {
+            LOGGER.error("Service ticket [{}] with service [{}] does not match supplied service [{}]",
+                serviceTicketId, serviceTicket.getService().getId(), resolvedService.getId());
+            throw new UnrecognizableServiceForServiceTicketValidationException(selectedService);
+        }
 
-            val registeredService = configurationContext.getServicesManager().findServiceBy(selectedService);
-            LOGGER.trace("Located registered service definition [{}] from [{}] to handle validation request", registeredService, selectedService);
-            RegisteredServiceAccessStrategyUtils.ensureServiceAccessIsAllowed(selectedService, registeredService);
+        val registeredService = configurationContext.getServicesManager().findServiceBy(selectedService);
+        LOGGER.trace("Located registered service definition [{}] from [{}] to handle validation request", registeredService, selectedService);
+        RegisteredServiceAccessStrategyUtils.ensureServiceAccessIsAllowed(selectedService, registeredService);
 
-            val root = serviceTicket.getTicketGrantingTicket().getRoot();
-            val authentication = getAuthenticationSatisfiedByPolicy(root.getAuthentication(),
-                new ServiceContext(selectedService, registeredService));
-            val principal = authentication.getPrincipal();
+        val root = serviceTicket.getTicketGrantingTicket().getRoot();
+        val authentication = metrics.record(ServiceTicketValidationMetrics.Stage.AUTHENTICATION_POLICY,
+            () -> getAuthenticationSatisfiedByPolicy(root.getAuthentication(), new ServiceContext(selectedService, registeredService)));
+        val principal = authentication.getPrincipal();
 
-            val attributePolicy = Objects.requireNonNull(registeredService.getAttributeReleasePolicy());
-            LOGGER.debug("Attribute policy [{}] is associated with service [{}]", attributePolicy, registeredService);
+        val attributePolicy = Objects.requireNonNull(registeredService.getAttributeReleasePolicy());
+        LOGGER.debug("Attribute policy [{}] is associated with service [{}]", attributePolicy, registeredService);
 
-            val context = RegisteredServiceAttributeReleasePolicyContext.builder()
-                .registeredService(registeredService)
-                .service(selectedService)
-                .principal(principal)
-                .build();
-            val attributesToRelease = attributePolicy.getAttributes(context);
-            LOGGER.debug("Calculated attributes for release per the release policy are [{}]",
-                attributesToRelease.keySet());
-
-            val principalId = registeredService.getUsernameAttributeProvider()
-                .resolveUsername(principal, selectedService, registeredService);
-            val builder = DefaultAuthenticationBuilder.of(
-                principal,
-                configurationContext.getPrincipalFactory(),
-                attributesToRelease,
-                selectedService,
-                registeredService,
-                authentication);
-            LOGGER.debug("Principal determined for release to [{}] is [{}]", registeredService.getServiceId(), principalId);
-
-            builder.addAttribute(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FROM_NEW_LOGIN,
-                CollectionUtils.wrap(((RenewableServiceTicket) serviceTicket).isFromNewLogin()));
-            builder.addAttribute(CasProtocolConstants.VALIDATION_REMEMBER_ME_ATTRIBUTE_NAME,
-                CollectionUtils.wrap(CoreAuthenticationUtils.isRememberMeAuthentication(authentication)));
-
-            val finalAuthentication = builder.build();
-            val releasePolicyContext = RegisteredServiceAttributeReleasePolicyContext.builder()
-                .registeredService(registeredService)
-                .service(service)
-                .principal(principal)
-                .build();
-            val policyAttributes = registeredService.getAttributeReleasePolicy().getAttributes(releasePolicyContext);
-            val merger = CoreAuthenticationUtils.getAttributeMerger(PrincipalAttributesCoreProperties.MergingStrategyTypes.MULTIVALUED);
-            var accessAttributes = CoreAuthenticationUtils.mergeAttributes(principal.getAttributes(), authentication.getAttributes(), merger);
-            accessAttributes = CoreAuthenticationUtils.mergeAttributes(accessAttributes, finalAuthentication.getPrincipal().getAttributes(), merger);
-            accessAttributes = CoreAuthenticationUtils.mergeAttributes(accessAttributes, finalAuthentication.getAttributes(), merger);
-            accessAttributes = CoreAuthenticationUtils.mergeAttributes(accessAttributes, policyAttributes, merger);
+        val context = RegisteredServiceAttributeReleasePolicyContext.builder()
+            .registeredService(registeredService)
+            .service(selectedService)
+            .principal(principal)
+            .build();
+        val attributesToRelease = metrics.record(ServiceTicketValidationMetrics.Stage.ATTRIBUTE_RELEASE,
+            () -> attributePolicy.getAttributes(context));
+        LOGGER.debug("Calculated attributes for release per the release policy are [{}]",
+            attributesToRelease.keySet());
+
+        val builder = DefaultAuthenticationBuilder.of(
+            principal,
+            configurationContext.getPrincipalFactory(),
+            attributesToRelease,
+            selectedService,
+            registeredService,
+            authentication);
+        builder.addAttribute(CasProtocolConstants.VALIDATION_CAS_MODEL_ATTRIBUTE_NAME_FROM_NEW_LOGIN,
+            CollectionUtils.wrap(((RenewableServiceTicket) serviceTicket).isFromNewLogin()));
+        builder.addAttribute(CasProtocolConstants.VALIDATION_REMEMBER_ME_ATTRIBUTE_NAME,
+            CollectionUtils.wrap(CoreAuthenticationUtils.isRememberMeAuthentication(authentication)));
+        val finalAuthentication = builder.build();
+        LOGGER.debug("Principal determined for release to [{}] is [{}]", registeredService.getServiceId(), finalAuthentication.getPrincipal().getId());
+
+        metrics.record(ServiceTicketValidationMetrics.Stage.ACCESS_ENFORCEMENT, () -> {
+            val accessAttributes = collectAccessAttributes(
+                List.of(principal.getAttributes(), finalAuthentication.getAttributes(), attributesToRelease));
             val accessPrincipal = configurationContext.getPrincipalFactory().createPrincipal(principal.getId(), accessAttributes);
-
             enforceRegisteredServiceAccess(selectedService, registeredService, accessPrincipal);
+            return accessPrincipal;
+        });
 
+        val assertion = metrics.record(ServiceTicketValidationMetrics.Stage.ASSERTION, () -> {
             AuthenticationCredentialsThreadLocalBinder.bindCurrent(finalAuthentication);
-            val assertion = new DefaultAssertionBuilder(finalAuthentication)
+            return new DefaultAssertionBuilder(finalAuthentication)
                 .with(selectedService)
                 .with(serviceTicket.getTicketGrantingTicket().getChainedAuthentications())
                 .with(((RenewableServiceTicket) serviceTicket).isFromNewLogin())
+                .with(registeredService)
                 .build();
+        });
 
-            doPublishEvent(new CasServiceTicketValidatedEvent(this, serviceTicket, assertion));
-            return assertion;
-        } finally {
-            FunctionUtils.doUnchecked(s -> {
-                if (serviceTicket.isExpired()) {
-                    deleteTicket(serviceTicketId);
-                } else {
-                    configurationContext.getTicketRegistry().updateTicket(serviceTicket);
-                }
-            });
-        }
+        doPublishEvent(new CasServiceTicketValidatedEvent(this, serviceTicket, assertion));
+        return assertion;
     }
 
     @Audit(
@@ -373,6 +380,7 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
 
         FunctionUtils.doUnchecked(s -> {
             configurationContext.getTicketRegistry().addTicket(ticketGrantingTicket);
+            configurationContext.getTicketRegistryRequestCache().put(ticketGrantingTicket);
             doPublishEvent(new CasTicketGrantingTicketCreatedEvent(this, ticketGrantingTicket));
         });
         return ticketGrantingTicket;
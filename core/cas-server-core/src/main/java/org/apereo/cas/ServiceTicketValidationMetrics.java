@@ -0,0 +1,104 @@
+package org.apereo.cas;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.val;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link ServiceTicketValidationMetrics}, which records the number of executions
+ * and the time spent in each stage of service ticket validation, so that the stages that
+ * dominate validation times, such as the release of principal attributes, can be identified.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+public class ServiceTicketValidationMetrics implements MeterBinder {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "serviceTicketValidationMetrics";
+
+    private final Map<Stage, LongAdder> counts = new EnumMap<>(Stage.class);
+
+    private final Map<Stage, LongAdder> timesInNanos = new EnumMap<>(Stage.class);
+
+    public ServiceTicketValidationMetrics() {
+        Arrays.stream(Stage.values()).forEach(stage -> {
+            counts.put(stage, new LongAdder());
+            timesInNanos.put(stage, new LongAdder());
+        });
+    }
+
+    /**
+     * Execute the validation stage and record its execution time.
+     *
+     * @param <T>       the type of the result
+     * @param stage     the stage
+     * @param operation the operation
+     * @return the result
+     */
+    public <T> T record(final Stage stage, final Supplier<T> operation) {
+        val startTime = System.nanoTime();
+        try {
+            return operation.get();
+        } finally {
+            counts.get(stage).increment();
+            timesInNanos.get(stage).add(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Gets the number of executions of the stage.
+     *
+     * @param stage the stage
+     * @return the count
+     */
+    public long getCount(final Stage stage) {
+        return counts.get(stage).sum();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Arrays.stream(Stage.values()).forEach(stage -> FunctionTimer.builder("cas.validation.service.ticket", this,
+                metrics -> metrics.counts.get(stage).sum(),
+                metrics -> metrics.timesInNanos.get(stage).sum(), TimeUnit.NANOSECONDS)
+            .tag("stage", stage.name().toLowerCase(Locale.ENGLISH))
+            .description("Time spent in each stage of service ticket validation")
+            .register(registry));
+    }
+
+    /**
+     * Stages of service ticket validation.
+     */
+    public enum Stage {
+        /**
+         * Consume the service ticket from the ticket registry.
+         */
+        TICKET,
+        /**
+         * Satisfy the authentication policy for the registered service.
+         */
+        AUTHENTICATION_POLICY,
+        /**
+         * Release principal attributes per the attribute release policy.
+         */
+        ATTRIBUTE_RELEASE,
+        /**
+         * Enforce the access strategy using released attributes.
+         */
+        ACCESS_ENFORCEMENT,
+        /**
+         * Build the validation assertion.
+         */
+        ASSERTION
+    }
+}
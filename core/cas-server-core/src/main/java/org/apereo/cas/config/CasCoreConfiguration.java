@@ -3,6 +3,7 @@ package org.apereo.cas.config;
 import org.apereo.cas.CentralAuthenticationService;
 import org.apereo.cas.CentralAuthenticationServiceContext;
 import org.apereo.cas.DefaultCentralAuthenticationService;
+import org.apereo.cas.ServiceTicketValidationMetrics;
 import org.apereo.cas.audit.AuditableExecution;
 import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
 import org.apereo.cas.authentication.AuthenticationServiceSelectionStrategyConfigurer;
@@ -17,8 +18,10 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.services.ServiceContext;
 import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryRequestCache;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.lock.LockRepository;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
@@ -108,6 +111,8 @@ public class CasCoreConfiguration {
             final ServicesManager servicesManager,
             @Qualifier(TicketFactory.BEAN_NAME)
             final TicketFactory ticketFactory,
+            @Qualifier(TicketCatalog.BEAN_NAME)
+            final TicketCatalog ticketCatalog,
             @Qualifier("registeredServiceAccessStrategyEnforcer")
             final AuditableExecution registeredServiceAccessStrategyEnforcer,
             @Qualifier("authenticationPolicyFactory")
@@ -116,6 +121,10 @@ public class CasCoreConfiguration {
             final ServiceMatchingStrategy serviceMatchingStrategy,
             @Qualifier(LockRepository.BEAN_NAME)
             final LockRepository casTicketRegistryLockRepository,
+            @Qualifier(ServiceTicketValidationMetrics.BEAN_NAME)
+            final ServiceTicketValidationMetrics serviceTicketValidationMetrics,
+            @Qualifier(TicketRegistryRequestCache.BEAN_NAME)
+            final TicketRegistryRequestCache ticketRegistryRequestCache,
             final ConfigurableApplicationContext applicationContext) {
             return CentralAuthenticationServiceContext.builder()
                 .authenticationServiceSelectionPlan(authenticationServiceSelectionPlan)
@@ -124,13 +133,22 @@ public class CasCoreConfiguration {
                 .principalFactory(principalFactory)
                 .ticketRegistry(ticketRegistry)
                 .ticketFactory(ticketFactory)
+                .ticketCatalog(ticketCatalog)
                 .registeredServiceAccessStrategyEnforcer(registeredServiceAccessStrategyEnforcer)
                 .authenticationPolicyFactory(authenticationPolicyFactory)
                 .serviceMatchingStrategy(serviceMatchingStrategy)
                 .applicationContext(applicationContext)
                 .servicesManager(servicesManager)
+                .serviceTicketValidationMetrics(serviceTicketValidationMetrics)
+                .ticketRegistryRequestCache(ticketRegistryRequestCache)
                 .build();
         }
+
+        @Bean
+        @ConditionalOnMissingBean(name = ServiceTicketValidationMetrics.BEAN_NAME)
+        public ServiceTicketValidationMetrics serviceTicketValidationMetrics() {
+            return new ServiceTicketValidationMetrics();
+        }
     }
 
     @Configuration(value = "CasCoreAuthenticationServiceSelectionConfiguration", proxyBeanMethods = false)
@@ -160,7 +160,7 @@ public class DefaultCentralAuthenticationServiceMockitoTests extends BaseCasCore
     }
 
     @BeforeEach
-    public void prepareNewCAS() {
+    public void prepareNewCAS() throws Exception {
         this.authentication = mock(Authentication.class);
         when(this.authentication.getAuthenticationDate()).thenReturn(ZonedDateTime.now(ZoneOffset.UTC));
         val metadata = new BasicCredentialMetaData(RegisteredServiceTestUtils.getCredentialsWithSameUsernameAndPassword("principal"));
@@ -291,12 +291,13 @@ public class DefaultCentralAuthenticationServiceMockitoTests extends BaseCasCore
     }
 
     private void mockTicketRegistry(final ServiceTicket stMock, final TicketGrantingTicket tgtMock,
-                                    final ServiceTicket stMock2, final TicketGrantingTicket tgtMock2) {
+                                    final ServiceTicket stMock2, final TicketGrantingTicket tgtMock2) throws Exception {
         this.ticketRegMock = mock(TicketRegistry.class);
         when(ticketRegMock.getTicket(eq(tgtMock.getId()), eq(TicketGrantingTicket.class))).thenReturn(tgtMock);
         when(ticketRegMock.getTicket(eq(tgtMock2.getId()), eq(TicketGrantingTicket.class))).thenReturn(tgtMock2);
         when(ticketRegMock.getTicket(eq(stMock.getId()), eq(ServiceTicket.class))).thenReturn(stMock);
         when(ticketRegMock.getTicket(eq(stMock2.getId()), eq(ServiceTicket.class))).thenReturn(stMock2);
+        when(ticketRegMock.consumeTicket(anyString(), eq(ServiceTicket.class))).thenCallRealMethod();
         when(ticketRegMock.getTickets()).thenReturn((Collection) Arrays.asList(tgtMock, tgtMock2, stMock, stMock2));
         when(ticketRegMock.stream()).thenCallRealMethod();
     }
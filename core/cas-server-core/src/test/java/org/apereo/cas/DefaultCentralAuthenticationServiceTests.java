@@ -21,6 +21,7 @@ import org.apereo.cas.services.UnauthorizedSsoServiceException;
 import org.apereo.cas.ticket.AbstractTicketException;
 import org.apereo.cas.ticket.ExpirationPolicy;
 import org.apereo.cas.ticket.InvalidTicketException;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.UnrecognizableServiceForServiceTicketValidationException;
 import org.apereo.cas.util.MockOnlyOneTicketRegistry;
@@ -32,12 +33,17 @@ import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.TestPropertySource;
 
 import java.time.Clock;
+import java.util.Arrays;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -49,6 +55,9 @@ import static org.mockito.Mockito.*;
 @Tag("CAS")
 @TestPropertySource(properties = "cas.ticket.crypto.enabled=true")
 public class DefaultCentralAuthenticationServiceTests extends AbstractCentralAuthenticationServiceTests {
+    @Autowired
+    @Qualifier(ServiceTicketValidationMetrics.BEAN_NAME)
+    private ServiceTicketValidationMetrics serviceTicketValidationMetrics;
 
     private static Service getService(final String name) {
         val request = new MockHttpServletRequest();
@@ -259,6 +268,28 @@ public class DefaultCentralAuthenticationServiceTests extends AbstractCentralAut
         assertNotNull(getCentralAuthenticationService().validateServiceTicket(serviceTicket.getId(), getService()));
     }
 
+    @Test
+    public void verifyValidateTicketGrantingTicketAsServiceTicketFails() {
+        val ctx = CoreAuthenticationTestUtils.getAuthenticationResult(getAuthenticationSystemSupport());
+        val ticketGrantingTicket = getCentralAuthenticationService().createTicketGrantingTicket(ctx);
+        assertThrows(InvalidTicketException.class,
+            () -> getCentralAuthenticationService().validateServiceTicket(ticketGrantingTicket.getId(), getService()));
+        assertNotNull(getTicketRegistry().getTicket(ticketGrantingTicket.getId(), TicketGrantingTicket.class));
+    }
+
+    @Test
+    public void verifyValidateServiceTicketRecordsStages() {
+        val ctx = CoreAuthenticationTestUtils.getAuthenticationResult(getAuthenticationSystemSupport());
+        val ticketGrantingTicket = getCentralAuthenticationService().createTicketGrantingTicket(ctx);
+        val serviceTicket = getCentralAuthenticationService().grantServiceTicket(ticketGrantingTicket.getId(), getService(), ctx);
+        val counts = Arrays.stream(ServiceTicketValidationMetrics.Stage.values())
+            .collect(Collectors.toMap(Function.identity(), serviceTicketValidationMetrics::getCount));
+        val assertion = getCentralAuthenticationService().validateServiceTicket(serviceTicket.getId(), getService());
+        assertNotNull(assertion.getRegisteredService());
+        assertEquals(getServicesManager().findServiceBy(getService()), assertion.getRegisteredService());
+        counts.forEach((stage, count) -> assertTrue(serviceTicketValidationMetrics.getCount(stage) > count));
+    }
+
     @Test
     public void verifyValidateServiceTicketWithMappedAttrPolicy() {
         val ctx = CoreAuthenticationTestUtils.getAuthenticationResult(getAuthenticationSystemSupport());
@@ -7,7 +7,9 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.registry.CassandraTicketRegistry;
+import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
@@ -59,4 +61,10 @@ public class CassandraTicketRegistryConfiguration {
         val cassandra = casProperties.getTicket().getRegistry().getCassandra();
         return new DefaultCassandraSessionFactory(cassandra, casSslContext.getSslContext());
     }
+
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    public TicketRegistryCleaner ticketRegistryCleaner() {
+        return NoOpTicketRegistryCleaner.getInstance();
+    }
 }
@@ -16,14 +16,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.jooq.lambda.Unchecked;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 
 import java.util.Collection;
 import java.util.Objects;
-import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This is {@link CassandraTicketRegistry}.
@@ -89,28 +91,25 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
     }
 
     @Override
-    public Ticket updateTicket(final Ticket ticket) throws Exception {
+    protected Ticket updateTicketInternal(final Ticket ticket) throws Exception {
         addTicketToCassandra(ticket, false);
         return ticket;
     }
 
     @Override
-    public Collection<Ticket> getTickets() {
-        return this.ticketCatalog.findAll()
+    public Collection<? extends Ticket> getTickets() {
+        return stream().collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<? extends Ticket> stream() {
+        return ticketCatalog.findAll()
             .stream()
-            .map(definition -> {
-                val results = findCassandraTicketBy(definition);
-                return results
-                    .stream()
-                    .map(holder -> {
-                        val result = deserialize(holder);
-                        return decodeTicket(result);
-                    })
-                    .collect(Collectors.toSet());
-            })
-            .flatMap(Set::stream)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet());
+            .filter(definition -> StringUtils.isNotBlank(definition.getProperties().getStorageName()))
+            .flatMap(this::streamCassandraTicketsBy)
+            .map(this::deserialize)
+            .map(this::decodeTicket)
+            .filter(Objects::nonNull);
     }
 
     @Override
@@ -146,8 +145,9 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
     }
 
     @Override
-    public void destroy() throws Exception {
-        this.cassandraSessionFactory.close();
+    public void destroy() {
+        super.destroy();
+        Unchecked.runnable(this.cassandraSessionFactory::close).run();
     }
 
     @Override
@@ -159,16 +159,33 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
         return ticketSerializationManager.deserializeTicket(holder.getData(), holder.getType());
     }
 
-    private Collection<CassandraTicketHolder> findCassandraTicketBy(final TicketDefinition definition) {
-        return findCassandraTicketBy(definition, null);
+    /**
+     * Stream all tickets of the definition, fetching rows from the table one page at a time
+     * as the stream is consumed. Expired rows are removed by Cassandra using the TTL
+     * given to each row, and are never returned.
+     *
+     * @param definition the ticket definition
+     * @return the tickets
+     */
+    private Stream<CassandraTicketHolder> streamCassandraTicketsBy(final TicketDefinition definition) {
+        val select = QueryBuilder.selectFrom(this.properties.getKeyspace(), definition.getProperties().getStorageName()).all()
+            .build()
+            .setPageSize(properties.getPageSize())
+            .setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
+            .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
+            .setTimeout(Beans.newDuration(properties.getTimeout()));
+        LOGGER.trace("Attempting to stream tickets via query [{}]", select);
+        val results = cassandraSessionFactory.getSession().execute(select);
+        return StreamSupport.stream(results.spliterator(), false)
+            .map(row -> new CassandraTicketHolder(row.get("id", String.class),
+                row.get("data", String.class), row.get("type", String.class)));
     }
 
     private Collection<CassandraTicketHolder> findCassandraTicketBy(final TicketDefinition definition, final String ticketId) {
-        val builder = QueryBuilder.selectFrom(this.properties.getKeyspace(), definition.getProperties().getStorageName()).all();
-        if (StringUtils.isNotBlank(ticketId)) {
-            builder.whereColumn("id").isEqualTo(QueryBuilder.literal(ticketId)).limit(1);
-        }
-        val select = builder.build()
+        val select = QueryBuilder.selectFrom(this.properties.getKeyspace(), definition.getProperties().getStorageName()).all()
+            .whereColumn("id").isEqualTo(QueryBuilder.literal(ticketId))
+            .limit(1)
+            .build()
             .setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
             .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
             .setTimeout(Beans.newDuration(properties.getTimeout()));
@@ -1,9 +1,13 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.config.CassandraTicketRegistryConfiguration;
 import org.apereo.cas.config.CassandraTicketRegistryTicketCatalogConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
 
 import lombok.Getter;
@@ -31,7 +35,8 @@ import static org.junit.jupiter.api.Assertions.*;
 }, properties = {
     "cas.ticket.registry.cassandra.keyspace=cas",
     "cas.ticket.registry.cassandra.local-dc=datacenter1",
-    "cas.ticket.registry.cassandra.drop-tables-on-startup=true"
+    "cas.ticket.registry.cassandra.drop-tables-on-startup=true",
+    "cas.ticket.registry.cassandra.page-size=2"
 })
 @Tag("Cassandra")
 @EnabledIfListeningOnPort(port = 9042)
@@ -51,4 +56,14 @@ public class CassandraTicketRegistryTests extends BaseTicketRegistryTests {
         });
     }
 
+    @RepeatedTest(1)
+    public void verifyStreamTicketsInPages() throws Exception {
+        newTicketRegistry.deleteAll();
+        for (var i = 0; i < 5; i++) {
+            newTicketRegistry.addTicket(new TicketGrantingTicketImpl(TicketGrantingTicket.PREFIX + "-PAGED-" + i,
+                CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE));
+        }
+        assertEquals(5, newTicketRegistry.stream().count());
+        assertEquals(5, newTicketRegistry.getTickets().size());
+    }
 }
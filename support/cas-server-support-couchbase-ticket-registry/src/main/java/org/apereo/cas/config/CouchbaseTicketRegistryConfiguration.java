@@ -45,7 +45,7 @@ public class CouchbaseTicketRegistryConfiguration {
                                          @Qualifier("ticketRegistryCouchbaseClientFactory")
                                          final CouchbaseClientFactory ticketRegistryCouchbaseClientFactory) {
         val couchbase = casProperties.getTicket().getRegistry().getCouchbase();
-        val c = new CouchbaseTicketRegistry(ticketRegistryCouchbaseClientFactory);
+        val c = new CouchbaseTicketRegistry(ticketRegistryCouchbaseClientFactory, couchbase.getPageSize());
         c.setCipherExecutor(CoreTicketUtils.newTicketRegistryCipherExecutor(couchbase.getCrypto(), "couchbase"));
         return c;
     }
@@ -9,10 +9,10 @@ import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 
 import com.couchbase.client.java.codec.JacksonJsonSerializer;
 import com.couchbase.client.java.codec.JsonTranscoder;
+import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.kv.GetOptions;
 import com.couchbase.client.java.kv.UpsertOptions;
 import com.couchbase.client.java.query.QueryOptions;
-import com.couchbase.client.java.query.QueryResult;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,9 +21,11 @@ import org.springframework.beans.factory.DisposableBean;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A Ticket Registry storage backend which uses the memcached protocol.
@@ -43,6 +45,8 @@ public class CouchbaseTicketRegistry extends AbstractTicketRegistry implements D
 
     private final CouchbaseClientFactory couchbase;
 
+    private final int pageSize;
+
     /**
      * Get the expiration policy value of the ticket in seconds.
      *
@@ -112,10 +116,14 @@ public class CouchbaseTicketRegistry extends AbstractTicketRegistry implements D
 
     @Override
     public Collection<? extends Ticket> getTickets() {
-        val results = queryForTickets();
-        return results
-            .rowsAs(Ticket.class)
-            .stream()
+        return stream().collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<? extends Ticket> stream() {
+        return Stream.iterate(queryForTickets(null), page -> !page.isEmpty(),
+                page -> page.size() < pageSize ? List.of() : queryForTickets(page.get(page.size() - 1).getId()))
+            .flatMap(List::stream)
             .map(ticket -> {
                 LOGGER.debug("Found ticket [{}] from the registry. Decoding...", ticket);
                 val decoded = decodeTicket(ticket);
@@ -125,18 +133,18 @@ public class CouchbaseTicketRegistry extends AbstractTicketRegistry implements D
                 }
                 return decoded;
             })
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
+            .filter(Objects::nonNull);
     }
 
     @Override
-    public Ticket updateTicket(final Ticket ticket) throws Exception {
+    protected Ticket updateTicketInternal(final Ticket ticket) throws Exception {
         addTicket(ticket);
         return ticket;
     }
 
     @Override
     public void destroy() {
+        super.destroy();
         LOGGER.trace("Shutting down Couchbase");
         this.couchbase.shutdown();
     }
@@ -162,10 +170,21 @@ public class CouchbaseTicketRegistry extends AbstractTicketRegistry implements D
         return String.format("REGEX_CONTAINS(%s.`@class`, \".*Ticket.*\")", couchbase.getBucket());
     }
 
-    private QueryResult queryForTickets() {
-        val query = getQueryForAllTickets();
-        return couchbase.select(query,
-            QueryOptions.queryOptions().serializer(JacksonJsonSerializer.create(MAPPER)), false);
+    /**
+     * Query for the next page of tickets, ordered by document id,
+     * whose ids follow the given id.
+     *
+     * @param lastTicketId the id of the last ticket in the previous page, if any
+     * @return the tickets
+     */
+    private List<Ticket> queryForTickets(final String lastTicketId) {
+        val options = QueryOptions.queryOptions().serializer(JacksonJsonSerializer.create(MAPPER));
+        val query = new StringBuilder(getQueryForAllTickets());
+        if (lastTicketId != null) {
+            query.append(" AND META().id > $lastTicketId");
+            options.parameters(JsonObject.create().put("lastTicketId", lastTicketId));
+        }
+        query.append(" ORDER BY META().id LIMIT ").append(pageSize);
+        return couchbase.select(query.toString(), options, false).rowsAs(Ticket.class);
     }
 }
-
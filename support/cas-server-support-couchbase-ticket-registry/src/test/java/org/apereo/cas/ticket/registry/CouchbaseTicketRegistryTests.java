@@ -41,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.*;
         "cas.ticket.registry.couchbase.cluster-password=password",
         "cas.ticket.registry.couchbase.cluster-username=admin",
         "cas.ticket.registry.couchbase.scan-consistency=REQUEST_PLUS",
+        "cas.ticket.registry.couchbase.page-size=2",
         "cas.ticket.registry.couchbase.bucket=testbucket"
     })
 @Getter
@@ -107,7 +107,7 @@ public class CouchDbTicketRegistry extends AbstractTicketRegistry {
     }
 
     @Override
-    public Ticket updateTicket(final Ticket ticket) throws Exception {
+    protected Ticket updateTicketInternal(final Ticket ticket) throws Exception {
         val encodedTicket = encodeTicket(ticket);
         LOGGER.trace("Updating [{}]", encodedTicket.getId());
         var success = false;
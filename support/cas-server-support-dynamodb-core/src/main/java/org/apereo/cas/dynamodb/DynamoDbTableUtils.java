@@ -11,22 +11,39 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.BillingMode;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
+import software.amazon.awssdk.services.dynamodb.model.CreateGlobalSecondaryIndexAction;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTimeToLiveRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndexDescription;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndexUpdate;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 import software.amazon.awssdk.services.dynamodb.model.TableStatus;
+import software.amazon.awssdk.services.dynamodb.model.TimeToLiveSpecification;
+import software.amazon.awssdk.services.dynamodb.model.TimeToLiveStatus;
+import software.amazon.awssdk.services.dynamodb.model.UpdateTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateTimeToLiveRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -42,6 +59,14 @@ public class DynamoDbTableUtils {
 
     private static final int DEFAULT_WAIT_INTERVAL = 10 * 1000;
 
+    private static final int BATCH_WRITE_SIZE = 25;
+
+    private static final int BATCH_WRITE_ATTEMPTS = 5;
+
+    private static final long BATCH_WRITE_BACKOFF_MILLIS = 50;
+
+    private static final int MAX_SCAN_THREADS = 16;
+
     /**
      * Wait until active.
      *
@@ -122,6 +147,29 @@ public class DynamoDbTableUtils {
                                    final boolean deleteTable,
                                    final List<AttributeDefinition> attributeDefinitions,
                                    final List<KeySchemaElement> keySchemaElements) throws Exception {
+        createTable(dynamoDbClient, dynamoDbProperties, tableName, deleteTable, attributeDefinitions, keySchemaElements, List.of());
+    }
+
+    /**
+     * Create table along with its global secondary indexes.
+     * Indexes are given the provisioned throughput of the table, if any.
+     *
+     * @param dynamoDbClient         the dynamo db client
+     * @param dynamoDbProperties     the dynamo db properties
+     * @param tableName              the table name
+     * @param deleteTable            the delete tables
+     * @param attributeDefinitions   the attribute definitions
+     * @param keySchemaElements      the key schema elements
+     * @param globalSecondaryIndexes the global secondary indexes
+     * @throws Exception the exception
+     */
+    public static void createTable(final DynamoDbClient dynamoDbClient,
+                                   final AbstractDynamoDbProperties dynamoDbProperties,
+                                   final String tableName,
+                                   final boolean deleteTable,
+                                   final List<AttributeDefinition> attributeDefinitions,
+                                   final List<KeySchemaElement> keySchemaElements,
+                                   final List<GlobalSecondaryIndex> globalSecondaryIndexes) throws Exception {
 
         val billingMode = BillingMode.fromValue(dynamoDbProperties.getBillingMode().name());
 
@@ -129,13 +177,19 @@ public class DynamoDbTableUtils {
             .readCapacityUnits(dynamoDbProperties.getReadCapacity())
             .writeCapacityUnits(dynamoDbProperties.getWriteCapacity())
             .build() : null;
-        val request = CreateTableRequest.builder()
+        val builder = CreateTableRequest.builder()
             .attributeDefinitions(attributeDefinitions)
             .keySchema(keySchemaElements)
             .provisionedThroughput(throughput)
             .tableName(tableName)
-            .billingMode(billingMode)
-            .build();
+            .billingMode(billingMode);
+        if (!globalSecondaryIndexes.isEmpty()) {
+            builder.globalSecondaryIndexes(globalSecondaryIndexes
+                .stream()
+                .map(index -> index.toBuilder().provisionedThroughput(throughput).build())
+                .collect(Collectors.toList()));
+        }
+        val request = builder.build();
 
         if (deleteTable) {
             val delete = DeleteTableRequest.builder().tableName(tableName).build();
@@ -150,6 +204,130 @@ public class DynamoDbTableUtils {
         LOGGER.debug("Sending request [{}] to obtain table description...", describeTableRequest);
         val tableDescription = dynamoDbClient.describeTable(describeTableRequest).table();
         LOGGER.debug("Located newly created table with description: [{}]", tableDescription);
+        createMissingGlobalSecondaryIndexes(dynamoDbClient, tableDescription, attributeDefinitions, globalSecondaryIndexes, throughput);
+    }
+
+    /**
+     * Enable the native time-to-live feature of the table, so that items are removed by DynamoDb
+     * once the time, in epoch seconds, recorded in the given attribute has passed.
+     *
+     * @param dynamoDbClient the dynamo db client
+     * @param tableName      the table name
+     * @param attributeName  the attribute name
+     * @return true if time-to-live is enabled, false otherwise.
+     */
+    public static boolean enableTimeToLive(final DynamoDbClient dynamoDbClient, final String tableName, final String attributeName) {
+        try {
+            val description = dynamoDbClient.describeTimeToLive(DescribeTimeToLiveRequest.builder().tableName(tableName).build())
+                .timeToLiveDescription();
+            if (description != null && description.timeToLiveStatus() == TimeToLiveStatus.ENABLED) {
+                LOGGER.trace("Time-to-live is already enabled for table [{}]", tableName);
+                return true;
+            }
+            val request = UpdateTimeToLiveRequest.builder()
+                .tableName(tableName)
+                .timeToLiveSpecification(TimeToLiveSpecification.builder().attributeName(attributeName).enabled(Boolean.TRUE).build())
+                .build();
+            LOGGER.debug("Sending request [{}] to enable time-to-live for table [{}]", request, tableName);
+            dynamoDbClient.updateTimeToLive(request);
+            return true;
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+        }
+        return false;
+    }
+
+    /**
+     * Scan the table and follow all pages of results. The table is scanned
+     * in the given number of segments in parallel, using a bounded number of threads
+     * that belong to this scan alone.
+     *
+     * @param dynamoDbClient the dynamo db client
+     * @param scanRequest    the scan request
+     * @param totalSegments  the total segments
+     * @return the items
+     */
+    public static List<Map<String, AttributeValue>> scan(final DynamoDbClient dynamoDbClient,
+                                                         final ScanRequest scanRequest,
+                                                         final int totalSegments) {
+        if (totalSegments <= 1) {
+            LOGGER.debug("Submitting scan request [{}]", scanRequest);
+            return dynamoDbClient.scanPaginator(scanRequest).items().stream().collect(Collectors.toList());
+        }
+        val executor = Executors.newFixedThreadPool(Math.min(totalSegments, MAX_SCAN_THREADS));
+        try {
+            val segments = IntStream.range(0, totalSegments)
+                .mapToObj(segment -> CompletableFuture.supplyAsync(() -> {
+                    val request = scanRequest.toBuilder().segment(segment).totalSegments(totalSegments).build();
+                    LOGGER.debug("Submitting scan request [{}] for segment [{}]", request, segment);
+                    return dynamoDbClient.scanPaginator(request).items().stream().collect(Collectors.toList());
+                }, executor))
+                .collect(Collectors.toList());
+            return segments
+                .stream()
+                .map(DynamoDbTableUtils::getScannedItems)
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Delete items by their keys, using batch write requests.
+     * Items that are left unprocessed by DynamoDb are submitted again,
+     * backing off exponentially between attempts.
+     *
+     * @param dynamoDbClient the dynamo db client
+     * @param tableName      the table name
+     * @param keys           the item keys
+     * @return the number of deleted items
+     */
+    public static int deleteItems(final DynamoDbClient dynamoDbClient, final String tableName,
+                                  final List<Map<String, AttributeValue>> keys) {
+        var deleted = 0;
+        for (var i = 0; i < keys.size(); i += BATCH_WRITE_SIZE) {
+            val batch = keys.subList(i, Math.min(i + BATCH_WRITE_SIZE, keys.size()));
+            var requestItems = Map.of(tableName, batch
+                .stream()
+                .map(key -> WriteRequest.builder().deleteRequest(DeleteRequest.builder().key(key).build()).build())
+                .collect(Collectors.toList()));
+            for (var attempt = 1; !requestItems.isEmpty() && attempt <= BATCH_WRITE_ATTEMPTS; attempt++) {
+                if (attempt > 1 && !backOff(attempt)) {
+                    break;
+                }
+                LOGGER.trace("Submitting batch request to delete [{}] items from table [{}]", batch.size(), tableName);
+                requestItems = dynamoDbClient.batchWriteItem(BatchWriteItemRequest.builder().requestItems(requestItems).build())
+                    .unprocessedItems();
+            }
+            val unprocessed = requestItems.getOrDefault(tableName, List.of()).size();
+            if (unprocessed > 0) {
+                LOGGER.warn("[{}] items could not be deleted from table [{}]", unprocessed, tableName);
+            }
+            deleted += batch.size() - unprocessed;
+        }
+        return deleted;
+    }
+
+    /**
+     * Gets records by query, following all pages of results.
+     * Failures, such as querying an index that does not exist yet, are reported to the caller.
+     *
+     * @param <T>            the type parameter
+     * @param dynamoDbClient the dynamo db client
+     * @param queryRequest   the query request
+     * @param itemMapper     the item mapper
+     * @return the records
+     */
+    public static <T> List<T> getRecordsByQuery(final DynamoDbClient dynamoDbClient,
+                                                final QueryRequest queryRequest,
+                                                final Function<Map<String, AttributeValue>, T> itemMapper) {
+        LOGGER.debug("Submitting query request [{}]", queryRequest);
+        return dynamoDbClient.queryPaginator(queryRequest)
+            .items()
+            .stream()
+            .map(itemMapper)
+            .collect(Collectors.toList());
     }
 
     /**
@@ -181,8 +359,8 @@ public class DynamoDbTableUtils {
                 .scanFilter(scanFilter)
                 .build();
             LOGGER.debug("Submitting request [{}] to get record with keys [{}]", scanRequest, queries);
-            val items = dynamoDbClient.scan(scanRequest).items();
-            return items
+            return dynamoDbClient.scanPaginator(scanRequest)
+                .items()
                 .stream()
                 .map(itemMapper);
         } catch (final Exception e) {
@@ -191,6 +369,64 @@ public class DynamoDbTableUtils {
         return Stream.empty();
     }
 
+    private static List<Map<String, AttributeValue>> getScannedItems(final CompletableFuture<List<Map<String, AttributeValue>>> segment) {
+        try {
+            return segment.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static boolean backOff(final int attempt) {
+        val delay = BATCH_WRITE_BACKOFF_MILLIS << (attempt - 2);
+        LOGGER.trace("Waiting [{}] ms before submitting unprocessed items again", delay);
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void createMissingGlobalSecondaryIndexes(final DynamoDbClient dynamoDbClient,
+                                                            final TableDescription tableDescription,
+                                                            final List<AttributeDefinition> attributeDefinitions,
+                                                            final List<GlobalSecondaryIndex> globalSecondaryIndexes,
+                                                            final ProvisionedThroughput throughput) {
+        val existingIndexes = tableDescription.globalSecondaryIndexes()
+            .stream()
+            .map(GlobalSecondaryIndexDescription::indexName)
+            .collect(Collectors.toSet());
+        globalSecondaryIndexes
+            .stream()
+            .filter(index -> !existingIndexes.contains(index.indexName()))
+            .forEach(index -> {
+                try {
+                    val request = UpdateTableRequest.builder()
+                        .tableName(tableDescription.tableName())
+                        .attributeDefinitions(attributeDefinitions)
+                        .globalSecondaryIndexUpdates(GlobalSecondaryIndexUpdate.builder()
+                            .create(CreateGlobalSecondaryIndexAction.builder()
+                                .indexName(index.indexName())
+                                .keySchema(index.keySchema())
+                                .projection(index.projection())
+                                .provisionedThroughput(throughput)
+                                .build())
+                            .build())
+                        .build();
+                    LOGGER.info("Creating global secondary index [{}] for existing table [{}]", index.indexName(), tableDescription.tableName());
+                    dynamoDbClient.updateTable(request);
+                    waitUntilActive(dynamoDbClient, tableDescription.tableName());
+                } catch (final Exception e) {
+                    LoggingUtils.warn(LOGGER, e);
+                }
+            });
+    }
+
     private static TableDescription waitForTableDescription(final DynamoDbClient dynamo,
                                                             final String tableName,
                                                             final TableStatus desiredStatus,
@@ -9,9 +9,13 @@ import org.mockito.ArgumentMatcher;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.BillingMode;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
@@ -21,8 +25,10 @@ import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 import software.amazon.awssdk.services.dynamodb.model.TableStatus;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -121,6 +127,31 @@ public class DynamoDbTableUtilsTests {
         verify(client).createTable(argThat(createTableArgMatcher));
     }
 
+    @Test
+    public void verifyDeleteItemsRetriesUnprocessedItems() {
+        val client = mock(DynamoDbClient.class);
+        val key = Map.of("id", AttributeValue.builder().s("ST-1").build());
+        val unprocessed = Map.of("tableName",
+            List.of(WriteRequest.builder().deleteRequest(DeleteRequest.builder().key(key).build()).build()));
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(BatchWriteItemResponse.builder().unprocessedItems(unprocessed).build())
+            .thenReturn(BatchWriteItemResponse.builder().unprocessedItems(Map.of()).build());
+        assertEquals(1, DynamoDbTableUtils.deleteItems(client, "tableName", List.of(key)));
+        verify(client, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    public void verifyDeleteItemsGivesUpOnUnprocessedItems() {
+        val client = mock(DynamoDbClient.class);
+        val key = Map.of("id", AttributeValue.builder().s("ST-1").build());
+        val unprocessed = Map.of("tableName",
+            List.of(WriteRequest.builder().deleteRequest(DeleteRequest.builder().key(key).build()).build()));
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(BatchWriteItemResponse.builder().unprocessedItems(unprocessed).build());
+        assertEquals(0, DynamoDbTableUtils.deleteItems(client, "tableName", List.of(key)));
+        verify(client, times(5)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
     @SuppressWarnings("serial")
     static class MinimalTestDynamoDbProperties extends AbstractDynamoDbProperties {
 
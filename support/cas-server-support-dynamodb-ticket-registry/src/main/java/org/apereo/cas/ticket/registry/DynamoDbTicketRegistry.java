@@ -60,11 +60,24 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
     }
 
     @Override
-    public Ticket updateTicket(final Ticket ticket) throws Exception {
+    protected Ticket updateTicketInternal(final Ticket ticket) throws Exception {
         addTicket(ticket);
         return ticket;
     }
 
+    @Override
+    public long countSessionsFor(final String principalId) {
+        if (isCipherExecutorEnabled()) {
+            return super.countSessionsFor(principalId);
+        }
+        try {
+            return this.dbTableService.countTicketGrantingTickets(principalId);
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to query sessions for [{}] by principal index: [{}]", principalId, e.getMessage());
+            return super.countSessionsFor(principalId);
+        }
+    }
+
     @Override
     public boolean deleteSingleTicket(final String ticketIdToDelete) {
         val ticketId = encodeTicketId(ticketIdToDelete);
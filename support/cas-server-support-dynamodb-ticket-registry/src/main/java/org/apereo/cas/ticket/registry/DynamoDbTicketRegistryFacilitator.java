@@ -4,6 +4,7 @@ import org.apereo.cas.configuration.model.support.dynamodb.DynamoDbTicketRegistr
 import org.apereo.cas.dynamodb.DynamoDbTableUtils;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LoggingUtils;
 
@@ -17,21 +18,33 @@ import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
 import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -44,6 +57,11 @@ import java.util.stream.Collectors;
 @Getter
 @RequiredArgsConstructor
 public class DynamoDbTicketRegistryFacilitator {
+    /**
+     * Name of the global secondary index on the principal of ticket-granting tickets.
+     */
+    public static final String PRINCIPAL_INDEX_NAME = "principalIndex";
+
     private final TicketCatalog ticketCatalog;
 
     private final DynamoDbTicketRegistryProperties dynamoDbProperties;
@@ -61,6 +79,21 @@ public class DynamoDbTicketRegistryFacilitator {
         return null;
     }
 
+    private static String normalizePrincipalId(final String principalId) {
+        return principalId.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Calculate the time, in epoch seconds, after which the ticket can be removed by DynamoDb.
+     */
+    private static Optional<Long> getExpireAt(final Ticket ticket) {
+        val ttl = ticket.getExpirationPolicy().getTimeToLive(ticket);
+        if (ttl == null || ttl < 1 || ttl == Long.MAX_VALUE) {
+            return Optional.empty();
+        }
+        return Optional.of(Instant.now(Clock.systemUTC()).getEpochSecond() + ttl);
+    }
+
     /**
      * Delete.
      *
@@ -87,15 +120,20 @@ public class DynamoDbTicketRegistryFacilitator {
      * @return the int
      */
     public int deleteAll() {
-        val count = new AtomicInteger();
-        val metadata = this.ticketCatalog.findAll();
-        metadata.forEach(r -> {
-            val scan = ScanRequest.builder().tableName(r.getProperties().getStorageName()).build();
-            LOGGER.debug("Submitting scan request [{}] to table [{}]", scan, r.getProperties().getStorageName());
-            count.addAndGet(this.amazonDynamoDBClient.scan(scan).count());
-        });
-        createTicketTables(true);
-        return count.get();
+        return ticketCatalog.findAll()
+            .stream()
+            .mapToInt(definition -> {
+                val tableName = definition.getProperties().getStorageName();
+                val scan = ScanRequest.builder()
+                    .tableName(tableName)
+                    .projectionExpression("#id")
+                    .expressionAttributeNames(Map.of("#id", ColumnNames.ID.getColumnName()))
+                    .build();
+                val keys = DynamoDbTableUtils.scan(amazonDynamoDBClient, scan, dynamoDbProperties.getScanSegments());
+                LOGGER.debug("Deleting [{}] tickets from table [{}]", keys.size(), tableName);
+                return DynamoDbTableUtils.deleteItems(amazonDynamoDBClient, tableName, keys);
+            })
+            .sum();
     }
 
     /**
@@ -104,17 +142,45 @@ public class DynamoDbTicketRegistryFacilitator {
      * @return the all
      */
     public Collection<Ticket> getAll() {
-        val metadata = this.ticketCatalog.findAll();
-        val tickets = new ArrayList<Ticket>(metadata.size());
-        metadata.forEach(r -> {
-            val scan = ScanRequest.builder().tableName(r.getProperties().getStorageName()).build();
-            LOGGER.debug("Scanning table with request [{}]", scan);
-            val result = this.amazonDynamoDBClient.scan(scan);
-            LOGGER.debug("Scanned table with result [{}]", scan);
-            tickets.addAll(result.items().stream()
-                .map(DynamoDbTicketRegistryFacilitator::deserializeTicket).collect(Collectors.toList()));
-        });
-        return tickets;
+        return ticketCatalog.findAll()
+            .stream()
+            .map(definition -> ScanRequest.builder().tableName(definition.getProperties().getStorageName()).build())
+            .flatMap(scan -> DynamoDbTableUtils.scan(amazonDynamoDBClient, scan, dynamoDbProperties.getScanSegments()).stream())
+            .map(DynamoDbTicketRegistryFacilitator::deserializeTicket)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Count ticket-granting tickets that belong to the principal and are not yet expired,
+     * using the principal index of ticket-granting ticket tables. Ticket-granting tickets
+     * stored before the principal was recorded are counted as well.
+     *
+     * @param principalId the principal id
+     * @return the count
+     */
+    public long countTicketGrantingTickets(final String principalId) {
+        val now = Instant.now(Clock.systemUTC()).getEpochSecond();
+        return ticketCatalog.find(TicketGrantingTicket.class)
+            .stream()
+            .mapToLong(definition -> {
+                val tableName = definition.getProperties().getStorageName();
+                val request = QueryRequest.builder()
+                    .tableName(tableName)
+                    .indexName(PRINCIPAL_INDEX_NAME)
+                    .keyConditionExpression("#principal = :principal")
+                    .filterExpression("attribute_not_exists(#expireAt) OR #expireAt > :now")
+                    .expressionAttributeNames(Map.of("#principal", ColumnNames.PRINCIPAL.getColumnName(),
+                        "#expireAt", ColumnNames.EXPIRE_AT.getColumnName()))
+                    .expressionAttributeValues(Map.of(":principal", AttributeValue.builder().s(normalizePrincipalId(principalId)).build(),
+                        ":now", AttributeValue.builder().n(Long.toString(now)).build()))
+                    .select(Select.COUNT)
+                    .build();
+                LOGGER.debug("Submitting query request [{}] to count tickets for [{}]", request, principalId);
+                return amazonDynamoDBClient.queryPaginator(request).stream().mapToLong(QueryResponse::count).sum()
+                    + countTicketGrantingTicketsWithoutPrincipal(tableName, principalId);
+            })
+            .sum();
     }
 
     /**
@@ -161,7 +227,6 @@ public class DynamoDbTicketRegistryFacilitator {
         LOGGER.debug("Submitting put request [{}] for ticket id [{}]", putItemRequest, encodedTicket.getId());
         val putItemResult = amazonDynamoDBClient.putItem(putItemRequest);
         LOGGER.debug("Ticket added with result [{}]", putItemResult);
-        getAll();
     }
 
     /**
@@ -171,10 +236,25 @@ public class DynamoDbTicketRegistryFacilitator {
      */
     public void createTicketTables(final boolean deleteTables) {
         val metadata = this.ticketCatalog.findAll();
-        metadata.forEach(Unchecked.consumer(r -> DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
-            r.getProperties().getStorageName(), deleteTables,
-            List.of(AttributeDefinition.builder().attributeName(ColumnNames.ID.getColumnName()).attributeType(ScalarAttributeType.S).build()),
-            List.of(KeySchemaElement.builder().attributeName(ColumnNames.ID.getColumnName()).keyType(KeyType.HASH).build()))));
+        metadata.forEach(Unchecked.consumer(r -> {
+            val tableName = r.getProperties().getStorageName();
+            val attributes = new ArrayList<AttributeDefinition>();
+            attributes.add(AttributeDefinition.builder().attributeName(ColumnNames.ID.getColumnName()).attributeType(ScalarAttributeType.S).build());
+            val indexes = new ArrayList<GlobalSecondaryIndex>();
+            if (TicketGrantingTicket.class.isAssignableFrom(r.getImplementationClass())) {
+                attributes.add(AttributeDefinition.builder().attributeName(ColumnNames.PRINCIPAL.getColumnName())
+                    .attributeType(ScalarAttributeType.S).build());
+                indexes.add(GlobalSecondaryIndex.builder()
+                    .indexName(PRINCIPAL_INDEX_NAME)
+                    .keySchema(KeySchemaElement.builder().attributeName(ColumnNames.PRINCIPAL.getColumnName()).keyType(KeyType.HASH).build())
+                    .projection(Projection.builder().projectionType(ProjectionType.INCLUDE)
+                        .nonKeyAttributes(ColumnNames.EXPIRE_AT.getColumnName()).build())
+                    .build());
+            }
+            DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties, tableName, deleteTables, attributes,
+                List.of(KeySchemaElement.builder().attributeName(ColumnNames.ID.getColumnName()).keyType(KeyType.HASH).build()), indexes);
+            DynamoDbTableUtils.enableTimeToLive(amazonDynamoDBClient, tableName, ColumnNames.EXPIRE_AT.getColumnName());
+        }));
     }
 
     /**
@@ -200,10 +280,81 @@ public class DynamoDbTicketRegistryFacilitator {
             AttributeValue.builder().n(Long.toString(ticket.getExpirationPolicy().getTimeToIdle())).build());
         values.put(ColumnNames.ENCODED.getColumnName(),
             AttributeValue.builder().b(SdkBytes.fromByteBuffer(ByteBuffer.wrap(SerializationUtils.serialize(encTicket)))).build());
+        getExpireAt(ticket).ifPresent(expireAt -> values.put(ColumnNames.EXPIRE_AT.getColumnName(),
+            AttributeValue.builder().n(Long.toString(expireAt)).build()));
+        if (encTicket instanceof TicketGrantingTicket) {
+            val authentication = ((TicketGrantingTicket) encTicket).getAuthentication();
+            if (authentication != null && authentication.getPrincipal() != null) {
+                values.put(ColumnNames.PRINCIPAL.getColumnName(),
+                    AttributeValue.builder().s(normalizePrincipalId(authentication.getPrincipal().getId())).build());
+            }
+        }
         LOGGER.debug("Created attribute values [{}] based on provided ticket [{}]", values, encTicket.getId());
         return values;
     }
 
+    /**
+     * Ticket-granting tickets stored before the principal was recorded cannot be found via the principal index.
+     * Such items are inspected one by one, and their principal and expiration time are recorded as they are found,
+     * so that they are counted by the indexed query from then on.
+     */
+    private long countTicketGrantingTicketsWithoutPrincipal(final String tableName, final String principalId) {
+        val scan = ScanRequest.builder()
+            .tableName(tableName)
+            .filterExpression("attribute_not_exists(#principal)")
+            .expressionAttributeNames(Map.of("#principal", ColumnNames.PRINCIPAL.getColumnName()))
+            .build();
+        val normalizedPrincipalId = normalizePrincipalId(principalId);
+        return DynamoDbTableUtils.scan(amazonDynamoDBClient, scan, dynamoDbProperties.getScanSegments())
+            .stream()
+            .filter(item -> item.containsKey(ColumnNames.ENCODED.getColumnName()))
+            .filter(item -> {
+                val ticket = deserializeTicket(item);
+                if (!(ticket instanceof TicketGrantingTicket)) {
+                    return false;
+                }
+                val authentication = ((TicketGrantingTicket) ticket).getAuthentication();
+                if (authentication == null || authentication.getPrincipal() == null) {
+                    return false;
+                }
+                val ticketPrincipalId = normalizePrincipalId(authentication.getPrincipal().getId());
+                recordPrincipal(tableName, item.get(ColumnNames.ID.getColumnName()), ticket, ticketPrincipalId);
+                return ticketPrincipalId.equals(normalizedPrincipalId) && !ticket.isExpired();
+            })
+            .count();
+    }
+
+    private void recordPrincipal(final String tableName, final AttributeValue key, final Ticket ticket, final String principalId) {
+        try {
+            val names = new HashMap<String, String>();
+            names.put("#id", ColumnNames.ID.getColumnName());
+            names.put("#principal", ColumnNames.PRINCIPAL.getColumnName());
+            val values = new HashMap<String, AttributeValue>();
+            values.put(":principal", AttributeValue.builder().s(principalId).build());
+            var updateExpression = "SET #principal = :principal";
+            val expireAt = getExpireAt(ticket);
+            if (expireAt.isPresent()) {
+                names.put("#expireAt", ColumnNames.EXPIRE_AT.getColumnName());
+                values.put(":expireAt", AttributeValue.builder().n(Long.toString(expireAt.get())).build());
+                updateExpression += ", #expireAt = if_not_exists(#expireAt, :expireAt)";
+            }
+            val request = UpdateItemRequest.builder()
+                .tableName(tableName)
+                .key(CollectionUtils.wrap(ColumnNames.ID.getColumnName(), key))
+                .updateExpression(updateExpression)
+                .conditionExpression("attribute_exists(#id)")
+                .expressionAttributeNames(names)
+                .expressionAttributeValues(values)
+                .build();
+            LOGGER.trace("Recording principal [{}] for ticket [{}]", principalId, ticket.getId());
+            amazonDynamoDBClient.updateItem(request);
+        } catch (final ConditionalCheckFailedException e) {
+            LOGGER.trace("Ticket [{}] is removed before its principal could be recorded", ticket.getId());
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to record principal for ticket [{}]: [{}]", ticket.getId(), e.getMessage());
+        }
+    }
+
     /**
      * Column names for tables holding tickets.
      */
@@ -238,7 +389,15 @@ public class DynamoDbTicketRegistryFacilitator {
         /**
          * encoded column.
          */
-        ENCODED("encoded");
+        ENCODED("encoded"),
+        /**
+         * principal column, recorded for ticket-granting tickets that are not encoded.
+         */
+        PRINCIPAL("principal"),
+        /**
+         * expireAt column, in epoch seconds, used by DynamoDb to expire items.
+         */
+        EXPIRE_AT("expireAt");
 
         private final String columnName;
     }
@@ -10,11 +10,16 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.TestPropertySource;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BillingMode;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -57,6 +62,46 @@ public class DynamoDbTicketRegistryFacilitatorTests {
             assertTrue(dynamoDbTicketRegistryFacilitator.deleteAll() > 0);
 
         }
+
+        @Test
+        public void verifyPagedTicketOperations() {
+            dynamoDbTicketRegistryFacilitator.createTicketTables(true);
+            val count = 60;
+            IntStream.range(0, count).forEach(i -> {
+                val ticket = new MockTicketGrantingTicket("casuser",
+                    CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword(),
+                    CollectionUtils.wrap("name", "CAS"));
+                dynamoDbTicketRegistryFacilitator.put(ticket, ticket);
+            });
+            assertEquals(count, dynamoDbTicketRegistryFacilitator.getAll().size());
+            assertEquals(count, dynamoDbTicketRegistryFacilitator.countTicketGrantingTickets("CASUSER"));
+            assertEquals(count, dynamoDbTicketRegistryFacilitator.deleteAll());
+            assertTrue(dynamoDbTicketRegistryFacilitator.getAll().isEmpty());
+        }
+
+        @Test
+        public void verifyCountTicketsWithoutPrincipal() {
+            dynamoDbTicketRegistryFacilitator.createTicketTables(true);
+            val ticket = new MockTicketGrantingTicket("legacyuser",
+                CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword(),
+                CollectionUtils.wrap("name", "CAS"));
+            val values = new HashMap<>(dynamoDbTicketRegistryFacilitator.buildTableAttributeValuesMapFromTicket(ticket, ticket));
+            values.remove(DynamoDbTicketRegistryFacilitator.ColumnNames.PRINCIPAL.getColumnName());
+            values.remove(DynamoDbTicketRegistryFacilitator.ColumnNames.EXPIRE_AT.getColumnName());
+            val tableName = dynamoDbTicketRegistryFacilitator.getTicketCatalog().find(ticket).getProperties().getStorageName();
+            dynamoDbTicketRegistryFacilitator.getAmazonDynamoDBClient()
+                .putItem(PutItemRequest.builder().tableName(tableName).item(values).build());
+
+            assertEquals(1, dynamoDbTicketRegistryFacilitator.countTicketGrantingTickets("LegacyUser"));
+            assertEquals(0, dynamoDbTicketRegistryFacilitator.countTicketGrantingTickets("casuser"));
+            val item = dynamoDbTicketRegistryFacilitator.getAmazonDynamoDBClient().getItem(GetItemRequest.builder()
+                .tableName(tableName)
+                .key(CollectionUtils.wrap(DynamoDbTicketRegistryFacilitator.ColumnNames.ID.getColumnName(),
+                    AttributeValue.builder().s(ticket.getId()).build()))
+                .build()).item();
+            assertEquals("legacyuser", item.get(DynamoDbTicketRegistryFacilitator.ColumnNames.PRINCIPAL.getColumnName()).s());
+            assertEquals(1, dynamoDbTicketRegistryFacilitator.countTicketGrantingTickets("legacyuser"));
+        }
     }
 
     @Nested
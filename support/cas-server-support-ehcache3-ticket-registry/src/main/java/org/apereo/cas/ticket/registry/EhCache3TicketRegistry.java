@@ -129,13 +129,14 @@ public class EhCache3TicketRegistry extends AbstractTicketRegistry implements Di
     }
 
     @Override
-    public Ticket updateTicket(final Ticket ticket) throws Exception {
+    protected Ticket updateTicketInternal(final Ticket ticket) throws Exception {
         addTicket(ticket);
         return ticket;
     }
 
     @Override
     public void destroy() {
+        super.destroy();
         if (!this.cacheManager.isClosed()) {
             this.cacheManager.close();
         }
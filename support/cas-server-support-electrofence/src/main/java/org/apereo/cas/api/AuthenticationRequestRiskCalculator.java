@@ -35,4 +35,20 @@ public interface AuthenticationRequestRiskCalculator {
     AuthenticationRiskScore calculate(Authentication authentication,
                                       RegisteredService service,
                                       HttpServletRequest request);
+
+    /**
+     * Calculate authentication risk score based on the risk profile of the principal.
+     *
+     * @param authentication the authentication
+     * @param service        the service
+     * @param request        the request
+     * @param profile        the risk profile of the authenticated principal
+     * @return the authentication risk score
+     */
+    default AuthenticationRiskScore calculate(final Authentication authentication,
+                                              final RegisteredService service,
+                                              final HttpServletRequest request,
+                                              final AuthenticationRiskProfile profile) {
+        return calculate(authentication, service, request);
+    }
 }
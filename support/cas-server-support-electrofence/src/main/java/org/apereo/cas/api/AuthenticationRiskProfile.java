@@ -0,0 +1,232 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.util.DateTimeUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link AuthenticationRiskProfile}.
+ * Aggregates the authentication history of a principal into weighted histograms
+ * of client IP addresses, user agents, geolocations and hours of the day.
+ * Events lose weight as they age, based on the configured half-life; since all
+ * histograms decay at the same rate, the share of each entry in the profile
+ * only depends on the age of events relative to one another.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@ToString(of = {"principal", "count", "totalWeight"})
+@RequiredArgsConstructor
+public class AuthenticationRiskProfile {
+    private static final int HOURS_IN_DAY = 24;
+
+    private static final int MAX_HISTOGRAM_ENTRIES = 128;
+
+    @Getter
+    private final String principal;
+
+    private final long halfLifeInMillis;
+
+    private final Map<String, Double> ipAddresses = new HashMap<>();
+
+    private final Map<String, Double> userAgents = new HashMap<>();
+
+    private final Map<String, Double> geoLocations = new HashMap<>();
+
+    private final double[] hours = new double[HOURS_IN_DAY];
+
+    private double totalWeight;
+
+    private long count;
+
+    private long lastUpdated;
+
+    /**
+     * Build a risk profile from the given events.
+     *
+     * @param principal        the principal
+     * @param halfLifeInMillis the half life in millis
+     * @param events           the events
+     * @return the authentication risk profile
+     */
+    public static AuthenticationRiskProfile from(final String principal, final long halfLifeInMillis,
+                                                 final Stream<? extends CasEvent> events) {
+        val profile = new AuthenticationRiskProfile(principal, halfLifeInMillis);
+        events.forEach(profile::record);
+        return profile;
+    }
+
+    private static String normalize(final String value) {
+        return StringUtils.isBlank(value) ? null : value.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String normalize(final GeoLocationRequest location) {
+        if (location == null || StringUtils.isBlank(location.getLatitude()) || StringUtils.isBlank(location.getLongitude())) {
+            return null;
+        }
+        return location.getLatitude() + ',' + location.getLongitude();
+    }
+
+    private static long getEventTime(final CasEvent event) {
+        if (StringUtils.isNotBlank(event.getCreationTime())) {
+            return DateTimeUtils.convertToZonedDateTime(event.getCreationTime()).toInstant().toEpochMilli();
+        }
+        if (StringUtils.isNotBlank(event.get(CasEvent.FIELD_TIMESTAMP))) {
+            return event.getTimestamp();
+        }
+        return System.currentTimeMillis();
+    }
+
+    private static void increment(final Map<String, Double> histogram, final String key, final double weight) {
+        if (key != null) {
+            histogram.merge(key, weight, Double::sum);
+            if (histogram.size() > MAX_HISTOGRAM_ENTRIES) {
+                histogram.entrySet()
+                    .stream()
+                    .min(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .ifPresent(histogram::remove);
+            }
+        }
+    }
+
+    private static void scale(final Map<String, Double> histogram, final double factor) {
+        histogram.replaceAll((key, weight) -> weight * factor);
+    }
+
+    /**
+     * Record the event in the profile.
+     *
+     * @param event the event
+     * @return the authentication risk profile
+     */
+    public synchronized AuthenticationRiskProfile record(final CasEvent event) {
+        val eventTime = getEventTime(event);
+        var weight = 1D;
+        if (eventTime > lastUpdated) {
+            if (count > 0) {
+                decay(getDecayFactor(eventTime - lastUpdated));
+            }
+            lastUpdated = eventTime;
+        } else {
+            weight = getDecayFactor(lastUpdated - eventTime);
+        }
+        increment(ipAddresses, normalize(event.getClientIpAddress()), weight);
+        increment(userAgents, normalize(event.getAgent()), weight);
+        increment(geoLocations, normalize(event.getGeoLocation()), weight);
+        hours[Instant.ofEpochMilli(eventTime).atZone(ZoneOffset.UTC).getHour()] += weight;
+        totalWeight += weight;
+        count++;
+        return this;
+    }
+
+    /**
+     * Whether the profile has recorded any events.
+     *
+     * @return true/false
+     */
+    public synchronized boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Gets the number of events recorded by the profile.
+     *
+     * @return the count
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets total weight of all recorded events.
+     *
+     * @return the total weight
+     */
+    public synchronized double getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Gets weight of events recorded for the client ip address.
+     *
+     * @param ipAddress the ip address
+     * @return the weight
+     */
+    public synchronized double getIpAddressWeight(final String ipAddress) {
+        return ipAddresses.getOrDefault(normalize(ipAddress), 0D);
+    }
+
+    /**
+     * Gets weight of events recorded for the user agent.
+     *
+     * @param userAgent the user agent
+     * @return the weight
+     */
+    public synchronized double getUserAgentWeight(final String userAgent) {
+        return userAgents.getOrDefault(normalize(userAgent), 0D);
+    }
+
+    /**
+     * Gets weight of events recorded for the geolocation.
+     *
+     * @param location the location
+     * @return the weight
+     */
+    public synchronized double getGeoLocationWeight(final GeoLocationRequest location) {
+        return geoLocations.getOrDefault(normalize(location), 0D);
+    }
+
+    /**
+     * Gets weight of events recorded between the given hours of the day (in UTC), inclusive.
+     * The range wraps around midnight if the starting hour is after the ending hour.
+     *
+     * @param fromHour the from hour
+     * @param toHour   the to hour
+     * @return the weight
+     */
+    public synchronized double getHourlyWeight(final int fromHour, final int toHour) {
+        var weight = 0D;
+        for (var hour = 0; hour < HOURS_IN_DAY; hour++) {
+            val matches = fromHour <= toHour
+                ? hour >= fromHour && hour <= toHour
+                : hour >= fromHour || hour <= toHour;
+            if (matches) {
+                weight += hours[hour];
+            }
+        }
+        return weight;
+    }
+
+    private double getDecayFactor(final long elapsedInMillis) {
+        if (halfLifeInMillis <= 0) {
+            return 1D;
+        }
+        return Math.pow(2, -(double) elapsedInMillis / halfLifeInMillis);
+    }
+
+    private void decay(final double factor) {
+        if (factor < 1D) {
+            scale(ipAddresses, factor);
+            scale(userAgents, factor);
+            scale(geoLocations, factor);
+            for (var hour = 0; hour < HOURS_IN_DAY; hour++) {
+                hours[hour] *= factor;
+            }
+            totalWeight *= factor;
+        }
+    }
+}
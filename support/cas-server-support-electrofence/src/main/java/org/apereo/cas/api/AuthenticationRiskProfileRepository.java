@@ -0,0 +1,32 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.support.events.dao.CasEvent;
+
+/**
+ * This is {@link AuthenticationRiskProfileRepository}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+public interface AuthenticationRiskProfileRepository {
+    /**
+     * Bean name.
+     */
+    String BEAN_NAME = "authenticationRiskProfileRepository";
+
+    /**
+     * Gets the risk profile for the principal.
+     * The profile is empty if no authentication history can be found.
+     *
+     * @param principal the principal
+     * @return the authentication risk profile
+     */
+    AuthenticationRiskProfile get(String principal);
+
+    /**
+     * Record the authentication event in the risk profile of its principal.
+     *
+     * @param event the event
+     */
+    void record(CasEvent event);
+}
@@ -5,6 +5,7 @@ import org.apereo.cas.api.AuthenticationRiskContingencyPlan;
 import org.apereo.cas.api.AuthenticationRiskEvaluator;
 import org.apereo.cas.api.AuthenticationRiskMitigator;
 import org.apereo.cas.api.AuthenticationRiskNotifier;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
@@ -22,6 +23,7 @@ import org.apereo.cas.impl.notify.AuthenticationRiskSmsNotifier;
 import org.apereo.cas.impl.plans.BaseAuthenticationRiskContingencyPlan;
 import org.apereo.cas.impl.plans.BlockAuthenticationContingencyPlan;
 import org.apereo.cas.impl.plans.MultifactorAuthenticationContingencyPlan;
+import org.apereo.cas.impl.profile.DefaultAuthenticationRiskProfileRepository;
 import org.apereo.cas.notifications.CommunicationsManager;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.util.spring.beans.BeanCondition;
@@ -83,8 +85,24 @@ public class ElectronicFenceConfiguration {
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public AuthenticationRiskEvaluator authenticationRiskEvaluator(
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository,
             final List<AuthenticationRequestRiskCalculator> ipAddressAuthenticationRequestRiskCalculators) {
-            return new DefaultAuthenticationRiskEvaluator(ipAddressAuthenticationRequestRiskCalculators);
+            return new DefaultAuthenticationRiskEvaluator(ipAddressAuthenticationRequestRiskCalculators, authenticationRiskProfileRepository);
+        }
+    }
+
+    @Configuration(value = "ElectronicFenceProfileConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    public static class ElectronicFenceProfileConfiguration {
+        @ConditionalOnMissingBean(name = AuthenticationRiskProfileRepository.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public AuthenticationRiskProfileRepository authenticationRiskProfileRepository(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(CasEventRepository.BEAN_NAME)
+            final CasEventRepository casEventRepository) {
+            return new DefaultAuthenticationRiskProfileRepository(casEventRepository, casProperties);
         }
     }
 
@@ -1,9 +1,11 @@
 package org.apereo.cas.impl.calcs;
 
 import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
+import org.apereo.cas.api.AuthenticationRiskProfile;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
@@ -19,11 +21,12 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
  * This is {@link BaseAuthenticationRequestRiskCalculator}.
+ * Scores are calculated from the risk profile of the principal, which is either
+ * supplied by the caller or built from the authentication history on demand.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -47,17 +50,21 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
                                                    final RegisteredService service,
                                                    final HttpServletRequest request) {
         val principal = authentication.getPrincipal();
-        val events = new Supplier<Stream<? extends CasEvent>>() {
-            @Override
-            public Stream<? extends CasEvent> get() {
-                return getCasTicketGrantingTicketCreatedEventsFor(principal.getId());
-            }
-        };
+        val halfLife = Beans.newDuration(casProperties.getAuthn().getAdaptive().getRisk().getProfile().getHalfLife());
+        val profile = AuthenticationRiskProfile.from(principal.getId(), halfLife.toMillis(),
+            getCasTicketGrantingTicketCreatedEventsFor(principal.getId()));
+        return calculate(authentication, service, request, profile);
+    }
 
-        if (events.get().findAny().isEmpty()) {
+    @Override
+    public final AuthenticationRiskScore calculate(final Authentication authentication,
+                                                   final RegisteredService service,
+                                                   final HttpServletRequest request,
+                                                   final AuthenticationRiskProfile profile) {
+        if (profile.isEmpty()) {
             return new AuthenticationRiskScore(HIGHEST_RISK_SCORE);
         }
-        val score = new AuthenticationRiskScore(calculateScore(request, authentication, service, events));
+        val score = new AuthenticationRiskScore(calculateScore(request, authentication, service, profile));
         LOGGER.debug("Calculated authentication risk score by [{}] is [{}]", getClass().getSimpleName(), score);
         return score;
     }
@@ -68,13 +75,13 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
      * @param request        the request
      * @param authentication the authentication
      * @param service        the service
-     * @param events         the events
+     * @param profile        the risk profile of the principal
      * @return the authentication risk score
      */
     protected BigDecimal calculateScore(final HttpServletRequest request,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final Supplier<Stream<? extends CasEvent>> events) {
+                                        final AuthenticationRiskProfile profile) {
         return HIGHEST_RISK_SCORE;
     }
 
@@ -94,35 +101,35 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
     }
 
     /**
-     * Calculate score based on events count big decimal.
+     * Calculate score based on the weight of matching events in the profile.
      *
      * @param authentication the authentication
-     * @param events         the events
-     * @param count          the count
+     * @param profile        the profile
+     * @param weight         the weight of matching events
      * @return the big decimal
      */
-    protected BigDecimal calculateScoreBasedOnEventsCount(final Authentication authentication,
-                                                          final Supplier<Stream<? extends CasEvent>> events,
-                                                          final long count) {
-        val eventCount = events.get().count();
-        if (count == eventCount) {
-            LOGGER.debug("Principal [{}] is assigned to the lowest risk score with attempted count of [{}]",
-                authentication.getPrincipal(), count);
+    protected BigDecimal calculateScoreBasedOnEventsWeight(final Authentication authentication,
+                                                           final AuthenticationRiskProfile profile,
+                                                           final double weight) {
+        val totalWeight = profile.getTotalWeight();
+        if (weight >= totalWeight) {
+            LOGGER.debug("Principal [{}] is assigned to the lowest risk score with attempted weight of [{}]",
+                authentication.getPrincipal(), weight);
             return LOWEST_RISK_SCORE;
         }
-        return getFinalAveragedScore(count, eventCount);
+        return getFinalAveragedScore(weight, totalWeight);
     }
 
     /**
      * Gets final averaged score.
      *
-     * @param eventCount the event count
-     * @param total      the total
+     * @param eventWeight the event weight
+     * @param totalWeight the total weight
      * @return the final averaged score
      */
-    protected BigDecimal getFinalAveragedScore(final long eventCount, final long total) {
-        val score = BigDecimal.valueOf(eventCount)
-            .divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
+    protected BigDecimal getFinalAveragedScore(final double eventWeight, final double totalWeight) {
+        val score = BigDecimal.valueOf(eventWeight)
+            .divide(BigDecimal.valueOf(totalWeight), 2, RoundingMode.HALF_UP);
         return HIGHEST_RISK_SCORE.subtract(score);
     }
 }
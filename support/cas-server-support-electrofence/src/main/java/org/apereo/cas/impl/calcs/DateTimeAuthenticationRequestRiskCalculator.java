@@ -1,11 +1,10 @@
 package org.apereo.cas.impl.calcs;
 
+import org.apereo.cas.api.AuthenticationRiskProfile;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
-import org.apereo.cas.util.DateTimeUtils;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -14,9 +13,6 @@ import javax.servlet.http.HttpServletRequest;
 import java.math.BigDecimal;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.time.chrono.ChronoZonedDateTime;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 /**
  * This is {@link DateTimeAuthenticationRequestRiskCalculator}.
@@ -34,28 +30,16 @@ public class DateTimeAuthenticationRequestRiskCalculator extends BaseAuthenticat
 
     @Override
     protected BigDecimal calculateScore(final HttpServletRequest request, final Authentication authentication,
-                                        final RegisteredService service, final Supplier<Stream<? extends CasEvent>> events) {
+                                        final RegisteredService service, final AuthenticationRiskProfile profile) {
         val windowInHours = casProperties.getAuthn().getAdaptive().getRisk().getDateTime().getWindowInHours();
         val timestamp = ZonedDateTime.now(ZoneOffset.UTC);
-        LOGGER.debug("Filtering authentication events for timestamp [{}]", timestamp);
+        LOGGER.debug("Looking up authentication events for timestamp [{}]", timestamp);
 
         val hoursFromNow = timestamp.plusHours(windowInHours).getHour();
         val hoursBeforeNow = timestamp.minusHours(windowInHours).getHour();
+        val weight = profile.getHourlyWeight(hoursBeforeNow, hoursFromNow);
 
-        val count = events.get()
-            .map(time -> {
-                val dt = DateTimeUtils.convertToZonedDateTime(time.getCreationTime());
-                val instant = ChronoZonedDateTime.from(dt).toInstant();
-                val zdt = ZonedDateTime.ofInstant(instant, ZoneOffset.UTC);
-                return zdt.getHour();
-            })
-            .filter(hour ->
-                hoursBeforeNow <= hoursFromNow
-                    ? (hour >= hoursBeforeNow && hour <= hoursFromNow) : (hour >= hoursBeforeNow || hour <= hoursFromNow)
-            )
-            .count();
-
-        LOGGER.debug("Total authentication events found for [{}] in a [{}]h window: [{}]", timestamp, windowInHours, count);
-        return calculateScoreBasedOnEventsCount(authentication, events, count);
+        LOGGER.debug("Weight of authentication events found for [{}] in a [{}]h window: [{}]", timestamp, windowInHours, weight);
+        return calculateScoreBasedOnEventsWeight(authentication, profile, weight);
     }
 }
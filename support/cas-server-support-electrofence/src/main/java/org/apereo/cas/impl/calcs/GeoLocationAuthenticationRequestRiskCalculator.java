@@ -1,12 +1,12 @@
 package org.apereo.cas.impl.calcs;
 
+import org.apereo.cas.api.AuthenticationRiskProfile;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
 import org.apereo.cas.web.support.WebUtils;
 
 import lombok.extern.slf4j.Slf4j;
@@ -15,8 +15,6 @@ import org.apereo.inspektr.common.web.ClientInfoHolder;
 
 import javax.servlet.http.HttpServletRequest;
 import java.math.BigDecimal;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 /**
  * This is {@link GeoLocationAuthenticationRequestRiskCalculator}.
@@ -38,23 +36,21 @@ public class GeoLocationAuthenticationRequestRiskCalculator extends BaseAuthenti
 
     @Override
     protected BigDecimal calculateScore(final HttpServletRequest request, final Authentication authentication,
-                                        final RegisteredService service, final Supplier<Stream<? extends CasEvent>> events) {
+                                        final RegisteredService service, final AuthenticationRiskProfile profile) {
         val loc = WebUtils.getHttpServletRequestGeoLocation(request);
         if (loc != null && loc.isValid()) {
-            LOGGER.debug("Filtering authentication events for geolocation [{}]", loc);
-            val count = events.get().filter(e -> e.getGeoLocation().equals(loc)).count();
-            LOGGER.debug("Total authentication events found for [{}]: [{}]", loc, count);
-            return calculateScoreBasedOnEventsCount(authentication, events, count);
+            LOGGER.debug("Looking up authentication events for geolocation [{}]", loc);
+            val weight = profile.getGeoLocationWeight(loc);
+            LOGGER.debug("Weight of authentication events found for [{}]: [{}]", loc, weight);
+            return calculateScoreBasedOnEventsWeight(authentication, profile, weight);
         }
         val remoteAddr = ClientInfoHolder.getClientInfo().getClientIpAddress();
-        LOGGER.debug("Filtering authentication events for location based on ip [{}]", remoteAddr);
+        LOGGER.debug("Looking up authentication events for location based on ip [{}]", remoteAddr);
         val response = this.geoLocationService.locate(remoteAddr);
         if (response != null) {
-            val count = events.get()
-                .filter(e -> e.getGeoLocation().equals(new GeoLocationRequest(response.getLatitude(), response.getLongitude())))
-                .count();
-            LOGGER.debug("Total authentication events found for location of [{}]: [{}]", remoteAddr, count);
-            return calculateScoreBasedOnEventsCount(authentication, events, count);
+            val weight = profile.getGeoLocationWeight(new GeoLocationRequest(response.getLatitude(), response.getLongitude()));
+            LOGGER.debug("Weight of authentication events found for location of [{}]: [{}]", remoteAddr, weight);
+            return calculateScoreBasedOnEventsWeight(authentication, profile, weight);
         }
         LOGGER.debug("Request does not contain enough geolocation data");
         return HIGHEST_RISK_SCORE;
@@ -1,10 +1,10 @@
 package org.apereo.cas.impl.calcs;
 
+import org.apereo.cas.api.AuthenticationRiskProfile;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -12,8 +12,6 @@ import org.apereo.inspektr.common.web.ClientInfoHolder;
 
 import javax.servlet.http.HttpServletRequest;
 import java.math.BigDecimal;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 /**
  * This is {@link IpAddressAuthenticationRequestRiskCalculator}.
@@ -34,11 +32,11 @@ public class IpAddressAuthenticationRequestRiskCalculator extends BaseAuthentica
     protected BigDecimal calculateScore(final HttpServletRequest request,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final Supplier<Stream<? extends CasEvent>> events) {
+                                        final AuthenticationRiskProfile profile) {
         val remoteAddr = ClientInfoHolder.getClientInfo().getClientIpAddress();
-        LOGGER.debug("Filtering authentication events for ip address [{}]", remoteAddr);
-        val count = events.get().filter(e -> e.getClientIpAddress().equalsIgnoreCase(remoteAddr)).count();
-        LOGGER.debug("Total authentication events found for [{}]: [{}]", remoteAddr, count);
-        return calculateScoreBasedOnEventsCount(authentication, events, count);
+        LOGGER.debug("Looking up authentication events for ip address [{}]", remoteAddr);
+        val weight = profile.getIpAddressWeight(remoteAddr);
+        LOGGER.debug("Weight of authentication events found for [{}]: [{}]", remoteAddr, weight);
+        return calculateScoreBasedOnEventsWeight(authentication, profile, weight);
     }
 }
@@ -1,20 +1,17 @@
 package org.apereo.cas.impl.calcs;
 
+import org.apereo.cas.api.AuthenticationRiskProfile;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
 import org.apereo.cas.util.HttpRequestUtils;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apache.commons.lang3.StringUtils;
 
 import javax.servlet.http.HttpServletRequest;
 import java.math.BigDecimal;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 /**
  * This is {@link UserAgentAuthenticationRequestRiskCalculator}.
@@ -34,14 +31,11 @@ public class UserAgentAuthenticationRequestRiskCalculator extends BaseAuthentica
     protected BigDecimal calculateScore(final HttpServletRequest request,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final Supplier<Stream<? extends CasEvent>> events) {
+                                        final AuthenticationRiskProfile profile) {
         val agent = HttpRequestUtils.getHttpServletRequestUserAgent(request);
-        LOGGER.debug("Filtering authentication events for user agent [{}]", agent);
-        val count = events.get()
-            .filter(e -> StringUtils.isNotBlank(e.getAgent()))
-            .filter(e -> e.getAgent().equalsIgnoreCase(agent))
-            .count();
-        LOGGER.debug("Total authentication events found for [{}]: [{}]", agent, count);
-        return calculateScoreBasedOnEventsCount(authentication, events, count);
+        LOGGER.debug("Looking up authentication events for user agent [{}]", agent);
+        val weight = profile.getUserAgentWeight(agent);
+        LOGGER.debug("Weight of authentication events found for [{}]: [{}]", agent, weight);
+        return calculateScoreBasedOnEventsWeight(authentication, profile, weight);
     }
 }
@@ -2,6 +2,7 @@ package org.apereo.cas.impl.engine;
 
 import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
 import org.apereo.cas.api.AuthenticationRiskEvaluator;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
@@ -24,6 +25,7 @@ import java.util.stream.Collectors;
 
 /**
  * This is {@link DefaultAuthenticationRiskEvaluator}.
+ * The risk profile of the principal is fetched once and shared by all calculators.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -33,6 +35,8 @@ import java.util.stream.Collectors;
 public class DefaultAuthenticationRiskEvaluator implements AuthenticationRiskEvaluator {
     private final List<AuthenticationRequestRiskCalculator> calculators;
 
+    private final AuthenticationRiskProfileRepository authenticationRiskProfileRepository;
+
     @Audit(action = AuditableActions.EVALUATE_RISKY_AUTHENTICATION,
         actionResolverName = AuditActionResolvers.ADAPTIVE_RISKY_AUTHENTICATION_ACTION_RESOLVER,
         resourceResolverName = AuditResourceResolvers.ADAPTIVE_RISKY_AUTHENTICATION_RESOURCE_RESOLVER)
@@ -50,9 +54,10 @@ public class DefaultAuthenticationRiskEvaluator implements AuthenticationRiskEva
             return new AuthenticationRiskScore(AuthenticationRequestRiskCalculator.HIGHEST_RISK_SCORE);
         }
 
+        val profile = authenticationRiskProfileRepository.get(authentication.getPrincipal().getId());
         val scores = activeCalculators
             .stream()
-            .map(r -> r.calculate(authentication, service, request))
+            .map(r -> r.calculate(authentication, service, request, profile))
             .filter(Objects::nonNull)
             .collect(Collectors.toList());
 
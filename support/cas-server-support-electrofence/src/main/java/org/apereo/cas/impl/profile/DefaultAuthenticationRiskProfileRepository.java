@@ -0,0 +1,124 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import org.apereo.cas.util.spring.CasEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
+import org.springframework.context.event.EventListener;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileRepository}.
+ * Risk profiles are built from the events repository the first time they are requested
+ * and are then kept up to date as ticket-granting ticket creation events are saved, so evaluating
+ * the risk of an authentication request does not need to query the authentication history.
+ * Profiles expire after a fixed period regardless of updates, and are rebuilt from the events
+ * repository to account for events that may have been recorded by other nodes.
+ * Profiles are cached by the principal regardless of case, while events are queried using the principal
+ * as it is given, since events repositories may match principals in a case-sensitive manner.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class DefaultAuthenticationRiskProfileRepository implements AuthenticationRiskProfileRepository, CasEventListener {
+    private static final String EVENT_TYPE = CasTicketGrantingTicketCreatedEvent.class.getName();
+
+    private final CasEventRepository casEventRepository;
+
+    private final CasConfigurationProperties casProperties;
+
+    private final Cache<String, AuthenticationRiskProfile> profiles;
+
+    private final long halfLifeInMillis;
+
+    public DefaultAuthenticationRiskProfileRepository(final CasEventRepository casEventRepository,
+                                                      final CasConfigurationProperties casProperties) {
+        this.casEventRepository = casEventRepository;
+        this.casProperties = casProperties;
+        val profile = casProperties.getAuthn().getAdaptive().getRisk().getProfile();
+        this.halfLifeInMillis = Beans.newDuration(profile.getHalfLife()).toMillis();
+        val expiration = Beans.newDuration(profile.getExpireAfterWrite()).toNanos();
+        this.profiles = Caffeine.newBuilder()
+            .maximumSize(profile.getMaximumSize())
+            .expireAfter(new Expiry<String, AuthenticationRiskProfile>() {
+                @Override
+                public long expireAfterCreate(final String key, final AuthenticationRiskProfile value, final long currentTime) {
+                    return expiration;
+                }
+
+                @Override
+                public long expireAfterUpdate(final String key, final AuthenticationRiskProfile value,
+                                              final long currentTime, final long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(final String key, final AuthenticationRiskProfile value,
+                                            final long currentTime, final long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    private static String getProfileKey(final String principal) {
+        return principal.toLowerCase(Locale.ENGLISH);
+    }
+
+    @Override
+    public AuthenticationRiskProfile get(final String principal) {
+        return profiles.get(getProfileKey(principal), key -> {
+            val date = ZonedDateTime.now(ZoneOffset.UTC)
+                .minusDays(casProperties.getAuthn().getAdaptive().getRisk().getDaysInRecentHistory());
+            LOGGER.debug("Building risk profile for [{}] from events of type [{}] since [{}]", principal, EVENT_TYPE, date);
+            val events = casEventRepository.getEventsOfTypeForPrincipal(EVENT_TYPE, principal, date);
+            return AuthenticationRiskProfile.from(principal, halfLifeInMillis, events);
+        });
+    }
+
+    @Override
+    public void record(final CasEvent event) {
+        if (EVENT_TYPE.equals(event.getType()) && StringUtils.isNotBlank(event.getPrincipalId())) {
+            profiles.asMap().computeIfPresent(getProfileKey(event.getPrincipalId()), (key, profile) -> {
+                LOGGER.trace("Recording event [{}] in risk profile [{}]", event, profile);
+                return profile.record(event);
+            });
+        }
+    }
+
+    /**
+     * Record events saved by the events repository, which are published as audit events.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleAuditApplicationEvent(final AuditApplicationEvent event) {
+        val auditEvent = event.getAuditEvent();
+        if (EVENT_TYPE.equals(auditEvent.getType())) {
+            val casEvent = new CasEvent();
+            casEvent.setType(auditEvent.getType());
+            casEvent.setPrincipalId(auditEvent.getPrincipal());
+            auditEvent.getData().forEach((key, value) -> casEvent.put(key, value == null ? null : value.toString()));
+            if (StringUtils.isBlank(casEvent.get(CasEvent.FIELD_TIMESTAMP))) {
+                casEvent.putTimestamp(auditEvent.getTimestamp().toEpochMilli());
+            }
+            record(casEvent);
+        }
+    }
+}
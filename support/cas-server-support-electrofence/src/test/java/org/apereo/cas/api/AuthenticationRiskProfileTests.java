@@ -0,0 +1,80 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AuthenticationRiskProfileTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Authentication")
+public class AuthenticationRiskProfileTests {
+    private static final long HALF_LIFE = Duration.ofDays(1).toMillis();
+
+    private static CasEvent getEvent(final String ipAddress, final String agent, final ZonedDateTime creationTime) {
+        val event = new CasEvent();
+        event.setType(CasTicketGrantingTicketCreatedEvent.class.getName());
+        event.setPrincipalId("casuser");
+        event.setCreationTime(creationTime.toString());
+        event.putClientIpAddress(ipAddress);
+        event.putAgent(agent);
+        event.putGeoLocation(new GeoLocationRequest(40.71, -74.005));
+        return event;
+    }
+
+    @Test
+    public void verifyEmptyProfile() {
+        val profile = AuthenticationRiskProfile.from("casuser", HALF_LIFE, Stream.empty());
+        assertTrue(profile.isEmpty());
+        assertEquals(0, profile.getTotalWeight());
+        assertEquals(0, profile.getIpAddressWeight("1.2.3.4"));
+    }
+
+    @Test
+    public void verifyHistograms() {
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val profile = AuthenticationRiskProfile.from("casuser", 0, Stream.of(
+            getEvent("1.2.3.4", "Firefox", now),
+            getEvent("1.2.3.4", "Chrome", now),
+            getEvent("5.6.7.8", "firefox", now)));
+        assertEquals(3, profile.getCount());
+        assertEquals(3, profile.getTotalWeight());
+        assertEquals(2, profile.getIpAddressWeight("1.2.3.4"));
+        assertEquals(2, profile.getUserAgentWeight("FIREFOX"));
+        assertEquals(3, profile.getGeoLocationWeight(new GeoLocationRequest(40.71, -74.005)));
+        assertEquals(0, profile.getGeoLocationWeight(new GeoLocationRequest(48.85, 2.35)));
+        assertEquals(3, profile.getHourlyWeight(now.getHour(), now.getHour()));
+        assertEquals(3, profile.getHourlyWeight(now.plusHours(1).getHour(), now.getHour()));
+        assertEquals(0, profile.getHourlyWeight(now.plusHours(1).getHour(), now.plusHours(2).getHour()));
+    }
+
+    @Test
+    public void verifyTimeDecay() {
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val profile = AuthenticationRiskProfile.from("casuser", HALF_LIFE, Stream.of(
+            getEvent("1.2.3.4", "Firefox", now.minusDays(1)),
+            getEvent("5.6.7.8", "Firefox", now)));
+        assertEquals(0.5, profile.getIpAddressWeight("1.2.3.4"), 0.001);
+        assertEquals(1, profile.getIpAddressWeight("5.6.7.8"), 0.001);
+        assertEquals(1.5, profile.getTotalWeight(), 0.001);
+
+        profile.record(getEvent("1.2.3.4", "Firefox", now.minusDays(2)));
+        assertEquals(0.75, profile.getIpAddressWeight("1.2.3.4"), 0.001);
+        assertEquals(1.75, profile.getUserAgentWeight("Firefox"), 0.001);
+        assertEquals(3, profile.getCount());
+    }
+}
@@ -0,0 +1,81 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.impl.calcs.BaseAuthenticationRequestRiskCalculatorTests;
+import org.apereo.cas.impl.mock.MockTicketGrantingTicketCreatedEventProducer;
+import org.apereo.cas.support.events.CasEventRepository;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Authentication")
+public class DefaultAuthenticationRiskProfileRepositoryTests extends BaseAuthenticationRequestRiskCalculatorTests {
+    @Autowired
+    @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+    private AuthenticationRiskProfileRepository authenticationRiskProfileRepository;
+
+    @Test
+    public void verifyProfileUpdatedAsEventsAreSaved() throws Exception {
+        val principal = UUID.randomUUID().toString();
+        assertTrue(authenticationRiskProfileRepository.get(principal).isEmpty());
+
+        val event = MockTicketGrantingTicketCreatedEventProducer.createEvent(principal, casEventRepository);
+        val profile = authenticationRiskProfileRepository.get(principal.toUpperCase());
+        assertEquals(1, profile.getCount());
+        assertEquals(1, profile.getIpAddressWeight(event.getClientIpAddress()), 0.001);
+
+        MockTicketGrantingTicketCreatedEventProducer.createEvent(principal, casEventRepository);
+        assertEquals(2, authenticationRiskProfileRepository.get(principal).getCount());
+    }
+
+    @Test
+    public void verifyProfileBuiltFromHistory() throws Exception {
+        val principal = UUID.randomUUID().toString();
+        MockTicketGrantingTicketCreatedEventProducer.createEvent(principal, casEventRepository);
+        MockTicketGrantingTicketCreatedEventProducer.createEvent(principal, casEventRepository);
+        val profile = authenticationRiskProfileRepository.get(principal);
+        assertEquals(2, profile.getCount());
+        assertFalse(profile.isEmpty());
+    }
+
+    @Test
+    public void verifyProfileBuiltForNormalizedPrincipal() throws Exception {
+        val principal = UUID.randomUUID().toString();
+        MockTicketGrantingTicketCreatedEventProducer.createEvent(principal, casEventRepository);
+        val profile = authenticationRiskProfileRepository.get(principal.toUpperCase());
+        assertTrue(principal.equalsIgnoreCase(profile.getPrincipal()));
+        assertEquals(1, profile.getCount());
+        assertSame(profile, authenticationRiskProfileRepository.get(principal));
+    }
+
+    @Test
+    public void verifyProfileBuiltForMixedCasePrincipal() throws Exception {
+        val principal = "JSmith";
+        val eventRepository = mock(CasEventRepository.class);
+        val event = MockTicketGrantingTicketCreatedEventProducer.createEvent(principal, eventRepository);
+        when(eventRepository.getEventsOfTypeForPrincipal(eq(event.getType()), eq(principal), any()))
+            .thenAnswer(invocation -> Stream.of(event));
+
+        val repository = new DefaultAuthenticationRiskProfileRepository(eventRepository, new CasConfigurationProperties());
+        val profile = repository.get(principal);
+        assertEquals(principal, profile.getPrincipal());
+        assertEquals(1, profile.getCount());
+        assertSame(profile, repository.get(principal.toLowerCase()));
+    }
+}
@@ -17,12 +17,17 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +43,16 @@ import java.util.stream.Stream;
 @Getter
 @RequiredArgsConstructor
 public class DynamoDbCasEventsFacilitator {
+    /**
+     * Name of the global secondary index on the principal and creation time of events.
+     */
+    public static final String PRINCIPAL_INDEX_NAME = "principalIndex";
+
+    /**
+     * Name of the global secondary index on the type and creation time of events.
+     */
+    public static final String TYPE_INDEX_NAME = "typeIndex";
+
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(false).build().toObjectMapper();
 
@@ -45,6 +60,15 @@ public class DynamoDbCasEventsFacilitator {
 
     private final DynamoDbClient amazonDynamoDBClient;
 
+    private static GlobalSecondaryIndex buildIndex(final String indexName, final ColumnNames hashKey) {
+        return GlobalSecondaryIndex.builder()
+            .indexName(indexName)
+            .keySchema(KeySchemaElement.builder().attributeName(hashKey.getColumnName()).keyType(KeyType.HASH).build(),
+                KeySchemaElement.builder().attributeName(ColumnNames.CREATION_TIME.getColumnName()).keyType(KeyType.RANGE).build())
+            .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+            .build();
+    }
+
     private static Map<String, AttributeValue> buildTableAttributeValuesMap(final CasEvent record) throws Exception {
         val values = new HashMap<String, AttributeValue>();
         values.put(ColumnNames.PRINCIPAL.getColumnName(), AttributeValue.builder().s(record.getPrincipalId()).build());
@@ -77,8 +101,12 @@ public class DynamoDbCasEventsFacilitator {
     public void createTable(final boolean deleteTables) throws Exception {
         DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
             dynamoDbProperties.getTableName(), deleteTables,
-            List.of(AttributeDefinition.builder().attributeName(ColumnNames.ID.getColumnName()).attributeType(ScalarAttributeType.N).build()),
-            List.of(KeySchemaElement.builder().attributeName(ColumnNames.ID.getColumnName()).keyType(KeyType.HASH).build()));
+            List.of(AttributeDefinition.builder().attributeName(ColumnNames.ID.getColumnName()).attributeType(ScalarAttributeType.N).build(),
+                AttributeDefinition.builder().attributeName(ColumnNames.PRINCIPAL.getColumnName()).attributeType(ScalarAttributeType.S).build(),
+                AttributeDefinition.builder().attributeName(ColumnNames.TYPE.getColumnName()).attributeType(ScalarAttributeType.S).build(),
+                AttributeDefinition.builder().attributeName(ColumnNames.CREATION_TIME.getColumnName()).attributeType(ScalarAttributeType.S).build()),
+            List.of(KeySchemaElement.builder().attributeName(ColumnNames.ID.getColumnName()).keyType(KeyType.HASH).build()),
+            List.of(buildIndex(PRINCIPAL_INDEX_NAME, ColumnNames.PRINCIPAL), buildIndex(TYPE_INDEX_NAME, ColumnNames.TYPE)));
     }
 
     /**
@@ -117,12 +145,7 @@ public class DynamoDbCasEventsFacilitator {
      * @return the events for principal
      */
     public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        val query = DynamoDbQueryBuilder.builder()
-            .key(ColumnNames.PRINCIPAL.getColumnName())
-            .attributeValue(List.of(AttributeValue.builder().s(id).build()))
-            .operator(ComparisonOperator.EQ)
-            .build();
-        return getRecordsByKeys(List.of(query));
+        return getRecordsByIndex(PRINCIPAL_INDEX_NAME, ColumnNames.PRINCIPAL, id, null, null);
     }
 
     /**
@@ -133,19 +156,7 @@ public class DynamoDbCasEventsFacilitator {
      * @return the events for principal
      */
     public Stream<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
-        val query =
-            List.of(
-                DynamoDbQueryBuilder.builder()
-                    .key(ColumnNames.PRINCIPAL.getColumnName())
-                    .attributeValue(List.of(AttributeValue.builder().s(id).build()))
-                    .operator(ComparisonOperator.EQ)
-                    .build(),
-                DynamoDbQueryBuilder.builder()
-                    .key(ColumnNames.CREATION_TIME.getColumnName())
-                    .attributeValue(List.of(AttributeValue.builder().s(dateTime.toString()).build()))
-                    .operator(ComparisonOperator.GE)
-                    .build());
-        return getRecordsByKeys(query);
+        return getRecordsByIndex(PRINCIPAL_INDEX_NAME, ColumnNames.PRINCIPAL, id, dateTime, null);
     }
 
     /**
@@ -156,18 +167,7 @@ public class DynamoDbCasEventsFacilitator {
      * @return the events of type
      */
     public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        val query = List.of(
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.TYPE.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(type).build()))
-                .operator(ComparisonOperator.EQ)
-                .build(),
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.CREATION_TIME.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(dateTime.toString()).build()))
-                .operator(ComparisonOperator.GE)
-                .build());
-        return getRecordsByKeys(query);
+        return getRecordsByIndex(TYPE_INDEX_NAME, ColumnNames.TYPE, type, dateTime, null);
     }
 
     /**
@@ -177,12 +177,7 @@ public class DynamoDbCasEventsFacilitator {
      * @return the events of type
      */
     public Stream<? extends CasEvent> getEventsOfType(final String type) {
-        val query = DynamoDbQueryBuilder.builder()
-            .key(ColumnNames.TYPE.getColumnName())
-            .attributeValue(List.of(AttributeValue.builder().s(type).build()))
-            .operator(ComparisonOperator.EQ)
-            .build();
-        return getRecordsByKeys(List.of(query));
+        return getRecordsByIndex(TYPE_INDEX_NAME, ColumnNames.TYPE, type, null, null);
     }
 
     /**
@@ -195,23 +190,7 @@ public class DynamoDbCasEventsFacilitator {
      */
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
                                                                   final ZonedDateTime dateTime) {
-        val query = List.of(
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.TYPE.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(type).build()))
-                .operator(ComparisonOperator.EQ)
-                .build(),
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.PRINCIPAL.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(principal).build()))
-                .operator(ComparisonOperator.EQ)
-                .build(),
-            DynamoDbQueryBuilder.builder()
-                .key(ColumnNames.CREATION_TIME.getColumnName())
-                .attributeValue(List.of(AttributeValue.builder().s(dateTime.toString()).build()))
-                .operator(ComparisonOperator.GE)
-                .build());
-        return getRecordsByKeys(query);
+        return getRecordsByIndex(PRINCIPAL_INDEX_NAME, ColumnNames.PRINCIPAL, principal, dateTime, type);
     }
 
     /**
@@ -222,19 +201,7 @@ public class DynamoDbCasEventsFacilitator {
      * @return the events of type for principal
      */
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
-        val query =
-            List.of(
-                DynamoDbQueryBuilder.builder()
-                    .key(ColumnNames.PRINCIPAL.getColumnName())
-                    .attributeValue(List.of(AttributeValue.builder().s(principal).build()))
-                    .operator(ComparisonOperator.EQ)
-                    .build(),
-                DynamoDbQueryBuilder.builder()
-                    .key(ColumnNames.TYPE.getColumnName())
-                    .attributeValue(List.of(AttributeValue.builder().s(type).build()))
-                    .operator(ComparisonOperator.EQ)
-                    .build());
-        return getRecordsByKeys(query);
+        return getRecordsByIndex(PRINCIPAL_INDEX_NAME, ColumnNames.PRINCIPAL, principal, null, type);
     }
 
     /**
@@ -267,6 +234,62 @@ public class DynamoDbCasEventsFacilitator {
         private final String columnName;
     }
 
+    /**
+     * Query events by the global secondary index whose hash key is the given column, and whose
+     * range key is the creation time. Events are scanned using the same conditions if the index
+     * cannot be queried, such as when it is still being built for an existing table.
+     *
+     * @param indexName the index name
+     * @param hashKey   the hash key column of the index
+     * @param hashValue the hash key value
+     * @param dateTime  the earliest creation time, if any
+     * @param type      the event type to filter by, if any
+     * @return the events
+     */
+    private Stream<CasEvent> getRecordsByIndex(final String indexName, final ColumnNames hashKey, final String hashValue,
+                                               final ZonedDateTime dateTime, final String type) {
+        val names = new HashMap<String, String>();
+        val values = new HashMap<String, AttributeValue>();
+        val queries = new ArrayList<DynamoDbQueryBuilder>();
+
+        names.put("#hashKey", hashKey.getColumnName());
+        values.put(":hashKey", AttributeValue.builder().s(hashValue).build());
+        queries.add(buildQuery(hashKey, hashValue, ComparisonOperator.EQ));
+        var keyCondition = "#hashKey = :hashKey";
+        if (dateTime != null) {
+            names.put("#creationTime", ColumnNames.CREATION_TIME.getColumnName());
+            values.put(":creationTime", AttributeValue.builder().s(dateTime.toString()).build());
+            queries.add(buildQuery(ColumnNames.CREATION_TIME, dateTime.toString(), ComparisonOperator.GE));
+            keyCondition += " AND #creationTime >= :creationTime";
+        }
+        val request = QueryRequest.builder()
+            .tableName(dynamoDbProperties.getTableName())
+            .indexName(indexName)
+            .keyConditionExpression(keyCondition);
+        if (type != null) {
+            names.put("#type", ColumnNames.TYPE.getColumnName());
+            values.put(":type", AttributeValue.builder().s(type).build());
+            queries.add(buildQuery(ColumnNames.TYPE, type, ComparisonOperator.EQ));
+            request.filterExpression("#type = :type");
+        }
+        request.expressionAttributeNames(names).expressionAttributeValues(values);
+        try {
+            return DynamoDbTableUtils.getRecordsByQuery(amazonDynamoDBClient, request.build(),
+                Unchecked.function(DynamoDbCasEventsFacilitator::extractAttributeValuesFrom)).stream();
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to query index [{}]; scanning table instead: [{}]", indexName, e.getMessage());
+            return getRecordsByKeys(queries);
+        }
+    }
+
+    private static DynamoDbQueryBuilder buildQuery(final ColumnNames column, final String value, final ComparisonOperator operator) {
+        return DynamoDbQueryBuilder.builder()
+            .key(column.getColumnName())
+            .attributeValue(List.of(AttributeValue.builder().s(value).build()))
+            .operator(operator)
+            .build();
+    }
+
     private Stream<CasEvent> getRecordsByKeys(final List<DynamoDbQueryBuilder> queries) {
         return DynamoDbTableUtils.getRecordsByKeys(amazonDynamoDBClient,
             dynamoDbProperties.getTableName(),
@@ -10,10 +10,13 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
 
 /**
  * This is {@link JpaCasEvent}.
+ * Indexes cover the queries issued by the repository, which look up events
+ * by principal, type and creation time.
  *
  * @author Misagh Moayyed
  * @since 6.2.0
@@ -21,7 +24,11 @@ import javax.persistence.Table;
 @Getter
 @Entity
 @Setter
-@Table(name = "CasEvent")
+@Table(name = "CasEvent", indexes = {
+    @Index(name = "CasEvent_principal_type_time_idx", columnList = "principalId,type,creationTime"),
+    @Index(name = "CasEvent_type_time_idx", columnList = "type,creationTime"),
+    @Index(name = "CasEvent_time_idx", columnList = "creationTime")
+})
 public class JpaCasEvent extends CasEvent {
     private static final long serialVersionUID = -1176976165442671412L;
 
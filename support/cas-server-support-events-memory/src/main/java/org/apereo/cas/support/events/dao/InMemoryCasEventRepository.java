@@ -1,44 +1,262 @@
 package org.apereo.cas.support.events.dao;
 
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
+import org.apereo.cas.util.DateTimeUtils;
 
-import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 
-import java.util.UUID;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
  * This is {@link InMemoryCasEventRepository}.
+ * Events are kept in partitions based on the time they are saved, and each partition
+ * indexes its events by principal, type and both, so that queries do not need to look at every event.
+ * Partitions are removed as a whole once they fall outside the retention period, and partitions
+ * that only contain events created before the requested date are skipped by time-based queries.
+ * Once the repository holds more events than its maximum size, the oldest events are removed one at a time.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
+@Slf4j
 public class InMemoryCasEventRepository extends AbstractCasEventRepository {
-    private final LoadingCache<String, CasEvent> cache;
+    private static final int PARTITION_COUNT = 24;
+
+    private static final long MIN_PARTITION_SIZE_IN_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private static final String KEY_SEPARATOR = "|";
+
+    private final ConcurrentNavigableMap<Long, EventPartition> partitions = new ConcurrentSkipListMap<>();
+
+    private final AtomicLong size = new AtomicLong();
+
+    private final long retentionInMillis;
+
+    private final long partitionSizeInMillis;
+
+    private final long maximumSize;
 
     public InMemoryCasEventRepository(final CasEventRepositoryFilter eventRepositoryFilter,
-                                      final LoadingCache<String, CasEvent> cache) {
+                                      final Duration retention,
+                                      final long maximumSize) {
         super(eventRepositoryFilter);
-        this.cache = cache;
+        this.retentionInMillis = retention.toMillis();
+        this.partitionSizeInMillis = Math.max(MIN_PARTITION_SIZE_IN_MILLIS, retentionInMillis / PARTITION_COUNT);
+        this.maximumSize = maximumSize;
+    }
+
+    private static String getPrincipalKey(final String principal) {
+        return StringUtils.defaultString(principal).toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String getTypeAndPrincipalKey(final String type, final String principal) {
+        return type + KEY_SEPARATOR + getPrincipalKey(principal);
+    }
+
+    private static boolean isCreatedAfter(final EventRecord record, final ZonedDateTime dateTime) {
+        return record.getCreationTime() >= dateTime.toInstant().toEpochMilli();
     }
 
     @Override
     public Stream<? extends CasEvent> load() {
-        return cache.asMap().values().stream();
+        return getEventRecords(EventPartition::getEvents).map(EventRecord::getEvent);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
+        return getEventRecords(dateTime, EventPartition::getEvents)
+            .filter(record -> isCreatedAfter(record, dateTime))
+            .map(EventRecord::getEvent);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
+        return getEventRecords(partition -> partition.getEventsOfTypeForPrincipal(type, principal))
+            .map(EventRecord::getEvent)
+            .filter(event -> event.getType().equals(type) && event.getPrincipalId().equalsIgnoreCase(principal));
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
+                                                                  final ZonedDateTime dateTime) {
+        return getEventRecords(dateTime, partition -> partition.getEventsOfTypeForPrincipal(type, principal))
+            .filter(record -> isCreatedAfter(record, dateTime))
+            .map(EventRecord::getEvent)
+            .filter(event -> event.getType().equals(type) && event.getPrincipalId().equalsIgnoreCase(principal));
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type) {
+        return getEventRecords(partition -> partition.getEventsOfType(type)).map(EventRecord::getEvent);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
+        return getEventRecords(dateTime, partition -> partition.getEventsOfType(type))
+            .filter(record -> isCreatedAfter(record, dateTime))
+            .map(EventRecord::getEvent);
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        return cache
-            .asMap()
-            .values()
-            .stream()
-            .filter(e -> e.getPrincipalId().equalsIgnoreCase(id));
+        return getEventRecords(partition -> partition.getEventsForPrincipal(id))
+            .map(EventRecord::getEvent)
+            .filter(event -> event.getPrincipalId().equalsIgnoreCase(id));
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
+        return getEventRecords(dateTime, partition -> partition.getEventsForPrincipal(id))
+            .filter(record -> isCreatedAfter(record, dateTime))
+            .map(EventRecord::getEvent)
+            .filter(event -> event.getPrincipalId().equalsIgnoreCase(id));
     }
 
     @Override
     public CasEvent saveInternal(final CasEvent event) {
-        cache.put(UUID.randomUUID().toString(), event);
+        val now = System.currentTimeMillis();
+        val creationTime = StringUtils.isBlank(event.getCreationTime())
+            ? now
+            : DateTimeUtils.convertToZonedDateTime(event.getCreationTime()).toInstant().toEpochMilli();
+        partitions.computeIfAbsent(now - now % partitionSizeInMillis, key -> new EventPartition())
+            .add(new EventRecord(event, creationTime));
+        size.incrementAndGet();
+        expire();
         return event;
     }
+
+    /**
+     * Gets the number of events in the repository.
+     *
+     * @return the size
+     */
+    public long size() {
+        expire();
+        return size.get();
+    }
+
+    private Stream<EventRecord> getEventRecords(final Function<EventPartition, Queue<EventRecord>> index) {
+        expire();
+        return partitions.values()
+            .stream()
+            .flatMap(partition -> index.apply(partition).stream());
+    }
+
+    private Stream<EventRecord> getEventRecords(final ZonedDateTime dateTime,
+                                                final Function<EventPartition, Queue<EventRecord>> index) {
+        expire();
+        val since = dateTime.toInstant().toEpochMilli();
+        return partitions.values()
+            .stream()
+            .filter(partition -> partition.getLatestCreationTime().get() >= since)
+            .flatMap(partition -> index.apply(partition).stream());
+    }
+
+    private void expire() {
+        val cutoff = System.currentTimeMillis() - retentionInMillis - partitionSizeInMillis;
+        var oldest = partitions.firstEntry();
+        while (oldest != null && oldest.getKey() <= cutoff) {
+            if (partitions.remove(oldest.getKey(), oldest.getValue())) {
+                LOGGER.trace("Removing [{}] event(s) saved after [{}]", oldest.getValue().getCount(), oldest.getKey());
+                size.addAndGet(-oldest.getValue().getCount().get());
+            }
+            oldest = partitions.firstEntry();
+        }
+        evict();
+    }
+
+    private void evict() {
+        while (size.get() > maximumSize) {
+            val oldest = partitions.firstEntry();
+            if (oldest == null) {
+                return;
+            }
+            val record = oldest.getValue().poll();
+            if (record != null) {
+                LOGGER.trace("Removing event [{}] to keep the repository within [{}] event(s)", record.getEvent(), maximumSize);
+                size.decrementAndGet();
+            } else if (!oldest.getKey().equals(partitions.lastKey())) {
+                partitions.remove(oldest.getKey(), oldest.getValue());
+            } else {
+                return;
+            }
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class EventRecord {
+        private final CasEvent event;
+
+        private final long creationTime;
+    }
+
+    @Getter
+    private static class EventPartition {
+        private static final Queue<EventRecord> EMPTY = new ConcurrentLinkedQueue<>();
+
+        private final Queue<EventRecord> events = new ConcurrentLinkedQueue<>();
+
+        private final Map<String, Queue<EventRecord>> eventsByPrincipal = new ConcurrentHashMap<>();
+
+        private final Map<String, Queue<EventRecord>> eventsByType = new ConcurrentHashMap<>();
+
+        private final Map<String, Queue<EventRecord>> eventsByTypeAndPrincipal = new ConcurrentHashMap<>();
+
+        private final LongAccumulator latestCreationTime = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        void add(final EventRecord record) {
+            val event = record.getEvent();
+            events.add(record);
+            eventsByPrincipal.computeIfAbsent(getPrincipalKey(event.getPrincipalId()), key -> new ConcurrentLinkedQueue<>()).add(record);
+            eventsByType.computeIfAbsent(event.getType(), key -> new ConcurrentLinkedQueue<>()).add(record);
+            eventsByTypeAndPrincipal.computeIfAbsent(getTypeAndPrincipalKey(event.getType(), event.getPrincipalId()),
+                key -> new ConcurrentLinkedQueue<>()).add(record);
+            latestCreationTime.accumulate(record.getCreationTime());
+            count.incrementAndGet();
+        }
+
+        EventRecord poll() {
+            val record = events.poll();
+            if (record != null) {
+                val event = record.getEvent();
+                eventsByPrincipal.getOrDefault(getPrincipalKey(event.getPrincipalId()), EMPTY).remove(record);
+                eventsByType.getOrDefault(event.getType(), EMPTY).remove(record);
+                eventsByTypeAndPrincipal.getOrDefault(getTypeAndPrincipalKey(event.getType(), event.getPrincipalId()), EMPTY).remove(record);
+                count.decrementAndGet();
+            }
+            return record;
+        }
+
+        Queue<EventRecord> getEventsForPrincipal(final String principal) {
+            return eventsByPrincipal.getOrDefault(getPrincipalKey(principal), EMPTY);
+        }
+
+        Queue<EventRecord> getEventsOfType(final String type) {
+            return eventsByType.getOrDefault(type, EMPTY);
+        }
+
+        Queue<EventRecord> getEventsOfTypeForPrincipal(final String type, final String principal) {
+            return eventsByTypeAndPrincipal.getOrDefault(getTypeAndPrincipalKey(type, principal), EMPTY);
+        }
+    }
 }
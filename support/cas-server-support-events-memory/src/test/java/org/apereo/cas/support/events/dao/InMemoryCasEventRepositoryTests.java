@@ -2,15 +2,24 @@ package org.apereo.cas.support.events.dao;
 
 import org.apereo.cas.support.events.AbstractCasEventRepositoryTests;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.CasEventRepositoryFilter;
 import org.apereo.cas.support.events.config.CasEventsInMemoryRepositoryConfiguration;
 
 import lombok.Getter;
+import lombok.val;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * This is {@link InMemoryCasEventRepositoryTests}.
  *
@@ -27,4 +36,52 @@ public class InMemoryCasEventRepositoryTests extends AbstractCasEventRepositoryT
     @Autowired
     @Qualifier(CasEventRepository.BEAN_NAME)
     private CasEventRepository eventRepository;
+
+    private static CasEvent getEvent(final String type, final String principal, final ZonedDateTime creationTime) {
+        val event = new CasEvent();
+        event.setType(type);
+        event.setPrincipalId(principal);
+        event.setCreationTime(creationTime.toString());
+        event.putTimestamp(creationTime.toInstant().toEpochMilli());
+        return event;
+    }
+
+    @Test
+    public void verifyIndexedQueries() throws Exception {
+        val repository = new InMemoryCasEventRepository(CasEventRepositoryFilter.noOp(), Duration.ofHours(1), 100);
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        repository.save(getEvent("login", "casuser", now.minusDays(2)));
+        repository.save(getEvent("login", "CASUSER", now));
+        repository.save(getEvent("logout", "casuser", now));
+        repository.save(getEvent("login", "someone", now));
+
+        assertEquals(4, repository.size());
+        assertEquals(3, repository.getEventsForPrincipal("CasUser").count());
+        assertEquals(2, repository.getEventsForPrincipal("casuser", now.minusDays(1)).count());
+        assertEquals(2, repository.getEventsOfTypeForPrincipal("login", "casuser").count());
+        assertEquals(1, repository.getEventsOfTypeForPrincipal("login", "casuser", now.minusDays(1)).count());
+        assertEquals(3, repository.getEventsOfType("login").count());
+        assertEquals(2, repository.getEventsOfType("login", now.minusDays(1)).count());
+        assertEquals(3, repository.load(now.minusDays(1)).count());
+        assertEquals(0, repository.load(now.plusDays(1)).count());
+        assertEquals(0, repository.getEventsOfType("unknown").count());
+    }
+
+    @Test
+    public void verifyMaximumSize() throws Exception {
+        val repository = new InMemoryCasEventRepository(CasEventRepositoryFilter.noOp(), Duration.ofHours(1), 2);
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        repository.save(getEvent("login", "casuser1", now));
+        repository.save(getEvent("login", "casuser2", now));
+        assertEquals(2, repository.size());
+        repository.save(getEvent("logout", "casuser3", now));
+        assertEquals(2, repository.size());
+        assertEquals(0, repository.getEventsForPrincipal("casuser1").count());
+        assertEquals(0, repository.getEventsOfTypeForPrincipal("login", "casuser1").count());
+        assertEquals(1, repository.getEventsForPrincipal("casuser2").count());
+        assertEquals(1, repository.getEventsForPrincipal("casuser3").count());
+        assertEquals(1, repository.getEventsOfType("login").count());
+        assertEquals(1, repository.getEventsOfType("logout").count());
+        assertEquals(2, repository.load().count());
+    }
 }
@@ -48,6 +48,8 @@ public class MongoDbEventsConfiguration {
         val factory = new MongoDbConnectionFactory(casSslContext.getSslContext());
         val mongoTemplate = factory.buildMongoTemplate(mongo);
         MongoDbConnectionFactory.createCollection(mongoTemplate, mongo.getCollection(), mongo.isDropCollection());
+        MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, mongoTemplate.getCollection(mongo.getCollection()),
+            MongoDbCasEventRepository.getIndexes());
         return mongoTemplate;
     }
 
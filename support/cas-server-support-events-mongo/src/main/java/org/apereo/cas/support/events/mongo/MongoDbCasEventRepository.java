@@ -6,11 +6,15 @@ import org.apereo.cas.support.events.dao.CasEvent;
 
 import lombok.ToString;
 import lombok.val;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -34,6 +38,18 @@ public class MongoDbCasEventRepository extends AbstractCasEventRepository {
         this.collectionName = collectionName;
     }
 
+    /**
+     * Gets the indexes that cover queries issued by this repository.
+     *
+     * @return the indexes
+     */
+    public static List<IndexDefinition> getIndexes() {
+        return List.of(
+            new Index().on(PRINCIPAL_ID_PARAM, Sort.Direction.ASC).on(TYPE_PARAM, Sort.Direction.ASC).on(CREATION_TIME_PARAM, Sort.Direction.ASC),
+            new Index().on(TYPE_PARAM, Sort.Direction.ASC).on(CREATION_TIME_PARAM, Sort.Direction.ASC),
+            new Index().on(CREATION_TIME_PARAM, Sort.Direction.ASC));
+    }
+
     @Override
     public Stream<? extends CasEvent> load() {
         return this.mongoTemplate.stream(new Query(), CasEvent.class, this.collectionName).stream();
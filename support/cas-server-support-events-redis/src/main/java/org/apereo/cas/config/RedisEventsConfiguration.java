@@ -74,6 +74,6 @@ public class RedisEventsConfiguration {
         final CasEventRepositoryFilter redisEventRepositoryFilter,
         final CasConfigurationProperties casProperties) {
         return new RedisCasEventRepository(redisEventRepositoryFilter, redisEventTemplate,
-            casProperties.getEvents().getRedis().getScanCount());
+            casProperties.getEvents().getRedis().getScanCount()).initialize();
     }
 }
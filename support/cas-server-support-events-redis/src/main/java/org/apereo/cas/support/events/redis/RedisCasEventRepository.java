@@ -9,13 +9,19 @@ import lombok.Getter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ZSetOperations;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * This is {@link RedisCasEventRepository} that stores event data into a redis database.
+ * Keys of saved events are also tracked in sorted sets by principal, type and both, scored by the
+ * event timestamp, so that queries can fetch matching events directly instead of scanning all keys.
  *
  * @author Misagh Moayyed
  * @since 6.4.0
@@ -28,6 +34,10 @@ public class RedisCasEventRepository extends AbstractCasEventRepository {
 
     private static final String CAS_PREFIX = RedisCasEventRepository.class.getSimpleName();
 
+    private static final String INDEX_PREFIX = CAS_PREFIX + "Index";
+
+    private static final String INDEX_ALL = INDEX_PREFIX + KEY_SEPARATOR + "all";
+
     private final CasRedisTemplate<String, CasEvent> template;
 
     private final long scanCount;
@@ -44,74 +54,76 @@ public class RedisCasEventRepository extends AbstractCasEventRepository {
         return CAS_PREFIX + KEY_SEPARATOR + type + KEY_SEPARATOR + principal + KEY_SEPARATOR + timestamp;
     }
 
+    private static String getTypeIndexKey(final String type) {
+        return INDEX_PREFIX + KEY_SEPARATOR + TYPE_PARAM + KEY_SEPARATOR + type;
+    }
+
+    private static String getPrincipalIndexKey(final String principal) {
+        return INDEX_PREFIX + KEY_SEPARATOR + PRINCIPAL_ID_PARAM + KEY_SEPARATOR + principal;
+    }
+
+    private static String getTypeAndPrincipalIndexKey(final String type, final String principal) {
+        return getTypeIndexKey(type) + KEY_SEPARATOR + PRINCIPAL_ID_PARAM + KEY_SEPARATOR + principal;
+    }
+
+    /**
+     * Index events that were saved before indexes were tracked.
+     * This is only done once, when no index can be found.
+     *
+     * @return the redis cas event repository
+     */
+    public RedisCasEventRepository initialize() {
+        if (!Objects.requireNonNull(template.hasKey(INDEX_ALL))) {
+            val events = getKeys("*", "*", "*")
+                .map(key -> template.boundValueOps(key).get())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+            events.forEach(this::index);
+            LOGGER.debug("Indexed [{}] existing event record(s)", events.size());
+        }
+        return this;
+    }
+
     @Override
     public Stream<? extends CasEvent> load() {
-        val keys = getKeys("*", "*", "*");
-        return keys
-            .map(key -> this.template.boundValueOps(key).get())
-            .filter(Objects::nonNull);
+        return getEvents(INDEX_ALL, Double.NEGATIVE_INFINITY);
     }
 
     @Override
     public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
-        val keys = getKeys("*", "*", "*");
-        return keys
-            .map(key -> this.template.boundValueOps(key).get())
-            .filter(Objects::nonNull)
-            .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli());
+        return getEvents(INDEX_ALL, dateTime.toInstant().toEpochMilli());
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
-        val keys = getKeys(type, principal, "*");
-        return keys
-            .map(key -> this.template.boundValueOps(key).get())
-            .filter(Objects::nonNull);
+        return getEvents(getTypeAndPrincipalIndexKey(type, principal), Double.NEGATIVE_INFINITY);
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type,
                                                                   final String principal,
                                                                   final ZonedDateTime dateTime) {
-        val keys = getKeys(type, principal, "*");
-        return keys
-            .map(key -> this.template.boundValueOps(key).get())
-            .filter(Objects::nonNull)
-            .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli());
+        return getEvents(getTypeAndPrincipalIndexKey(type, principal), dateTime.toInstant().toEpochMilli());
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfType(final String type) {
-        val keys = getKeys(type, "*", "*");
-        return keys
-            .map(key -> this.template.boundValueOps(key).get())
-            .filter(Objects::nonNull);
+        return getEvents(getTypeIndexKey(type), Double.NEGATIVE_INFINITY);
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        val keys = getKeys(type, "*", "*");
-        return keys
-            .map(key -> this.template.boundValueOps(key).get())
-            .filter(Objects::nonNull)
-            .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli());
+        return getEvents(getTypeIndexKey(type), dateTime.toInstant().toEpochMilli());
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        val keys = getKeys("*", id, "*");
-        return keys
-            .map(key -> this.template.boundValueOps(key).get())
-            .filter(Objects::nonNull);
+        return getEvents(getPrincipalIndexKey(id), Double.NEGATIVE_INFINITY);
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsForPrincipal(final String principal, final ZonedDateTime dateTime) {
-        val keys = getKeys("*", principal, "*");
-        return keys
-            .map(key -> this.template.boundValueOps(key).get())
-            .filter(Objects::nonNull)
-            .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli());
+        return getEvents(getPrincipalIndexKey(principal), dateTime.toInstant().toEpochMilli());
     }
 
     @Override
@@ -120,9 +132,35 @@ public class RedisCasEventRepository extends AbstractCasEventRepository {
         LOGGER.trace("Saving event record based on key [{}]", key);
         val ops = this.template.boundValueOps(key);
         ops.set(event);
+        index(event);
         return event;
     }
 
+    private void index(final CasEvent event) {
+        val key = getKey(event.getType(), event.getPrincipalId(), String.valueOf(event.getTimestamp()));
+        val score = event.getTimestamp().doubleValue();
+        val ops = getIndexOperations();
+        ops.add(INDEX_ALL, key, score);
+        ops.add(getTypeIndexKey(event.getType()), key, score);
+        ops.add(getPrincipalIndexKey(event.getPrincipalId()), key, score);
+        ops.add(getTypeAndPrincipalIndexKey(event.getType(), event.getPrincipalId()), key, score);
+    }
+
+    private Stream<CasEvent> getEvents(final String indexKey, final double minimumTimestamp) {
+        LOGGER.trace("Fetching records from index [{}] with timestamp after [{}]", indexKey, minimumTimestamp);
+        val keys = getIndexOperations().rangeByScore(indexKey, minimumTimestamp, Double.POSITIVE_INFINITY);
+        if (keys == null || keys.isEmpty()) {
+            return Stream.empty();
+        }
+        val events = template.opsForValue().multiGet(new ArrayList<>(keys));
+        return Objects.requireNonNull(events).stream().filter(Objects::nonNull);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ZSetOperations<String, String> getIndexOperations() {
+        return ((RedisOperations<String, String>) (RedisOperations) template).opsForZSet();
+    }
+
     private Stream<String> getKeys(final String type, final String principal, final String timestamp) {
         val key = getKey(type, principal, timestamp);
         LOGGER.trace("Fetching records based on key [{}]", key);
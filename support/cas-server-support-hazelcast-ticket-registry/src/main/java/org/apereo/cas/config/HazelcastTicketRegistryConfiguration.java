@@ -4,7 +4,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.hz.HazelcastConfigurationFactory;
 import org.apereo.cas.ticket.TicketCatalog;
-import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.HazelcastTicketRegistry;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
@@ -12,6 +12,7 @@ import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 
+import com.hazelcast.config.MapConfig;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.instance.impl.HazelcastInstanceFactory;
 import lombok.extern.slf4j.Slf4j;
@@ -69,9 +70,15 @@ public class HazelcastTicketRegistryConfiguration {
         val hazelcastInstance = HazelcastInstanceFactory.getOrCreateHazelcastInstance(HazelcastConfigurationFactory.build(hz));
         ticketCatalog.findAll()
             .stream()
-            .map(TicketDefinition::getProperties)
-            .peek(p -> LOGGER.debug("Created Hazelcast map configuration for [{}]", p))
-            .map(p -> HazelcastConfigurationFactory.buildMapConfig(hz, p.getStorageName(), p.getStorageTimeout()))
+            .peek(defn -> LOGGER.debug("Created Hazelcast map configuration for [{}]", defn.getProperties()))
+            .map(defn -> {
+                val props = defn.getProperties();
+                val map = HazelcastConfigurationFactory.buildMapConfig(hz, props.getStorageName(), props.getStorageTimeout());
+                if (map instanceof MapConfig && TicketGrantingTicket.class.isAssignableFrom(defn.getImplementationClass())) {
+                    HazelcastTicketRegistry.configureTicketGrantingTicketMap((MapConfig) map);
+                }
+                return map;
+            })
             .forEach(map -> HazelcastConfigurationFactory.setConfigMap(map, hazelcastInstance.getConfig()));
         return hazelcastInstance;
     }
@@ -1,16 +1,26 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.util.LoggingUtils;
 
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.config.AttributeConfig;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.config.MapConfig;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.DisposableBean;
 
@@ -20,6 +30,7 @@ import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Hazelcast-based implementation of a {@link TicketRegistry}.
@@ -41,8 +52,34 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
 
     private final long pageSize;
 
+    /**
+     * Map config for ticket-granting tickets, that exposes the principal id
+     * as an indexed attribute for session queries.
+     *
+     * @param mapConfig the map config
+     * @return the map config
+     */
+    public static MapConfig configureTicketGrantingTicketMap(final MapConfig mapConfig) {
+        return mapConfig
+            .addAttributeConfig(new AttributeConfig(TicketGrantingTicketPrincipalIdExtractor.ATTRIBUTE_NAME,
+                TicketGrantingTicketPrincipalIdExtractor.class.getName()))
+            .addIndexConfig(new IndexConfig(IndexType.HASH, TicketGrantingTicketPrincipalIdExtractor.ATTRIBUTE_NAME));
+    }
+
     @Override
-    public Ticket updateTicket(final Ticket ticket) throws Exception {
+    protected Ticket updateTicketInternal(final Ticket ticket) throws Exception {
+        if (ticket instanceof TicketGrantingTicketImpl && !isCipherExecutorEnabled() && !ticket.isExpired()
+            && ((TicketGrantingTicketImpl) ticket).isRoot()) {
+            val ttl = ticket.getExpirationPolicy().getTimeToLive();
+            val ticketMap = getTicketMapInstanceByMetadata(ticketCatalog.find(ticket));
+            if (ttl >= 0 && ticketMap != null) {
+                val processor = new TicketGrantingTicketUpdateEntryProcessor((TicketGrantingTicketImpl) ticket, ttl);
+                if (BooleanUtils.isTrue(ticketMap.executeOnKey(ticket.getId(), processor))) {
+                    LOGGER.debug("Updated ticket [{}] in place with ttl [{}s]", ticket.getId(), ttl);
+                    return ticket;
+                }
+            }
+        }
         addTicket(ticket);
         return ticket;
     }
@@ -99,6 +136,18 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         return map != null && map.remove(encTicketId) != null;
     }
 
+    @Override
+    protected Ticket takeTicket(final String ticketId) {
+        val metadata = this.ticketCatalog.find(ticketId);
+        if (metadata == null) {
+            LOGGER.warn("No ticket definition could be found in the catalog to match [{}]", ticketId);
+            return null;
+        }
+        val map = getTicketMapInstanceByMetadata(metadata);
+        val ticket = map != null ? map.remove(encodeTicketId(ticketId)) : null;
+        return ticket == null ? null : decodeTicket(ticket);
+    }
+
     @Override
     public long deleteAll() {
         return this.ticketCatalog.findAll()
@@ -118,17 +167,48 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
     public Collection<? extends Ticket> getTickets() {
         return this.ticketCatalog.findAll()
             .stream()
-            .map(metadata -> getTicketMapInstanceByMetadata(metadata).values())
-            .flatMap(tickets -> {
-                if (pageSize > 0) {
-                    return tickets.stream().limit(pageSize).collect(Collectors.toList()).stream();
-                }
-                return new ArrayList<>(tickets).stream();
+            .map(metadata -> {
+                val ticketMap = getTicketMapInstanceByMetadata(metadata);
+                return pageSize > 0
+                    ? ticketMap.values(Predicates.pagingPredicate((int) pageSize))
+                    : ticketMap.values();
             })
+            .flatMap(tickets -> new ArrayList<>(tickets).stream())
             .map(this::decodeTicket)
             .collect(Collectors.toSet());
     }
 
+    @Override
+    public long sessionCount() {
+        return getTicketMapInstancesByType(TicketGrantingTicket.class)
+            .mapToLong(ticketMap -> ticketMap.aggregate(Aggregators.count()))
+            .sum();
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return getTicketMapInstancesByType(ServiceTicket.class)
+            .mapToLong(ticketMap -> ticketMap.aggregate(Aggregators.count()))
+            .sum();
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        if (isCipherExecutorEnabled()) {
+            return super.countSessionsFor(principalId);
+        }
+        try {
+            val predicate = Predicates.<String, Ticket>equal(TicketGrantingTicketPrincipalIdExtractor.ATTRIBUTE_NAME,
+                TicketGrantingTicketPrincipalIdExtractor.normalize(principalId));
+            return getTicketMapInstancesByType(TicketGrantingTicket.class)
+                .mapToLong(ticketMap -> ticketMap.aggregate(Aggregators.count(), predicate))
+                .sum();
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to query sessions for [{}] by principal attribute: [{}]", principalId, e.getMessage());
+            return super.countSessionsFor(principalId);
+        }
+    }
+
     /**
      * Make sure we shutdown HazelCast when the context is destroyed.
      */
@@ -143,6 +223,7 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
 
     @Override
     public void destroy() {
+        super.destroy();
         close();
     }
 
@@ -151,6 +232,16 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         shutdown();
     }
 
+    private Stream<IMap<String, Ticket>> getTicketMapInstancesByType(final Class<? extends Ticket> type) {
+        return this.ticketCatalog.findAll()
+            .stream()
+            .filter(metadata -> type.isAssignableFrom(metadata.getImplementationClass()))
+            .map(metadata -> metadata.getProperties().getStorageName())
+            .distinct()
+            .map(this::getTicketMapInstance)
+            .filter(Objects::nonNull);
+    }
+
     private IMap<String, Ticket> getTicketMapInstanceByMetadata(final TicketDefinition metadata) {
         val mapName = metadata.getProperties().getStorageName();
         LOGGER.debug("Locating map name [{}] for ticket definition [{}]", mapName, metadata);
@@ -0,0 +1,46 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import com.hazelcast.query.extractor.ValueCollector;
+import com.hazelcast.query.extractor.ValueExtractor;
+import lombok.val;
+
+import java.util.Locale;
+
+/**
+ * This is {@link TicketGrantingTicketPrincipalIdExtractor}.
+ * Exposes the principal id of ticket-granting tickets as a queryable attribute, in lower case,
+ * so that sessions of a given principal may be located and counted via an index.
+ * Encoded tickets do not expose the attribute.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+public class TicketGrantingTicketPrincipalIdExtractor implements ValueExtractor<Object, Object> {
+    /**
+     * Name of the attribute produced by this extractor.
+     */
+    public static final String ATTRIBUTE_NAME = "principalId";
+
+    /**
+     * Normalize the principal id for queries.
+     *
+     * @param principalId the principal id
+     * @return the normalized principal id
+     */
+    public static String normalize(final String principalId) {
+        return principalId.toLowerCase(Locale.ENGLISH);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void extract(final Object target, final Object argument, final ValueCollector collector) {
+        if (target instanceof TicketGrantingTicket) {
+            val authentication = ((TicketGrantingTicket) target).getAuthentication();
+            if (authentication != null && authentication.getPrincipal() != null) {
+                collector.addObject(normalize(authentication.getPrincipal().getId()));
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.ExtendedMapEntry;
+import lombok.val;
+
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link TicketGrantingTicketUpdateEntryProcessor}.
+ * Applies the state that changes when a ticket-granting ticket is used, i.e. usage times and
+ * counts along with tracked services and proxy-granting tickets, to the ticket stored by the member
+ * that owns the entry. The authentication, which makes up the bulk of the ticket, does not travel
+ * across the network; if it no longer matches the stored copy, the processor declines the update
+ * and the caller is expected to store the ticket as a whole.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+public class TicketGrantingTicketUpdateEntryProcessor implements EntryProcessor<String, Ticket, Boolean> {
+    private static final long serialVersionUID = 4420478915372638453L;
+
+    private final long timeToLive;
+
+    private final int authenticationHash;
+
+    private final ZonedDateTime lastTimeUsed;
+
+    private final ZonedDateTime previousTimeUsed;
+
+    private final int countOfUses;
+
+    private final Map<String, Service> services;
+
+    private final Map<String, Service> proxyGrantingTickets;
+
+    private final Set<String> descendantTickets;
+
+    public TicketGrantingTicketUpdateEntryProcessor(final TicketGrantingTicketImpl ticket, final long timeToLive) {
+        this.timeToLive = timeToLive;
+        this.authenticationHash = Objects.hashCode(ticket.getAuthentication());
+        this.lastTimeUsed = ticket.getLastTimeUsed();
+        this.previousTimeUsed = ticket.getPreviousTimeUsed();
+        this.countOfUses = ticket.getCountOfUses();
+        this.services = new HashMap<>(ticket.getServices());
+        this.proxyGrantingTickets = new HashMap<>(ticket.getProxyGrantingTickets());
+        this.descendantTickets = new HashSet<>(ticket.getDescendantTickets());
+    }
+
+    @Override
+    public Boolean process(final Map.Entry<String, Ticket> entry) {
+        val current = entry.getValue();
+        if (!(current instanceof TicketGrantingTicketImpl)) {
+            return Boolean.FALSE;
+        }
+        val ticket = (TicketGrantingTicketImpl) current;
+        if (Objects.hashCode(ticket.getAuthentication()) != authenticationHash) {
+            return Boolean.FALSE;
+        }
+        ticket.setLastTimeUsed(lastTimeUsed);
+        ticket.setPreviousTimeUsed(previousTimeUsed);
+        ticket.setCountOfUses(countOfUses);
+        replace(ticket.getServices(), services);
+        replace(ticket.getProxyGrantingTickets(), proxyGrantingTickets);
+        ticket.getDescendantTickets().clear();
+        ticket.getDescendantTickets().addAll(descendantTickets);
+
+        if (entry instanceof ExtendedMapEntry) {
+            ((ExtendedMapEntry<String, Ticket>) entry).setValue(ticket, timeToLive, TimeUnit.SECONDS);
+        } else {
+            entry.setValue(ticket);
+        }
+        return Boolean.TRUE;
+    }
+
+    private static void replace(final Map<String, Service> target, final Map<String, Service> source) {
+        target.clear();
+        target.putAll(source);
+    }
+}
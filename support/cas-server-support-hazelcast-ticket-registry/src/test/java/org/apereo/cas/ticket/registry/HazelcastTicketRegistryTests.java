@@ -2,11 +2,16 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.config.HazelcastTicketRegistryConfiguration;
 import org.apereo.cas.config.HazelcastTicketRegistryTicketCatalogConfiguration;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.ticket.DefaultTicketDefinition;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 
 import com.hazelcast.core.HazelcastInstance;
 import lombok.Getter;
@@ -18,6 +23,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.Set;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -81,4 +89,25 @@ public class HazelcastTicketRegistryTests extends BaseTicketRegistryTests {
         assertNull(registry.getTicket(ticket.getId()));
     }
 
+    @RepeatedTest(1)
+    public void verifySessionQueriesAndUpdateInPlace() throws Exception {
+        val principalId = UUID.randomUUID().toString();
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(principalId),
+            NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(tgt);
+        assertEquals(1, newTicketRegistry.countSessionsFor(principalId.toUpperCase()));
+        assertEquals(0, newTicketRegistry.countSessionsFor(UUID.randomUUID().toString()));
+        assertEquals(1, newTicketRegistry.sessionCount());
+
+        val st = tgt.grantServiceTicket(serviceTicketId, RegisteredServiceTestUtils.getService("HZ_UPDATE_TEST"),
+            NeverExpiresExpirationPolicy.INSTANCE, false, false);
+        newTicketRegistry.addTicket(st);
+        newTicketRegistry.updateTicket(tgt);
+        assertEquals(1, newTicketRegistry.serviceTicketCount());
+
+        val found = newTicketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+        assertEquals(Set.of(serviceTicketId), found.getServices().keySet());
+        assertEquals(tgt.getCountOfUses(), found.getCountOfUses());
+    }
 }
@@ -5,8 +5,12 @@ import org.apereo.cas.configuration.model.support.ignite.IgniteProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.CasFeatureModule;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.registry.IgniteTicketDocument;
 import org.apereo.cas.ticket.registry.IgniteTicketRegistry;
+import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 
@@ -14,10 +18,12 @@ import lombok.val;
 import org.apache.ignite.cache.CacheAtomicityMode;
 import org.apache.ignite.cache.CacheMode;
 import org.apache.ignite.cache.CacheWriteSynchronizationMode;
+import org.apache.ignite.cache.eviction.lru.LruEvictionPolicyFactory;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.configuration.DataRegionConfiguration;
 import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.NearCacheConfiguration;
 import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
 import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
 import org.apache.ignite.ssl.SslContextFactory;
@@ -57,6 +63,13 @@ public class IgniteTicketRegistryConfiguration {
             ticketsCache.setWriteSynchronizationMode(writeSync);
             val duration = new Duration(TimeUnit.SECONDS, t.getProperties().getStorageTimeout());
             ticketsCache.setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(duration));
+            ticketsCache.setEagerTtl(true);
+            ticketsCache.setIndexedTypes(String.class, IgniteTicketDocument.class);
+            if (ignite.getTicketsCache().isNearCacheEnabled() && TicketGrantingTicket.class.isAssignableFrom(t.getImplementationClass())) {
+                val nearCache = new NearCacheConfiguration<String, IgniteTicketDocument>();
+                nearCache.setNearEvictionPolicyFactory(new LruEvictionPolicyFactory<>(ignite.getTicketsCache().getNearCacheMaxSize()));
+                ticketsCache.setNearConfiguration(nearCache);
+            }
             return ticketsCache;
         }).collect(Collectors.toSet());
     }
@@ -147,4 +160,10 @@ public class IgniteTicketRegistryConfiguration {
         r.initialize();
         return r;
     }
+
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    public TicketRegistryCleaner ticketRegistryCleaner() {
+        return NoOpTicketRegistryCleaner.getInstance();
+    }
 }
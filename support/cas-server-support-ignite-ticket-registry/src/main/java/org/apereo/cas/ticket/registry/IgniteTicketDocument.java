@@ -0,0 +1,55 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.apache.ignite.cache.query.annotations.QuerySqlField;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link IgniteTicketDocument}, which wraps a ticket stored in an Ignite cache
+ * along with the fields that are indexed and queried on the grid, so that counts and
+ * lookups by principal do not need to pull tickets from the cache.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class IgniteTicketDocument implements Serializable {
+    /**
+     * Name of the principal field.
+     */
+    public static final String FIELD_NAME_PRINCIPAL = "principal";
+
+    /**
+     * Name of the ticket prefix field.
+     */
+    public static final String FIELD_NAME_PREFIX = "prefix";
+
+    /**
+     * Name of the expiration field.
+     */
+    public static final String FIELD_NAME_EXPIRE_AT = "expireAt";
+
+    private static final long serialVersionUID = -3962358935325473014L;
+
+    private static final String PRINCIPAL_INDEX = "principal_expireAt_idx";
+
+    @QuerySqlField(index = true)
+    private String prefix;
+
+    @QuerySqlField(orderedGroups = @QuerySqlField.Group(name = PRINCIPAL_INDEX, order = 0))
+    private String principal;
+
+    @QuerySqlField(index = true, orderedGroups = @QuerySqlField.Group(name = PRINCIPAL_INDEX, order = 1))
+    private long expireAt;
+
+    private Ticket ticket;
+}
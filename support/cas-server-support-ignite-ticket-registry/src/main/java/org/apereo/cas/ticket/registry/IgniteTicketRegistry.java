@@ -2,9 +2,11 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.configuration.model.support.ignite.IgniteProperties;
 import org.apereo.cas.ticket.ExpirationPolicy;
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
@@ -15,19 +17,20 @@ import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.IgniteState;
 import org.apache.ignite.Ignition;
-import org.apache.ignite.cache.query.ScanQuery;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.springframework.beans.factory.DisposableBean;
 
-import javax.cache.Cache;
 import javax.cache.expiry.Duration;
 import javax.cache.expiry.ExpiryPolicy;
 import java.util.Collection;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p>
@@ -48,6 +51,7 @@ import java.util.stream.Collectors;
 @ToString(callSuper = true)
 @RequiredArgsConstructor
 public class IgniteTicketRegistry extends AbstractTicketRegistry implements DisposableBean {
+    private static final String TABLE_NAME = IgniteTicketDocument.class.getSimpleName();
 
     private final TicketCatalog ticketCatalog;
 
@@ -65,7 +69,7 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
         val policy = new IgniteInternalTicketExpiryPolicy(ticket.getExpirationPolicy());
         LOGGER.debug("Adding ticket [{}] to the cache [{}] with policy [{}]", ticket.getId(), cache.getName(), policy);
         val entries = cache.withExpiryPolicy(policy);
-        entries.put(encodedTicket.getId(), encodedTicket);
+        entries.put(encodedTicket.getId(), buildTicketDocument(ticket, encodedTicket));
     }
 
     @Override
@@ -107,27 +111,66 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
         }
         val cache = getIgniteCacheFromMetadata(metadata);
         LOGGER.trace("Located ignite cache [{}] for ticket id [{}]", cache.getName(), ticketId);
-        val ticket = cache.get(ticketId);
-        LOGGER.trace("Located ticket from cache for ticket id [{}] is [{}]", ticketId, ticket);
-        if (ticket == null) {
+        val document = cache.get(ticketId);
+        LOGGER.trace("Located ticket from cache for ticket id [{}] is [{}]", ticketId, document);
+        if (document == null) {
             LOGGER.debug("No ticket by id [{}] is found in the ignite ticket registry", ticketId);
             return null;
         }
-        val result = decodeTicket(ticket);
+        val result = decodeTicket(document.getTicket());
         return predicate.test(result) ? result : null;
     }
 
     @Override
     public Collection<? extends Ticket> getTickets() {
+        return stream().collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<? extends Ticket> stream() {
         return this.ticketCatalog.findAll()
             .stream()
             .map(this::getIgniteCacheFromMetadata)
-            .map(cache -> cache.query(new ScanQuery<>()).getAll().stream()).flatMap(Function.identity())
-            .map(Cache.Entry::getValue).map(object -> decodeTicket((Ticket) object)).collect(Collectors.toSet());
+            .flatMap(cache -> {
+                val query = new SqlFieldsQuery(String.format("SELECT _val FROM %s WHERE %s > ?",
+                    TABLE_NAME, IgniteTicketDocument.FIELD_NAME_EXPIRE_AT))
+                    .setArgs(System.currentTimeMillis())
+                    .setLazy(true);
+                val cursor = cache.query(query);
+                return StreamSupport.stream(cursor.spliterator(), false).onClose(cursor::close);
+            })
+            .map(row -> (IgniteTicketDocument) row.get(0))
+            .map(document -> decodeTicket(document.getTicket()))
+            .filter(Objects::nonNull);
+    }
+
+    @Override
+    public long sessionCount() {
+        return countTickets(TicketGrantingTicket.class, TicketGrantingTicket.PREFIX);
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return countTickets(ServiceTicket.class, ServiceTicket.PREFIX);
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        if (isCipherExecutorEnabled()) {
+            return super.countSessionsFor(principalId);
+        }
+        val sql = String.format("SELECT COUNT(*) FROM %s WHERE %s = ? AND %s > ?", TABLE_NAME,
+            IgniteTicketDocument.FIELD_NAME_PRINCIPAL, IgniteTicketDocument.FIELD_NAME_EXPIRE_AT);
+        return ticketCatalog.find(TicketGrantingTicket.class)
+            .stream()
+            .map(this::getIgniteCacheFromMetadata)
+            .mapToLong(cache -> querySingleCount(cache,
+                new SqlFieldsQuery(sql).setArgs(normalizePrincipalId(principalId), System.currentTimeMillis())))
+            .sum();
     }
 
     @Override
-    public Ticket updateTicket(final Ticket ticket) throws Exception {
+    protected Ticket updateTicketInternal(final Ticket ticket) throws Exception {
         addTicket(ticket);
         return ticket;
     }
@@ -142,6 +185,7 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
 
     @Override
     public void destroy() {
+        super.destroy();
         shutdown();
     }
 
@@ -181,13 +225,53 @@ public class IgniteTicketRegistry extends AbstractTicketRegistry implements Disp
         }
     }
 
-    private IgniteCache<String, Ticket> getIgniteCacheFromMetadata(final TicketDefinition metadata) {
+    private static String normalizePrincipalId(final String principalId) {
+        return principalId.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static long getExpireAt(final Ticket ticket) {
+        val timeToLive = ticket.getExpirationPolicy().getTimeToLive(ticket);
+        val now = System.currentTimeMillis();
+        if (timeToLive == null || timeToLive >= (Long.MAX_VALUE - now) / 1000) {
+            return Long.MAX_VALUE;
+        }
+        return now + TimeUnit.SECONDS.toMillis(timeToLive);
+    }
+
+    private static long querySingleCount(final IgniteCache<String, IgniteTicketDocument> cache, final SqlFieldsQuery query) {
+        try (val cursor = cache.query(query)) {
+            return ((Number) cursor.getAll().get(0).get(0)).longValue();
+        }
+    }
+
+    private IgniteTicketDocument buildTicketDocument(final Ticket ticket, final Ticket encodedTicket) {
+        var principal = (String) null;
+        if (ticket instanceof TicketGrantingTicket && !isCipherExecutorEnabled()) {
+            val authentication = ((TicketGrantingTicket) ticket).getAuthentication();
+            if (authentication != null && authentication.getPrincipal() != null) {
+                principal = normalizePrincipalId(authentication.getPrincipal().getId());
+            }
+        }
+        return new IgniteTicketDocument(ticket.getPrefix(), principal, getExpireAt(ticket), encodedTicket);
+    }
+
+    private long countTickets(final Class<? extends Ticket> ticketType, final String prefix) {
+        val sql = String.format("SELECT COUNT(*) FROM %s WHERE %s = ? AND %s > ?", TABLE_NAME,
+            IgniteTicketDocument.FIELD_NAME_PREFIX, IgniteTicketDocument.FIELD_NAME_EXPIRE_AT);
+        return ticketCatalog.find(ticketType)
+            .stream()
+            .map(this::getIgniteCacheFromMetadata)
+            .mapToLong(cache -> querySingleCount(cache, new SqlFieldsQuery(sql).setArgs(prefix, System.currentTimeMillis())))
+            .sum();
+    }
+
+    private IgniteCache<String, IgniteTicketDocument> getIgniteCacheFromMetadata(final TicketDefinition metadata) {
         val mapName = metadata.getProperties().getStorageName();
         LOGGER.trace("Locating cache name [{}] for ticket definition [{}]", mapName, metadata);
         return getIgniteCacheInstanceByName(mapName);
     }
 
-    private IgniteCache<String, Ticket> getIgniteCacheInstanceByName(final String name) {
+    private IgniteCache<String, IgniteTicketDocument> getIgniteCacheInstanceByName(final String name) {
         LOGGER.trace("Attempting to get/create cache [{}]", name);
         return this.ignite.getOrCreateCache(name);
     }
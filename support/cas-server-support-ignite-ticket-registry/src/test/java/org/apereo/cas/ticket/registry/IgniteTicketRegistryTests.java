@@ -1,9 +1,12 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.config.IgniteTicketRegistryConfiguration;
 import org.apereo.cas.config.IgniteTicketRegistryTicketCatalogConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 
 import lombok.Getter;
 import lombok.val;
@@ -83,4 +86,16 @@ public class IgniteTicketRegistryTests extends BaseTicketRegistryTests {
         assertTrue(registry.deleteSingleTicket("unknownticket"));
         registry.destroy();
     }
+
+    @RepeatedTest(1)
+    public void verifyCountsQueriedOnGrid() throws Exception {
+        newTicketRegistry.deleteAll();
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+        newTicketRegistry.addTicket(new TicketGrantingTicketImpl("TGT-ignite-1", authentication, NeverExpiresExpirationPolicy.INSTANCE));
+        newTicketRegistry.addTicket(new TicketGrantingTicketImpl("TGT-ignite-2", authentication, NeverExpiresExpirationPolicy.INSTANCE));
+        assertEquals(2, newTicketRegistry.sessionCount());
+        assertEquals(2, newTicketRegistry.countSessionsFor("CASUSER"));
+        assertEquals(0, newTicketRegistry.countSessionsFor("unknown"));
+        assertEquals(2, newTicketRegistry.stream().count());
+    }
 }
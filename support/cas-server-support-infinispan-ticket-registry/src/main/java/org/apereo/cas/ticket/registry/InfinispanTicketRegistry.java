@@ -27,7 +27,7 @@ public class InfinispanTicketRegistry extends AbstractTicketRegistry {
     private final Cache<String, Ticket> cache;
 
     @Override
-    public Ticket updateTicket(final Ticket ticket) throws Exception {
+    protected Ticket updateTicketInternal(final Ticket ticket) throws Exception {
         val encodedTicket = encodeTicket(ticket);
         this.cache.put(encodedTicket.getId(), encodedTicket);
         return ticket;
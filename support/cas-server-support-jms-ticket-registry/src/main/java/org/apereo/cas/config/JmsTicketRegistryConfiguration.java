@@ -1,11 +1,16 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.support.CasFeatureModule;
+import org.apereo.cas.ticket.queue.TicketRegistryQueuePublisher;
 import org.apereo.cas.ticket.registry.JmsTicketRegistry;
+import org.apereo.cas.ticket.registry.JmsTicketRegistryCoalescingQueuePublisher;
 import org.apereo.cas.ticket.registry.JmsTicketRegistryQueuePublisher;
 import org.apereo.cas.ticket.registry.JmsTicketRegistryQueueReceiver;
+import org.apereo.cas.ticket.registry.JmsTicketRegistrySnapshotInitializer;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketTypeRoutingTicketRegistry;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.PublisherIdentifier;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
@@ -64,8 +69,56 @@ public class JmsTicketRegistryConfiguration {
         @Qualifier(TicketRegistry.BEAN_NAME)
         final TicketRegistry ticketRegistry,
         @Qualifier("messageQueueTicketRegistryIdentifier")
-        final PublisherIdentifier messageQueueTicketRegistryIdentifier) {
-        return new JmsTicketRegistryQueueReceiver(ticketRegistry, messageQueueTicketRegistryIdentifier);
+        final PublisherIdentifier messageQueueTicketRegistryIdentifier,
+        final CasConfigurationProperties casProperties) {
+        val jmsTicketRegistry = getJmsTicketRegistry(ticketRegistry);
+        val registry = jmsTicketRegistry instanceof JmsTicketRegistry
+            ? ((JmsTicketRegistry) jmsTicketRegistry).getLocalTicketRegistry()
+            : ticketRegistry;
+        val snapshotPageSize = casProperties.getTicket().getRegistry().getJms().getSnapshotPageSize();
+        return new JmsTicketRegistryQueueReceiver(registry, messageQueueTicketRegistryIdentifier, snapshotPageSize);
+    }
+
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @ConditionalOnMissingBean(name = "messageQueueTicketRegistryPublisher")
+    public TicketRegistryQueuePublisher messageQueueTicketRegistryPublisher(
+        @Qualifier("messageQueueTicketRegistryIdentifier")
+        final PublisherIdentifier messageQueueTicketRegistryIdentifier,
+        final CasConfigurationProperties casProperties,
+        final JmsTemplate jmsTemplate,
+        @Qualifier("jacksonJmsMessageTicketRegistryConverter")
+        final MessageConverter jacksonJmsMessageConverter) {
+        jmsTemplate.setMessageConverter(jacksonJmsMessageConverter);
+        val jms = casProperties.getTicket().getRegistry().getJms();
+        val publisher = new JmsTicketRegistryQueuePublisher(jmsTemplate);
+        val linger = Beans.newDuration(jms.getPublishLinger());
+        if (linger.isZero() || linger.isNegative()) {
+            return publisher;
+        }
+        return new JmsTicketRegistryCoalescingQueuePublisher(publisher, messageQueueTicketRegistryIdentifier,
+            linger, jms.getPublishBatchSize());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "messageQueueTicketRegistrySnapshotInitializer")
+    public JmsTicketRegistrySnapshotInitializer messageQueueTicketRegistrySnapshotInitializer(
+        @Qualifier(TicketRegistry.BEAN_NAME)
+        final TicketRegistry ticketRegistry,
+        @Qualifier("messageQueueTicketRegistryIdentifier")
+        final PublisherIdentifier messageQueueTicketRegistryIdentifier,
+        final CasConfigurationProperties casProperties,
+        final JmsTemplate jmsTemplate,
+        @Qualifier("jacksonJmsMessageTicketRegistryConverter")
+        final MessageConverter jacksonJmsMessageConverter) {
+        val timeout = Beans.newDuration(casProperties.getTicket().getRegistry().getJms().getSnapshotTimeout());
+        val jmsTicketRegistry = getJmsTicketRegistry(ticketRegistry);
+        val registry = jmsTicketRegistry instanceof JmsTicketRegistry
+            ? ((JmsTicketRegistry) jmsTicketRegistry).getLocalTicketRegistry()
+            : null;
+        jmsTemplate.setMessageConverter(jacksonJmsMessageConverter);
+        return new JmsTicketRegistrySnapshotInitializer(new JmsTicketRegistryQueuePublisher(jmsTemplate),
+            messageQueueTicketRegistryIdentifier, registry, timeout);
     }
 
     @Bean
@@ -87,14 +140,12 @@ public class JmsTicketRegistryConfiguration {
         @Qualifier("messageQueueTicketRegistryIdentifier")
         final PublisherIdentifier messageQueueTicketRegistryIdentifier,
         final CasConfigurationProperties casProperties,
-        final JmsTemplate jmsTemplate,
-        @Qualifier("jacksonJmsMessageTicketRegistryConverter")
-        final MessageConverter jacksonJmsMessageConverter) {
-        jmsTemplate.setMessageConverter(jacksonJmsMessageConverter);
+        @Qualifier("messageQueueTicketRegistryPublisher")
+        final TicketRegistryQueuePublisher messageQueueTicketRegistryPublisher) {
         val jms = casProperties.getTicket().getRegistry().getJms();
         val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(jms.getCrypto(), "jms");
         LOGGER.debug("Configuring JMS ticket registry with identifier [{}]", messageQueueTicketRegistryIdentifier);
-        val registry = new JmsTicketRegistry(new JmsTicketRegistryQueuePublisher(jmsTemplate), messageQueueTicketRegistryIdentifier);
+        val registry = new JmsTicketRegistry(messageQueueTicketRegistryPublisher, messageQueueTicketRegistryIdentifier);
         registry.setCipherExecutor(cipher);
         return registry;
     }
@@ -114,4 +165,10 @@ public class JmsTicketRegistryConfiguration {
         jmsListenerContainerFactoryConfigurer.configure(factory, jmsConnectionFactory);
         return factory;
     }
+
+    private static TicketRegistry getJmsTicketRegistry(final TicketRegistry ticketRegistry) {
+        return ticketRegistry instanceof TicketTypeRoutingTicketRegistry
+            ? ((TicketTypeRoutingTicketRegistry) ticketRegistry).getBackends().get(TicketTypeRoutingTicketRegistry.DEFAULT_BACKEND)
+            : ticketRegistry;
+    }
 }
@@ -42,6 +42,16 @@ public class JmsTicketRegistry extends DefaultTicketRegistry {
         return result;
     }
 
+    @Override
+    protected Ticket takeTicket(final String ticketId) {
+        val ticket = super.takeTicket(ticketId);
+        if (ticket != null) {
+            LOGGER.trace("Publishing delete command for id [{}] and consumed ticket [{}]", id, ticketId);
+            ticketPublisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(id, ticketId));
+        }
+        return ticket;
+    }
+
     @Override
     public long deleteAll() {
         val result = super.deleteAll();
@@ -50,10 +60,20 @@ public class JmsTicketRegistry extends DefaultTicketRegistry {
     }
 
     @Override
-    public Ticket updateTicket(final Ticket ticket) throws Exception {
-        val result = super.updateTicket(ticket);
+    protected Ticket updateTicketInternal(final Ticket ticket) throws Exception {
+        val result = super.updateTicketInternal(ticket);
         LOGGER.trace("Publishing update command for id [{}] and ticket [{}]", id, ticket.getId());
         ticketPublisher.publishMessageToQueue(new UpdateTicketMessageQueueCommand(id, ticket));
         return result;
     }
+
+    /**
+     * Gets a view of the tickets held by this registry that does not publish
+     * changes to peers, used to apply changes received from peers.
+     *
+     * @return the ticket registry
+     */
+    public TicketRegistry getLocalTicketRegistry() {
+        return new DefaultTicketRegistry(getMapInstance(), cipherExecutor);
+    }
 }
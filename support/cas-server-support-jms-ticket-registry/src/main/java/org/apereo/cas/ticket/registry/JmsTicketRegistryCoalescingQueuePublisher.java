@@ -0,0 +1,171 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.queue.AddTicketMessageQueueCommand;
+import org.apereo.cas.ticket.queue.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.queue.BatchMessageQueueCommand;
+import org.apereo.cas.ticket.queue.DeleteTicketMessageQueueCommand;
+import org.apereo.cas.ticket.queue.DeleteTicketsMessageQueueCommand;
+import org.apereo.cas.ticket.queue.TicketRegistryQueuePublisher;
+import org.apereo.cas.ticket.queue.UpdateTicketMessageQueueCommand;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This is {@link JmsTicketRegistryCoalescingQueuePublisher}. Commands are collected
+ * for a short linger window and published together in a single {@link BatchMessageQueueCommand}.
+ * Commands for the same ticket within the window are coalesced so that only the last one
+ * is published, and removing all tickets discards all commands collected before it.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class JmsTicketRegistryCoalescingQueuePublisher implements TicketRegistryQueuePublisher, AutoCloseable {
+    private static final String DELETE_ALL_TICKETS_KEY = DeleteTicketsMessageQueueCommand.class.getName();
+
+    private final TicketRegistryQueuePublisher publisher;
+
+    private final PublisherIdentifier id;
+
+    private final int batchSize;
+
+    private final Map<String, BaseMessageQueueCommand> pendingCommands = new LinkedHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        val thread = new Thread(runnable, JmsTicketRegistryCoalescingQueuePublisher.class.getSimpleName());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JmsTicketRegistryCoalescingQueuePublisher(final TicketRegistryQueuePublisher publisher,
+                                                     final PublisherIdentifier id,
+                                                     final Duration linger,
+                                                     final int batchSize) {
+        this.publisher = publisher;
+        this.id = id;
+        this.batchSize = batchSize;
+        executor.scheduleWithFixedDelay(this::flush, linger.toMillis(), linger.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void publishMessageToQueue(final BaseMessageQueueCommand cmd) {
+        var batchFull = false;
+        lock.lock();
+        try {
+            if (cmd instanceof DeleteTicketsMessageQueueCommand) {
+                pendingCommands.clear();
+            }
+            val key = getCoalescingKey(cmd);
+            pendingCommands.remove(key);
+            pendingCommands.put(key, cmd);
+            batchFull = pendingCommands.size() >= batchSize;
+        } finally {
+            lock.unlock();
+        }
+        if (batchFull) {
+            flush();
+        }
+    }
+
+    /**
+     * Publish all collected commands. If the collected commands cannot be published together,
+     * they are published one at a time, and the commands that still cannot be published
+     * are collected again, to be published with the next batch.
+     */
+    public void flush() {
+        val commands = new ArrayList<BaseMessageQueueCommand>();
+        lock.lock();
+        try {
+            commands.addAll(pendingCommands.values());
+            pendingCommands.clear();
+        } finally {
+            lock.unlock();
+        }
+        if (commands.isEmpty()) {
+            return;
+        }
+        if (commands.size() > 1) {
+            LOGGER.trace("Publishing [{}] collected commands for id [{}]", commands.size(), id);
+            if (publish(new BatchMessageQueueCommand(id, commands))) {
+                return;
+            }
+        }
+        for (var i = 0; i < commands.size(); i++) {
+            if (!publish(commands.get(i))) {
+                requeue(commands.subList(i, commands.size()));
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        flush();
+    }
+
+    private boolean publish(final BaseMessageQueueCommand cmd) {
+        try {
+            publisher.publishMessageToQueue(cmd);
+            return true;
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+        }
+        return false;
+    }
+
+    /**
+     * Collect commands that could not be published again, ahead of commands that were collected since.
+     * Commands collected since for the same ticket, or to remove all tickets, take precedence.
+     */
+    private void requeue(final List<BaseMessageQueueCommand> commands) {
+        LOGGER.warn("Unable to publish [{}] commands for id [{}]; they will be published with the next batch", commands.size(), id);
+        lock.lock();
+        try {
+            if (pendingCommands.containsKey(DELETE_ALL_TICKETS_KEY)) {
+                return;
+            }
+            val requeued = new LinkedHashMap<String, BaseMessageQueueCommand>();
+            commands.forEach(cmd -> requeued.put(getCoalescingKey(cmd), cmd));
+            pendingCommands.forEach((key, cmd) -> {
+                requeued.remove(key);
+                requeued.put(key, cmd);
+            });
+            pendingCommands.clear();
+            pendingCommands.putAll(requeued);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String getCoalescingKey(final BaseMessageQueueCommand cmd) {
+        if (cmd instanceof AddTicketMessageQueueCommand) {
+            return ((AddTicketMessageQueueCommand) cmd).getTicket().getId();
+        }
+        if (cmd instanceof UpdateTicketMessageQueueCommand) {
+            return ((UpdateTicketMessageQueueCommand) cmd).getTicket().getId();
+        }
+        if (cmd instanceof DeleteTicketMessageQueueCommand) {
+            return ((DeleteTicketMessageQueueCommand) cmd).getTicketId();
+        }
+        if (cmd instanceof DeleteTicketsMessageQueueCommand) {
+            return DELETE_ALL_TICKETS_KEY;
+        }
+        return cmd.getClass().getName() + '@' + System.identityHashCode(cmd);
+    }
+}
@@ -1,13 +1,20 @@
 package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.ticket.queue.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.queue.RequestTicketsSnapshotMessageQueueCommand;
 import org.apereo.cas.ticket.queue.TicketRegistryQueuePublisher;
+import org.apereo.cas.ticket.queue.TicketsSnapshotMessageQueueCommand;
+import org.apereo.cas.util.PublisherIdentifier;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.springframework.jms.core.JmsTemplate;
 
+import java.time.Duration;
+import java.util.Optional;
+
 /**
  * This is {@link JmsTicketRegistryQueuePublisher}.
  *
@@ -33,4 +40,58 @@ public class JmsTicketRegistryQueuePublisher implements TicketRegistryQueuePubli
                 return message;
             });
     }
+
+    /**
+     * Ask peers for a page of the tickets they currently hold, and wait for the first response.
+     *
+     * @param id                the identifier of this ticket registry
+     * @param continuationToken the continuation token of the previous page, or null for the first page
+     * @param timeout           the time to wait for a response
+     * @return the response, if any
+     * @throws Exception the exception
+     */
+    public Optional<TicketsSnapshotMessageQueueCommand> requestTicketsSnapshot(final PublisherIdentifier id,
+                                                                               final String continuationToken,
+                                                                               final Duration timeout) throws Exception {
+        val template = new JmsTemplate(jmsTemplate.getConnectionFactory());
+        template.setPubSubDomain(jmsTemplate.isPubSubDomain());
+        template.setReceiveTimeout(timeout.toMillis());
+        val converter = jmsTemplate.getMessageConverter();
+        LOGGER.debug("Requesting snapshot of tickets after [{}] from peers for ticket registry id [{}]", continuationToken, id);
+        val reply = template.sendAndReceive(QUEUE_DESTINATION,
+            session -> converter.toMessage(new RequestTicketsSnapshotMessageQueueCommand(id, continuationToken), session));
+        if (reply == null) {
+            LOGGER.info("No peer responded with a snapshot of tickets within [{}]", timeout);
+            return Optional.empty();
+        }
+        return Optional.of((TicketsSnapshotMessageQueueCommand) converter.fromMessage(reply));
+    }
+
+    /**
+     * Ask peers for all the tickets they currently hold, page by page,
+     * and load them into the given ticket registry.
+     * Loading stops once the last page is received, or a page is not received within the timeout.
+     *
+     * @param id             the identifier of this ticket registry
+     * @param ticketRegistry the ticket registry that receives the tickets
+     * @param timeout        the time to wait for a response to each page
+     * @return the number of tickets received
+     * @throws Exception the exception
+     */
+    public long loadTicketsSnapshot(final PublisherIdentifier id, final TicketRegistry ticketRegistry,
+                                    final Duration timeout) throws Exception {
+        var count = 0L;
+        String continuationToken = null;
+        do {
+            val snapshot = requestTicketsSnapshot(id, continuationToken, timeout);
+            if (snapshot.isEmpty()) {
+                break;
+            }
+            snapshot.get().execute(ticketRegistry);
+            count += snapshot.get().getTickets().size();
+            continuationToken = snapshot.get().getContinuationToken();
+        } while (continuationToken != null);
+        LOGGER.debug("Received [{}] tickets from peers for ticket registry id [{}]", count, id);
+        return count;
+    }
 }
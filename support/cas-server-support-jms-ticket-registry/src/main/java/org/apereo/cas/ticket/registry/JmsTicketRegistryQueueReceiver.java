@@ -1,25 +1,73 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.queue.BaseMessageQueueCommand;
 import org.apereo.cas.ticket.queue.BaseTicketRegistryQueueReceiver;
+import org.apereo.cas.ticket.queue.RequestTicketsSnapshotMessageQueueCommand;
+import org.apereo.cas.ticket.queue.TicketsSnapshotMessageQueueCommand;
 import org.apereo.cas.util.PublisherIdentifier;
 
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.springframework.jms.annotation.JmsListener;
 
+import java.util.Comparator;
+import java.util.stream.Collectors;
+
 /**
  * This is {@link JmsTicketRegistryQueueReceiver}.
+ * Requests from peers for a snapshot of tickets are answered with a page of the tickets
+ * held by this node, which is sent back to the requesting node as the reply. Tickets are paged
+ * in the order of their identifiers, and the identifier of the last ticket in the page serves
+ * as the continuation token for the next page, so that any peer is able to answer the next request.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
  */
+@Slf4j
 public class JmsTicketRegistryQueueReceiver extends BaseTicketRegistryQueueReceiver {
-    public JmsTicketRegistryQueueReceiver(final TicketRegistry ticketRegistry, final PublisherIdentifier ticketRegistryId) {
+    private final int snapshotPageSize;
+
+    public JmsTicketRegistryQueueReceiver(final TicketRegistry ticketRegistry, final PublisherIdentifier ticketRegistryId,
+                                          final int snapshotPageSize) {
         super(ticketRegistry, ticketRegistryId);
+        this.snapshotPageSize = Math.max(1, snapshotPageSize);
     }
 
+    /**
+     * Receive message from queue and execute command,
+     * or reply with a snapshot of tickets if requested.
+     *
+     * @param command the command
+     * @return the reply, if any
+     * @throws Exception the exception
+     */
     @JmsListener(destination = JmsTicketRegistryQueuePublisher.QUEUE_DESTINATION, containerFactory = "messageQueueTicketRegistryFactory")
-    @Override
-    public void receive(final BaseMessageQueueCommand command) throws Exception {
-        super.receive(command);
+    public BaseMessageQueueCommand receiveAndReply(final BaseMessageQueueCommand command) throws Exception {
+        if (command instanceof RequestTicketsSnapshotMessageQueueCommand) {
+            if (command.getId().equals(getTicketRegistryId())) {
+                return null;
+            }
+            return getTicketsSnapshot((RequestTicketsSnapshotMessageQueueCommand) command);
+        }
+        receive(command);
+        return null;
+    }
+
+    private TicketsSnapshotMessageQueueCommand getTicketsSnapshot(final RequestTicketsSnapshotMessageQueueCommand command) {
+        val continuationToken = command.getContinuationToken();
+        val tickets = getTicketRegistry().getTickets()
+            .stream()
+            .filter(ticket -> continuationToken == null || ticket.getId().compareTo(continuationToken) > 0)
+            .filter(ticket -> !ticket.isExpired())
+            .sorted(Comparator.comparing(Ticket::getId))
+            .limit(snapshotPageSize + 1L)
+            .collect(Collectors.toList());
+        val lastPage = tickets.size() <= snapshotPageSize;
+        val page = lastPage ? tickets : tickets.subList(0, snapshotPageSize);
+        val nextContinuationToken = lastPage ? null : page.get(page.size() - 1).getId();
+        LOGGER.debug("Responding to ticket registry id [{}] with a snapshot of [{}] tickets after [{}]",
+            command.getId(), page.size(), continuationToken);
+        return new TicketsSnapshotMessageQueueCommand(getTicketRegistryId(), page, nextContinuationToken);
     }
 }
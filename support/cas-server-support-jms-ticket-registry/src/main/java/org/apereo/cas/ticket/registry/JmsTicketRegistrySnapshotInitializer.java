@@ -0,0 +1,78 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+
+/**
+ * This is {@link JmsTicketRegistrySnapshotInitializer}, which asks peers for the tickets
+ * they currently hold on startup, and loads them into the ticket registry of this node without publishing them again.
+ * Tickets are loaded in a lifecycle phase that runs before the embedded web server starts,
+ * so that a node joining the cluster does not accept requests without existing tickets.
+ * Nothing is requested if the snapshot timeout is not positive, or if there is no ticket registry to receive the tickets.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JmsTicketRegistrySnapshotInitializer implements SmartLifecycle {
+    /**
+     * Lifecycle phase in which tickets are loaded, ahead of the phase in which the embedded web server starts.
+     */
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2;
+
+    private final JmsTicketRegistryQueuePublisher publisher;
+
+    private final PublisherIdentifier id;
+
+    private final TicketRegistry ticketRegistry;
+
+    private final Duration timeout;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        initialize();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Load tickets from peers.
+     *
+     * @return the number of tickets received
+     */
+    public long initialize() {
+        if (ticketRegistry == null || timeout.isZero() || timeout.isNegative()) {
+            LOGGER.debug("Requesting a snapshot of tickets from peers is disabled");
+            return 0;
+        }
+        try {
+            return publisher.loadTicketsSnapshot(id, ticketRegistry, timeout);
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, "Unable to obtain a snapshot of tickets from peers", e);
+        }
+        return 0;
+    }
+}
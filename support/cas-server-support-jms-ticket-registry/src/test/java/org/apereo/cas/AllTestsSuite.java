@@ -1,5 +1,6 @@
 package org.apereo.cas;
 
+import org.apereo.cas.ticket.registry.JmsTicketRegistryReplicationTests;
 import org.apereo.cas.ticket.registry.JmsTicketRegistryTests;
 import org.apereo.cas.ticket.registry.queue.AddTicketMessageQueueCommandTests;
 import org.apereo.cas.ticket.registry.queue.DeleteTicketMessageQueueCommandTests;
@@ -20,7 +21,8 @@ import org.junit.platform.suite.api.Suite;
     DeleteTicketsMessageQueueCommandTests.class,
     DeleteTicketMessageQueueCommandTests.class,
     UpdateTicketMessageQueueCommandTests.class,
-    JmsTicketRegistryTests.class
+    JmsTicketRegistryTests.class,
+    JmsTicketRegistryReplicationTests.class
 })
 @Suite
 public class AllTestsSuite {
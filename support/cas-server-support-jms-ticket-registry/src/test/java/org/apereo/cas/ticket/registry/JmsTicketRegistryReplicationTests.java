@@ -0,0 +1,190 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.config.JmsTicketRegistryConfiguration;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.queue.AddTicketMessageQueueCommand;
+import org.apereo.cas.ticket.queue.BaseMessageQueueCommand;
+import org.apereo.cas.ticket.queue.BatchMessageQueueCommand;
+import org.apereo.cas.ticket.queue.DeleteTicketMessageQueueCommand;
+import org.apereo.cas.ticket.queue.DeleteTicketsMessageQueueCommand;
+import org.apereo.cas.ticket.queue.UpdateTicketMessageQueueCommand;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jms.JmsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jms.activemq.ActiveMQAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jms.annotation.EnableJms;
+import org.springframework.jms.core.JmsTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link JmsTicketRegistryReplicationTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@SpringBootTest(classes = {
+    ActiveMQAutoConfiguration.class,
+    JmsAutoConfiguration.class,
+    JmsTicketRegistryConfiguration.class,
+    BaseTicketRegistryTests.SharedTestConfiguration.class
+},
+    properties = {
+        "spring.activemq.broker-url=vm://localhost?broker.persistent=false",
+        "spring.activemq.pool.enabled=false",
+        "spring.activemq.packages.trust-all=true",
+        "cas.ticket.registry.jms.snapshot-timeout=PT1S",
+        "cas.ticket.registry.jms.snapshot-page-size=2"
+    })
+@EnableJms
+@Tag("JMS")
+public class JmsTicketRegistryReplicationTests {
+    @Autowired
+    @Qualifier(TicketRegistry.BEAN_NAME)
+    private TicketRegistry ticketRegistry;
+
+    @Autowired
+    private JmsTemplate jmsTemplate;
+
+    @Test
+    public void verifyCommandsCoalesced() {
+        val published = new ArrayList<BaseMessageQueueCommand>();
+        val id = new PublisherIdentifier();
+        try (val publisher = new JmsTicketRegistryCoalescingQueuePublisher(published::add, id, Duration.ofMinutes(1), 10)) {
+            val ticket1 = new TicketGrantingTicketImpl("TGT-1", CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+            val ticket2 = new TicketGrantingTicketImpl("TGT-2", CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+            publisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, ticket1));
+            publisher.publishMessageToQueue(new UpdateTicketMessageQueueCommand(id, ticket1));
+            publisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, ticket2));
+            publisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(id, ticket2.getId()));
+            assertTrue(published.isEmpty());
+            publisher.flush();
+            assertEquals(1, published.size());
+            val batch = (BatchMessageQueueCommand) published.get(0);
+            assertEquals(2, batch.getCommands().size());
+            assertTrue(batch.getCommands().get(0) instanceof UpdateTicketMessageQueueCommand);
+            assertTrue(batch.getCommands().get(1) instanceof DeleteTicketMessageQueueCommand);
+
+            publisher.publishMessageToQueue(new AddTicketMessageQueueCommand(id, ticket1));
+            publisher.publishMessageToQueue(new DeleteTicketsMessageQueueCommand(id));
+            publisher.flush();
+            assertEquals(2, published.size());
+            assertTrue(published.get(1) instanceof DeleteTicketsMessageQueueCommand);
+        }
+    }
+
+    @Test
+    public void verifyFailedCommandsRequeued() {
+        val published = new ArrayList<BaseMessageQueueCommand>();
+        val failing = new AtomicBoolean(true);
+        val id = new PublisherIdentifier();
+        try (val publisher = new JmsTicketRegistryCoalescingQueuePublisher(cmd -> {
+            if (failing.get()) {
+                throw new IllegalStateException("Broker is unavailable");
+            }
+            published.add(cmd);
+        }, id, Duration.ofMinutes(1), 10)) {
+            publisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(id, "ST-1"));
+            publisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(id, "ST-2"));
+            publisher.flush();
+            assertTrue(published.isEmpty());
+
+            publisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(id, "ST-3"));
+            failing.set(false);
+            publisher.flush();
+            assertEquals(1, published.size());
+            val batch = (BatchMessageQueueCommand) published.get(0);
+            assertEquals(3, batch.getCommands().size());
+            assertEquals("ST-1", ((DeleteTicketMessageQueueCommand) batch.getCommands().get(0)).getTicketId());
+            assertEquals("ST-3", ((DeleteTicketMessageQueueCommand) batch.getCommands().get(2)).getTicketId());
+        }
+    }
+
+    @Test
+    public void verifyCommandsPublishedIndividuallyWhenBatchFails() {
+        val published = new ArrayList<BaseMessageQueueCommand>();
+        val id = new PublisherIdentifier();
+        try (val publisher = new JmsTicketRegistryCoalescingQueuePublisher(cmd -> {
+            if (cmd instanceof BatchMessageQueueCommand) {
+                throw new IllegalStateException("Message is too large");
+            }
+            published.add(cmd);
+        }, id, Duration.ofMinutes(1), 10)) {
+            publisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(id, "ST-1"));
+            publisher.publishMessageToQueue(new DeleteTicketMessageQueueCommand(id, "ST-2"));
+            publisher.flush();
+            assertEquals(2, published.size());
+        }
+    }
+
+    @Test
+    public void verifySnapshotFromPeer() throws Exception {
+        val ticket = new TicketGrantingTicketImpl("TGT-SNAPSHOT", CoreAuthenticationTestUtils.getAuthentication(),
+            NeverExpiresExpirationPolicy.INSTANCE);
+        ticketRegistry.addTicket(ticket);
+
+        val snapshot = new JmsTicketRegistryQueuePublisher(jmsTemplate)
+            .requestTicketsSnapshot(new PublisherIdentifier(), null, Duration.ofSeconds(10));
+        assertTrue(snapshot.isPresent());
+        assertFalse(snapshot.get().getTickets().isEmpty());
+
+        val joiningRegistry = new DefaultTicketRegistry();
+        snapshot.get().execute(joiningRegistry);
+        assertFalse(joiningRegistry.getTickets().isEmpty());
+    }
+
+    @Test
+    public void verifySnapshotInPagesOnStartup() throws Exception {
+        val tickets = IntStream.range(0, 5)
+            .mapToObj(i -> new TicketGrantingTicketImpl("TGT-PAGE-" + i, CoreAuthenticationTestUtils.getAuthentication(),
+                NeverExpiresExpirationPolicy.INSTANCE))
+            .collect(Collectors.toList());
+        for (val ticket : tickets) {
+            ticketRegistry.addTicket(ticket);
+        }
+        val joiningRegistry = new DefaultTicketRegistry();
+        val initializer = new JmsTicketRegistrySnapshotInitializer(new JmsTicketRegistryQueuePublisher(jmsTemplate),
+            new PublisherIdentifier(), joiningRegistry, Duration.ofSeconds(10));
+        assertTrue(initializer.initialize() >= tickets.size());
+        tickets.forEach(ticket -> assertNotNull(joiningRegistry.getTicket(ticket.getId())));
+    }
+
+    @Test
+    public void verifySnapshotLoadedOnStart() throws Exception {
+        val ticket = new TicketGrantingTicketImpl("TGT-START-1", CoreAuthenticationTestUtils.getAuthentication(),
+            NeverExpiresExpirationPolicy.INSTANCE);
+        ticketRegistry.addTicket(ticket);
+        val joiningRegistry = new DefaultTicketRegistry();
+        val initializer = new JmsTicketRegistrySnapshotInitializer(new JmsTicketRegistryQueuePublisher(jmsTemplate),
+            new PublisherIdentifier(), joiningRegistry, Duration.ofSeconds(10));
+        assertTrue(initializer.isAutoStartup());
+        assertTrue(initializer.getPhase() < SmartLifecycle.DEFAULT_PHASE - 1);
+        initializer.start();
+        assertTrue(initializer.isRunning());
+        assertNotNull(joiningRegistry.getTicket(ticket.getId()));
+        initializer.stop();
+        assertFalse(initializer.isRunning());
+    }
+
+    @Test
+    public void verifySnapshotDisabled() {
+        val initializer = new JmsTicketRegistrySnapshotInitializer(new JmsTicketRegistryQueuePublisher(jmsTemplate),
+            new PublisherIdentifier(), new DefaultTicketRegistry(), Duration.ZERO);
+        assertEquals(0, initializer.initialize());
+    }
+}
@@ -135,16 +135,18 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
     }
 
     @Override
-    public Ticket updateTicket(final Ticket ticket) throws Exception {
-        LOGGER.trace("Updating ticket [{}]", ticket);
-        val encodeTicket = this.encodeTicket(ticket);
+    protected Ticket updateTicketInternal(final Ticket ticket) {
+        return transactionTemplate.execute(status -> {
+            LOGGER.trace("Updating ticket [{}]", ticket);
+            val encodeTicket = Unchecked.function(this::encodeTicket).apply(ticket);
 
-        val factory = getJpaTicketEntityFactory();
-        val ticketEntity = factory.fromTicket(encodeTicket);
+            val factory = getJpaTicketEntityFactory();
+            val ticketEntity = factory.fromTicket(encodeTicket);
 
-        this.entityManager.merge(ticketEntity);
-        LOGGER.debug("Updated ticket [{}]", encodeTicket);
-        return encodeTicket;
+            this.entityManager.merge(ticketEntity);
+            LOGGER.debug("Updated ticket [{}]", encodeTicket);
+            return encodeTicket;
+        });
     }
 
     /**
@@ -207,6 +209,33 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return Objects.requireNonNull(result);
     }
 
+    /**
+     * Locks the ticket row for update and removes it within the same transaction,
+     * so concurrent attempts to take the ticket wait for this one and then find nothing.
+     *
+     * @param ticketId the ticket id
+     * @return the ticket
+     */
+    @Override
+    protected Ticket takeTicket(final String ticketId) {
+        return transactionTemplate.execute(status -> {
+            val factory = getJpaTicketEntityFactory();
+            val sql = String.format("SELECT t FROM %s t WHERE t.id = :id", factory.getEntityName());
+            val query = entityManager.createQuery(sql, factory.getType());
+            query.setParameter("id", encodeTicketId(ticketId));
+            query.setLockMode(LockModeType.PESSIMISTIC_WRITE);
+            return query.getResultStream()
+                .findFirst()
+                .map(entity -> {
+                    val ticket = factory.toTicket(entity);
+                    entityManager.remove(entity);
+                    LOGGER.debug("Removed ticket [{}] from registry to consume", ticketId);
+                    return decodeTicket(ticket);
+                })
+                .orElse(null);
+        });
+    }
+
     private JpaTicketEntityFactory getJpaTicketEntityFactory() {
         val jpa = casProperties.getTicket().getRegistry().getJpa();
         return new JpaTicketEntityFactory(jpa.getDialect());
@@ -1,5 +1,6 @@
 package org.apereo.cas.authentication;
 
+import org.apereo.cas.authentication.attribute.PrincipalAttributesHandOff;
 import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
 import org.apereo.cas.authentication.handler.support.AbstractUsernamePasswordAuthenticationHandler;
 import org.apereo.cas.authentication.principal.Principal;
@@ -34,6 +35,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -87,6 +89,12 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
      */
     private String principalDnAttributeName = "principalLdapDn";
 
+    /**
+     * Flag to indicate whether attributes collected from the authenticated entry
+     * should be handed off to principal resolution for the current authentication transaction.
+     */
+    private boolean handOffPrincipalAttributes;
+
     /**
      * Creates a new authentication handler that delegates to the given authenticator.
      *
@@ -170,6 +178,13 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
         LOGGER.debug("LDAP principal identifier created is [{}]", id);
         val attributeMap = collectAttributesForLdapEntry(ldapEntry, id);
         LOGGER.debug("Created LDAP principal for id [{}] and [{}] attributes", id, attributeMap.size());
+        if (this.handOffPrincipalAttributes) {
+            val attributeNames = getPrincipalAttributeNames();
+            PrincipalAttributesHandOff.record(id, attributeNames, attributeMap);
+            if (!id.equals(username)) {
+                PrincipalAttributesHandOff.record(username, attributeNames, attributeMap);
+            }
+        }
         return this.principalFactory.createPrincipal(id, attributeMap);
     }
 
@@ -202,6 +217,28 @@ public class LdapAuthenticationHandler extends AbstractUsernamePasswordAuthentic
         return attributeMap;
     }
 
+    /**
+     * Gets the names of all principal attributes that may be collected from the LDAP entry.
+     * Attributes collected with tags or options are excluded, since their final names depend on the entry.
+     *
+     * @return the principal attribute names
+     */
+    protected Set<String> getPrincipalAttributeNames() {
+        val names = new HashSet<String>();
+        principalAttributeMap.forEach((key, mappedNames) -> {
+            val attributeNames = CollectionUtils.toCollection(mappedNames, ArrayList.class);
+            if (attributeNames.isEmpty()) {
+                names.add(key);
+            } else if (attributeNames.stream().noneMatch(name -> name.toString().endsWith(";"))) {
+                attributeNames.forEach(name -> names.add(name.toString()));
+            }
+        });
+        if (this.collectDnAttribute) {
+            names.add(this.principalDnAttributeName);
+        }
+        return names;
+    }
+
     /**
      * Gets ldap principal identifier. If the principal id attribute is defined, it's retrieved.
      * If no attribute value is found, a warning is generated and the provided username is used instead.
@@ -0,0 +1,182 @@
+package org.apereo.cas.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.ldaptive.Connection;
+import org.ldaptive.ConnectionConfig;
+import org.ldaptive.PooledConnectionFactory;
+import org.ldaptive.pool.PoolException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link InstrumentedPooledConnectionFactory}, a pooled connection factory
+ * that records connection checkout times and failures, and reports them along with
+ * the size of the pool to the given meter registry.
+ * <p>
+ * When adaptive sizing is turned on, a sustained wait to check out connections
+ * causes the pool to open additional connections in the background, up to its maximum size,
+ * so that subsequent checkouts do not need to wait for connections to be created.
+ * Connections are opened on a thread dedicated to the pool, so that slow LDAP servers
+ * never hold up threads shared with the rest of the application.
+ * Connections that are no longer needed are then removed by the prune strategy of the pool.
+ * </p>
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class InstrumentedPooledConnectionFactory extends PooledConnectionFactory {
+    private static final double WAIT_TIME_SMOOTHING_FACTOR = 0.2;
+
+    private static final long SUSTAINED_WAIT_TIME_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final int GROWTH_STEP = 2;
+
+    private final LongAdder checkoutFailures = new LongAdder();
+
+    private final LongAdder validationFailures = new LongAdder();
+
+    private final AtomicBoolean growing = new AtomicBoolean();
+
+    private final List<Meter> meters = new ArrayList<>();
+
+    private final AtomicLong averageWaitTimeNanos = new AtomicLong();
+
+    private final boolean adaptive;
+
+    private final ExecutorService growthExecutor;
+
+    private Timer waitTimer;
+
+    private MeterRegistry meterRegistry;
+
+    public InstrumentedPooledConnectionFactory(final ConnectionConfig config, final boolean adaptive) {
+        super(config);
+        this.adaptive = adaptive;
+        this.growthExecutor = adaptive
+            ? Executors.newSingleThreadExecutor(runnable -> {
+                val thread = new Thread(runnable, "LdapConnectionPoolGrowth-" + config.getLdapUrl());
+                thread.setDaemon(true);
+                return thread;
+            })
+            : null;
+    }
+
+    /**
+     * Register pool meters with the registry.
+     *
+     * @param registry the registry
+     * @param tags     the tags that identify this pool
+     */
+    public void bindTo(final MeterRegistry registry, final Tags tags) {
+        this.meterRegistry = registry;
+        meters.add(Gauge.builder("cas.ldap.pool.connections", this, PooledConnectionFactory::activeCount)
+            .description("Connections currently checked out of the LDAP connection pool")
+            .tags(tags).tag("state", "active")
+            .register(registry));
+        meters.add(Gauge.builder("cas.ldap.pool.connections", this, PooledConnectionFactory::availableCount)
+            .description("Idle connections available in the LDAP connection pool")
+            .tags(tags).tag("state", "idle")
+            .register(registry));
+        meters.add(FunctionCounter.builder("cas.ldap.pool.checkout.failures", checkoutFailures, LongAdder::sum)
+            .description("Failed attempts to check out a connection from the LDAP connection pool")
+            .tags(tags)
+            .register(registry));
+        meters.add(FunctionCounter.builder("cas.ldap.pool.validation.failures", validationFailures, LongAdder::sum)
+            .description("Pooled LDAP connections that failed validation")
+            .tags(tags)
+            .register(registry));
+        this.waitTimer = Timer.builder("cas.ldap.pool.wait")
+            .description("Time spent waiting to check out a connection from the LDAP connection pool")
+            .tags(tags)
+            .register(registry);
+        meters.add(waitTimer);
+    }
+
+    @Override
+    public Connection getConnection() throws PoolException {
+        val start = System.nanoTime();
+        try {
+            val connection = super.getConnection();
+            recordWaitTime(System.nanoTime() - start);
+            return connection;
+        } catch (final PoolException e) {
+            checkoutFailures.increment();
+            recordWaitTime(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Record the outcome of a connection validation.
+     *
+     * @param valid whether the connection is valid
+     * @return the outcome
+     */
+    public Boolean recordValidation(final Boolean valid) {
+        if (!Boolean.TRUE.equals(valid)) {
+            validationFailures.increment();
+        }
+        return valid;
+    }
+
+    @Override
+    public void close() {
+        if (meterRegistry != null) {
+            meters.forEach(meterRegistry::remove);
+        }
+        meters.clear();
+        if (growthExecutor != null) {
+            growthExecutor.shutdownNow();
+        }
+        super.close();
+    }
+
+    private void recordWaitTime(final long waitTimeNanos) {
+        if (waitTimer != null) {
+            waitTimer.record(waitTimeNanos, TimeUnit.NANOSECONDS);
+        }
+        val averageWaitTime = averageWaitTimeNanos.accumulateAndGet(waitTimeNanos,
+            (average, waitTime) -> average + Math.round(WAIT_TIME_SMOOTHING_FACTOR * (waitTime - average)));
+        if (adaptive && averageWaitTime > SUSTAINED_WAIT_TIME_NANOS && availableCount() == 0
+            && activeCount() < getMaxPoolSize() && growing.compareAndSet(false, true)) {
+            try {
+                growthExecutor.execute(this::growTowardsMaximumSize);
+            } catch (final RejectedExecutionException e) {
+                LOGGER.trace("LDAP connection pool is closed and will not grow");
+                growing.set(false);
+            }
+        }
+    }
+
+    private void growTowardsMaximumSize() {
+        val size = Math.min(GROWTH_STEP, getMaxPoolSize() - activeCount() - availableCount());
+        val connections = new ArrayList<Connection>(Math.max(size, 0));
+        try {
+            LOGGER.debug("Checkout wait time is sustained; growing LDAP connection pool by [{}] connection(s)", size);
+            for (var i = 0; i < size; i++) {
+                connections.add(super.getConnection());
+            }
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+        } finally {
+            connections.forEach(Connection::close);
+            growing.set(false);
+        }
+    }
+}
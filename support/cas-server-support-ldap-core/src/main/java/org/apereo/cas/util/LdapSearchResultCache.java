@@ -0,0 +1,252 @@
+package org.apereo.cas.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.ldaptive.ConnectionFactory;
+import org.ldaptive.FilterTemplate;
+import org.ldaptive.LdapException;
+import org.ldaptive.ResultCode;
+import org.ldaptive.SearchResponse;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link LdapSearchResultCache}, a bounded cache of LDAP search responses
+ * keyed by the base DN, the formatted search filter along with its parameters, the page size
+ * and the requested attributes. Responses that carry no entries are cached as well,
+ * typically for a shorter period of time, so that lookups of missing entries or empty group
+ * memberships do not reach the directory on every attempt.
+ * <p>
+ * Caches are registered by name and connection factories are bound to a cache, so that
+ * all components that connect to the same directory may share cached results.
+ * Cached responses are shared by all callers and must be treated as read-only.
+ * </p>
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@Getter
+public class LdapSearchResultCache {
+    private static final Map<String, LdapSearchResultCache> CACHES = new ConcurrentHashMap<>();
+
+    private static final Map<ConnectionFactory, LdapSearchResultCache> CONNECTION_FACTORIES =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final String name;
+
+    private final Cache<SearchKey, SearchResponse> cache;
+
+    private final boolean cacheNegativeResults;
+
+    LdapSearchResultCache(final String name, final long maximumSize,
+                          final Duration expireAfterWrite, final Duration negativeExpireAfterWrite) {
+        this.name = name;
+        this.cacheNegativeResults = !negativeExpireAfterWrite.isZero() && !negativeExpireAfterWrite.isNegative();
+        val expiration = expireAfterWrite.toNanos();
+        val negativeExpiration = negativeExpireAfterWrite.toNanos();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .recordStats()
+            .expireAfter(new Expiry<SearchKey, SearchResponse>() {
+                @Override
+                public long expireAfterCreate(final SearchKey key, final SearchResponse value, final long currentTime) {
+                    return value.entrySize() > 0 ? expiration : negativeExpiration;
+                }
+
+                @Override
+                public long expireAfterUpdate(final SearchKey key, final SearchResponse value,
+                                              final long currentTime, final long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(final SearchKey key, final SearchResponse value,
+                                            final long currentTime, final long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    /**
+     * Bind the connection factory to the named cache, creating the cache if necessary.
+     * Meters that report cache hits and misses are registered with the registry when the cache is created.
+     *
+     * @param connectionFactory        the connection factory
+     * @param name                     the cache name
+     * @param maximumSize              the maximum size
+     * @param expireAfterWrite         expiration of responses that contain entries
+     * @param negativeExpireAfterWrite expiration of responses that contain no entries
+     * @param registry                 the meter registry
+     * @return the cache
+     */
+    public static LdapSearchResultCache bind(final ConnectionFactory connectionFactory, final String name,
+                                             final long maximumSize, final Duration expireAfterWrite,
+                                             final Duration negativeExpireAfterWrite, final MeterRegistry registry) {
+        val searchCache = CACHES.computeIfAbsent(name, key -> {
+            LOGGER.debug("Creating LDAP search result cache [{}] with maximum size [{}]", key, maximumSize);
+            val created = new LdapSearchResultCache(key, maximumSize, expireAfterWrite, negativeExpireAfterWrite);
+            CaffeineCacheMetrics.monitor(registry, created.getCache(), "ldapSearchResultCache", "name", key);
+            return created;
+        });
+        CONNECTION_FACTORIES.put(connectionFactory, searchCache);
+        return searchCache;
+    }
+
+    /**
+     * Gets the cache bound to the connection factory.
+     *
+     * @param connectionFactory the connection factory
+     * @return the cache, if any
+     */
+    public static Optional<LdapSearchResultCache> forConnectionFactory(final ConnectionFactory connectionFactory) {
+        return Optional.ofNullable(CONNECTION_FACTORIES.get(connectionFactory));
+    }
+
+    /**
+     * Gets the cache registered under the given name.
+     *
+     * @param name the name
+     * @return the cache, if any
+     */
+    public static Optional<LdapSearchResultCache> forName(final String name) {
+        return Optional.ofNullable(CACHES.get(name));
+    }
+
+    /**
+     * Invalidate the contents of all caches.
+     */
+    public static void invalidateAllCaches() {
+        CACHES.values().forEach(LdapSearchResultCache::invalidate);
+    }
+
+    /**
+     * Build the cache key for a search request.
+     *
+     * @param baseDn           the base dn
+     * @param filter           the filter
+     * @param pageSize         the page size
+     * @param binaryAttributes the binary attributes
+     * @param returnAttributes the return attributes
+     * @return the key
+     */
+    public static SearchKey newSearchKey(final String baseDn, final FilterTemplate filter, final int pageSize,
+                                         final String[] binaryAttributes, final String[] returnAttributes) {
+        return new SearchKey(StringUtils.defaultString(baseDn), filter.format(), Math.max(pageSize, 0),
+            binaryAttributes == null ? List.of() : Arrays.asList(binaryAttributes),
+            returnAttributes == null ? List.of() : Arrays.asList(returnAttributes));
+    }
+
+    /**
+     * Get the cached response for the key or execute the search and cache its response.
+     * Only successful responses are cached; responses that contain no entries
+     * are only cached if negative results are cached.
+     *
+     * @param key      the key
+     * @param executor the search executor
+     * @return the search response
+     * @throws LdapException the ldap exception
+     */
+    public SearchResponse get(final SearchKey key, final SearchExecutor executor) throws LdapException {
+        val cached = cache.getIfPresent(key);
+        if (cached != null) {
+            LOGGER.trace("Found cached search response for [{}] in [{}]", key, name);
+            return cached;
+        }
+        val response = executor.execute();
+        if (response != null && response.getResultCode() == ResultCode.SUCCESS
+            && (response.entrySize() > 0 || cacheNegativeResults)) {
+            LOGGER.trace("Caching search response with [{}] entries for [{}] in [{}]", response.entrySize(), key, name);
+            cache.put(key, response);
+        }
+        return response;
+    }
+
+    /**
+     * Invalidate cached responses that may be affected by a change to the given entry;
+     * that is, searches whose base DN is or falls under the entry, whose filter
+     * refers to the entry or whose response contains the entry.
+     *
+     * @param dn the entry dn
+     */
+    public void invalidate(final String dn) {
+        if (StringUtils.isBlank(dn)) {
+            invalidate();
+            return;
+        }
+        cache.asMap().entrySet().removeIf(entry -> {
+            val key = entry.getKey();
+            return StringUtils.endsWithIgnoreCase(dn, key.getBaseDn())
+                || StringUtils.containsIgnoreCase(key.getFilter(), dn)
+                || entry.getValue().getEntryDnsAsList().stream().anyMatch(dn::equalsIgnoreCase);
+        });
+    }
+
+    /**
+     * Invalidate all cached responses.
+     */
+    public void invalidate() {
+        LOGGER.debug("Invalidating LDAP search result cache [{}]", name);
+        cache.invalidateAll();
+    }
+
+    /**
+     * Gets the ratio of searches that were answered from the cache.
+     *
+     * @return the hit ratio
+     */
+    public double getHitRatio() {
+        return cache.stats().hitRate();
+    }
+
+    /**
+     * Executes the search operation when no cached response is found.
+     */
+    @FunctionalInterface
+    public interface SearchExecutor {
+        /**
+         * Execute search.
+         *
+         * @return the search response
+         * @throws LdapException the ldap exception
+         */
+        SearchResponse execute() throws LdapException;
+    }
+
+    /**
+     * The cache key of a search request.
+     */
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    public static class SearchKey {
+        private final String baseDn;
+
+        private final String filter;
+
+        private final int pageSize;
+
+        private final List<String> binaryAttributes;
+
+        private final List<String> returnAttributes;
+    }
+}
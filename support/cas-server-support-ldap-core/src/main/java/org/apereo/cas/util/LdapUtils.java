@@ -27,6 +27,8 @@ import org.apereo.cas.util.spring.ApplicationContextProvider;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
 
 import com.google.common.collect.Multimap;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
@@ -43,6 +45,7 @@ import org.ldaptive.AttributeModification;
 import org.ldaptive.BindConnectionInitializer;
 import org.ldaptive.CompareConnectionValidator;
 import org.ldaptive.CompareRequest;
+import org.ldaptive.Connection;
 import org.ldaptive.ConnectionConfig;
 import org.ldaptive.ConnectionFactory;
 import org.ldaptive.Credential;
@@ -266,14 +269,13 @@ public class LdapUtils {
                                                         final int pageSize,
                                                         final String[] binaryAttributes,
                                                         final String[] returnAttributes) throws LdapException {
-        val request = LdapUtils.newLdaptiveSearchRequest(baseDn, filter, binaryAttributes, returnAttributes);
-        if (pageSize <= 0) {
-            val searchOperation = new SearchOperation(connectionFactory);
-            searchOperation.setSearchResultHandlers(new FollowSearchReferralHandler());
-            return searchOperation.execute(request);
+        val searchCache = LdapSearchResultCache.forConnectionFactory(connectionFactory);
+        if (searchCache.isPresent()) {
+            val key = LdapSearchResultCache.newSearchKey(baseDn, filter, pageSize, binaryAttributes, returnAttributes);
+            return searchCache.get().get(key,
+                () -> executeSearchOperationInternal(connectionFactory, baseDn, filter, pageSize, binaryAttributes, returnAttributes));
         }
-        val client = new PagedResultsClient(connectionFactory, pageSize);
-        return client.executeToCompletion(request);
+        return executeSearchOperationInternal(connectionFactory, baseDn, filter, pageSize, binaryAttributes, returnAttributes);
     }
 
     /**
@@ -294,6 +296,42 @@ public class LdapUtils {
             ReturnAttributes.ALL_USER.value(), ReturnAttributes.ALL_USER.value());
     }
 
+    /**
+     * Invalidate cached search results of the connection factory
+     * that may be affected by a change to the given entry.
+     *
+     * @param connectionFactory the connection factory
+     * @param dn                the entry dn
+     */
+    public static void invalidateSearchResults(final ConnectionFactory connectionFactory, final String dn) {
+        LdapSearchResultCache.forConnectionFactory(connectionFactory).ifPresent(cache -> cache.invalidate(dn));
+    }
+
+    private static boolean invalidateSearchResults(final ConnectionFactory connectionFactory, final String dn,
+                                                   final ResultCode resultCode) {
+        if (resultCode == ResultCode.SUCCESS) {
+            invalidateSearchResults(connectionFactory, dn);
+            return true;
+        }
+        return false;
+    }
+
+    private static SearchResponse executeSearchOperationInternal(final ConnectionFactory connectionFactory,
+                                                                 final String baseDn,
+                                                                 final FilterTemplate filter,
+                                                                 final int pageSize,
+                                                                 final String[] binaryAttributes,
+                                                                 final String[] returnAttributes) throws LdapException {
+        val request = LdapUtils.newLdaptiveSearchRequest(baseDn, filter, binaryAttributes, returnAttributes);
+        if (pageSize <= 0) {
+            val searchOperation = new SearchOperation(connectionFactory);
+            searchOperation.setSearchResultHandlers(new FollowSearchReferralHandler());
+            return searchOperation.execute(request);
+        }
+        val client = new PagedResultsClient(connectionFactory, pageSize);
+        return client.executeToCompletion(request);
+    }
+
     /**
      * Checks to see if response has a result.
      *
@@ -347,7 +385,7 @@ public class LdapUtils {
                         new AttributeModification(AttributeModification.Type.DELETE, new UnicodePwdAttribute(oldPassword)),
                         new AttributeModification(AttributeModification.Type.ADD, new UnicodePwdAttribute(newPassword))));
                 LOGGER.debug("Result code [{}], message: [{}]", response.getResultCode(), response.getDiagnosticMessage());
-                return response.getResultCode() == ResultCode.SUCCESS;
+                return invalidateSearchResults(connectionFactory, currentDn, response.getResultCode());
             }
 
             LOGGER.debug("Executing password modification op for generic LDAP");
@@ -356,7 +394,7 @@ public class LdapUtils {
                 StringUtils.isNotBlank(oldPassword) ? oldPassword : null,
                 newPassword));
             LOGGER.debug("Result code [{}], message: [{}]", response.getResultCode(), response.getDiagnosticMessage());
-            return response.getResultCode() == ResultCode.SUCCESS;
+            return invalidateSearchResults(connectionFactory, currentDn, response.getResultCode());
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
         }
@@ -387,7 +425,7 @@ public class LdapUtils {
             val request = new ModifyRequest(currentDn, mods);
             val response = operation.execute(request);
             LOGGER.debug("Result code [{}], message: [{}]", response.getResultCode(), response.getDiagnosticMessage());
-            return response.getResultCode() == ResultCode.SUCCESS;
+            return invalidateSearchResults(connectionFactory, currentDn, response.getResultCode());
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
         }
@@ -421,7 +459,7 @@ public class LdapUtils {
             val operation = new AddOperation(connectionFactory);
             val response = operation.execute(new AddRequest(entry.getDn(), entry.getAttributes()));
             LOGGER.debug("Result code [{}], message: [{}]", response.getResultCode(), response.getDiagnosticMessage());
-            return response.getResultCode() == ResultCode.SUCCESS;
+            return invalidateSearchResults(connectionFactory, entry.getDn(), response.getResultCode());
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
         }
@@ -441,7 +479,7 @@ public class LdapUtils {
             val request = new DeleteRequest(entry.getDn());
             val response = delete.execute(request);
             LOGGER.debug("Result code [{}], message: [{}]", response.getResultCode(), response.getDiagnosticMessage());
-            return response.getResultCode() == ResultCode.SUCCESS;
+            return invalidateSearchResults(connectionFactory, entry.getDn(), response.getResultCode());
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
         }
@@ -701,7 +739,7 @@ public class LdapUtils {
         val cc = newLdaptiveConnectionConfig(l);
 
         LOGGER.debug("Creating LDAP connection pool configuration for [{}]", l.getLdapUrl());
-        val pooledCf = new PooledConnectionFactory(cc);
+        val pooledCf = new InstrumentedPooledConnectionFactory(cc, l.isAdaptivePoolSizing());
         pooledCf.setMinPoolSize(l.getMinPoolSize());
         pooledCf.setMaxPoolSize(l.getMaxPoolSize());
         pooledCf.setValidateOnCheckOut(l.isValidateOnCheckout());
@@ -709,8 +747,15 @@ public class LdapUtils {
         pooledCf.setBlockWaitTime(Beans.newDuration(l.getBlockWaitTime()));
 
         val strategy = new IdlePruneStrategy();
-        strategy.setIdleTime(Beans.newDuration(l.getIdleTime()));
-        strategy.setPrunePeriod(Beans.newDuration(l.getPrunePeriod()));
+        val idleTime = Beans.newDuration(l.getIdleTime());
+        strategy.setIdleTime(idleTime);
+        val prunePeriod = Beans.newDuration(l.getPrunePeriod());
+        if (l.isAdaptivePoolSizing() && idleTime.compareTo(prunePeriod) < 0) {
+            LOGGER.debug("Pruning idle connections of adaptive LDAP connection pool for [{}] every [{}]", l.getLdapUrl(), idleTime);
+            strategy.setPrunePeriod(idleTime);
+        } else {
+            strategy.setPrunePeriod(prunePeriod);
+        }
 
         pooledCf.setPruneStrategy(strategy);
 
@@ -721,7 +766,12 @@ public class LdapUtils {
                     validator.getDn(),
                     validator.getAttributeName(),
                     validator.getAttributeValue());
-                val compareValidator = new CompareConnectionValidator(compareRequest);
+                val compareValidator = new CompareConnectionValidator(compareRequest) {
+                    @Override
+                    public Boolean apply(final Connection connection) {
+                        return pooledCf.recordValidation(super.apply(connection));
+                    }
+                };
                 compareValidator.setValidatePeriod(Beans.newDuration(l.getValidatePeriod()));
                 compareValidator.setValidateTimeout(Beans.newDuration(l.getValidateTimeout()));
                 pooledCf.setValidator(compareValidator);
@@ -737,7 +787,12 @@ public class LdapUtils {
                 searchRequest.setReturnAttributes(ReturnAttributes.NONE.value());
                 searchRequest.setSearchScope(SearchScope.valueOf(validator.getScope()));
                 searchRequest.setSizeLimit(1);
-                val searchValidator = new SearchConnectionValidator(searchRequest);
+                val searchValidator = new SearchConnectionValidator(searchRequest) {
+                    @Override
+                    public Boolean apply(final Connection connection) {
+                        return pooledCf.recordValidation(super.apply(connection));
+                    }
+                };
                 searchValidator.setValidatePeriod(Beans.newDuration(l.getValidatePeriod()));
                 searchValidator.setValidateTimeout(Beans.newDuration(l.getValidateTimeout()));
                 pooledCf.setValidator(searchValidator);
@@ -772,6 +827,11 @@ public class LdapUtils {
 
         LOGGER.debug("Initializing ldap connection pool for [{}] and bindDn [{}]", l.getLdapUrl(), l.getBindDn());
         pooledCf.initialize();
+        pooledCf.bindTo(Metrics.globalRegistry, Tags.of(
+            "ldapUrl", StringUtils.defaultString(l.getLdapUrl()),
+            "name", StringUtils.defaultIfBlank(l.getName(), l.getClass().getSimpleName()),
+            "pool", Integer.toHexString(System.identityHashCode(pooledCf))));
+        bindSearchResultCache(pooledCf, l);
         return pooledCf;
     }
 
@@ -1131,7 +1191,21 @@ public class LdapUtils {
     public static ConnectionFactory newLdaptiveDefaultConnectionFactory(final AbstractLdapProperties l) {
         LOGGER.debug("Creating LDAP connection factory for [{}]", l.getLdapUrl());
         val cc = newLdaptiveConnectionConfig(l);
-        return new DefaultConnectionFactory(cc);
+        val connectionFactory = new DefaultConnectionFactory(cc);
+        bindSearchResultCache(connectionFactory, l);
+        return connectionFactory;
+    }
+
+    private static void bindSearchResultCache(final ConnectionFactory connectionFactory, final AbstractLdapProperties l) {
+        val searchCache = l.getSearchCache();
+        if (searchCache.isEnabled()) {
+            val name = StringUtils.defaultIfBlank(searchCache.getName(),
+                StringUtils.defaultString(l.getLdapUrl()) + BASE_DN_DELIMITER + StringUtils.defaultString(l.getBindDn()));
+            LOGGER.debug("Caching results of search operations for [{}] in [{}]", l.getLdapUrl(), name);
+            LdapSearchResultCache.bind(connectionFactory, name, searchCache.getMaximumSize(),
+                Beans.newDuration(searchCache.getExpireAfterWrite()),
+                Beans.newDuration(searchCache.getNegativeExpireAfterWrite()), Metrics.globalRegistry);
+        }
     }
 
     /**
@@ -1321,6 +1395,7 @@ public class LdapUtils {
             servicesManager, principalFactory,
             props.getOrder(), authenticator, strategy);
         handler.setCollectDnAttribute(props.isCollectDnAttribute());
+        handler.setHandOffPrincipalAttributes(props.isHandOffPrincipalAttributes());
 
         if (!props.getAdditionalAttributes().isEmpty()) {
             val additional = CoreAuthenticationUtils.transformPrincipalAttributesListIntoMultiMap(props.getAdditionalAttributes());
@@ -3,12 +3,16 @@ package org.apereo.cas;
 import org.apereo.cas.configuration.model.support.ldap.AbstractLdapAuthenticationProperties;
 import org.apereo.cas.configuration.model.support.ldap.AbstractLdapProperties;
 import org.apereo.cas.configuration.model.support.ldap.LdapSearchEntryHandlersProperties;
+import org.apereo.cas.util.InstrumentedPooledConnectionFactory;
+import org.apereo.cas.util.LdapSearchResultCache;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
 import org.apereo.cas.util.scripting.GroovyScriptResourceCacheManager;
 import org.apereo.cas.util.scripting.ScriptResourceCacheManager;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Tag;
@@ -197,6 +201,69 @@ public class LdapUtilsTests {
         assertFalse(LdapUtils.containsResultEntry(response));
     }
 
+    @Test
+    public void verifyPoolMetrics() throws Exception {
+        val ldap = new Ldap();
+        ldap.setBaseDn("ou=people,dc=example,dc=org");
+        ldap.setLdapUrl("ldap://localhost:10389");
+        ldap.setBindDn("cn=Directory Manager");
+        ldap.setBindCredential("password");
+        ldap.setSearchFilter("cn=invalid-user");
+        ldap.setAdaptivePoolSizing(true);
+
+        val registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        val factory = LdapUtils.newLdaptivePooledConnectionFactory(ldap);
+        assertTrue(factory instanceof InstrumentedPooledConnectionFactory);
+        val response = LdapUtils.executeSearchOperation(factory, ldap.getBaseDn(),
+            LdapUtils.newLdaptiveSearchFilter(ldap.getSearchFilter()), 10, "cn");
+        assertNotNull(response);
+
+        val pool = Integer.toHexString(System.identityHashCode(factory));
+        val timer = registry.find("cas.ldap.pool.wait").tag("pool", pool).timer();
+        assertNotNull(timer);
+        assertTrue(timer.count() >= 1);
+        assertNotNull(registry.find("cas.ldap.pool.connections").tag("pool", pool).tag("state", "idle").gauge());
+        factory.close();
+        assertNull(Metrics.globalRegistry.find("cas.ldap.pool.wait").tag("pool", pool).timer());
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    public void verifySearchResultCache() throws Exception {
+        val ldap = new Ldap();
+        ldap.setBaseDn("ou=people,dc=example,dc=org");
+        ldap.setLdapUrl("ldap://localhost:10389");
+        ldap.setBindDn("cn=Directory Manager");
+        ldap.setBindCredential("password");
+        ldap.setSearchFilter("cn={user}");
+        ldap.setDisablePooling(true);
+        ldap.getSearchCache().setEnabled(true);
+        ldap.getSearchCache().setName("verifySearchResultCache");
+
+        val registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        val factory = LdapUtils.newLdaptiveConnectionFactory(ldap);
+        val cache = LdapSearchResultCache.forConnectionFactory(factory).orElseThrow();
+        assertSame(cache, LdapSearchResultCache.forName("verifySearchResultCache").orElseThrow());
+
+        val filter = LdapUtils.newLdaptiveSearchFilter(ldap.getSearchFilter(), List.of("invalid-user"));
+        val response = LdapUtils.executeSearchOperation(factory, ldap.getBaseDn(), filter, 0, "cn");
+        assertFalse(LdapUtils.containsResultEntry(response));
+        assertSame(response, LdapUtils.executeSearchOperation(factory, ldap.getBaseDn(), filter, 0, "cn"));
+        assertNotSame(response, LdapUtils.executeSearchOperation(factory, ldap.getBaseDn(), filter, 0, "sn"));
+        assertEquals(2, cache.getCache().estimatedSize());
+        assertTrue(cache.getHitRatio() > 0);
+        assertNotNull(registry.find("cache.gets").tag("cache", "ldapSearchResultCache").tag("name", "verifySearchResultCache").meter());
+
+        LdapUtils.invalidateSearchResults(factory, "cn=invalid-user,ou=people,dc=example,dc=org");
+        assertEquals(0, cache.getCache().asMap().size());
+        LdapUtils.executeSearchOperation(factory, ldap.getBaseDn(), filter, 0, "cn");
+        LdapSearchResultCache.invalidateAllCaches();
+        assertEquals(0, cache.getCache().asMap().size());
+        Metrics.removeRegistry(registry);
+    }
+
     @Test
     public void verifyComparePooling() throws Exception {
         val ldap = new Ldap();
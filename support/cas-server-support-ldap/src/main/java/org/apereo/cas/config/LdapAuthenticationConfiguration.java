@@ -2,6 +2,7 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.authentication.AuthenticationEventExecutionPlanConfigurer;
 import org.apereo.cas.authentication.AuthenticationHandler;
+import org.apereo.cas.authentication.attribute.PrincipalAttributesHandOff;
 import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
@@ -12,6 +13,8 @@ import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.spring.beans.BeanContainer;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -55,6 +58,28 @@ public class LdapAuthenticationConfiguration {
         return LdapUtils.createLdapAuthenticationFactoryBean();
     }
 
+    @ConditionalOnMissingBean(name = "ldapPrincipalAttributesHandOffMeterBinder")
+    @Bean
+    public MeterBinder ldapPrincipalAttributesHandOffMeterBinder() {
+        return registry -> {
+            FunctionCounter.builder("cas.authn.ldap.attributes.hand-off", PrincipalAttributesHandOff.class,
+                    type -> PrincipalAttributesHandOff.getRecordedCount())
+                .description("Successful LDAP authentication attempts that handed off principal attributes")
+                .tag("outcome", "recorded")
+                .register(registry);
+            FunctionCounter.builder("cas.authn.ldap.attributes.hand-off", PrincipalAttributesHandOff.class,
+                    type -> PrincipalAttributesHandOff.getConsumedCount())
+                .description("Principal resolutions that used handed-off attributes without querying attribute repositories")
+                .tag("outcome", "consumed")
+                .register(registry);
+            FunctionCounter.builder("cas.authn.ldap.attributes.hand-off", PrincipalAttributesHandOff.class,
+                    type -> PrincipalAttributesHandOff.getFetchedCount())
+                .description("Principal resolutions that queried attribute repositories")
+                .tag("outcome", "fetched")
+                .register(registry);
+        };
+    }
+
     @Configuration(value = "LdapAuthenticationPlanConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class LdapAuthenticationPlanConfiguration {
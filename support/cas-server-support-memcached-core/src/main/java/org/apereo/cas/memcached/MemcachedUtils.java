@@ -66,7 +66,7 @@ public class MemcachedUtils {
                     memcachedProperties.isKryoRegistrationRequired(),
                     memcachedProperties.isKryoObjectsByReference(),
                     memcachedProperties.isKryoAutoReset());
-                val kryo = new CasKryoTranscoder(kryoPool);
+                val kryo = new CasKryoTranscoder(kryoPool, memcachedProperties.getKryoCompressionThreshold());
                 LOGGER.debug("Creating memcached transcoder [{}]", kryo.getClass().getName());
                 return kryo;
         }
@@ -2,7 +2,6 @@ package org.apereo.cas.memcached.kryo;
 
 import com.esotericsoftware.kryo.KryoException;
 import com.esotericsoftware.kryo.io.Input;
-import com.esotericsoftware.kryo.io.Output;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -11,6 +10,9 @@ import net.spy.memcached.transcoders.Transcoder;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * {@link net.spy.memcached.MemcachedClient} transcoder implementation based on Kryo fast serialization framework
@@ -26,6 +28,12 @@ import java.io.ByteArrayOutputStream;
  * if we’re unlucky it would contain bad data).  Or – a class gets registered in one instance, but not the other.
  * So – it needs to be pre-registered, and in a deterministic sequence.
  * </p>
+ * <p>
+ * Objects are written to and read from the buffers owned by the borrowed {@link CloseableKryo},
+ * so the only allocation per operation is the final byte array handed over to memcached.
+ * Encoded objects larger than the compression threshold, if one is defined, are compressed
+ * and flagged as such so they can be inflated when decoded.
+ * </p>
  *
  * @author Marvin S. Addison
  * @author Misagh Moayyed
@@ -34,8 +42,19 @@ import java.io.ByteArrayOutputStream;
 @Slf4j
 @RequiredArgsConstructor
 public class CasKryoTranscoder implements Transcoder<Object> {
+    /**
+     * Flag set on cached data whose bytes are compressed.
+     */
+    public static final int FLAG_COMPRESSED = 2;
+
     private final CasKryoPool kryoPool;
 
+    private final int compressionThreshold;
+
+    public CasKryoTranscoder(final CasKryoPool kryoPool) {
+        this(kryoPool, 0);
+    }
+
     @Override
     public boolean asyncDecode(final CachedData d) {
         return false;
@@ -43,15 +62,18 @@ public class CasKryoTranscoder implements Transcoder<Object> {
 
     @Override
     public CachedData encode(final Object obj) {
-        try (val kryo = this.kryoPool.borrow();
-             val byteStream = new ByteArrayOutputStream();
-             val output = new Output(byteStream)) {
+        try (val kryo = this.kryoPool.borrow()) {
             if (obj != null) {
                 LOGGER.trace("Writing object [{}] to memcached ", obj.getClass());
             }
+            val output = kryo.getOutput();
             kryo.writeClassAndObject(output, obj);
-            output.flush();
-            val bytes = byteStream.toByteArray();
+            if (compressionThreshold > 0 && output.position() > compressionThreshold) {
+                val bytes = compress(output.getBuffer(), output.position());
+                LOGGER.trace("Compressed encoded object from [{}] to [{}] bytes", output.position(), bytes.length);
+                return new CachedData(FLAG_COMPRESSED, bytes, bytes.length);
+            }
+            val bytes = output.toBytes();
             return new CachedData(0, bytes, bytes.length);
         } catch (final Exception exception) {
             throw new KryoException(exception);
@@ -61,9 +83,13 @@ public class CasKryoTranscoder implements Transcoder<Object> {
     @Override
     public Object decode(final CachedData d) {
         val bytes = d.getData();
-        try (val kryo = this.kryoPool.borrow();
-             val input = new Input(new ByteArrayInputStream(bytes))) {
-            return kryo.readClassAndObject(input);
+        try (val kryo = this.kryoPool.borrow()) {
+            if ((d.getFlags() & FLAG_COMPRESSED) != 0) {
+                try (val input = new Input(new InflaterInputStream(new ByteArrayInputStream(bytes)))) {
+                    return kryo.readClassAndObject(input);
+                }
+            }
+            return kryo.readClassAndObject(kryo.getInput(bytes));
         } catch (final Exception exception) {
             throw new KryoException(exception);
         }
@@ -82,4 +108,12 @@ public class CasKryoTranscoder implements Transcoder<Object> {
     public CloseableKryo getKryo() {
         return this.kryoPool.borrow();
     }
+
+    private static byte[] compress(final byte[] buffer, final int length) throws IOException {
+        val byteStream = new ByteArrayOutputStream(length / 2);
+        try (val deflater = new DeflaterOutputStream(byteStream)) {
+            deflater.write(buffer, 0, length);
+        }
+        return byteStream.toByteArray();
+    }
 }
@@ -3,14 +3,19 @@ package org.apereo.cas.memcached.kryo;
 import com.esotericsoftware.kryo.Kryo;
 import com.esotericsoftware.kryo.Registration;
 import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ArrayUtils;
 
 import java.io.Closeable;
 
 /**
  * This is {@link CloseableKryo} which allows {@link Kryo} instances
  * to be used with try-resource blocks.
+ * Each instance owns an input and an output buffer that are reused
+ * by every borrower, so encoding and decoding objects does not allocate new buffers.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -18,13 +23,48 @@ import java.io.Closeable;
 @Slf4j
 @RequiredArgsConstructor
 public class CloseableKryo extends Kryo implements Closeable {
+    private static final int BUFFER_SIZE = 4096;
+
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
     private final CasKryoPool kryoPool;
 
+    private final Output output = new Output(BUFFER_SIZE, -1);
+
+    private final Input input = new Input();
+
     @Override
     public void close() {
+        input.setBuffer(ArrayUtils.EMPTY_BYTE_ARRAY);
+        if (output.getBuffer().length > MAX_RETAINED_BUFFER_SIZE) {
+            output.setBuffer(new byte[BUFFER_SIZE], -1);
+        }
+        output.reset();
         this.kryoPool.release(this);
     }
 
+    /**
+     * Gets the output buffer owned by this instance, positioned at the start.
+     * The buffer grows as needed and is only valid until this instance is closed.
+     *
+     * @return the output
+     */
+    public Output getOutput() {
+        output.reset();
+        return output;
+    }
+
+    /**
+     * Gets the input owned by this instance, reading from the given bytes.
+     *
+     * @param bytes the bytes
+     * @return the input
+     */
+    public Input getInput(final byte[] bytes) {
+        input.setBuffer(bytes);
+        return input;
+    }
+
     @Override
     public Registration register(final Class type, final Serializer serializer) {
         LOGGER.debug("Registering class [{}] with Kryo using serializer [{}]", type.getName(), serializer.getClass().getName());
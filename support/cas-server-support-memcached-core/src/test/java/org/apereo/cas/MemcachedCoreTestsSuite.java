@@ -4,6 +4,7 @@ import org.apereo.cas.memcached.MemcachedPooledClientConnectionFactoryTests;
 import org.apereo.cas.memcached.MemcachedUtilsTests;
 import org.apereo.cas.memcached.kryo.CasKryoPoolTests;
 import org.apereo.cas.memcached.kryo.CasKryoTranscoderTests;
+import org.apereo.cas.memcached.kryo.CasKryoTranscoderTicketCatalogTests;
 import org.apereo.cas.memcached.kryo.serial.ImmutableNativeJavaListSerializerTests;
 import org.apereo.cas.memcached.kryo.serial.ImmutableNativeJavaMapSerializerTests;
 import org.apereo.cas.memcached.kryo.serial.ImmutableNativeJavaSetSerializerTests;
@@ -28,7 +29,8 @@ import org.junit.platform.suite.api.Suite;
     ImmutableNativeJavaListSerializerTests.class,
     ImmutableNativeJavaSetSerializerTests.class,
     MemcachedPooledClientConnectionFactoryTests.class,
-    ZonedDateTimeSerializerTests.class
+    ZonedDateTimeSerializerTests.class,
+    CasKryoTranscoderTicketCatalogTests.class
 })
 @Suite
 public class MemcachedCoreTestsSuite {
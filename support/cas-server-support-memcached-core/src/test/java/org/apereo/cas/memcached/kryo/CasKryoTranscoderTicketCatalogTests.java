@@ -0,0 +1,120 @@
+package org.apereo.cas.memcached.kryo;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.config.CasCoreAuthenticationComponentSerializationConfiguration;
+import org.apereo.cas.config.CasCoreServicesComponentSerializationConfiguration;
+import org.apereo.cas.config.CasCoreTicketCatalogConfiguration;
+import org.apereo.cas.config.CasCoreTicketComponentSerializationConfiguration;
+import org.apereo.cas.config.CasCoreUtilSerializationConfiguration;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.ProxyGrantingTicketIssuerTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.TransientSessionTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.serialization.ComponentSerializationPlan;
+
+import lombok.val;
+import net.spy.memcached.CachedData;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CasKryoTranscoderTicketCatalogTests}.
+ * Verifies that each ticket type in the ticket catalog round-trips through the transcoder,
+ * with and without compression, while pooled buffers are reused.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Memcached")
+@SpringBootTest(classes = {
+    RefreshAutoConfiguration.class,
+    CasCoreServicesComponentSerializationConfiguration.class,
+    CasCoreTicketComponentSerializationConfiguration.class,
+    CasCoreAuthenticationComponentSerializationConfiguration.class,
+    CasCoreUtilSerializationConfiguration.class
+})
+public class CasKryoTranscoderTicketCatalogTests {
+    private static final int COMPRESSION_THRESHOLD = 512;
+
+    @Autowired
+    @Qualifier("componentSerializationPlan")
+    private ComponentSerializationPlan componentSerializationPlan;
+
+    private static Map<String, Ticket> getTickets() {
+        val attributes = new HashMap<String, List<Object>>();
+        for (var i = 0; i < 20; i++) {
+            attributes.put("attribute" + i, CollectionUtils.wrapList(RandomStringUtils.randomAlphanumeric(64)));
+        }
+        val authentication = CoreAuthenticationTestUtils.getAuthentication(
+            CoreAuthenticationTestUtils.getPrincipal("casuser", attributes), attributes);
+        val tgt = new TicketGrantingTicketImpl("TGT-" + RandomStringUtils.randomAlphanumeric(64),
+            authentication, NeverExpiresExpirationPolicy.INSTANCE);
+        val st = (ProxyGrantingTicketIssuerTicket) tgt.grantServiceTicket("ST-" + RandomStringUtils.randomAlphanumeric(64),
+            RegisteredServiceTestUtils.getService(), NeverExpiresExpirationPolicy.INSTANCE, false, true);
+        val pgt = st.grantProxyGrantingTicket("PGT-" + RandomStringUtils.randomAlphanumeric(64),
+            authentication, NeverExpiresExpirationPolicy.INSTANCE);
+        val pt = pgt.grantProxyTicket("PT-" + RandomStringUtils.randomAlphanumeric(64),
+            RegisteredServiceTestUtils.getService(), NeverExpiresExpirationPolicy.INSTANCE, true);
+        val tst = new TransientSessionTicketImpl("TST-" + RandomStringUtils.randomAlphanumeric(64),
+            NeverExpiresExpirationPolicy.INSTANCE, RegisteredServiceTestUtils.getService(),
+            Map.<String, Serializable>of("client", "CasClient"));
+        return CollectionUtils.wrap(tgt.getPrefix(), tgt, st.getPrefix(), st,
+            pgt.getPrefix(), pgt, pt.getPrefix(), pt, tst.getPrefix(), tst);
+    }
+
+    @Test
+    public void verifyTicketCatalog() {
+        val catalog = new DefaultTicketCatalog();
+        new CasCoreTicketCatalogConfiguration().configureTicketCatalog(catalog, new CasConfigurationProperties());
+        val tickets = getTickets();
+
+        val classes = new ArrayList<Class>(componentSerializationPlan.getRegisteredClasses());
+        val transcoder = new CasKryoTranscoder(new CasKryoPool(classes, true, true, false, false));
+        val compressingTranscoder = new CasKryoTranscoder(new CasKryoPool(classes, true, true, false, false), COMPRESSION_THRESHOLD);
+
+        catalog.findAll().forEach(definition -> {
+            val ticket = tickets.get(definition.getPrefix());
+            assertNotNull(ticket, () -> "No sample ticket for " + definition.getPrefix());
+
+            val encoded = transcoder.encode(ticket);
+            assertEquals(0, encoded.getFlags());
+            assertEquals(ticket, transcoder.decode(encoded));
+
+            val compressed = compressingTranscoder.encode(ticket);
+            assertEquals(ticket, compressingTranscoder.decode(compressed));
+            if (encoded.getData().length > COMPRESSION_THRESHOLD) {
+                assertEquals(CasKryoTranscoder.FLAG_COMPRESSED, compressed.getFlags());
+                assertTrue(compressed.getData().length < encoded.getData().length);
+            } else {
+                assertEquals(0, compressed.getFlags());
+                assertArrayEquals(encoded.getData(), compressed.getData());
+            }
+        });
+
+        val encodedTickets = new ArrayList<CachedData>();
+        tickets.values().forEach(ticket -> encodedTickets.add(transcoder.encode(ticket)));
+        val expected = new ArrayList<>(tickets.values());
+        for (var i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), transcoder.decode(encodedTickets.get(i)));
+            assertArrayEquals(encodedTickets.get(i).getData(), transcoder.encode(expected.get(i)).getData());
+        }
+    }
+}
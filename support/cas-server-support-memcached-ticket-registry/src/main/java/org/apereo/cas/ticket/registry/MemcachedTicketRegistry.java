@@ -37,7 +37,7 @@ public class MemcachedTicketRegistry extends AbstractTicketRegistry implements D
     private final ObjectPool<MemcachedClientIF> connectionPool;
 
     @Override
-    public Ticket updateTicket(final Ticket ticketToUpdate) throws Exception {
+    protected Ticket updateTicketInternal(final Ticket ticketToUpdate) throws Exception {
         val ticket = encodeTicket(ticketToUpdate);
         LOGGER.debug("Updating ticket [{}]", ticket);
         val clientFromPool = getClientFromPool();
@@ -118,6 +118,7 @@ public class MemcachedTicketRegistry extends AbstractTicketRegistry implements D
 
     @Override
     public void destroy() {
+        super.destroy();
         this.connectionPool.close();
     }
 
@@ -3,13 +3,19 @@ package org.apereo.cas.config;
 import org.apereo.cas.authentication.CasSSLContext;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.CasFeatureModule;
+import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.mongo.MongoDbConnectionFactory;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.MongoDbTicketRegistry;
+import org.apereo.cas.ticket.registry.MongoDbTicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.MongoDbTicketRegistryFacilitator;
+import org.apereo.cas.util.lock.LockRepository;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 
 import lombok.val;
@@ -35,7 +41,7 @@ public class MongoDbTicketRegistryConfiguration {
 
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @Bean
-    public TicketRegistry ticketRegistry(
+    public MongoDbTicketRegistry ticketRegistry(
         @Qualifier(TicketCatalog.BEAN_NAME)
         final TicketCatalog ticketCatalog, final CasConfigurationProperties casProperties,
         @Qualifier("mongoDbTicketRegistryTemplate")
@@ -50,6 +56,24 @@ public class MongoDbTicketRegistryConfiguration {
         return registry;
     }
 
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    public TicketRegistryCleaner ticketRegistryCleaner(
+        final CasConfigurationProperties casProperties,
+        @Qualifier(LockRepository.BEAN_NAME)
+        final LockRepository lockRepository,
+        @Qualifier(LogoutManager.DEFAULT_BEAN_NAME)
+        final LogoutManager logoutManager,
+        @Qualifier(TicketRegistry.BEAN_NAME)
+        final TicketRegistry ticketRegistry) {
+        if (casProperties.getTicket().getRegistry().getCleaner().getSchedule().isEnabled()) {
+            return ticketRegistry instanceof MongoDbTicketRegistry
+                ? new MongoDbTicketRegistryCleaner(lockRepository, logoutManager, (MongoDbTicketRegistry) ticketRegistry)
+                : new DefaultTicketRegistryCleaner(lockRepository, logoutManager, ticketRegistry);
+        }
+        return NoOpTicketRegistryCleaner.getInstance();
+    }
+
     @ConditionalOnMissingBean(name = "mongoDbTicketRegistryTemplate")
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
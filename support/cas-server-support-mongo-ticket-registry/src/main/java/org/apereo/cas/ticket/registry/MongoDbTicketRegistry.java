@@ -16,12 +16,9 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.hjson.JsonValue;
 import org.hjson.Stringify;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
-import org.springframework.data.mongodb.core.query.TextCriteria;
-import org.springframework.data.mongodb.core.query.TextQuery;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.util.StreamUtils;
 
@@ -29,6 +26,8 @@ import java.time.Instant;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -65,6 +64,14 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return DateTimeUtils.dateOf(Instant.ofEpochMilli(exp));
     }
 
+    private static boolean isTicketGrantingTicketDefinition(final TicketDefinition metadata) {
+        return TicketGrantingTicket.class.isAssignableFrom(metadata.getImplementationClass());
+    }
+
+    private static String normalizePrincipalId(final String principalId) {
+        return principalId.toLowerCase(Locale.ENGLISH);
+    }
+
     @Override
     public void addTicketInternal(final Ticket ticket) {
         try {
@@ -144,7 +151,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
     }
 
     @Override
-    public Ticket updateTicket(final Ticket ticket) {
+    protected Ticket updateTicketInternal(final Ticket ticket) {
         LOGGER.debug("Updating ticket [{}]", ticket);
         try {
             val holder = buildTicketAsDocument(ticket);
@@ -156,7 +163,8 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             LOGGER.debug("Located ticket definition [{}] in the ticket catalog", metadata);
             val collectionName = getTicketCollectionInstanceByMetadata(metadata);
             val query = new Query(Criteria.where(TicketHolder.FIELD_NAME_ID).is(holder.getTicketId()));
-            val update = Update.update(TicketHolder.FIELD_NAME_JSON, holder.getJson());
+            val update = Update.update(TicketHolder.FIELD_NAME_JSON, holder.getJson())
+                .set(TicketHolder.FIELD_NAME_EXPIRE_AT, holder.getExpireAt());
             val result = this.mongoTemplate.updateFirst(query, update, collectionName);
             LOGGER.debug("Updated ticket [{}] with result [{}]", ticket, result);
             return result.getMatchedCount() > 0 ? ticket : null;
@@ -187,16 +195,13 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             return super.countSessionsFor(principalId);
         }
 
-        val ticketDefinitions = ticketCatalog.find(TicketGrantingTicket.class);
-        return ticketDefinitions.stream()
+        val query = new Query(Criteria.where(TicketHolder.FIELD_NAME_PRINCIPAL).is(normalizePrincipalId(principalId))
+            .orOperator(Criteria.where(TicketHolder.FIELD_NAME_EXPIRE_AT).gt(new Date()),
+                Criteria.where(TicketHolder.FIELD_NAME_EXPIRE_AT).is(null)));
+        return ticketCatalog.find(TicketGrantingTicket.class)
+            .stream()
             .map(this::getTicketCollectionInstanceByMetadata)
-            .mapToLong(map -> {
-                val criteria = TextCriteria.forDefaultLanguage().matchingAny(principalId);
-                val query = TextQuery.queryText(criteria)
-                    .sortByScore()
-                    .with(PageRequest.of(0, 10));
-                return mongoTemplate.count(query, map);
-            })
+            .mapToLong(collectionName -> mongoTemplate.count(query, collectionName) + countSessionsWithoutPrincipalFor(principalId, collectionName))
             .sum();
     }
 
@@ -217,6 +222,117 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return true;
     }
 
+    @Override
+    protected Ticket takeTicket(final String ticketId) {
+        try {
+            val metadata = this.ticketCatalog.find(ticketId);
+            if (metadata == null) {
+                LOGGER.debug("Ticket definition [{}] could not be found in the ticket catalog", ticketId);
+                return null;
+            }
+            val collectionName = getTicketCollectionInstanceByMetadata(metadata);
+            val query = new Query(Criteria.where(TicketHolder.FIELD_NAME_ID).is(encodeTicketId(ticketId)));
+            val holder = this.mongoTemplate.findAndRemove(query, TicketHolder.class, collectionName);
+            return holder == null ? null : decodeTicket(deserializeTicketFromMongoDocument(holder));
+        } catch (final Exception e) {
+            LOGGER.error("Failed to take [{}]", ticketId);
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
+    /**
+     * Delete tickets whose expiration date has passed, in bulk and without loading them.
+     * Ticket-granting tickets are left alone, since their removal must go through the logout process.
+     *
+     * @return the number of deleted tickets
+     */
+    public long deleteExpiredTickets() {
+        return ticketCatalog.findAll()
+            .stream()
+            .filter(metadata -> !isTicketGrantingTicketDefinition(metadata))
+            .map(this::getTicketCollectionInstanceByMetadata)
+            .mapToLong(collectionName -> {
+                val count = deleteExpiredTickets(collectionName);
+                LOGGER.debug("Deleted [{}] expired tickets from [{}]", count, collectionName);
+                return count;
+            })
+            .sum();
+    }
+
+    /**
+     * Stream tickets whose expiration cannot be decided by their expiration date alone,
+     * which are ticket-granting tickets and tickets that carry no expiration date.
+     *
+     * @return the tickets
+     */
+    public Stream<Ticket> streamTicketsToInspectForExpiration() {
+        val noExpirationDate = new Query(Criteria.where(TicketHolder.FIELD_NAME_EXPIRE_AT).is(null));
+        return ticketCatalog.findAll()
+            .stream()
+            .map(metadata -> mongoTemplate.stream(isTicketGrantingTicketDefinition(metadata) ? new Query() : noExpirationDate,
+                TicketHolder.class, getTicketCollectionInstanceByMetadata(metadata)))
+            .flatMap(StreamUtils::createStreamFromIterator)
+            .map(holder -> decodeTicket(deserializeTicketFromMongoDocument(holder)));
+    }
+
+    /**
+     * Delete expired tickets from the collection. If ticket updates are written behind,
+     * the identifiers of the expired tickets are fetched as they are removed,
+     * so that their pending updates are discarded.
+     */
+    private long deleteExpiredTickets(final String collectionName) {
+        val query = new Query(Criteria.where(TicketHolder.FIELD_NAME_EXPIRE_AT).lte(new Date()));
+        if (writeBehind == null) {
+            return mongoTemplate.remove(query, collectionName).getDeletedCount();
+        }
+        query.fields().include(TicketHolder.FIELD_NAME_ID).include(TicketHolder.FIELD_NAME_TYPE);
+        if (isCipherExecutorEnabled()) {
+            query.fields().include(TicketHolder.FIELD_NAME_JSON);
+        }
+        val removed = mongoTemplate.findAllAndRemove(query, TicketHolder.class, collectionName);
+        removed.stream()
+            .map(this::getTicketIdFrom)
+            .filter(Objects::nonNull)
+            .forEach(writeBehind::discard);
+        return removed.size();
+    }
+
+    private String getTicketIdFrom(final TicketHolder holder) {
+        if (!isCipherExecutorEnabled()) {
+            return holder.getTicketId();
+        }
+        val ticket = decodeTicket(deserializeTicketFromMongoDocument(holder));
+        return ticket != null ? ticket.getId() : null;
+    }
+
+    /**
+     * Count the sessions of the principal among ticket-granting tickets that were stored
+     * before the principal id was recorded in ticket documents. Such documents are inspected
+     * one by one, and the principal id is recorded as they are found, so that they are
+     * counted by the indexed query from then on.
+     */
+    private long countSessionsWithoutPrincipalFor(final String principalId, final String collectionName) {
+        val normalizedPrincipalId = normalizePrincipalId(principalId);
+        val query = new Query(Criteria.where(TicketHolder.FIELD_NAME_PRINCIPAL).exists(false));
+        try (val holders = StreamUtils.createStreamFromIterator(mongoTemplate.stream(query, TicketHolder.class, collectionName))) {
+            return holders
+                .map(holder -> decodeTicket(deserializeTicketFromMongoDocument(holder)))
+                .filter(Objects::nonNull)
+                .filter(ticket -> {
+                    val ticketPrincipalId = getPrincipalIdFrom(ticket);
+                    if (ticketPrincipalId == null) {
+                        return false;
+                    }
+                    LOGGER.trace("Recording principal [{}] for ticket [{}]", ticketPrincipalId, ticket.getId());
+                    val backfill = new Query(Criteria.where(TicketHolder.FIELD_NAME_ID).is(encodeTicketId(ticket.getId())));
+                    mongoTemplate.updateFirst(backfill, Update.update(TicketHolder.FIELD_NAME_PRINCIPAL, ticketPrincipalId), collectionName);
+                    return ticketPrincipalId.equals(normalizedPrincipalId) && !ticket.isExpired();
+                })
+                .count();
+        }
+    }
+
     private long countTicketsByTicketType(final Class<? extends Ticket> ticketType) {
         val ticketDefinitions = ticketCatalog.find(ticketType);
         return ticketDefinitions.stream()
@@ -232,11 +348,21 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             LOGGER.trace("Serialized ticket into a JSON document as \n [{}]", JsonValue.readJSON(json).toString(Stringify.FORMATTED));
             val expireAt = getExpireAt(ticket);
             LOGGER.trace("Calculated expiration date for ticket ttl as [{}]", expireAt);
-            return new TicketHolder(json, encTicket.getId(), encTicket.getClass().getName(), expireAt);
+            return new TicketHolder(json, encTicket.getId(), encTicket.getClass().getName(), getPrincipalIdFrom(ticket), expireAt);
         }
         throw new IllegalArgumentException("Ticket " + ticket.getId() + " cannot be serialized to JSON");
     }
 
+    private String getPrincipalIdFrom(final Ticket ticket) {
+        if (ticket instanceof TicketGrantingTicket && !isCipherExecutorEnabled()) {
+            val authentication = ((TicketGrantingTicket) ticket).getAuthentication();
+            if (authentication != null && authentication.getPrincipal() != null) {
+                return normalizePrincipalId(authentication.getPrincipal().getId());
+            }
+        }
+        return null;
+    }
+
     private String getTicketCollectionInstanceByMetadata(final TicketDefinition metadata) {
         val mapName = metadata.getProperties().getStorageName();
         LOGGER.debug("Locating collection name [{}] for ticket definition [{}]", mapName, metadata);
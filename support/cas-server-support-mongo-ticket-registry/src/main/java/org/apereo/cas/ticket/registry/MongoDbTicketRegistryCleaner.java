@@ -0,0 +1,41 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.lock.LockRepository;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * This is {@link MongoDbTicketRegistryCleaner}. Expired tickets are removed in bulk
+ * using their expiration date, and only tickets whose expiration cannot be decided that way,
+ * such as ticket-granting tickets that must be logged out, are loaded and inspected.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class MongoDbTicketRegistryCleaner extends DefaultTicketRegistryCleaner {
+    private final MongoDbTicketRegistry ticketRegistry;
+
+    public MongoDbTicketRegistryCleaner(final LockRepository lockRepository,
+                                        final LogoutManager logoutManager,
+                                        final MongoDbTicketRegistry ticketRegistry) {
+        super(lockRepository, logoutManager, ticketRegistry);
+        this.ticketRegistry = ticketRegistry;
+    }
+
+    @Override
+    protected int cleanInternal() {
+        val ticketsDeletedInBulk = ticketRegistry.deleteExpiredTickets();
+        LOGGER.debug("[{}] expired tickets removed by their expiration date.", ticketsDeletedInBulk);
+        try (val expiredTickets = ticketRegistry.streamTicketsToInspectForExpiration().filter(Ticket::isExpired)) {
+            val ticketsDeleted = Math.toIntExact(ticketsDeletedInBulk) + expiredTickets
+                .mapToInt(this::cleanTicket)
+                .sum();
+            LOGGER.info("[{}] expired tickets removed.", ticketsDeleted);
+            return ticketsDeleted;
+        }
+    }
+}
@@ -38,6 +38,11 @@ public class TicketHolder implements Serializable {
      */
     public static final String FIELD_NAME_EXPIRE_AT = "expireAt";
 
+    /**
+     * Field name to hold the principal id of ticket-granting tickets.
+     */
+    public static final String FIELD_NAME_PRINCIPAL = "principal";
+
     /**
      * Field name to hold ticket id.
      */
@@ -54,5 +59,8 @@ public class TicketHolder implements Serializable {
     @JsonProperty
     private final String type;
 
+    @JsonProperty
+    private final String principal;
+
     private final Date expireAt;
 }
@@ -3,6 +3,7 @@ package org.apereo.cas.util;
 import org.apereo.cas.mongo.MongoDbConnectionFactory;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.TicketHolder;
 
 import com.mongodb.client.MongoCollection;
@@ -14,7 +15,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.index.IndexDefinition;
-import org.springframework.data.mongodb.core.index.TextIndexDefinition;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -62,21 +62,23 @@ public class MongoDbTicketRegistryFacilitator {
                 MongoDbConnectionFactory.dropCollectionIndexes(collection);
             }
 
-            val columnsIndex = new TextIndexDefinition.TextIndexDefinitionBuilder()
-                .onField(TicketHolder.FIELD_NAME_JSON)
-                .onField(TicketHolder.FIELD_NAME_TYPE)
-                .onField(TicketHolder.FIELD_NAME_ID)
-                .build();
+            val ticketIdIndex = new Index().on(TicketHolder.FIELD_NAME_ID, Sort.Direction.ASC);
+            val principalIndex = new Index()
+                .on(TicketHolder.FIELD_NAME_PRINCIPAL, Sort.Direction.ASC)
+                .on(TicketHolder.FIELD_NAME_EXPIRE_AT, Sort.Direction.ASC);
             val expireIndex = new Index().on(TicketHolder.FIELD_NAME_EXPIRE_AT, Sort.Direction.ASC);
-            
+
             val timeout = ticket.getProperties().getStorageTimeout();
             if (timeout > 0 && timeout != Long.MAX_VALUE) {
                 expireIndex.expire(Duration.ofSeconds(timeout));
             }
 
             val expectedIndexes = new ArrayList<IndexDefinition>();
+            expectedIndexes.add(ticketIdIndex);
             expectedIndexes.add(expireIndex);
-            expectedIndexes.add(columnsIndex);
+            if (TicketGrantingTicket.class.isAssignableFrom(ticket.getImplementationClass())) {
+                expectedIndexes.add(principalIndex);
+            }
             LOGGER.debug("Expected indexes are [{}]", expectedIndexes);
             MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, collection, expectedIndexes);
         }
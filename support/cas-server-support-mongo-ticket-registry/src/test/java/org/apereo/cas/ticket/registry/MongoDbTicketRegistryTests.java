@@ -25,10 +25,12 @@ import org.apereo.cas.config.MongoDbTicketRegistryTicketCatalogConfiguration;
 import org.apereo.cas.config.support.CasWebApplicationServiceFactoryConfiguration;
 import org.apereo.cas.logout.config.CasCoreLogoutConfiguration;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.ticket.DefaultTicketDefinition;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
@@ -44,8 +46,13 @@ import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import java.util.Locale;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -106,6 +113,10 @@ public class MongoDbTicketRegistryTests extends BaseTicketRegistryTests {
     @Qualifier("mongoDbTicketRegistryTemplate")
     private MongoOperations mongoDbTicketRegistryTemplate;
 
+    @Autowired
+    @Qualifier("ticketRegistryCleaner")
+    private TicketRegistryCleaner ticketRegistryCleaner;
+
     @BeforeEach
     public void before() {
         newTicketRegistry.deleteAll();
@@ -119,6 +130,43 @@ public class MongoDbTicketRegistryTests extends BaseTicketRegistryTests {
         assertNull(result);
     }
 
+    @RepeatedTest(2)
+    public void verifyCountSessionsAndCleanExpiredTickets() throws Exception {
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(tgt);
+        val st = tgt.grantServiceTicket(serviceTicketId, RegisteredServiceTestUtils.getService(),
+            new HardTimeoutExpirationPolicy(1), false, true);
+        newTicketRegistry.addTicket(st);
+        newTicketRegistry.updateTicket(tgt);
+        assertEquals(1, newTicketRegistry.countSessionsFor(CoreAuthenticationTestUtils.CONST_USERNAME.toUpperCase(Locale.ENGLISH)));
+        assertEquals(0, newTicketRegistry.countSessionsFor("unknown"));
+
+        Thread.sleep(2000);
+        assertEquals(1, ticketRegistryCleaner.clean());
+        assertNull(newTicketRegistry.getTicket(st.getId()));
+        assertNotNull(newTicketRegistry.getTicket(tgt.getId()));
+    }
+
+    @RepeatedTest(1)
+    public void verifyCountSessionsWithoutPrincipalField() throws Exception {
+        val tgt = new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(tgt);
+        val query = new Query(Criteria.where(TicketHolder.FIELD_NAME_ID).is(tgt.getId()));
+        val update = new Update().unset(TicketHolder.FIELD_NAME_PRINCIPAL);
+        mongoDbTicketRegistryTemplate.getCollectionNames()
+            .forEach(collectionName -> mongoDbTicketRegistryTemplate.updateMulti(query, update, collectionName));
+
+        assertEquals(1, newTicketRegistry.countSessionsFor(CoreAuthenticationTestUtils.CONST_USERNAME));
+        val recorded = new Query(Criteria.where(TicketHolder.FIELD_NAME_PRINCIPAL).exists(true));
+        assertEquals(1, mongoDbTicketRegistryTemplate.getCollectionNames()
+            .stream()
+            .mapToLong(collectionName -> mongoDbTicketRegistryTemplate.count(recorded, collectionName))
+            .sum());
+        assertEquals(1, newTicketRegistry.countSessionsFor(CoreAuthenticationTestUtils.CONST_USERNAME));
+    }
+
     @RepeatedTest(1)
     public void verifyBadTicketInCatalog() throws Exception {
         val ticket = new MockTicketGrantingTicket("casuser");
@@ -1,11 +1,14 @@
 package org.apereo.cas.support.oauth.authenticator;
 
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenEncoder;
+import org.apereo.cas.ticket.InvalidTicketException;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
+import org.apereo.cas.ticket.accesstoken.OAuth20StatelessAccessTokenValidator;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.token.JwtBuilder;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.pac4j.core.context.WebContext;
@@ -29,6 +32,9 @@ public class OAuth20AccessTokenAuthenticator implements Authenticator {
     private final TicketRegistry ticketRegistry;
     private final JwtBuilder accessTokenJwtBuilder;
 
+    @Setter
+    private OAuth20StatelessAccessTokenValidator statelessAccessTokenValidator;
+
     private String extractAccessTokenFrom(final TokenCredentials tokenCredentials) {
         return OAuth20JwtAccessTokenEncoder.builder()
             .accessTokenJwtBuilder(accessTokenJwtBuilder)
@@ -36,15 +42,27 @@ public class OAuth20AccessTokenAuthenticator implements Authenticator {
             .decode(tokenCredentials.getToken());
     }
 
+    private OAuth20AccessToken resolveAccessToken(final TokenCredentials tokenCredentials) {
+        if (statelessAccessTokenValidator == null) {
+            val token = extractAccessTokenFrom(tokenCredentials);
+            LOGGER.trace("Received access token [{}] for authentication", token);
+            return ticketRegistry.getTicket(token, OAuth20AccessToken.class);
+        }
+        try {
+            return statelessAccessTokenValidator.validate(tokenCredentials.getToken(), OAuth20AccessToken.class,
+                token -> ticketRegistry.getTicket(token, OAuth20AccessToken.class));
+        } catch (final InvalidTicketException e) {
+            LOGGER.trace(e.getMessage(), e);
+        }
+        return null;
+    }
+
     @Override
     public void validate(final Credentials credentials, final WebContext webContext, final SessionStore sessionStore) {
         val tokenCredentials = (TokenCredentials) credentials;
-        val token = extractAccessTokenFrom(tokenCredentials);
-        LOGGER.trace("Received access token [{}] for authentication", token);
-
-        val accessToken = ticketRegistry.getTicket(token, OAuth20AccessToken.class);
+        val accessToken = resolveAccessToken(tokenCredentials);
         if (accessToken == null || accessToken.isExpired()) {
-            LOGGER.error("Provided access token [{}] is either not found in the ticket registry or has expired", token);
+            LOGGER.error("Provided access token [{}] is either not found in the ticket registry or has expired", tokenCredentials.getToken());
             return;
         }
         val profile = buildUserProfile(tokenCredentials, webContext, accessToken);
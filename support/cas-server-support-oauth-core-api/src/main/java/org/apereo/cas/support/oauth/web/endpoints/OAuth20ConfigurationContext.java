@@ -26,6 +26,7 @@ import org.apereo.cas.ticket.ExpirationPolicyBuilder;
 import org.apereo.cas.ticket.OAuth20TokenSigningAndEncryptionService;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.accesstoken.OAuth20StatelessAccessTokenValidator;
 import org.apereo.cas.ticket.device.OAuth20DeviceToken;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.token.JwtBuilder;
@@ -84,6 +85,8 @@ public class OAuth20ConfigurationContext {
 
     private final JwtBuilder accessTokenJwtBuilder;
 
+    private final OAuth20StatelessAccessTokenValidator statelessAccessTokenValidator;
+
     private final OAuth20AccessTokenResponseGenerator accessTokenResponseGenerator;
 
     private final ObjectProvider<List<OAuth20TokenRequestValidator>> accessTokenGrantRequestValidators;
@@ -134,8 +134,8 @@ public class OAuth20IntrospectionEndpointController<T extends OAuth20Configurati
                 LOGGER.debug("Located access token [{}] in the request", accessToken);
                 OAuth20Token ticket = null;
                 try {
-                    val token = extractAccessTokenFrom(accessToken);
-                    ticket = getConfigurationContext().getCentralAuthenticationService().getTicket(token, OAuth20Token.class);
+                    ticket = getConfigurationContext().getStatelessAccessTokenValidator().validate(accessToken, OAuth20Token.class,
+                        token -> getConfigurationContext().getCentralAuthenticationService().getTicket(token, OAuth20Token.class));
                 } catch (final InvalidTicketException e) {
                     LOGGER.trace(e.getMessage(), e);
                     LOGGER.info("Unable to fetch access token [{}]: [{}]", accessToken, e.getMessage());
@@ -116,7 +116,7 @@ public class OAuth20RevocationEndpointController<T extends OAuth20ConfigurationC
     protected ModelAndView generateRevocationResponse(final String token,
                                                       final String clientId,
                                                       final HttpServletResponse response) throws Exception {
-        val registryToken = getConfigurationContext().getTicketRegistry().getTicket(token, OAuth20Token.class);
+        val registryToken = getConfigurationContext().getTicketRegistry().getTicket(extractAccessTokenFrom(token), OAuth20Token.class);
         if (registryToken == null) {
             LOGGER.error("Provided token [{}] has not been found in the ticket registry", token);
         } else if (isRefreshToken(registryToken) || isAccessToken(registryToken)) {
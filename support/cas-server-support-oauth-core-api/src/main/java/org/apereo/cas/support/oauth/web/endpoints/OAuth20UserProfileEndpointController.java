@@ -3,6 +3,7 @@ package org.apereo.cas.support.oauth.web.endpoints;
 import org.apereo.cas.authentication.AuthenticationCredentialsThreadLocalBinder;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
+import org.apereo.cas.ticket.InvalidTicketException;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
 
 import lombok.extern.slf4j.Slf4j;
@@ -84,8 +85,7 @@ public class OAuth20UserProfileEndpointController<T extends OAuth20Configuration
             LOGGER.error("Missing [{}] from the request", OAuth20Constants.ACCESS_TOKEN);
             return buildUnauthorizedResponseEntity(OAuth20Constants.MISSING_ACCESS_TOKEN);
         }
-        val accessTokenTicket = getConfigurationContext().getTicketRegistry()
-            .getTicket(accessToken, OAuth20AccessToken.class);
+        val accessTokenTicket = resolveAccessToken(request, accessToken);
 
         if (accessTokenTicket == null || accessTokenTicket.isExpired()) {
             LOGGER.error("Access token [{}] cannot be found in the ticket registry or has expired.", accessToken);
@@ -104,6 +104,10 @@ public class OAuth20UserProfileEndpointController<T extends OAuth20Configuration
      * @throws Exception the exception
      */
     protected void updateAccessTokenUsage(final OAuth20AccessToken accessTokenTicket) throws Exception {
+        if (getConfigurationContext().getCasProperties().getAuthn().getOauth().getAccessToken().isStateless()) {
+            LOGGER.trace("Access token usage is not tracked in the ticket registry for stateless access tokens");
+            return;
+        }
         accessTokenTicket.update();
         if (accessTokenTicket.isExpired()) {
             getConfigurationContext().getTicketRegistry().deleteTicket(accessTokenTicket.getId());
@@ -119,6 +123,19 @@ public class OAuth20UserProfileEndpointController<T extends OAuth20Configuration
      * @return the access token from request
      */
     protected String getAccessTokenFromRequest(final HttpServletRequest request) {
+        val accessToken = getAccessTokenCredentialFromRequest(request);
+        LOGGER.debug("[{}]: [{}]", OAuth20Constants.ACCESS_TOKEN, accessToken);
+        return extractAccessTokenFrom(accessToken);
+    }
+
+    /**
+     * Gets the access token from request as it is presented by the client,
+     * which may be a JWT rather than the access token id.
+     *
+     * @param request the request
+     * @return the access token credential
+     */
+    protected String getAccessTokenCredentialFromRequest(final HttpServletRequest request) {
         var accessToken = request.getParameter(OAuth20Constants.ACCESS_TOKEN);
         if (StringUtils.isBlank(accessToken)) {
             val authHeader = request.getHeader(HttpConstants.AUTHORIZATION_HEADER);
@@ -127,7 +144,28 @@ public class OAuth20UserProfileEndpointController<T extends OAuth20Configuration
                 accessToken = authHeader.substring(OAuth20Constants.TOKEN_TYPE_BEARER.length() + 1);
             }
         }
-        LOGGER.debug("[{}]: [{}]", OAuth20Constants.ACCESS_TOKEN, accessToken);
-        return extractAccessTokenFrom(accessToken);
+        return accessToken;
+    }
+
+    /**
+     * Resolve the access token, locally from the signed claims of the access token credential
+     * if access tokens are validated statelessly, or from the ticket registry otherwise.
+     *
+     * @param request     the request
+     * @param accessToken the access token id
+     * @return the access token ticket, or null
+     */
+    protected OAuth20AccessToken resolveAccessToken(final HttpServletRequest request, final String accessToken) {
+        val validator = getConfigurationContext().getStatelessAccessTokenValidator();
+        if (validator == null) {
+            return getConfigurationContext().getTicketRegistry().getTicket(accessToken, OAuth20AccessToken.class);
+        }
+        try {
+            return validator.validate(getAccessTokenCredentialFromRequest(request), OAuth20AccessToken.class,
+                () -> getConfigurationContext().getTicketRegistry().getTicket(accessToken, OAuth20AccessToken.class));
+        } catch (final InvalidTicketException e) {
+            LOGGER.trace(e.getMessage(), e);
+        }
+        return null;
     }
 }
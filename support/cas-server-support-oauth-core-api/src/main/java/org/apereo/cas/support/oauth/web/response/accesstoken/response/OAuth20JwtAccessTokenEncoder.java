@@ -4,9 +4,11 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceCipherExecutor;
+import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
 import org.apereo.cas.token.JwtBuilder;
+import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.DateTimeUtils;
 
 import com.nimbusds.jwt.JWTParser;
@@ -17,6 +19,7 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Optional;
 
@@ -99,6 +102,10 @@ public class OAuth20JwtAccessTokenEncoder {
         val authentication = accessToken.getAuthentication();
         val attributes = new HashMap<>(authentication.getAttributes());
         attributes.putAll(authentication.getPrincipal().getAttributes());
+        if (casProperties.getAuthn().getOauth().getAccessToken().isStateless()) {
+            attributes.put(OAuth20Constants.CLIENT_ID, CollectionUtils.<Object>wrapList(accessToken.getClientId()));
+            attributes.put(OAuth20Constants.SCOPE, new ArrayList<Object>(accessToken.getScopes()));
+        }
 
         val builder = JwtBuilder.JwtRequest.builder();
         val dt = authentication.getAuthenticationDate().plusSeconds(accessToken.getExpirationPolicy().getTimeToLive());
@@ -86,6 +86,18 @@ public abstract class BaseTokenSigningAndEncryptionService implements OAuth20Tok
                                final JwtClaims claims,
                                final PublicJsonWebKey jsonWebKey) {
         LOGGER.debug("Service [{}] is set to sign id tokens", service.getServiceId());
+        return getJsonWebTokenSigner(service, jsonWebKey).sign(claims);
+    }
+
+    /**
+     * Gets the signer prepared for the service and the given key.
+     *
+     * @param service    the service
+     * @param jsonWebKey the json web key
+     * @return the json web token signer
+     */
+    protected JsonWebTokenSigner getJsonWebTokenSigner(final OAuthRegisteredService service,
+                                                       final PublicJsonWebKey jsonWebKey) {
         return JsonWebTokenSigner.builder()
             .key(Optional.ofNullable(jsonWebKey)
                 .map(PublicJsonWebKey::getPrivateKey)
@@ -95,8 +107,7 @@ public abstract class BaseTokenSigningAndEncryptionService implements OAuth20Tok
                 .orElseGet(() -> UUID.randomUUID().toString()))
             .algorithm(getJsonWebKeySigningAlgorithm(service))
             .allowedAlgorithms(new LinkedHashSet<>(getAllowedSigningAlgorithms(service)))
-            .build()
-            .sign(claims);
+            .build();
     }
 
     protected byte[] verifySignature(final String token, final PublicJsonWebKey jsonWebKey) {
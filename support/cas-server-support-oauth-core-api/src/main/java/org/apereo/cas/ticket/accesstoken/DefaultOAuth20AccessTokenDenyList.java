@@ -0,0 +1,84 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link DefaultOAuth20AccessTokenDenyList}. Revoked token identifiers
+ * are kept in an exact set guarded by a bloom filter; the vast majority of tokens
+ * that are not revoked are answered by the bloom filter alone. The bloom filter
+ * is rebuilt from the exact set when expired entries are cleaned.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public class DefaultOAuth20AccessTokenDenyList implements OAuth20AccessTokenDenyList {
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.001D;
+
+    private final Map<String, ZonedDateTime> revokedTokens = new ConcurrentHashMap<>();
+
+    private final long expectedInsertions;
+
+    private final Clock clock;
+
+    private volatile BloomFilter<String> bloomFilter;
+
+    public DefaultOAuth20AccessTokenDenyList(final long expectedInsertions) {
+        this(expectedInsertions, Clock.systemUTC());
+    }
+
+    public DefaultOAuth20AccessTokenDenyList(final long expectedInsertions, final Clock clock) {
+        this.expectedInsertions = expectedInsertions;
+        this.clock = clock;
+        this.bloomFilter = newBloomFilter();
+    }
+
+    @Override
+    public synchronized void revoke(final String id, final ZonedDateTime expirationTime) {
+        LOGGER.debug("Adding access token [{}] to the deny-list until [{}]", id, expirationTime);
+        revokedTokens.put(id, expirationTime);
+        bloomFilter.put(id);
+    }
+
+    @Override
+    public boolean isRevoked(final String id) {
+        if (!bloomFilter.mightContain(id)) {
+            return false;
+        }
+        val expirationTime = revokedTokens.get(id);
+        return expirationTime != null && expirationTime.isAfter(ZonedDateTime.now(clock));
+    }
+
+    @Scheduled(initialDelayString = "${cas.authn.oauth.access-token.deny-list.schedule.start-delay:PT30S}",
+        fixedDelayString = "${cas.authn.oauth.access-token.deny-list.schedule.repeat-interval:PT60S}")
+    @Override
+    public synchronized void clean() {
+        val now = ZonedDateTime.now(clock);
+        val removed = revokedTokens.entrySet().removeIf(entry -> !entry.getValue().isAfter(now));
+        if (removed) {
+            val filter = newBloomFilter();
+            revokedTokens.keySet().forEach(filter::put);
+            bloomFilter = filter;
+            LOGGER.debug("Rebuilt access token deny-list with [{}] revoked token(s)", revokedTokens.size());
+        }
+    }
+
+    @Override
+    public long size() {
+        return revokedTokens.size();
+    }
+
+    private BloomFilter<String> newBloomFilter() {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, FALSE_POSITIVE_PROBABILITY);
+    }
+}
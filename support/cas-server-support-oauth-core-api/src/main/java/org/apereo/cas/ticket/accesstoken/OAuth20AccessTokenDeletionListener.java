@@ -0,0 +1,59 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryDeletionListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Objects;
+
+/**
+ * This is {@link OAuth20AccessTokenDeletionListener}, which revokes access tokens that are validated
+ * statelessly once they are removed from the ticket registry, whether they are revoked by the client,
+ * removed via token management, or removed along with the ticket-granting ticket at logout.
+ * Access tokens issued for a ticket-granting ticket are revoked once the ticket-granting ticket is removed,
+ * even if the access tokens themselves remain in the ticket registry. Only access tokens that are issued as
+ * signed JWTs are revoked, and nothing is done unless access tokens are validated statelessly.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OAuth20AccessTokenDeletionListener implements TicketRegistryDeletionListener {
+    private static final String ACCESS_TOKEN_ID_PREFIX = OAuth20AccessToken.PREFIX + UniqueTicketIdGenerator.SEPARATOR;
+
+    private final ObjectProvider<OAuth20StatelessAccessTokenValidator> statelessAccessTokenValidator;
+
+    private final ObjectProvider<TicketRegistry> ticketRegistry;
+
+    @Override
+    public void onTicketDeleted(final String ticketId) {
+        LOGGER.trace("Ticket [{}] is removed without its content and cannot be checked for revocation", ticketId);
+    }
+
+    @Override
+    public void onTicketDeleted(final Ticket ticket) {
+        val validator = statelessAccessTokenValidator.getObject();
+        if (!validator.isEnabled()) {
+            return;
+        }
+        if (ticket instanceof OAuth20AccessToken) {
+            validator.revoke((OAuth20AccessToken) ticket);
+        } else if (ticket instanceof TicketGrantingTicket) {
+            val registry = ticketRegistry.getObject();
+            ((TicketGrantingTicket) ticket).getDescendantTickets()
+                .stream()
+                .filter(id -> id.startsWith(ACCESS_TOKEN_ID_PREFIX))
+                .map(id -> registry.getTicket(id, OAuth20AccessToken.class))
+                .filter(Objects::nonNull)
+                .forEach(validator::revoke);
+        }
+    }
+}
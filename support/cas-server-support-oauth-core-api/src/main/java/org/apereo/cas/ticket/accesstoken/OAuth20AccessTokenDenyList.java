@@ -0,0 +1,46 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import java.time.ZonedDateTime;
+
+/**
+ * This is {@link OAuth20AccessTokenDenyList} that tracks the identifiers
+ * of access tokens that are revoked before their expiration, so that
+ * self-contained access tokens can be validated without consulting the ticket registry.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+public interface OAuth20AccessTokenDenyList {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "oauthAccessTokenDenyList";
+
+    /**
+     * Record the token identifier as revoked.
+     *
+     * @param id             the token identifier (jti)
+     * @param expirationTime the time after which the token is naturally expired and need not be tracked
+     */
+    void revoke(String id, ZonedDateTime expirationTime);
+
+    /**
+     * Is the token identifier revoked?
+     *
+     * @param id the token identifier (jti)
+     * @return true/false
+     */
+    boolean isRevoked(String id);
+
+    /**
+     * Remove entries that have naturally expired.
+     */
+    void clean();
+
+    /**
+     * Number of revoked entries tracked.
+     *
+     * @return the size
+     */
+    long size();
+}
@@ -8,13 +8,25 @@ import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.token.JwtBuilder;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.val;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * This is {@link OAuth20JwtBuilder}.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
  */
-public class OAuth20JwtBuilder extends JwtBuilder {
+public class OAuth20JwtBuilder extends JwtBuilder implements MeterBinder {
+    private final LongAdder encodingCount = new LongAdder();
+
+    private final LongAdder encodingTimeInNanos = new LongAdder();
+
     public OAuth20JwtBuilder(final CipherExecutor defaultTokenCipherExecutor,
                              final ServicesManager servicesManager,
                              final RegisteredServiceCipherExecutor registeredServiceCipherExecutor,
@@ -23,6 +35,26 @@ public class OAuth20JwtBuilder extends JwtBuilder {
             registeredServiceCipherExecutor, casProperties);
     }
 
+    @Override
+    public String build(final JwtRequest payload) {
+        val startTime = System.nanoTime();
+        try {
+            return super.build(payload);
+        } finally {
+            encodingCount.increment();
+            encodingTimeInNanos.add(System.nanoTime() - startTime);
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionTimer.builder("cas.oauth.access.token.encoding", this,
+                builder -> builder.encodingCount.sum(),
+                builder -> builder.encodingTimeInNanos.sum(), TimeUnit.NANOSECONDS)
+            .description("Time spent building and signing JWT access tokens")
+            .register(registry);
+    }
+
     @Override
     protected RegisteredService locateRegisteredService(final String id) {
         var service = super.locateRegisteredService(id);
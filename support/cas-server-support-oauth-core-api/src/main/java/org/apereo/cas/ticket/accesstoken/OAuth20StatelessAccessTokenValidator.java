@@ -0,0 +1,286 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.authentication.DefaultAuthenticationBuilder;
+import org.apereo.cas.authentication.principal.PrincipalFactory;
+import org.apereo.cas.authentication.principal.ServiceFactory;
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.services.RegisteredServiceCipherExecutor;
+import org.apereo.cas.support.oauth.OAuth20Constants;
+import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
+import org.apereo.cas.support.oauth.util.OAuth20Utils;
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenEncoder;
+import org.apereo.cas.ticket.InvalidTicketException;
+import org.apereo.cas.ticket.OAuth20Token;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.token.JwtBuilder;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DateTimeUtils;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link OAuth20StatelessAccessTokenValidator}. When stateless access tokens are turned on,
+ * signed JWT access tokens are verified and rebuilt locally from their claims, and only checked
+ * against the {@link OAuth20AccessTokenDenyList}. All other tokens, or when the mode is turned off,
+ * are looked up in the ticket registry as before.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Getter
+public class OAuth20StatelessAccessTokenValidator implements MeterBinder {
+    private final JwtBuilder accessTokenJwtBuilder;
+
+    private final OAuth20AccessTokenDenyList denyList;
+
+    private final ServiceFactory<WebApplicationService> webApplicationServiceServiceFactory;
+
+    private final PrincipalFactory principalFactory;
+
+    private final CasConfigurationProperties casProperties;
+
+    private final LongAdder localValidations = new LongAdder();
+
+    private final LongAdder registryValidations = new LongAdder();
+
+    private final LongAdder rejectedValidations = new LongAdder();
+
+    /**
+     * Validate the given token, locally if possible, or via the registry lookup function otherwise.
+     *
+     * @param <T>            the type parameter
+     * @param token          the token as received from the client, either a JWT or a ticket id
+     * @param clazz          the expected token type
+     * @param registryLookup the function that looks up the token in the ticket registry by its id
+     * @return the token or null
+     * @throws InvalidTicketException if a locally validated token is expired or revoked
+     */
+    public <T extends OAuth20Token> T validate(final String token, final Class<T> clazz,
+                                               final Function<String, T> registryLookup) {
+        return validate(token, clazz, () -> {
+            val tokenId = OAuth20JwtAccessTokenEncoder.builder()
+                .accessTokenJwtBuilder(accessTokenJwtBuilder)
+                .build()
+                .decode(token);
+            return registryLookup.apply(tokenId);
+        });
+    }
+
+    /**
+     * Validate the given token, locally if possible, or via the registry lookup otherwise.
+     *
+     * @param <T>            the type parameter
+     * @param token          the token as received from the client, either a JWT or a ticket id
+     * @param clazz          the expected token type
+     * @param registryLookup the lookup of the token in the ticket registry
+     * @return the token or null
+     * @throws InvalidTicketException if a locally validated token is expired or revoked
+     */
+    public <T extends OAuth20Token> T validate(final String token, final Class<T> clazz,
+                                               final Supplier<T> registryLookup) {
+        if (isEnabled() && clazz.isAssignableFrom(OAuth20AccessToken.class)) {
+            val accessToken = validateLocally(token);
+            if (accessToken.isPresent()) {
+                localValidations.increment();
+                return clazz.cast(accessToken.get());
+            }
+        }
+        registryValidations.increment();
+        return registryLookup.get();
+    }
+
+    /**
+     * Add the access token to the deny-list so that it can no longer be validated locally,
+     * until the maximum lifetime of access tokens has passed.
+     *
+     * @param tokenId the token id
+     */
+    public void revoke(final String tokenId) {
+        val maxTimeToLive = Beans.newDuration(casProperties.getAuthn().getOauth().getAccessToken().getMaxTimeToLiveInSeconds());
+        revoke(tokenId, ZonedDateTime.now(ZoneOffset.UTC).plus(maxTimeToLive));
+    }
+
+    /**
+     * Add the access token to the deny-list so that it can no longer be validated locally,
+     * until the access token would have naturally expired. Only access tokens that are issued
+     * as signed JWTs are tracked, since no other token is ever validated locally.
+     *
+     * @param accessToken the access token
+     */
+    public void revoke(final OAuth20AccessToken accessToken) {
+        if (!isEnabled() || !isJwtAccessToken(accessToken)) {
+            LOGGER.trace("Access token [{}] is not validated locally and need not be tracked in the deny-list", accessToken.getId());
+            return;
+        }
+        val maxTimeToLive = casProperties.getAuthn().getOauth().getAccessToken().getMaxTimeToLiveInSeconds();
+        val timeToLive = accessToken.getExpirationPolicy().getTimeToLive(accessToken);
+        if (timeToLive == null || timeToLive <= 0 || timeToLive >= Beans.newDuration(maxTimeToLive).toSeconds()) {
+            revoke(accessToken.getId());
+        } else {
+            revoke(accessToken.getId(), accessToken.getCreationTime().plusSeconds(timeToLive));
+        }
+    }
+
+    /**
+     * Add the access token to the deny-list so that it can no longer be validated locally.
+     *
+     * @param tokenId        the token id
+     * @param expirationTime the time after which the token is naturally expired
+     */
+    public void revoke(final String tokenId, final ZonedDateTime expirationTime) {
+        if (isEnabled()) {
+            denyList.revoke(tokenId, expirationTime);
+        }
+    }
+
+    /**
+     * Whether access tokens are validated statelessly.
+     *
+     * @return true/false
+     */
+    public boolean isEnabled() {
+        return casProperties.getAuthn().getOauth().getAccessToken().isStateless();
+    }
+
+    /**
+     * Whether the access token is issued as a signed JWT, either for all services or for the service that owns it.
+     *
+     * @param accessToken the access token
+     * @return true/false
+     */
+    public boolean isJwtAccessToken(final OAuth20AccessToken accessToken) {
+        if (casProperties.getAuthn().getOauth().getAccessToken().isCreateAsJwt()) {
+            return true;
+        }
+        val registeredService = OAuth20Utils.getRegisteredOAuthServiceByClientId(
+            accessTokenJwtBuilder.getServicesManager(), accessToken.getClientId());
+        return registeredService != null && registeredService.isJwtAccessToken();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("cas.oauth.access.token.validations", localValidations, LongAdder::sum)
+            .tag("source", "local")
+            .description("Access tokens validated locally from their signed claims")
+            .register(registry);
+        FunctionCounter.builder("cas.oauth.access.token.validations", registryValidations, LongAdder::sum)
+            .tag("source", "registry")
+            .description("Access tokens validated via the ticket registry")
+            .register(registry);
+        FunctionCounter.builder("cas.oauth.access.token.rejections", rejectedValidations, LongAdder::sum)
+            .description("Access tokens validated locally and rejected as expired or revoked")
+            .register(registry);
+        Gauge.builder("cas.oauth.access.token.deny.list.size", denyList, OAuth20AccessTokenDenyList::size)
+            .description("Revoked access tokens tracked in the deny-list")
+            .register(registry);
+    }
+
+    /**
+     * Validate the token locally and rebuild the access token from its claims.
+     *
+     * @param token the token
+     * @return the access token, or empty if the token cannot be validated locally
+     */
+    protected Optional<OAuth20AccessToken> validateLocally(final String token) {
+        val claims = unpackSignedToken(token);
+        if (claims.isEmpty()) {
+            return Optional.empty();
+        }
+        val claimsSet = claims.get();
+        val jwtId = claimsSet.getJWTID();
+        val expirationTime = claimsSet.getExpirationTime();
+        if (expirationTime == null || claimsSet.getIssueTime() == null || claimsSet.getAudience().isEmpty()) {
+            LOGGER.trace("Access token [{}] does not carry the claims required for local validation", jwtId);
+            return Optional.empty();
+        }
+        if (expirationTime.toInstant().isBefore(ZonedDateTime.now(ZoneOffset.UTC).toInstant())) {
+            rejectedValidations.increment();
+            LOGGER.debug("Access token [{}] has expired at [{}]", jwtId, expirationTime);
+            throw new InvalidTicketException(jwtId);
+        }
+        if (denyList.isRevoked(jwtId)) {
+            rejectedValidations.increment();
+            LOGGER.debug("Access token [{}] is found in the deny-list and has been revoked", jwtId);
+            throw new InvalidTicketException(jwtId);
+        }
+        return Optional.of(buildAccessToken(token, claimsSet));
+    }
+
+    private Optional<JWTClaimsSet> unpackSignedToken(final String token) {
+        try {
+            val jwt = JWTParser.parse(token);
+            if (!(jwt instanceof SignedJWT)) {
+                LOGGER.trace("Access token is not a signed JWT and cannot be validated locally");
+                return Optional.empty();
+            }
+            val serviceId = jwt.getHeader().getCustomParam(RegisteredServiceCipherExecutor.CUSTOM_HEADER_REGISTERED_SERVICE_ID);
+            val registeredService = serviceId == null
+                ? null
+                : accessTokenJwtBuilder.getServicesManager().findServiceBy(Long.parseLong(serviceId.toString()), OAuthRegisteredService.class);
+            return Optional.ofNullable(accessTokenJwtBuilder.unpack(Optional.ofNullable(registeredService), token));
+        } catch (final Exception e) {
+            LOGGER.trace("Unable to validate access token locally: [{}]", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private OAuth20AccessToken buildAccessToken(final String token, final JWTClaimsSet claimsSet) {
+        val attributes = new LinkedHashMap<String, List<Object>>();
+        claimsSet.getClaims().forEach((name, value) -> {
+            if (!JWTClaimsSet.getRegisteredNames().contains(name)
+                && !OAuth20Constants.CLIENT_ID.equals(name)
+                && !OAuth20Constants.SCOPE.equals(name)) {
+                attributes.put(name, new ArrayList<>(CollectionUtils.toCollection(value)));
+            }
+        });
+        val principal = principalFactory.createPrincipal(claimsSet.getSubject(), attributes);
+        val issueTime = DateTimeUtils.zonedDateTimeOf(claimsSet.getIssueTime());
+        val authentication = DefaultAuthenticationBuilder.newInstance()
+            .setPrincipal(principal)
+            .setAttributes(attributes)
+            .setAuthenticationDate(issueTime)
+            .build();
+        val service = webApplicationServiceServiceFactory.createService(claimsSet.getAudience().get(0));
+        val timeToLive = Duration.between(claimsSet.getIssueTime().toInstant(), claimsSet.getExpirationTime().toInstant());
+        val scopes = CollectionUtils.toCollection(claimsSet.getClaim(OAuth20Constants.SCOPE))
+            .stream()
+            .map(Object::toString)
+            .collect(Collectors.toSet());
+        val clientId = Objects.toString(claimsSet.getClaim(OAuth20Constants.CLIENT_ID), null);
+
+        val accessToken = new OAuth20DefaultAccessToken(claimsSet.getJWTID(), service, authentication,
+            new HardTimeoutExpirationPolicy(timeToLive.toSeconds()), null, token, scopes,
+            clientId, new HashMap<>(0), null, null);
+        accessToken.setCreationTime(issueTime);
+        accessToken.setLastTimeUsed(issueTime);
+        return accessToken;
+    }
+}
@@ -0,0 +1,136 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.ticket.TransientSessionTicket;
+import org.apereo.cas.ticket.TransientSessionTicketImpl;
+import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.lock.LockRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link TicketRegistryOAuth20AccessTokenDenyList}, which replicates the deny-list
+ * to all CAS server nodes that share the ticket registry. Revocations are answered by the local deny-list alone,
+ * so that validating an access token never reaches the ticket registry. In the background, revocations made by this node
+ * are published and revocations made by other nodes are pulled, via a single compact entry in the ticket registry
+ * that maps the identifiers of revoked tokens to the time they would have naturally expired.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TicketRegistryOAuth20AccessTokenDenyList implements OAuth20AccessTokenDenyList {
+    /**
+     * Id of the ticket registry entry that carries the replicated deny-list.
+     */
+    public static final String DENY_LIST_TICKET_ID = TransientSessionTicket.PREFIX + UniqueTicketIdGenerator.SEPARATOR + "oauth-access-token-deny-list";
+
+    private final OAuth20AccessTokenDenyList localDenyList;
+
+    private final ObjectProvider<TicketRegistry> ticketRegistry;
+
+    private final LockRepository lockRepository;
+
+    private final Map<String, ZonedDateTime> pendingRevocations = new ConcurrentHashMap<>();
+
+    @Override
+    public void revoke(final String id, final ZonedDateTime expirationTime) {
+        localDenyList.revoke(id, expirationTime);
+        if (expirationTime.isAfter(ZonedDateTime.now(ZoneOffset.UTC))) {
+            pendingRevocations.put(id, expirationTime);
+        }
+    }
+
+    @Override
+    public boolean isRevoked(final String id) {
+        return localDenyList.isRevoked(id);
+    }
+
+    /**
+     * Publish revocations made by this node, and pull revocations made by other nodes
+     * into the local deny-list.
+     */
+    @Scheduled(initialDelayString = "${cas.authn.oauth.access-token.deny-list.replication.start-delay:PT5S}",
+        fixedDelayString = "${cas.authn.oauth.access-token.deny-list.replication.repeat-interval:PT5S}")
+    public void replicate() {
+        try {
+            val revocations = pendingRevocations.isEmpty()
+                ? getReplicatedRevocations()
+                : lockRepository.execute(DENY_LIST_TICKET_ID, this::publishRevocations).orElseGet(Map::of);
+            revocations.forEach((id, expirationTime) -> {
+                if (!localDenyList.isRevoked(id)) {
+                    LOGGER.debug("Access token [{}] is revoked by another node until [{}]", id, expirationTime);
+                    localDenyList.revoke(id, expirationTime);
+                }
+            });
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${cas.authn.oauth.access-token.deny-list.schedule.start-delay:PT30S}",
+        fixedDelayString = "${cas.authn.oauth.access-token.deny-list.schedule.repeat-interval:PT60S}")
+    @Override
+    public void clean() {
+        localDenyList.clean();
+    }
+
+    @Override
+    public long size() {
+        return localDenyList.size();
+    }
+
+    private Map<String, ZonedDateTime> publishRevocations() {
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val revocations = new HashMap<>(getReplicatedRevocations());
+        val published = new HashMap<>(pendingRevocations);
+        revocations.putAll(published);
+        revocations.values().removeIf(expirationTime -> !expirationTime.isAfter(now));
+        try {
+            val registry = ticketRegistry.getObject();
+            val timeToLive = revocations.values().stream()
+                .mapToLong(expirationTime -> expirationTime.toEpochSecond() - now.toEpochSecond())
+                .max()
+                .orElse(1);
+            val properties = new HashMap<String, Serializable>(revocations.size());
+            revocations.forEach((id, expirationTime) -> properties.put(id, expirationTime.toEpochSecond()));
+            val ticket = new TransientSessionTicketImpl(DENY_LIST_TICKET_ID, new HardTimeoutExpirationPolicy(timeToLive), null, properties);
+            if (registry.getTicket(DENY_LIST_TICKET_ID) == null) {
+                registry.addTicket(ticket);
+            } else {
+                registry.updateTicket(ticket);
+            }
+            published.forEach(pendingRevocations::remove);
+            LOGGER.debug("Published [{}] access token revocation(s); the deny-list holds [{}] revocation(s)", published.size(), revocations.size());
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return revocations;
+    }
+
+    private Map<String, ZonedDateTime> getReplicatedRevocations() {
+        val ticket = ticketRegistry.getObject().getTicket(DENY_LIST_TICKET_ID, TransientSessionTicket.class);
+        if (ticket == null) {
+            return Map.of();
+        }
+        val revocations = new HashMap<String, ZonedDateTime>(ticket.getProperties().size());
+        ticket.getProperties().forEach((id, expirationTime) -> revocations.put(id,
+            ZonedDateTime.ofInstant(Instant.ofEpochSecond(((Number) expirationTime).longValue()), ZoneOffset.UTC)));
+        return revocations;
+    }
+}
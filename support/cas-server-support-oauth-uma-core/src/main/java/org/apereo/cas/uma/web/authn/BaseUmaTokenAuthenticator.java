@@ -3,10 +3,12 @@ package org.apereo.cas.uma.web.authn;
 import org.apereo.cas.CentralAuthenticationService;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
+import org.apereo.cas.ticket.accesstoken.OAuth20StatelessAccessTokenValidator;
 import org.apereo.cas.token.JwtBuilder;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.pac4j.core.context.WebContext;
@@ -32,11 +34,14 @@ public abstract class BaseUmaTokenAuthenticator implements Authenticator {
 
     private final JwtBuilder accessTokenJwtBuilder;
 
+    @Setter
+    private OAuth20StatelessAccessTokenValidator statelessAccessTokenValidator;
+
     @Override
     public void validate(final Credentials creds, final WebContext webContext, final SessionStore sessionStore) {
         val credentials = (TokenCredentials) creds;
         val token = extractAccessTokenFrom(credentials.getToken().trim());
-        val at = this.centralAuthenticationService.getTicket(token, OAuth20AccessToken.class);
+        val at = getAccessToken(credentials, token);
         if (!at.getScopes().contains(getRequiredScope())) {
             val err = String.format("Missing scope [%s]. Unable to authenticate access token %s", getRequiredScope(), token);
             throw new CredentialsException(err);
@@ -56,6 +61,22 @@ public abstract class BaseUmaTokenAuthenticator implements Authenticator {
         credentials.setUserProfile(profile);
     }
 
+    /**
+     * Gets the access token, locally from the signed claims of the token credentials
+     * if access tokens are validated statelessly, or from the ticket registry otherwise.
+     *
+     * @param credentials the credentials
+     * @param token       the access token id
+     * @return the access token
+     */
+    protected OAuth20AccessToken getAccessToken(final TokenCredentials credentials, final String token) {
+        if (statelessAccessTokenValidator == null) {
+            return centralAuthenticationService.getTicket(token, OAuth20AccessToken.class);
+        }
+        return statelessAccessTokenValidator.validate(credentials.getToken().trim(), OAuth20AccessToken.class,
+            () -> centralAuthenticationService.getTicket(token, OAuth20AccessToken.class));
+    }
+
     /**
      * Extract access token from token.
      *
@@ -13,6 +13,7 @@ import org.apereo.cas.ticket.OAuth20TokenSigningAndEncryptionService;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketFactoryExecutionPlanConfigurer;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.ticket.accesstoken.OAuth20StatelessAccessTokenValidator;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.token.JwtBuilder;
 import org.apereo.cas.uma.UmaConfigurationContext;
@@ -154,6 +155,8 @@ public class CasOAuthUmaConfiguration {
             final TicketRegistry ticketRegistry,
             @Qualifier("umaResourceSetRepository")
             final ResourceSetRepository umaResourceSetRepository,
+            @Qualifier("oauthStatelessAccessTokenValidator")
+            final OAuth20StatelessAccessTokenValidator oauthStatelessAccessTokenValidator,
             final CasConfigurationProperties casProperties) {
 
             return UmaConfigurationContext.builder()
@@ -170,6 +173,7 @@ public class CasOAuthUmaConfiguration {
                 .umaResourceSetRepository(umaResourceSetRepository)
                 .idTokenSigningAndEncryptionService(umaTokenSigningAndEncryptionService)
                 .ticketFactory(ticketFactory)
+                .statelessAccessTokenValidator(oauthStatelessAccessTokenValidator)
                 .build();
         }
 
@@ -205,8 +209,11 @@ public class CasOAuthUmaConfiguration {
             @Qualifier(CentralAuthenticationService.BEAN_NAME)
             final CentralAuthenticationService centralAuthenticationService,
             @Qualifier("accessTokenJwtBuilder")
-            final JwtBuilder accessTokenJwtBuilder) {
+            final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier("oauthStatelessAccessTokenValidator")
+            final OAuth20StatelessAccessTokenValidator oauthStatelessAccessTokenValidator) {
             val authenticator = new UmaRequestingPartyTokenAuthenticator(centralAuthenticationService, accessTokenJwtBuilder);
+            authenticator.setStatelessAccessTokenValidator(oauthStatelessAccessTokenValidator);
             return getSecurityInterceptor(authenticator, "CAS_UMA_CLIENT_RPT_AUTH", oauthDistributedSessionStore, casProperties);
         }
 
@@ -219,8 +226,11 @@ public class CasOAuthUmaConfiguration {
             @Qualifier(CentralAuthenticationService.BEAN_NAME)
             final CentralAuthenticationService centralAuthenticationService,
             @Qualifier("accessTokenJwtBuilder")
-            final JwtBuilder accessTokenJwtBuilder) {
+            final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier("oauthStatelessAccessTokenValidator")
+            final OAuth20StatelessAccessTokenValidator oauthStatelessAccessTokenValidator) {
             val authenticator = new UmaAuthorizationApiTokenAuthenticator(centralAuthenticationService, accessTokenJwtBuilder);
+            authenticator.setStatelessAccessTokenValidator(oauthStatelessAccessTokenValidator);
             return getSecurityInterceptor(authenticator, "CAS_UMA_CLIENT_AAT_AUTH",
                 oauthDistributedSessionStore, casProperties);
         }
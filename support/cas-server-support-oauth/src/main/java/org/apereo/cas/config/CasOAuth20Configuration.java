@@ -94,10 +94,15 @@ import org.apereo.cas.ticket.ExpirationPolicyBuilder;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketFactoryExecutionPlanConfigurer;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.ticket.accesstoken.DefaultOAuth20AccessTokenDenyList;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenDeletionListener;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenDenyList;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenExpirationPolicyBuilder;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenFactory;
 import org.apereo.cas.ticket.accesstoken.OAuth20DefaultAccessTokenFactory;
 import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilder;
+import org.apereo.cas.ticket.accesstoken.OAuth20StatelessAccessTokenValidator;
+import org.apereo.cas.ticket.accesstoken.TicketRegistryOAuth20AccessTokenDenyList;
 import org.apereo.cas.ticket.code.OAuth20CodeExpirationPolicyBuilder;
 import org.apereo.cas.ticket.code.OAuth20CodeFactory;
 import org.apereo.cas.ticket.code.OAuth20DefaultOAuthCodeFactory;
@@ -110,6 +115,7 @@ import org.apereo.cas.ticket.refreshtoken.OAuth20DefaultRefreshTokenFactory;
 import org.apereo.cas.ticket.refreshtoken.OAuth20RefreshTokenExpirationPolicyBuilder;
 import org.apereo.cas.ticket.refreshtoken.OAuth20RefreshTokenFactory;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryDeletionListener;
 import org.apereo.cas.token.JwtBuilder;
 import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
 import org.apereo.cas.util.HttpRequestUtils;
@@ -117,6 +123,7 @@ import org.apereo.cas.util.InternalTicketValidator;
 import org.apereo.cas.util.cipher.CipherExecutorUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.lock.LockRepository;
 import org.apereo.cas.util.spring.beans.BeanContainer;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
@@ -222,6 +229,44 @@ public class CasOAuth20Configuration {
             return new OAuth20JwtBuilder(oauthAccessTokenJwtCipherExecutor, servicesManager,
                 oauthRegisteredServiceJwtAccessTokenCipherExecutor, casProperties);
         }
+
+        @ConditionalOnMissingBean(name = OAuth20AccessTokenDenyList.BEAN_NAME)
+        @Bean
+        public OAuth20AccessTokenDenyList oauthAccessTokenDenyList(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final ObjectProvider<TicketRegistry> ticketRegistry,
+            @Qualifier(LockRepository.BEAN_NAME)
+            final LockRepository casTicketRegistryLockRepository) {
+            val localDenyList = new DefaultOAuth20AccessTokenDenyList(casProperties.getAuthn().getOauth().getAccessToken().getDenyListExpectedInsertions());
+            return new TicketRegistryOAuth20AccessTokenDenyList(localDenyList, ticketRegistry, casTicketRegistryLockRepository);
+        }
+
+        @ConditionalOnMissingBean(name = "oauthAccessTokenDeletionListener")
+        @Bean
+        public TicketRegistryDeletionListener oauthAccessTokenDeletionListener(
+            @Qualifier("oauthStatelessAccessTokenValidator")
+            final ObjectProvider<OAuth20StatelessAccessTokenValidator> oauthStatelessAccessTokenValidator,
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final ObjectProvider<TicketRegistry> ticketRegistry) {
+            return new OAuth20AccessTokenDeletionListener(oauthStatelessAccessTokenValidator, ticketRegistry);
+        }
+
+        @ConditionalOnMissingBean(name = "oauthStatelessAccessTokenValidator")
+        @Bean
+        public OAuth20StatelessAccessTokenValidator oauthStatelessAccessTokenValidator(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(OAuth20AccessTokenDenyList.BEAN_NAME)
+            final OAuth20AccessTokenDenyList oauthAccessTokenDenyList,
+            @Qualifier("accessTokenJwtBuilder")
+            final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier(WebApplicationService.BEAN_NAME_FACTORY)
+            final ServiceFactory<WebApplicationService> webApplicationServiceFactory,
+            @Qualifier("oauthPrincipalFactory")
+            final PrincipalFactory oauthPrincipalFactory) {
+            return new OAuth20StatelessAccessTokenValidator(accessTokenJwtBuilder, oauthAccessTokenDenyList,
+                webApplicationServiceFactory, oauthPrincipalFactory, casProperties);
+        }
     }
 
     @Configuration(value = "CasOAuth20ContextConfiguration", proxyBeanMethods = false)
@@ -238,6 +283,8 @@ public class CasOAuth20Configuration {
             final TicketRegistry ticketRegistry,
             @Qualifier("accessTokenJwtBuilder")
             final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier("oauthStatelessAccessTokenValidator")
+            final OAuth20StatelessAccessTokenValidator oauthStatelessAccessTokenValidator,
             @Qualifier("registeredServiceAccessStrategyEnforcer")
             final AuditableExecution registeredServiceAccessStrategyEnforcer,
             @Qualifier(CentralAuthenticationService.BEAN_NAME)
@@ -305,6 +352,7 @@ public class CasOAuth20Configuration {
                 .profileScopeToAttributesFilter(profileScopeToAttributesFilter)
                 .accessTokenGenerator(oauthTokenGenerator)
                 .accessTokenJwtBuilder(accessTokenJwtBuilder)
+                .statelessAccessTokenValidator(oauthStatelessAccessTokenValidator)
                 .accessTokenResponseGenerator(accessTokenResponseGenerator)
                 .deviceTokenExpirationPolicy(deviceTokenExpirationPolicy)
                 .accessTokenGrantRequestValidators(oauthTokenRequestValidators)
@@ -1407,9 +1455,13 @@ public class CasOAuth20Configuration {
         public Authenticator oAuthAccessTokenAuthenticator(
             @Qualifier("accessTokenJwtBuilder")
             final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier("oauthStatelessAccessTokenValidator")
+            final OAuth20StatelessAccessTokenValidator oauthStatelessAccessTokenValidator,
             @Qualifier(TicketRegistry.BEAN_NAME)
             final TicketRegistry ticketRegistry) {
-            return new OAuth20AccessTokenAuthenticator(ticketRegistry, accessTokenJwtBuilder);
+            val authenticator = new OAuth20AccessTokenAuthenticator(ticketRegistry, accessTokenJwtBuilder);
+            authenticator.setStatelessAccessTokenValidator(oauthStatelessAccessTokenValidator);
+            return authenticator;
         }
 
     }
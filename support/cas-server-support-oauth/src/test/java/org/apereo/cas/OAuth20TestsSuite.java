@@ -74,7 +74,10 @@ import org.apereo.cas.ticket.TokenSigningAndEncryptionServiceTests;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenExpirationPolicyTests;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenSovereignExpirationPolicyTests;
 import org.apereo.cas.ticket.accesstoken.OAuth20DefaultAccessTokenFactoryTests;
+import org.apereo.cas.ticket.accesstoken.DefaultOAuth20AccessTokenDenyListTests;
 import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilderTests;
+import org.apereo.cas.ticket.accesstoken.OAuth20StatelessAccessTokenValidatorTests;
+import org.apereo.cas.ticket.accesstoken.TicketRegistryOAuth20AccessTokenDenyListTests;
 import org.apereo.cas.ticket.code.OAuth20DefaultOAuthCodeFactoryTests;
 import org.apereo.cas.ticket.device.OAuth20DefaultDeviceTokenFactoryTests;
 import org.apereo.cas.ticket.device.OAuth20DefaultDeviceUserCodeTests;
@@ -118,6 +121,9 @@ import org.junit.platform.suite.api.Suite;
     OAuth20DefaultRefreshTokenFactoryTests.class,
     OAuth20DefaultOAuthCodeFactoryTests.class,
     OAuth20JwtBuilderTests.class,
+    OAuth20StatelessAccessTokenValidatorTests.class,
+    DefaultOAuth20AccessTokenDenyListTests.class,
+    TicketRegistryOAuth20AccessTokenDenyListTests.class,
     OAuth20ResourceOwnerCredentialsResponseBuilderTests.class,
     OAuth20CallbackAuthorizeEndpointControllerTests.class,
     OAuth20JwtAccessTokenCipherExecutorTests.class,
@@ -0,0 +1,44 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultOAuth20AccessTokenDenyListTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("OAuth")
+public class DefaultOAuth20AccessTokenDenyListTests {
+    @Test
+    public void verifyRevocation() {
+        val denyList = new DefaultOAuth20AccessTokenDenyList(100);
+        assertFalse(denyList.isRevoked("AT-1"));
+        denyList.revoke("AT-1", ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(5));
+        assertTrue(denyList.isRevoked("AT-1"));
+        assertFalse(denyList.isRevoked("AT-2"));
+        assertEquals(1, denyList.size());
+    }
+
+    @Test
+    public void verifyExpiredEntriesCleaned() {
+        val now = Instant.now();
+        val denyList = new DefaultOAuth20AccessTokenDenyList(100, Clock.fixed(now, ZoneOffset.UTC));
+        denyList.revoke("AT-1", ZonedDateTime.ofInstant(now.minusSeconds(10), ZoneOffset.UTC));
+        denyList.revoke("AT-2", ZonedDateTime.ofInstant(now.plusSeconds(10), ZoneOffset.UTC));
+        assertFalse(denyList.isRevoked("AT-1"));
+        assertTrue(denyList.isRevoked("AT-2"));
+        denyList.clean();
+        assertEquals(1, denyList.size());
+        assertTrue(denyList.isRevoked("AT-2"));
+    }
+}
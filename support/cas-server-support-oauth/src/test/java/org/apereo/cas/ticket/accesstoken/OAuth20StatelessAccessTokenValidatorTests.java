@@ -0,0 +1,119 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.AbstractOAuth20Tests;
+import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenCipherExecutor;
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenEncoder;
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20RegisteredServiceJwtAccessTokenCipherExecutor;
+import org.apereo.cas.ticket.InvalidTicketException;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link OAuth20StatelessAccessTokenValidatorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("OAuth")
+public class OAuth20StatelessAccessTokenValidatorTests extends AbstractOAuth20Tests {
+    @Test
+    public void verifyLocalValidation() {
+        val properties = getStatelessProperties();
+        val builder = getJwtBuilder(properties);
+        val validator = getValidator(builder, properties);
+        val accessToken = getAccessToken();
+        val jwt = encode(accessToken, builder, properties);
+
+        val result = validator.validate(jwt, OAuth20AccessToken.class, id -> fail("Registry must not be consulted"));
+        assertNotNull(result);
+        assertEquals(accessToken.getId(), result.getId());
+        assertEquals(CLIENT_ID, result.getClientId());
+        assertEquals(accessToken.getAuthentication().getPrincipal().getId(), result.getAuthentication().getPrincipal().getId());
+        assertEquals(accessToken.getService().getId(), result.getService().getId());
+        assertFalse(result.isExpired());
+        assertEquals(1, validator.getLocalValidations().sum());
+        assertEquals(0, validator.getRegistryValidations().sum());
+    }
+
+    @Test
+    public void verifyRevokedToken() {
+        val properties = getStatelessProperties();
+        val builder = getJwtBuilder(properties);
+        val validator = getValidator(builder, properties);
+        val accessToken = getAccessToken();
+        val jwt = encode(accessToken, builder, properties);
+
+        validator.revoke(accessToken.getId());
+        assertThrows(InvalidTicketException.class,
+            () -> validator.validate(jwt, OAuth20AccessToken.class, id -> fail("Registry must not be consulted")));
+        assertEquals(1, validator.getRejectedValidations().sum());
+    }
+
+    @Test
+    public void verifyRegistryFallback() {
+        val properties = getStatelessProperties();
+        val builder = getJwtBuilder(properties);
+        val validator = getValidator(builder, properties);
+        val accessToken = getAccessToken();
+
+        val result = validator.validate(accessToken.getId(), OAuth20AccessToken.class, id -> accessToken);
+        assertSame(accessToken, result);
+        assertEquals(0, validator.getLocalValidations().sum());
+        assertEquals(1, validator.getRegistryValidations().sum());
+    }
+
+    @Test
+    public void verifyStatelessDisabled() {
+        val properties = new CasConfigurationProperties();
+        val builder = getJwtBuilder(properties);
+        val validator = getValidator(builder, properties);
+        val accessToken = getAccessToken();
+        val jwt = encode(accessToken, builder, properties);
+
+        val result = validator.validate(jwt, OAuth20AccessToken.class, id -> accessToken);
+        assertSame(accessToken, result);
+        assertEquals(1, validator.getRegistryValidations().sum());
+    }
+
+    private static CasConfigurationProperties getStatelessProperties() {
+        val properties = new CasConfigurationProperties();
+        properties.getAuthn().getOauth().getAccessToken().setStateless(true);
+        return properties;
+    }
+
+    private OAuth20JwtBuilder getJwtBuilder(final CasConfigurationProperties properties) {
+        return new OAuth20JwtBuilder(
+            new OAuth20JwtAccessTokenCipherExecutor(true, true),
+            servicesManager,
+            new OAuth20RegisteredServiceJwtAccessTokenCipherExecutor(), properties);
+    }
+
+    private OAuth20StatelessAccessTokenValidator getValidator(final OAuth20JwtBuilder builder,
+                                                              final CasConfigurationProperties properties) {
+        return new OAuth20StatelessAccessTokenValidator(builder, new DefaultOAuth20AccessTokenDenyList(100),
+            serviceFactory, PrincipalFactoryUtils.newPrincipalFactory(), properties);
+    }
+
+    private String encode(final OAuth20AccessToken accessToken, final OAuth20JwtBuilder builder,
+                          final CasConfigurationProperties properties) {
+        val registeredService = getRegisteredService(accessToken.getService().getId(), "secret", new LinkedHashSet<>());
+        registeredService.setJwtAccessToken(true);
+        servicesManager.save(registeredService);
+        return OAuth20JwtAccessTokenEncoder.builder()
+            .accessToken(accessToken)
+            .registeredService(registeredService)
+            .service(accessToken.getService())
+            .accessTokenJwtBuilder(builder)
+            .casProperties(properties)
+            .build()
+            .encode();
+    }
+}
@@ -0,0 +1,149 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.token.JwtBuilder;
+import org.apereo.cas.util.lock.LockRepository;
+import org.apereo.cas.util.spring.DirectObjectProvider;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link TicketRegistryOAuth20AccessTokenDenyListTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("OAuth")
+public class TicketRegistryOAuth20AccessTokenDenyListTests {
+    private static final String ACCESS_TOKEN_ID = OAuth20AccessToken.PREFIX + "-123456";
+
+    @Test
+    public void verifyRevocationIsReplicated() {
+        val ticketRegistry = new DefaultTicketRegistry();
+        val denyList1 = getDenyList(ticketRegistry);
+        val denyList2 = getDenyList(ticketRegistry);
+
+        denyList1.revoke(ACCESS_TOKEN_ID, ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(5));
+        assertTrue(denyList1.isRevoked(ACCESS_TOKEN_ID));
+        assertFalse(denyList2.isRevoked(ACCESS_TOKEN_ID));
+        denyList2.replicate();
+        assertFalse(denyList2.isRevoked(ACCESS_TOKEN_ID));
+
+        denyList1.replicate();
+        assertNotNull(ticketRegistry.getTicket(TicketRegistryOAuth20AccessTokenDenyList.DENY_LIST_TICKET_ID));
+        denyList2.replicate();
+        assertTrue(denyList2.isRevoked(ACCESS_TOKEN_ID));
+        assertEquals(1, denyList2.size());
+        assertFalse(denyList2.isRevoked(OAuth20AccessToken.PREFIX + "-unknown"));
+
+        denyList2.revoke(OAuth20AccessToken.PREFIX + "-other", ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(5));
+        denyList2.replicate();
+        denyList1.replicate();
+        assertTrue(denyList1.isRevoked(OAuth20AccessToken.PREFIX + "-other"));
+    }
+
+    @Test
+    public void verifyExpiredRevocationIsNotReplicated() {
+        val ticketRegistry = new DefaultTicketRegistry();
+        val denyList = getDenyList(ticketRegistry);
+        denyList.revoke(ACCESS_TOKEN_ID, ZonedDateTime.now(ZoneOffset.UTC).minusMinutes(5));
+        denyList.replicate();
+        assertNull(ticketRegistry.getTicket(TicketRegistryOAuth20AccessTokenDenyList.DENY_LIST_TICKET_ID));
+        val other = getDenyList(ticketRegistry);
+        other.replicate();
+        assertFalse(other.isRevoked(ACCESS_TOKEN_ID));
+    }
+
+    @Test
+    public void verifyRevocationCheckedLocally() {
+        val ticketRegistry = mock(TicketRegistry.class);
+        val denyList = getDenyList(ticketRegistry);
+        denyList.revoke(ACCESS_TOKEN_ID, ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(5));
+        assertTrue(denyList.isRevoked(ACCESS_TOKEN_ID));
+        assertFalse(denyList.isRevoked(OAuth20AccessToken.PREFIX + "-unknown"));
+        verifyNoInteractions(ticketRegistry);
+    }
+
+    @Test
+    public void verifyAccessTokenDeletionRevokes() throws Exception {
+        val ticketRegistry = new DefaultTicketRegistry();
+        val validator = getValidator(ticketRegistry, true);
+        ticketRegistry.setDeletionListeners(List.of(getDeletionListener(validator, ticketRegistry)));
+
+        val accessToken = getAccessToken();
+        ticketRegistry.addTicket(accessToken);
+        ticketRegistry.deleteTicket(accessToken);
+        assertTrue(validator.getDenyList().isRevoked(ACCESS_TOKEN_ID));
+    }
+
+    @Test
+    public void verifyTicketGrantingTicketDeletionRevokes() throws Exception {
+        val ticketRegistry = new DefaultTicketRegistry();
+        val validator = getValidator(ticketRegistry, true);
+        ticketRegistry.setDeletionListeners(List.of(getDeletionListener(validator, ticketRegistry)));
+
+        ticketRegistry.addTicket(getAccessToken());
+        val tgt = new MockTicketGrantingTicket("casuser");
+        tgt.getDescendantTickets().add(ACCESS_TOKEN_ID);
+        tgt.getDescendantTickets().add(OAuth20AccessToken.PREFIX + "-unknown");
+        ticketRegistry.addTicket(tgt);
+        ticketRegistry.deleteTicket(tgt.getId());
+        assertNull(ticketRegistry.getTicket(tgt.getId()));
+        assertTrue(validator.getDenyList().isRevoked(ACCESS_TOKEN_ID));
+        assertEquals(1, validator.getDenyList().size());
+    }
+
+    @Test
+    public void verifyOpaqueAccessTokenDeletionDoesNotRevoke() throws Exception {
+        val ticketRegistry = new DefaultTicketRegistry();
+        val validator = getValidator(ticketRegistry, false);
+        ticketRegistry.setDeletionListeners(List.of(getDeletionListener(validator, ticketRegistry)));
+
+        val accessToken = getAccessToken();
+        ticketRegistry.addTicket(accessToken);
+        ticketRegistry.deleteTicket(accessToken);
+        assertFalse(validator.getDenyList().isRevoked(ACCESS_TOKEN_ID));
+        assertEquals(0, validator.getDenyList().size());
+    }
+
+    private static TicketRegistryOAuth20AccessTokenDenyList getDenyList(final TicketRegistry ticketRegistry) {
+        return new TicketRegistryOAuth20AccessTokenDenyList(new DefaultOAuth20AccessTokenDenyList(100),
+            new DirectObjectProvider<>(ticketRegistry), LockRepository.asDefault());
+    }
+
+    private static OAuth20StatelessAccessTokenValidator getValidator(final TicketRegistry ticketRegistry, final boolean createAsJwt) {
+        val properties = new CasConfigurationProperties();
+        properties.getAuthn().getOauth().getAccessToken().setStateless(true);
+        properties.getAuthn().getOauth().getAccessToken().setCreateAsJwt(createAsJwt);
+        val jwtBuilder = mock(JwtBuilder.class);
+        when(jwtBuilder.getServicesManager()).thenReturn(mock(ServicesManager.class));
+        return new OAuth20StatelessAccessTokenValidator(jwtBuilder, getDenyList(ticketRegistry), null, null, properties);
+    }
+
+    private static OAuth20AccessTokenDeletionListener getDeletionListener(final OAuth20StatelessAccessTokenValidator validator,
+                                                                          final TicketRegistry ticketRegistry) {
+        return new OAuth20AccessTokenDeletionListener(new DirectObjectProvider<>(validator), new DirectObjectProvider<>(ticketRegistry));
+    }
+
+    private static OAuth20AccessToken getAccessToken() {
+        val accessToken = mock(OAuth20AccessToken.class);
+        when(accessToken.getId()).thenReturn(ACCESS_TOKEN_ID);
+        when(accessToken.getClientId()).thenReturn("clientid");
+        when(accessToken.getCreationTime()).thenReturn(ZonedDateTime.now(ZoneOffset.UTC));
+        when(accessToken.getExpirationPolicy()).thenReturn(new OAuth20AccessTokenExpirationPolicy(60, 60));
+        return accessToken;
+    }
+}
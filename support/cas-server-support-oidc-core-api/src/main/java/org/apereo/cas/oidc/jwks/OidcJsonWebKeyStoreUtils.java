@@ -45,6 +45,8 @@ public class OidcJsonWebKeyStoreUtils {
 
     private static final int JWK_EC_P512_SIZE = 512;
 
+    private static final int JWK_EC_P521_SIZE = 521;
+
     /**
      * Gets json web key set.
      *
@@ -200,7 +202,7 @@ public class OidcJsonWebKeyStoreUtils {
                     usage.assignTo(jwk);
                     return jwk;
                 }
-                if (jwksKeySize == JWK_EC_P512_SIZE) {
+                if (jwksKeySize == JWK_EC_P512_SIZE || jwksKeySize == JWK_EC_P521_SIZE) {
                     val jwk = generateJsonWebKeyEC(EllipticCurves.P521);
                     jwk.setKeyId(UUID.randomUUID().toString());
                     jwk.setAlgorithm(AlgorithmIdentifiers.ECDSA_USING_P521_CURVE_AND_SHA512);
@@ -209,7 +211,7 @@ public class OidcJsonWebKeyStoreUtils {
                 }
                 val jwk = generateJsonWebKeyEC(EllipticCurves.P256);
                 jwk.setKeyId(UUID.randomUUID().toString());
-                jwk.setAlgorithm(AlgorithmIdentifiers.ECDSA_USING_P521_CURVE_AND_SHA512);
+                jwk.setAlgorithm(AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256);
                 usage.assignTo(jwk);
                 return jwk;
             case "rsa":
@@ -6,7 +6,6 @@ import org.apereo.cas.oidc.jwks.OidcJsonWebKeyCacheKey;
 import org.apereo.cas.oidc.token.BaseOidcJsonWebKeyTokenSigningAndEncryptionService;
 import org.apereo.cas.services.OidcRegisteredService;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
-import org.apereo.cas.util.jwt.JsonWebTokenEncryptor;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.extern.slf4j.Slf4j;
@@ -100,14 +99,9 @@ public class OidcUserProfileSigningAndEncryptionService extends BaseOidcJsonWebK
             val svc = OidcRegisteredService.class.cast(service);
             val jsonWebKey = getJsonWebKeyForEncryption(svc);
 
-            return JsonWebTokenEncryptor.builder()
-                .key(jsonWebKey.getPublicKey())
-                .keyId(jsonWebKey.getKeyId())
-                .algorithm(svc.getIdTokenEncryptionAlg())
-                .encryptionMethod(svc.getIdTokenEncryptionEncoding())
-                .allowedAlgorithms(discoverySettings.getUserInfoEncryptionAlgValuesSupported())
-                .allowedContentEncryptionAlgorithms(discoverySettings.getUserInfoEncryptionEncodingValuesSupported())
-                .build()
+            return getJsonWebTokenEncryptor(jsonWebKey, svc.getIdTokenEncryptionAlg(), svc.getIdTokenEncryptionEncoding(),
+                discoverySettings.getUserInfoEncryptionAlgValuesSupported(),
+                discoverySettings.getUserInfoEncryptionEncodingValuesSupported())
                 .encrypt(innerJwt);
         }
         return innerJwt;
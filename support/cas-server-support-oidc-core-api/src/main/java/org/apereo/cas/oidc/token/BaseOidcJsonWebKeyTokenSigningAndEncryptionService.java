@@ -9,24 +9,37 @@ import org.apereo.cas.ticket.BaseTokenSigningAndEncryptionService;
 import org.apereo.cas.token.JwtBuilder;
 import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.jwt.JsonWebTokenEncryptor;
+import org.apereo.cas.util.jwt.JsonWebTokenSigner;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.nimbusds.jwt.EncryptedJWT;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.JWTParser;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
+import org.jose4j.jwk.EllipticCurveJsonWebKey;
 import org.jose4j.jwk.JsonWebKey;
 import org.jose4j.jwk.JsonWebKeySet;
 import org.jose4j.jwk.PublicJsonWebKey;
 import org.jose4j.jwt.JwtClaims;
 
+import java.time.Duration;
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * This is {@link BaseOidcJsonWebKeyTokenSigningAndEncryptionService}.
@@ -36,7 +49,9 @@ import java.util.Optional;
  */
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
-public abstract class BaseOidcJsonWebKeyTokenSigningAndEncryptionService extends BaseTokenSigningAndEncryptionService {
+public abstract class BaseOidcJsonWebKeyTokenSigningAndEncryptionService extends BaseTokenSigningAndEncryptionService
+    implements MeterBinder {
+    private static final int MAX_CACHED_JSON_WEB_TOKEN_CONTEXTS = 100;
     /**
      * The default keystore for OIDC tokens.
      */
@@ -52,16 +67,55 @@ public abstract class BaseOidcJsonWebKeyTokenSigningAndEncryptionService extends
      */
     protected final OidcIssuerService issuerService;
 
+    private final Cache<String, JsonWebTokenEncryptor> jsonWebTokenEncryptors = Caffeine.newBuilder()
+        .maximumSize(MAX_CACHED_JSON_WEB_TOKEN_CONTEXTS)
+        .expireAfterAccess(Duration.ofHours(1))
+        .build();
+
+    private final Cache<String, JsonWebTokenSigner> jsonWebTokenSigners = Caffeine.newBuilder()
+        .maximumSize(MAX_CACHED_JSON_WEB_TOKEN_CONTEXTS)
+        .expireAfterAccess(Duration.ofHours(1))
+        .build();
+
+    private final LongAdder encodingCount = new LongAdder();
+
+    private final LongAdder encodingTimeInNanos = new LongAdder();
+
     @Override
     public String encode(final OAuthRegisteredService service, final JwtClaims claims) {
-        return FunctionUtils.doUnchecked(() -> {
-            LOGGER.trace("Attempting to produce token generated for service [{}] with claims [{}]", service, claims.toJson());
-            var innerJwt = signTokenIfNecessary(claims, service);
-            if (shouldEncryptToken(service)) {
-                innerJwt = encryptToken(service, innerJwt);
-            }
-            return innerJwt;
-        });
+        val startTime = System.nanoTime();
+        try {
+            return FunctionUtils.doUnchecked(() -> {
+                LOGGER.trace("Attempting to produce token generated for service [{}] with claims [{}]", service, claims.toJson());
+                var innerJwt = signTokenIfNecessary(claims, service);
+                if (shouldEncryptToken(service)) {
+                    innerJwt = encryptToken(service, innerJwt);
+                }
+                return innerJwt;
+            });
+        } finally {
+            encodingCount.increment();
+            encodingTimeInNanos.add(System.nanoTime() - startTime);
+        }
+    }
+
+    @Override
+    public String getJsonWebKeySigningAlgorithm(final OAuthRegisteredService svc) {
+        return findJsonWebKeySigningKey()
+            .filter(jsonWebKey -> jsonWebKey instanceof EllipticCurveJsonWebKey)
+            .map(JsonWebKey::getAlgorithm)
+            .filter(StringUtils::isNotBlank)
+            .orElseGet(() -> super.getJsonWebKeySigningAlgorithm(svc));
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionTimer.builder("cas.oidc.token.encoding", this,
+                service -> service.encodingCount.sum(),
+                service -> service.encodingTimeInNanos.sum(), TimeUnit.NANOSECONDS)
+            .tag("type", getClass().getSimpleName())
+            .description("Time spent signing and encrypting tokens")
+            .register(registry);
     }
 
     @Override
@@ -97,13 +151,36 @@ public abstract class BaseOidcJsonWebKeyTokenSigningAndEncryptionService extends
 
     @Override
     protected PublicJsonWebKey getJsonWebKeySigningKey() {
-        val iss = issuerService.determineIssuer(Optional.empty());
-        LOGGER.trace("Using issuer [{}] to locate JWK signing key", iss);
-        val jwks = defaultJsonWebKeystoreCache.get(new OidcJsonWebKeyCacheKey(iss, OidcJsonWebKeyUsage.SIGNING));
-        if (Objects.requireNonNull(jwks).isEmpty()) {
-            throw new IllegalArgumentException("No signing key could be found for issuer " + iss);
-        }
-        return (PublicJsonWebKey) jwks.get().getJsonWebKeys().get(0);
+        return findJsonWebKeySigningKey().orElseThrow(() -> new IllegalArgumentException(
+            "No signing key could be found for issuer " + issuerService.determineIssuer(Optional.empty())));
+    }
+
+    /**
+     * Gets the encryptor prepared for the given key and algorithms.
+     * Encryptors are immutable and reused across requests for the same key.
+     *
+     * @param jsonWebKey                         the json web key
+     * @param algorithm                          the algorithm
+     * @param encryptionMethod                   the encryption method
+     * @param allowedAlgorithms                  the allowed algorithms
+     * @param allowedContentEncryptionAlgorithms the allowed content encryption algorithms
+     * @return the json web token encryptor
+     */
+    protected JsonWebTokenEncryptor getJsonWebTokenEncryptor(final PublicJsonWebKey jsonWebKey,
+                                                             final String algorithm,
+                                                             final String encryptionMethod,
+                                                             final Set<String> allowedAlgorithms,
+                                                             final Set<String> allowedContentEncryptionAlgorithms) {
+        val key = String.join("|", jsonWebKey.getKeyId(), String.valueOf(System.identityHashCode(jsonWebKey.getPublicKey())),
+            algorithm, encryptionMethod, String.valueOf(allowedAlgorithms), String.valueOf(allowedContentEncryptionAlgorithms));
+        return jsonWebTokenEncryptors.get(key, k -> JsonWebTokenEncryptor.builder()
+            .key(jsonWebKey.getPublicKey())
+            .keyId(jsonWebKey.getKeyId())
+            .algorithm(algorithm)
+            .encryptionMethod(encryptionMethod)
+            .allowedAlgorithms(allowedAlgorithms)
+            .allowedContentEncryptionAlgorithms(allowedContentEncryptionAlgorithms)
+            .build());
     }
 
     /**
@@ -132,6 +209,23 @@ public abstract class BaseOidcJsonWebKeyTokenSigningAndEncryptionService extends
         return (PublicJsonWebKey) jsonWebKey;
     }
 
+    @Override
+    protected JsonWebTokenSigner getJsonWebTokenSigner(final OAuthRegisteredService service,
+                                                       final PublicJsonWebKey jsonWebKey) {
+        val algorithm = getJsonWebKeySigningAlgorithm(service);
+        val key = String.join("|", jsonWebKey.getKeyId(), String.valueOf(System.identityHashCode(jsonWebKey.getPrivateKey())),
+            algorithm, String.valueOf(getAllowedSigningAlgorithms(service)));
+        return jsonWebTokenSigners.get(key, k -> super.getJsonWebTokenSigner(service, jsonWebKey));
+    }
+
+    private Optional<PublicJsonWebKey> findJsonWebKeySigningKey() {
+        val iss = issuerService.determineIssuer(Optional.empty());
+        LOGGER.trace("Using issuer [{}] to locate JWK signing key", iss);
+        val jwks = defaultJsonWebKeystoreCache.get(new OidcJsonWebKeyCacheKey(iss, OidcJsonWebKeyUsage.SIGNING));
+        return Objects.requireNonNull(jwks)
+            .map(keys -> (PublicJsonWebKey) keys.getJsonWebKeys().get(0));
+    }
+
     private String signTokenIfNecessary(final JwtClaims claims, final OAuthRegisteredService svc) {
         if (shouldSignToken(svc)) {
             LOGGER.debug("Fetching JSON web key to sign the token for : [{}]", svc.getClientId());
@@ -5,7 +5,6 @@ import org.apereo.cas.oidc.issuer.OidcIssuerService;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeyCacheKey;
 import org.apereo.cas.services.OidcRegisteredService;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
-import org.apereo.cas.util.jwt.JsonWebTokenEncryptor;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.extern.slf4j.Slf4j;
@@ -104,14 +103,9 @@ public class OidcIdTokenSigningAndEncryptionService extends BaseOidcJsonWebKeyTo
             val svc = OidcRegisteredService.class.cast(service);
             val jsonWebKey = getJsonWebKeyForEncryption(svc);
 
-            return JsonWebTokenEncryptor.builder()
-                .key(jsonWebKey.getPublicKey())
-                .keyId(jsonWebKey.getKeyId())
-                .algorithm(svc.getIdTokenEncryptionAlg())
-                .encryptionMethod(svc.getIdTokenEncryptionEncoding())
-                .allowedAlgorithms(discoverySettings.getIdTokenEncryptionAlgValuesSupported())
-                .allowedContentEncryptionAlgorithms(discoverySettings.getIdTokenEncryptionEncodingValuesSupported())
-                .build()
+            return getJsonWebTokenEncryptor(jsonWebKey, svc.getIdTokenEncryptionAlg(), svc.getIdTokenEncryptionEncoding(),
+                discoverySettings.getIdTokenEncryptionAlgValuesSupported(),
+                discoverySettings.getIdTokenEncryptionEncodingValuesSupported())
                 .encrypt(innerJwt);
         }
         return innerJwt;
@@ -84,6 +84,7 @@ import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketFactoryExecutionPlanConfigurer;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
 import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilder;
+import org.apereo.cas.ticket.accesstoken.OAuth20StatelessAccessTokenValidator;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
 import org.apereo.cas.token.JwtBuilder;
@@ -509,11 +510,16 @@ public class OidcConfiguration {
             final OAuth20TokenSigningAndEncryptionService oidcTokenSigningAndEncryptionService,
             @Qualifier("accessTokenJwtBuilder")
             final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier("oauthStatelessAccessTokenValidator")
+            final OAuth20StatelessAccessTokenValidator oauthStatelessAccessTokenValidator,
             @Qualifier(TicketRegistry.BEAN_NAME)
             final TicketRegistry ticketRegistry,
             @Qualifier(ServicesManager.BEAN_NAME)
             final ServicesManager servicesManager) throws Exception {
-            return new OidcAccessTokenAuthenticator(ticketRegistry, oidcTokenSigningAndEncryptionService, servicesManager, accessTokenJwtBuilder);
+            val authenticator = new OidcAccessTokenAuthenticator(ticketRegistry,
+                oidcTokenSigningAndEncryptionService, servicesManager, accessTokenJwtBuilder);
+            authenticator.setStatelessAccessTokenValidator(oauthStatelessAccessTokenValidator);
+            return authenticator;
         }
 
 
@@ -583,6 +589,8 @@ public class OidcConfiguration {
             final OidcAttributeToScopeClaimMapper oidcAttributeToScopeClaimMapper,
             @Qualifier("accessTokenJwtBuilder")
             final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier("oauthStatelessAccessTokenValidator")
+            final OAuth20StatelessAccessTokenValidator oauthStatelessAccessTokenValidator,
             @Qualifier("deviceTokenExpirationPolicy")
             final ExpirationPolicyBuilder deviceTokenExpirationPolicy,
             @Qualifier(OidcIssuerService.BEAN_NAME)
@@ -663,6 +671,7 @@ public class OidcConfiguration {
                 .singleLogoutServiceLogoutUrlBuilder(singleLogoutServiceLogoutUrlBuilder)
                 .idTokenSigningAndEncryptionService(oidcTokenSigningAndEncryptionService)
                 .accessTokenJwtBuilder(accessTokenJwtBuilder)
+                .statelessAccessTokenValidator(oauthStatelessAccessTokenValidator)
                 .clientSecretValidator(oauth20ClientSecretValidator)
                 .build();
         }
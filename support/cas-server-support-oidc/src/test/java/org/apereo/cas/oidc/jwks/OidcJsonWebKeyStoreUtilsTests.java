@@ -6,6 +6,7 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.jose4j.jwk.JsonWebKey;
 import org.jose4j.jwk.JsonWebKeySet;
+import org.jose4j.jws.AlgorithmIdentifiers;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
@@ -49,6 +50,16 @@ public class OidcJsonWebKeyStoreUtilsTests extends AbstractOidcTests {
         assertNotNull(OidcJsonWebKeyStoreUtils.generateJsonWebKey("ec", 256, OidcJsonWebKeyUsage.SIGNING));
     }
 
+    @Test
+    public void verifyEcAlgorithms() {
+        assertEquals(AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256,
+            OidcJsonWebKeyStoreUtils.generateJsonWebKey("ec", 256, OidcJsonWebKeyUsage.SIGNING).getAlgorithm());
+        assertEquals(AlgorithmIdentifiers.ECDSA_USING_P384_CURVE_AND_SHA384,
+            OidcJsonWebKeyStoreUtils.generateJsonWebKey("ec", 384, OidcJsonWebKeyUsage.SIGNING).getAlgorithm());
+        assertEquals(AlgorithmIdentifiers.ECDSA_USING_P521_CURVE_AND_SHA512,
+            OidcJsonWebKeyStoreUtils.generateJsonWebKey("ec", 521, OidcJsonWebKeyUsage.SIGNING).getAlgorithm());
+    }
+
     @Test
     public void verifyParsing() {
         val key = OidcJsonWebKeyStoreUtils.generateJsonWebKey("ec", 512, OidcJsonWebKeyUsage.SIGNING);
@@ -5,6 +5,8 @@ import org.apereo.cas.oidc.discovery.OidcServerDiscoverySettings;
 import org.apereo.cas.oidc.issuer.OidcDefaultIssuerService;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.jose4j.jws.AlgorithmIdentifiers;
@@ -14,6 +16,7 @@ import org.springframework.test.context.TestPropertySource;
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -126,5 +129,30 @@ public class OidcIdTokenSigningAndEncryptionServiceTests extends AbstractOidcTes
         assertNotNull(result);
     }
 
+    @Test
+    public void verifyEncodingMetrics() throws Exception {
+        val registry = new SimpleMeterRegistry();
+        ((MeterBinder) oidcTokenSigningAndEncryptionService).bindTo(registry);
+        val timer = registry.get("cas.oidc.token.encoding").functionTimer();
+        val count = timer.count();
+
+        val oidcRegisteredService = getOidcRegisteredService(true, false);
+        val result = oidcTokenSigningAndEncryptionService.encode(oidcRegisteredService, getClaims());
+        val jwt = oidcTokenSigningAndEncryptionService.decode(result, Optional.of(oidcRegisteredService));
+        assertEquals("casuser", jwt.getSubject());
+        assertEquals(count + 1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
 
+    @Test
+    public void verifySignerIsReused() {
+        val service = (BaseOidcJsonWebKeyTokenSigningAndEncryptionService) oidcTokenSigningAndEncryptionService;
+        val oidcRegisteredService = getOidcRegisteredService(true, false);
+        val jsonWebKey = service.getJsonWebKeySigningKey();
+        val signer = service.getJsonWebTokenSigner(oidcRegisteredService, jsonWebKey);
+        assertSame(signer, service.getJsonWebTokenSigner(oidcRegisteredService, jsonWebKey));
+
+        oidcRegisteredService.setIdTokenSigningAlg(AlgorithmIdentifiers.RSA_USING_SHA512);
+        assertNotSame(signer, service.getJsonWebTokenSigner(oidcRegisteredService, jsonWebKey));
+    }
 }
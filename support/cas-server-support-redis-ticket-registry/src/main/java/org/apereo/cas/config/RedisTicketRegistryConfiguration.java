@@ -8,8 +8,10 @@ import org.apereo.cas.redis.core.RedisObjectFactory;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
 import org.apereo.cas.ticket.registry.RedisTicketRegistry;
+import org.apereo.cas.ticket.registry.ShardedTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.util.CoreTicketUtils;
+import org.apereo.cas.util.TicketIdShardCodec;
 import org.apereo.cas.util.lock.DefaultLockRepository;
 import org.apereo.cas.util.lock.LockRepository;
 import org.apereo.cas.util.spring.beans.BeanCondition;
@@ -17,6 +19,7 @@ import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 
 import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -29,6 +32,8 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.integration.redis.util.RedisLockRegistry;
 import org.springframework.integration.support.locks.LockRegistry;
 
+import java.util.ArrayList;
+
 /**
  * This is {@link RedisTicketRegistryConfiguration}.
  *
@@ -76,20 +81,43 @@ public class RedisTicketRegistryConfiguration {
                 .get();
         }
 
+        /**
+         * Connection factories of partitions are created along with the ticket registry,
+         * and are destroyed once the ticket registry is destroyed on refresh or shutdown.
+         */
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public TicketRegistry ticketRegistry(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
+            @Qualifier(CasSSLContext.BEAN_NAME)
+            final CasSSLContext casSslContext,
+            @Qualifier(TicketIdShardCodec.BEAN_NAME)
+            final ObjectProvider<TicketIdShardCodec> ticketIdShardCodec,
             @Qualifier("ticketRedisTemplate")
             final CasRedisTemplate<String, Ticket> ticketRedisTemplate) {
             return BeanSupplier.of(TicketRegistry.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
                 .supply(() -> {
                     val redis = casProperties.getTicket().getRegistry().getRedis();
+                    val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(redis.getCrypto(), "redis");
                     val r = new RedisTicketRegistry(ticketRedisTemplate, redis.getScanCount());
-                    r.setCipherExecutor(CoreTicketUtils.newTicketRegistryCipherExecutor(redis.getCrypto(), "redis"));
-                    return r;
+                    r.setCipherExecutor(cipher);
+                    if (redis.getPartitions().isEmpty()) {
+                        return r;
+                    }
+                    val registries = new ArrayList<TicketRegistry>();
+                    registries.add(r);
+                    redis.getPartitions().forEach(partition -> {
+                        val connectionFactory = RedisObjectFactory.newRedisConnectionFactory(partition, true, casSslContext);
+                        val template = RedisObjectFactory.<String, Ticket>newRedisTemplate(connectionFactory);
+                        template.initialize();
+                        val registry = new RedisTicketRegistry(template, partition.getScanCount());
+                        registry.setCipherExecutor(cipher);
+                        registry.setDestroyConnectionFactory(true);
+                        registries.add(registry);
+                    });
+                    return new ShardedTicketRegistry(ticketIdShardCodec.getObject(), registries);
                 })
                 .otherwise(DefaultTicketRegistry::new)
                 .get();
@@ -5,10 +5,15 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.util.LoggingUtils;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
@@ -26,10 +31,24 @@ import java.util.stream.Stream;
 public class RedisTicketRegistry extends AbstractTicketRegistry {
     private static final String CAS_TICKET_PREFIX = "CAS_TICKET:";
 
+    /**
+     * Fetches and removes the ticket in a single step; unlike {@code GETDEL},
+     * this is supported by all versions of Redis that support scripting.
+     */
+    private static final RedisScript<Ticket> GET_AND_DELETE_SCRIPT = new DefaultRedisScript<>(
+        "local ticket = redis.call('GET', KEYS[1]) if ticket then redis.call('DEL', KEYS[1]) end return ticket", Ticket.class);
+
     private final CasRedisTemplate<String, Ticket> client;
 
     private final long scanCount;
 
+    /**
+     * Whether the connection factory of the redis template is owned by this registry,
+     * and should be destroyed along with it, rather than being managed elsewhere.
+     */
+    @Setter
+    private boolean destroyConnectionFactory;
+
     /**
      * If not time out value is specified, expire the ticket immediately.
      *
@@ -54,6 +73,20 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         return CAS_TICKET_PREFIX + '*';
     }
 
+    @Override
+    public void destroy() {
+        super.destroy();
+        val connectionFactory = client.getConnectionFactory();
+        if (destroyConnectionFactory && connectionFactory instanceof DisposableBean) {
+            try {
+                LOGGER.debug("Destroying redis connection factory [{}]", connectionFactory);
+                ((DisposableBean) connectionFactory).destroy();
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, e);
+            }
+        }
+    }
+
     @Override
     @SuppressWarnings("java:S2583")
     public long deleteAll() {
@@ -105,6 +138,19 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    @Override
+    protected Ticket takeTicket(final String ticketId) {
+        try {
+            val redisKey = getTicketRedisKey(encodeTicketId(ticketId));
+            val ticket = client.execute(GET_AND_DELETE_SCRIPT, List.of(redisKey));
+            return ticket == null ? null : decodeTicket(ticket);
+        } catch (final Exception e) {
+            LOGGER.error("Failed to take [{}]", ticketId);
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
     @Override
     public Collection<? extends Ticket> getTickets() {
         try (val ticketsStream = stream()) {
@@ -129,7 +175,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
     }
 
     @Override
-    public Ticket updateTicket(final Ticket ticket) {
+    protected Ticket updateTicketInternal(final Ticket ticket) {
         try {
             LOGGER.debug("Updating ticket [{}]", ticket);
             val encodeTicket = this.encodeTicket(ticket);
@@ -6,6 +6,8 @@ import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
 
+import java.util.Optional;
+
 /**
  * This is {@link SamlRegisteredServiceCachingMetadataResolver}
  * that defines how metadata is to be resolved and cached for a given saml
@@ -30,6 +32,17 @@ public interface SamlRegisteredServiceCachingMetadataResolver {
      */
     MetadataResolver resolve(SamlRegisteredService service, CriteriaSet criteriaSet);
 
+    /**
+     * Resolve and cache the metadata resolver for the given service ahead of time,
+     * without validating it against any particular entity.
+     *
+     * @param service the service
+     * @return the metadata resolver, or empty if metadata could not be resolved
+     */
+    default Optional<MetadataResolver> preload(final SamlRegisteredService service) {
+        return Optional.empty();
+    }
+
     /**
      * Invalid and clean the result of all previous operations.
      * Invocation of this method is expected to force a clean
@@ -92,6 +92,20 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         });
     }
 
+    @Override
+    public Optional<MetadataResolver> preload(final SamlRegisteredService service) {
+        val cacheKey = new SamlRegisteredServiceCacheKey(service, new CriteriaSet());
+        try {
+            LOGGER.debug("Preloading metadata for [{}] from [{}]", service.getName(), service.getMetadataLocation());
+            return Optional.ofNullable(cache.get(cacheKey));
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to preload metadata for [{}] from [{}]: [{}]",
+                service.getName(), service.getMetadataLocation(), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        }
+        return Optional.empty();
+    }
+
     @Override
     public void invalidate() {
         LOGGER.trace("Invalidating cache, removing all metadata resolvers");
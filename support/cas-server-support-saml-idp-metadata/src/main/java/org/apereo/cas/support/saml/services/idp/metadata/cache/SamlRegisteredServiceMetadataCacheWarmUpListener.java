@@ -0,0 +1,115 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache;
+
+import org.apereo.cas.configuration.model.support.saml.idp.metadata.CoreSamlMetadataProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
+import org.apereo.cas.support.saml.SamlUtils;
+import org.apereo.cas.support.saml.services.SamlRegisteredService;
+import org.apereo.cas.util.spring.CasEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link SamlRegisteredServiceMetadataCacheWarmUpListener}.
+ * Resolves and caches metadata for SAML service providers in parallel once
+ * service definitions are loaded. Services are loaded synchronously when the application
+ * is ready, so the warm-up completes before the server reports itself as accepting traffic.
+ * Each metadata location is only warmed up once it is resolved successfully; services added later,
+ * and locations that could not be resolved, are picked up when the registry is reloaded.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SamlRegisteredServiceMetadataCacheWarmUpListener implements CasEventListener {
+    private final SamlRegisteredServiceCachingMetadataResolver cachingMetadataResolver;
+
+    private final CoreSamlMetadataProperties properties;
+
+    private final Set<String> warmedUpMetadataLocations = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Handle registered services loaded event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServicesLoadedEvent(final CasRegisteredServicesLoadedEvent event) {
+        warmUp(event.getServices()
+            .stream()
+            .filter(SamlRegisteredService.class::isInstance)
+            .map(SamlRegisteredService.class::cast)
+            .collect(Collectors.toList()));
+    }
+
+    /**
+     * Warm up the metadata cache for the given services.
+     *
+     * @param services the services
+     * @return the number of services whose metadata was resolved
+     */
+    public long warmUp(final Collection<SamlRegisteredService> services) {
+        val tasks = services
+            .stream()
+            .filter(service -> !SamlUtils.isDynamicMetadataQueryConfigured(service.getMetadataLocation()))
+            .filter(service -> !warmedUpMetadataLocations.contains(service.getMetadataLocation()))
+            .collect(Collectors.toMap(SamlRegisteredService::getMetadataLocation, Function.identity(),
+                (first, second) -> first, LinkedHashMap::new))
+            .values()
+            .stream()
+            .map(service -> (Callable<Boolean>) () -> {
+                val resolved = cachingMetadataResolver.preload(service).isPresent();
+                if (resolved) {
+                    warmedUpMetadataLocations.add(service.getMetadataLocation());
+                }
+                return resolved;
+            })
+            .collect(Collectors.toList());
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        val startTime = Instant.now();
+        val executor = Executors.newFixedThreadPool(Math.max(1, Math.min(properties.getWarmUpParallelism(), tasks.size())));
+        try {
+            val timeout = Beans.newDuration(properties.getWarmUpTimeout());
+            LOGGER.info("Warming up SAML metadata cache for [{}] service provider(s)", tasks.size());
+            val resolved = executor.invokeAll(tasks, timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .stream()
+                .filter(future -> !future.isCancelled())
+                .filter(future -> {
+                    try {
+                        return future.get();
+                    } catch (final Exception e) {
+                        LOGGER.debug(e.getMessage(), e);
+                        return false;
+                    }
+                })
+                .count();
+            LOGGER.info("Resolved SAML metadata for [{}] of [{}] service provider(s) in [{}]",
+                resolved, tasks.size(), Duration.between(startTime, Instant.now()));
+            return resolved;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("SAML metadata cache warm-up is interrupted");
+        } finally {
+            executor.shutdownNow();
+        }
+        return 0;
+    }
+}
@@ -23,6 +23,7 @@ import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -66,22 +67,17 @@ public class MetadataQueryProtocolMetadataResolver extends UrlResourceMetadataRe
         }
         val entity = response.getEntity();
         val result = IOUtils.toString(entity.getContent(), StandardCharsets.UTF_8);
-        val path = backupFile.toPath();
-        LOGGER.trace("Writing metadata to file at [{}]", path);
-        try (val output = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            IOUtils.write(result, output);
-            output.flush();
-
-            StreamSupport.stream(path.getFileSystem().getFileStores().spliterator(), false)
-                .filter(store -> store.supportsFileAttributeView(UserDefinedFileAttributeView.class))
-                .forEach(Unchecked.consumer(store -> {
-                    val etag = response.getFirstHeader("ETag").getValue();
-                    Files.setAttribute(path, "user:ETag",
-                        ByteBuffer.wrap(etag.getBytes(StandardCharsets.UTF_8)));
-                }));
-        }
+        val etagHeader = response.getFirstHeader("ETag");
         EntityUtils.consume(entity);
-        return new InMemoryResourceMetadataResolver(backupFile, configBean);
+        writeMetadataBackupFile(backupFile, result, path -> {
+            if (etagHeader != null) {
+                StreamSupport.stream(path.getFileSystem().getFileStores().spliterator(), false)
+                    .filter(store -> store.supportsFileAttributeView(UserDefinedFileAttributeView.class))
+                    .forEach(Unchecked.consumer(store -> Files.setAttribute(path, "user:ETag",
+                        ByteBuffer.wrap(etagHeader.getValue().getBytes(StandardCharsets.UTF_8)))));
+            }
+        });
+        return new InMemoryResourceMetadataResolver(new ByteArrayInputStream(result.getBytes(StandardCharsets.UTF_8)), configBean);
     }
 
     @Override
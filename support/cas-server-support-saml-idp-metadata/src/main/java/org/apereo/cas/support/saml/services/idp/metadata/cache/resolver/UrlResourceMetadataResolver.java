@@ -17,6 +17,8 @@ import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
@@ -35,17 +37,28 @@ import org.apache.http.util.EntityUtils;
 import org.jooq.lambda.Unchecked;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
 import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.AbstractResource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 /**
  * This is {@link UrlResourceMetadataResolver}.
@@ -54,11 +67,19 @@ import java.util.Collection;
  * @since 5.2.0
  */
 @Slf4j
-public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetadataResolver {
+public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetadataResolver implements DisposableBean {
     private static final String FILENAME_EXTENSION_XML = ".xml";
 
     private static final String DIRNAME_METADATA_BACKUPS = "metadata-backups";
 
+    private final ExecutorService metadataBackupExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        val thread = new Thread(runnable, "SamlMetadataBackupWriter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<Path, MetadataBackup> pendingMetadataBackups = new ConcurrentHashMap<>();
+
     private final File metadataBackupDirectory;
 
     public UrlResourceMetadataResolver(final SamlIdPProperties samlIdPProperties,
@@ -139,6 +160,15 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
         return false;
     }
 
+    /**
+     * Stop writing metadata backups in the background. Backups that are already pending are still written,
+     * and backups requested from then on are written immediately.
+     */
+    @Override
+    public void destroy() {
+        metadataBackupExecutor.shutdown();
+    }
+
     /**
      * Should http response status be processed?
      *
@@ -161,14 +191,72 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
                                                                        final File backupFile) throws Exception {
         val entity = response.getEntity();
         val result = IOUtils.toString(entity.getContent(), StandardCharsets.UTF_8);
+        EntityUtils.consume(entity);
+        writeMetadataBackupFile(backupFile, result, path -> {
+        });
+        return new InMemoryResourceMetadataResolver(new ByteArrayInputStream(result.getBytes(StandardCharsets.UTF_8)), configBean);
+    }
+
+    /**
+     * Write metadata to the backup file. When asynchronous backups are turned on,
+     * the write is handed off to a background thread and pending writes to the same
+     * backup file are coalesced so that only the latest metadata is written.
+     * Metadata is written to a temporary file first, which then atomically replaces the backup file,
+     * so that readers never observe a partially written backup.
+     *
+     * @param backupFile  the backup file
+     * @param metadata    the metadata
+     * @param afterWrite  the action to execute once the backup file is written
+     * @return the future that completes when the metadata is written
+     */
+    protected CompletableFuture<Void> writeMetadataBackupFile(final File backupFile, final String metadata,
+                                                              final Consumer<Path> afterWrite) {
         val path = backupFile.toPath();
-        LOGGER.trace("Writing metadata to file at [{}]", path);
-        try (val output = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            IOUtils.write(result, output);
-            output.flush();
+        val backup = new MetadataBackup(metadata, afterWrite);
+        if (!samlIdPProperties.getMetadata().getHttp().isAsynchronousBackup() || metadataBackupExecutor.isShutdown()) {
+            writeMetadataBackup(path, backup);
+            return CompletableFuture.completedFuture(null);
+        }
+        val pending = pendingMetadataBackups.put(path, backup);
+        if (pending != null) {
+            LOGGER.trace("Replaced pending metadata backup for [{}]", path);
+            backup.getFuture().whenComplete((result, error) -> pending.getFuture().complete(null));
+            return backup.getFuture();
+        }
+        CompletableFuture.runAsync(() -> {
+            val latest = pendingMetadataBackups.remove(path);
+            if (latest != null) {
+                writeMetadataBackup(path, latest);
+            }
+        }, metadataBackupExecutor);
+        return backup.getFuture();
+    }
+
+    private static void writeMetadataBackup(final Path path, final MetadataBackup backup) {
+        try {
+            LOGGER.trace("Writing metadata to file at [{}]", path);
+            val directory = path.toAbsolutePath().getParent();
+            val temporaryFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                try (val output = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                    IOUtils.write(backup.getMetadata(), output);
+                    output.flush();
+                }
+                try {
+                    Files.move(temporaryFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (final AtomicMoveNotSupportedException e) {
+                    LOGGER.trace("Atomic move is not supported for [{}]; replacing the file instead", path);
+                    Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+            backup.getAfterWrite().accept(path);
+            backup.getFuture().complete(null);
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+            backup.getFuture().completeExceptionally(e);
         }
-        EntityUtils.consume(entity);
-        return new InMemoryResourceMetadataResolver(backupFile, configBean);
     }
 
     /**
@@ -257,4 +345,14 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
                 CanWriteFileFilter.CAN_WRITE, CanReadFileFilter.CAN_READ)), TrueFileFilter.INSTANCE);
         backups.forEach(Unchecked.consumer(FileUtils::forceDelete));
     }
+
+    @RequiredArgsConstructor
+    @Getter
+    private static class MetadataBackup {
+        private final String metadata;
+
+        private final Consumer<Path> afterWrite;
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+    }
 }
@@ -1,21 +1,26 @@
 package org.apereo.cas.support.saml.services.idp.metadata.plan;
 
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.SamlRegisteredServiceMetadataResolver;
+import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.util.ArrayList;
 import java.util.Collection;
 
 /**
  * This is {@link DefaultSamlRegisteredServiceMetadataResolutionPlan}.
+ * Registered metadata resolvers are destroyed along with the plan.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
  */
 @Getter
-public class DefaultSamlRegisteredServiceMetadataResolutionPlan implements SamlRegisteredServiceMetadataResolutionPlan {
+@Slf4j
+public class DefaultSamlRegisteredServiceMetadataResolutionPlan implements SamlRegisteredServiceMetadataResolutionPlan, DisposableBean {
     private final Collection<SamlRegisteredServiceMetadataResolver> registeredMetadataResolvers = new ArrayList<>(0);
 
     @Override
@@ -24,4 +29,19 @@ public class DefaultSamlRegisteredServiceMetadataResolutionPlan implements SamlR
             registeredMetadataResolvers.add(clazz);
         }
     }
+
+    @Override
+    public void destroy() {
+        registeredMetadataResolvers
+            .stream()
+            .filter(DisposableBean.class::isInstance)
+            .map(DisposableBean.class::cast)
+            .forEach(resolver -> {
+                try {
+                    resolver.destroy();
+                } catch (final Exception e) {
+                    LoggingUtils.warn(LOGGER, e);
+                }
+            });
+    }
 }
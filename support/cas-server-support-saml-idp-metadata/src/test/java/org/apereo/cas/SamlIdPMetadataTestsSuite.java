@@ -3,6 +3,7 @@ package org.apereo.cas;
 import org.apereo.cas.support.saml.services.SamlIdPEntityIdAuthenticationServiceSelectionStrategyTests;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceCacheKeyTests;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceDefaultCachingMetadataResolverTests;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceMetadataCacheWarmUpListenerTests;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceMetadataResolverCacheLoaderTests;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.ClasspathResourceMetadataResolverTests;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.FileSystemResourceMetadataResolverTests;
@@ -31,6 +32,7 @@ import org.junit.platform.suite.api.Suite;
     SamlRegisteredServiceCacheKeyTests.class,
     SamlRegisteredServiceDefaultCachingMetadataResolverTests.class,
     SamlRegisteredServiceMetadataResolverCacheLoaderTests.class,
+    SamlRegisteredServiceMetadataCacheWarmUpListenerTests.class,
     FileSystemResourceMetadataResolverTests.class,
     JsonResourceMetadataResolverTests.class
 })
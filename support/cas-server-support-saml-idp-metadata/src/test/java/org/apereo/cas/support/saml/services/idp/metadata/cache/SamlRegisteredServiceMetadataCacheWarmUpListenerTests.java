@@ -0,0 +1,78 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache;
+
+import org.apereo.cas.configuration.model.support.saml.idp.metadata.CoreSamlMetadataProperties;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
+import org.apereo.cas.support.saml.services.BaseSamlIdPServicesTests;
+import org.apereo.cas.support.saml.services.SamlRegisteredService;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.ClasspathResourceMetadataResolver;
+import org.apereo.cas.support.saml.services.idp.metadata.plan.DefaultSamlRegisteredServiceMetadataResolutionPlan;
+
+import lombok.val;
+import net.shibboleth.utilities.java.support.resolver.CriteriaSet;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opensaml.saml.metadata.resolver.MetadataResolver;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link SamlRegisteredServiceMetadataCacheWarmUpListenerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("SAMLMetadata")
+public class SamlRegisteredServiceMetadataCacheWarmUpListenerTests extends BaseSamlIdPServicesTests {
+    private static SamlRegisteredService getSamlRegisteredService(final long id, final String metadataLocation) {
+        val service = new SamlRegisteredService();
+        service.setName("SAML" + id);
+        service.setId(id);
+        service.setServiceId("https://.+");
+        service.setMetadataLocation(metadataLocation);
+        return service;
+    }
+
+    @Test
+    public void verifyOperation() {
+        val resolutionPlan = new DefaultSamlRegisteredServiceMetadataResolutionPlan();
+        resolutionPlan.registerMetadataResolver(
+            new ClasspathResourceMetadataResolver(casProperties.getAuthn().getSamlIdp(), openSamlConfigBean));
+        val cacheLoader = new SamlRegisteredServiceMetadataResolverCacheLoader(openSamlConfigBean, httpClient, resolutionPlan);
+        val resolver = new SamlRegisteredServiceDefaultCachingMetadataResolver(Duration.ofMinutes(1), cacheLoader, openSamlConfigBean);
+
+        val service1 = getSamlRegisteredService(1000, "classpath:aggregate-md.xml");
+        val service2 = getSamlRegisteredService(2000, "classpath:sample-sp.xml");
+        val service3 = getSamlRegisteredService(3000, "classpath:unknown-metadata.xml");
+
+        val listener = new SamlRegisteredServiceMetadataCacheWarmUpListener(resolver,
+            new CoreSamlMetadataProperties().setWarmUpParallelism(2));
+        listener.handleRegisteredServicesLoadedEvent(new CasRegisteredServicesLoadedEvent(this,
+            List.<RegisteredService>of(service1, service2, service3)));
+
+        assertTrue(resolver.resolveIfPresent(service1, new CriteriaSet()).isPresent());
+        assertTrue(resolver.resolveIfPresent(service2, new CriteriaSet()).isPresent());
+        assertTrue(resolver.resolveIfPresent(service3, new CriteriaSet()).isEmpty());
+        assertEquals(0, listener.warmUp(List.of(service1, service2)));
+    }
+
+    @Test
+    public void verifyFailedLocationIsWarmedUpAgain() {
+        val service = getSamlRegisteredService(1000, "classpath:sample-sp.xml");
+        val resolver = mock(SamlRegisteredServiceCachingMetadataResolver.class);
+        when(resolver.preload(service))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(mock(MetadataResolver.class)));
+
+        val listener = new SamlRegisteredServiceMetadataCacheWarmUpListener(resolver, new CoreSamlMetadataProperties());
+        assertEquals(0, listener.warmUp(List.of(service)));
+        assertEquals(1, listener.warmUp(List.of(service, getSamlRegisteredService(2000, service.getMetadataLocation()))));
+        assertEquals(0, listener.warmUp(List.of(service)));
+        verify(resolver, times(2)).preload(any());
+    }
+}
@@ -9,6 +9,7 @@ import org.apereo.cas.util.MockWebServer;
 
 import lombok.val;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.ClassPathResource;
@@ -16,6 +17,10 @@ import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.TestPropertySource;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -65,6 +70,42 @@ public class UrlResourceMetadataResolverTests extends BaseSamlIdPServicesTests {
         }
     }
 
+    @Test
+    public void verifyMetadataBackupWrittenAsynchronously() throws Exception {
+        val props = new SamlIdPProperties();
+        props.getMetadata().getFileSystem().setLocation(new FileSystemResource(FileUtils.getTempDirectory()).getFile().getCanonicalPath());
+        val resolver = new UrlResourceMetadataResolver(props, openSamlConfigBean);
+        val backupFile = File.createTempFile("metadata-backup", ".xml");
+        val metadata = IOUtils.toString(new ClassPathResource("sample-metadata.xml").getInputStream(), StandardCharsets.UTF_8);
+        val first = resolver.writeMetadataBackupFile(backupFile, "stale", path -> {
+        });
+        val second = resolver.writeMetadataBackupFile(backupFile, metadata, path -> {
+        });
+        second.get(10, TimeUnit.SECONDS);
+        first.get(10, TimeUnit.SECONDS);
+        assertEquals(metadata, FileUtils.readFileToString(backupFile, StandardCharsets.UTF_8));
+        val temporaryFiles = backupFile.getParentFile().listFiles((dir, name) -> name.startsWith(backupFile.getName()) && name.endsWith(".tmp"));
+        assertNotNull(temporaryFiles);
+        assertEquals(0, temporaryFiles.length);
+    }
+
+    @Test
+    public void verifyMetadataBackupWrittenOnDestroy() throws Exception {
+        val props = new SamlIdPProperties();
+        props.getMetadata().getFileSystem().setLocation(new FileSystemResource(FileUtils.getTempDirectory()).getFile().getCanonicalPath());
+        val resolver = new UrlResourceMetadataResolver(props, openSamlConfigBean);
+        val backupFile = File.createTempFile("metadata-backup", ".xml");
+        val pending = resolver.writeMetadataBackupFile(backupFile, "pending", path -> {
+        });
+        resolver.destroy();
+        pending.get(10, TimeUnit.SECONDS);
+        assertEquals("pending", FileUtils.readFileToString(backupFile, StandardCharsets.UTF_8));
+        val immediate = resolver.writeMetadataBackupFile(backupFile, "immediate", path -> {
+        });
+        assertTrue(immediate.isDone());
+        assertEquals("immediate", FileUtils.readFileToString(backupFile, StandardCharsets.UTF_8));
+    }
+
     @Test
     public void verifyResolverResolvesFailsAccess() throws Exception {
         try (val webServer = new MockWebServer(9155, new ClassPathResource("sample-metadata.xml"), HttpStatus.OK)) {
@@ -25,6 +25,7 @@ import org.apereo.cas.support.saml.services.idp.metadata.SamlRegisteredServiceMe
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceCacheKey;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceCachingMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceDefaultCachingMetadataResolver;
+import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceMetadataCacheWarmUpListener;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.SamlRegisteredServiceMetadataResolverCacheLoader;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.ClasspathResourceMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.FileSystemResourceMetadataResolver;
@@ -45,7 +46,10 @@ import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.spring.CasEventListener;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
+import org.apereo.cas.util.spring.beans.BeanCondition;
+import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 
 import com.github.benmanes.caffeine.cache.Cache;
@@ -314,6 +318,23 @@ public class SamlIdPMetadataConfiguration {
                 Beans.newDuration(casProperties.getAuthn().getSamlIdp().getMetadata().getCore().getCacheExpiration()),
                 chainingMetadataResolverCacheLoader, openSamlConfigBean);
         }
+
+        @ConditionalOnMissingBean(name = "samlRegisteredServiceMetadataCacheWarmUpListener")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public CasEventListener samlRegisteredServiceMetadataCacheWarmUpListener(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier(SamlRegisteredServiceCachingMetadataResolver.DEFAULT_BEAN_NAME)
+            final SamlRegisteredServiceCachingMetadataResolver defaultSamlRegisteredServiceCachingMetadataResolver) {
+            return BeanSupplier.of(CasEventListener.class)
+                .when(BeanCondition.on("cas.authn.saml-idp.metadata.core.warm-up-enabled").isTrue()
+                    .given(applicationContext.getEnvironment()))
+                .supply(() -> new SamlRegisteredServiceMetadataCacheWarmUpListener(defaultSamlRegisteredServiceCachingMetadataResolver,
+                    casProperties.getAuthn().getSamlIdp().getMetadata().getCore()))
+                .otherwiseProxy()
+                .get();
+        }
     }
 
     @Configuration(value = "SamlIdPMetadataContextConfiguration", proxyBeanMethods = false)
@@ -7,6 +7,8 @@ import org.apereo.cas.hz.HazelcastConfigurationFactory;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceHazelcastDistributedCacheManager;
 import org.apereo.cas.services.publisher.DefaultCasRegisteredServiceStreamPublisher;
+import org.apereo.cas.services.snapshot.RegisteredServicesSnapshotHazelcastStore;
+import org.apereo.cas.services.snapshot.RegisteredServicesSnapshotStore;
 import org.apereo.cas.util.PublisherIdentifier;
 import org.apereo.cas.util.cache.DistributedCacheManager;
 import org.apereo.cas.util.cache.DistributedCacheObject;
@@ -42,6 +44,8 @@ import java.util.concurrent.TimeUnit;
 public class CasServicesStreamingHazelcastConfiguration {
     private static final BeanCondition CONDITION = BeanCondition.on("cas.service-registry.stream.core.enabled").isTrue().evenIfMissing();
 
+    private static final BeanCondition SNAPSHOT_CONDITION = BeanCondition.on("cas.service-registry.stream.snapshot.enabled").isTrue();
+
     @Configuration(value = "CasServicesStreamingHazelcastCacheConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class CasServicesStreamingHazelcastCacheConfiguration {
@@ -64,6 +68,19 @@ public class CasServicesStreamingHazelcastConfiguration {
                 .get();
         }
 
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public RegisteredServicesSnapshotStore registeredServicesSnapshotStore(
+            final ConfigurableApplicationContext applicationContext,
+            @Qualifier("casRegisteredServiceHazelcastInstance")
+            final HazelcastInstance casRegisteredServiceHazelcastInstance) {
+            return BeanSupplier.of(RegisteredServicesSnapshotStore.class)
+                .when(CONDITION.given(applicationContext.getEnvironment()))
+                .and(SNAPSHOT_CONDITION.given(applicationContext.getEnvironment()))
+                .supply(() -> new RegisteredServicesSnapshotHazelcastStore(casRegisteredServiceHazelcastInstance))
+                .otherwise(RegisteredServicesSnapshotStore::noOp)
+                .get();
+        }
     }
 
     @Configuration(value = "CasServicesStreamingHazelcastCoreConfiguration", proxyBeanMethods = false)
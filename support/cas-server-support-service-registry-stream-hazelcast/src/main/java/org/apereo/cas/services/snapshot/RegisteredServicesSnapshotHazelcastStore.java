@@ -0,0 +1,68 @@
+package org.apereo.cas.services.snapshot;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import lombok.val;
+
+import java.util.Optional;
+
+/**
+ * This is {@link RegisteredServicesSnapshotHazelcastStore}.
+ * Keeps the latest snapshot under a single key in a distributed map.
+ * The oldest member of the cluster is elected as the leader; when it leaves,
+ * the next oldest member takes over.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+public class RegisteredServicesSnapshotHazelcastStore extends BaseRegisteredServicesSnapshotStore {
+    /**
+     * Name of the distributed map that holds snapshots.
+     */
+    public static final String MAP_NAME = "RegisteredServicesSnapshots";
+
+    private static final String SNAPSHOT_KEY = "snapshot";
+
+    private final HazelcastInstance instance;
+
+    private final IMap<String, RegisteredServicesSnapshot> snapshots;
+
+    public RegisteredServicesSnapshotHazelcastStore(final HazelcastInstance instance) {
+        this.instance = instance;
+        this.snapshots = instance.getMap(MAP_NAME);
+        this.snapshots.addEntryListener(new SnapshotEntryListener(), true);
+    }
+
+    @Override
+    public void publish(final RegisteredServicesSnapshot snapshot) {
+        snapshots.set(SNAPSHOT_KEY, snapshot);
+    }
+
+    @Override
+    public Optional<RegisteredServicesSnapshot> getLatestSnapshot() {
+        return Optional.ofNullable(snapshots.get(SNAPSHOT_KEY));
+    }
+
+    @Override
+    public boolean isLeader() {
+        val members = instance.getCluster().getMembers();
+        return !members.isEmpty() && members.iterator().next().localMember();
+    }
+
+    private class SnapshotEntryListener implements EntryAddedListener<String, RegisteredServicesSnapshot>,
+        EntryUpdatedListener<String, RegisteredServicesSnapshot> {
+
+        @Override
+        public void entryAdded(final EntryEvent<String, RegisteredServicesSnapshot> event) {
+            notifySnapshotReceived(event.getValue());
+        }
+
+        @Override
+        public void entryUpdated(final EntryEvent<String, RegisteredServicesSnapshot> event) {
+            notifySnapshotReceived(event.getValue());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.apereo.cas;
 
 import org.apereo.cas.config.CasServicesStreamingHazelcastConfigurationTests;
 import org.apereo.cas.services.RegisteredServiceHazelcastDistributedCacheManagerTests;
+import org.apereo.cas.services.snapshot.RegisteredServicesSnapshotHazelcastStoreTests;
 
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
@@ -14,7 +15,8 @@ import org.junit.platform.suite.api.Suite;
  */
 @SelectClasses({
     RegisteredServiceHazelcastDistributedCacheManagerTests.class,
-    CasServicesStreamingHazelcastConfigurationTests.class
+    CasServicesStreamingHazelcastConfigurationTests.class,
+    RegisteredServicesSnapshotHazelcastStoreTests.class
 })
 @Suite
 public class AllTestsSuite {
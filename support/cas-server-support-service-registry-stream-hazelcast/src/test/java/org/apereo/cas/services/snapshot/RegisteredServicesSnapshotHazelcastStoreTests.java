@@ -0,0 +1,61 @@
+package org.apereo.cas.services.snapshot;
+
+import org.apereo.cas.configuration.model.support.hazelcast.BaseHazelcastProperties;
+import org.apereo.cas.hz.HazelcastConfigurationFactory;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.impl.HazelcastInstanceFactory;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RegisteredServicesSnapshotHazelcastStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("Hazelcast")
+public class RegisteredServicesSnapshotHazelcastStoreTests {
+    private HazelcastInstance hz;
+
+    @BeforeEach
+    public void initialize() {
+        val properties = new BaseHazelcastProperties();
+        properties.getCluster().getCore().setInstanceName(getClass().getSimpleName());
+        val config = HazelcastConfigurationFactory.build(properties,
+            HazelcastConfigurationFactory.buildMapConfig(properties, "cache", 10));
+        this.hz = HazelcastInstanceFactory.getOrCreateHazelcastInstance(config);
+    }
+
+    @AfterEach
+    public void shutdown() {
+        this.hz.shutdown();
+    }
+
+    @Test
+    public void verifyOperation() throws Exception {
+        val store = new RegisteredServicesSnapshotHazelcastStore(hz);
+        assertTrue(store.isLeader());
+        assertTrue(store.getLatestSnapshot().isEmpty());
+
+        val latch = new CountDownLatch(1);
+        store.subscribe(snapshot -> latch.countDown());
+        val service = RegisteredServiceTestUtils.getRegisteredService("https://app.example.org");
+        store.publish(RegisteredServicesSnapshot.of(1, "publisher", List.of(service)));
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+        val snapshot = store.getLatestSnapshot().orElseThrow();
+        assertEquals(1, snapshot.getVersion());
+        assertEquals(service.getId(), snapshot.toRegisteredServices().get(0).getId());
+    }
+}
@@ -6,6 +6,10 @@ import org.apereo.cas.kafka.KafkaObjectFactory;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceKafkaDistributedCacheListener;
 import org.apereo.cas.services.RegisteredServiceKafkaDistributedCacheManager;
+import org.apereo.cas.services.snapshot.RegisteredServicesSnapshot;
+import org.apereo.cas.services.snapshot.RegisteredServicesSnapshotKafkaListener;
+import org.apereo.cas.services.snapshot.RegisteredServicesSnapshotKafkaStore;
+import org.apereo.cas.services.snapshot.RegisteredServicesSnapshotStore;
 import org.apereo.cas.services.util.RegisteredServiceJsonSerializer;
 import org.apereo.cas.util.PublisherIdentifier;
 import org.apereo.cas.util.cache.DistributedCacheManager;
@@ -55,6 +59,8 @@ import java.util.concurrent.ExecutionException;
 public class CasServicesStreamingKafkaConfiguration {
     private static final BeanCondition CONDITION = BeanCondition.on("cas.service-registry.stream.core.enabled").isTrue().evenIfMissing();
 
+    private static final BeanCondition SNAPSHOT_CONDITION = BeanCondition.on("cas.service-registry.stream.snapshot.enabled").isTrue();
+
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @ConditionalOnMissingBean(name = "registeredServiceKafkaListenerContainerFactory")
@@ -152,4 +158,67 @@ public class CasServicesStreamingKafkaConfiguration {
             .config(TopicConfig.COMPRESSION_TYPE_CONFIG, topic.getCompressionType())
             .compact().build();
     }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "registeredServicesSnapshotKafkaTopic")
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    public NewTopic registeredServicesSnapshotKafkaTopic(final CasConfigurationProperties casProperties) {
+        val topic = casProperties.getServiceRegistry().getStream().getKafka().getTopic();
+        return TopicBuilder.name(topic.getName() + "-snapshots")
+            .partitions(1)
+            .replicas(topic.getReplicas())
+            .config(TopicConfig.COMPRESSION_TYPE_CONFIG, topic.getCompressionType())
+            .compact().build();
+    }
+
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @ConditionalOnMissingBean(name = "registeredServicesSnapshotKafkaListenerContainerFactory")
+    public ConcurrentKafkaListenerContainerFactory<String, RegisteredServicesSnapshot> registeredServicesSnapshotKafkaListenerContainerFactory(
+        final CasConfigurationProperties casProperties) {
+        val kafka = casProperties.getServiceRegistry().getStream().getKafka();
+        val factory = new KafkaObjectFactory<String, RegisteredServicesSnapshot>(kafka.getBootstrapAddress());
+        return factory.getKafkaListenerContainerFactory(new StringDeserializer(),
+            new JsonDeserializer<>(RegisteredServicesSnapshot.class, false));
+    }
+
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    public RegisteredServicesSnapshotStore registeredServicesSnapshotStore(
+        final ConfigurableApplicationContext applicationContext,
+        final CasConfigurationProperties casProperties,
+        @Qualifier("registeredServicesSnapshotKafkaTopic")
+        final NewTopic registeredServicesSnapshotKafkaTopic) {
+        return BeanSupplier.of(RegisteredServicesSnapshotStore.class)
+            .when(CONDITION.given(applicationContext.getEnvironment()))
+            .and(SNAPSHOT_CONDITION.given(applicationContext.getEnvironment()))
+            .supply(Unchecked.supplier(() -> {
+                val stream = casProperties.getServiceRegistry().getStream();
+                val factory = new KafkaObjectFactory<String, RegisteredServicesSnapshot>(stream.getKafka().getBootstrapAddress());
+                try {
+                    factory.getKafkaAdminClient().createTopics(List.of(registeredServicesSnapshotKafkaTopic)).all().get();
+                } catch (final ExecutionException e) {
+                    if (e.getCause() instanceof TopicExistsException) {
+                        LOGGER.info(e.getMessage());
+                    } else {
+                        throw e;
+                    }
+                }
+                val template = factory.getKafkaTemplate(new StringSerializer(),
+                    new JsonSerializer<RegisteredServicesSnapshot>().noTypeInfo());
+                return new RegisteredServicesSnapshotKafkaStore(template, registeredServicesSnapshotKafkaTopic.name(),
+                    stream.getSnapshot().isLeader());
+            }))
+            .otherwise(RegisteredServicesSnapshotStore::noOp)
+            .get();
+    }
+
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @ConditionalOnMissingBean(name = "registeredServicesSnapshotKafkaListener")
+    public RegisteredServicesSnapshotKafkaListener registeredServicesSnapshotKafkaListener(
+        @Qualifier(RegisteredServicesSnapshotStore.BEAN_NAME)
+        final RegisteredServicesSnapshotStore registeredServicesSnapshotStore) {
+        return new RegisteredServicesSnapshotKafkaListener(registeredServicesSnapshotStore);
+    }
 }
@@ -0,0 +1,36 @@
+package org.apereo.cas.services.snapshot;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+
+/**
+ * This is {@link RegisteredServicesSnapshotKafkaListener}.
+ * Every node consumes the snapshot topic with its own consumer group,
+ * starting from the earliest record on startup.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class RegisteredServicesSnapshotKafkaListener {
+    private final RegisteredServicesSnapshotStore snapshotStore;
+
+    /**
+     * Registered services snapshot kafka listener.
+     *
+     * @param snapshot the snapshot
+     */
+    @KafkaListener(topics = "#{registeredServicesSnapshotKafkaTopic.name()}",
+        groupId = "#{casRegisteredServiceStreamPublisherIdentifier.id}",
+        containerFactory = "registeredServicesSnapshotKafkaListenerContainerFactory",
+        autoStartup = "${cas.service-registry.stream.snapshot.enabled:false}",
+        properties = "auto.offset.reset=earliest")
+    public void registeredServicesSnapshotKafkaListener(@Payload final RegisteredServicesSnapshot snapshot) {
+        if (snapshotStore instanceof RegisteredServicesSnapshotKafkaStore) {
+            ((RegisteredServicesSnapshotKafkaStore) snapshotStore).receive(snapshot);
+        }
+    }
+}
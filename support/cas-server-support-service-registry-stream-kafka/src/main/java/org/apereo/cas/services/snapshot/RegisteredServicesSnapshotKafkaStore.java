@@ -0,0 +1,76 @@
+package org.apereo.cas.services.snapshot;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This is {@link RegisteredServicesSnapshotKafkaStore}.
+ * Publishes snapshots to a compacted topic under a single key, so that the topic only retains
+ * the latest snapshot and nodes that join the cluster can catch up by reading it from the beginning.
+ * Kafka does not elect a leader on its own; the publishing node is designated via settings.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RegisteredServicesSnapshotKafkaStore extends BaseRegisteredServicesSnapshotStore {
+    private static final String SNAPSHOT_KEY = "snapshot";
+
+    private final KafkaOperations<String, RegisteredServicesSnapshot> kafkaTemplate;
+
+    private final String topic;
+
+    private final boolean leader;
+
+    private final AtomicReference<RegisteredServicesSnapshot> latestSnapshot = new AtomicReference<>();
+
+    @Override
+    public void publish(final RegisteredServicesSnapshot snapshot) {
+        latestSnapshot.set(snapshot);
+        val future = kafkaTemplate.send(topic, SNAPSHOT_KEY, snapshot);
+        future.addCallback(new ListenableFutureCallback<SendResult<String, RegisteredServicesSnapshot>>() {
+            @Override
+            public void onSuccess(final SendResult<String, RegisteredServicesSnapshot> result) {
+                LOGGER.trace("Published snapshot [{}] successfully", snapshot);
+            }
+
+            @Override
+            public void onFailure(final Throwable e) {
+                LoggingUtils.error(LOGGER, e);
+            }
+        });
+    }
+
+    @Override
+    public Optional<RegisteredServicesSnapshot> getLatestSnapshot() {
+        return Optional.ofNullable(latestSnapshot.get());
+    }
+
+    @Override
+    public boolean isLeader() {
+        return leader;
+    }
+
+    /**
+     * Receive a snapshot from the topic and notify subscribers if it is newer than what is known.
+     *
+     * @param snapshot the snapshot
+     */
+    public void receive(final RegisteredServicesSnapshot snapshot) {
+        val current = latestSnapshot.get();
+        if ((current == null || snapshot.getVersion() > current.getVersion())
+            && latestSnapshot.compareAndSet(current, snapshot)) {
+            notifySnapshotReceived(snapshot);
+        }
+    }
+}
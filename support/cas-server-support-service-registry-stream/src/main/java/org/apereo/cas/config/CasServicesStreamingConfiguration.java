@@ -9,6 +9,9 @@ import org.apereo.cas.services.publisher.CasRegisteredServiceStreamPublisher;
 import org.apereo.cas.services.publisher.DefaultCasRegisteredServiceStreamPublisher;
 import org.apereo.cas.services.replication.DefaultRegisteredServiceReplicationStrategy;
 import org.apereo.cas.services.replication.RegisteredServiceReplicationStrategy;
+import org.apereo.cas.services.snapshot.RegisteredServicesSnapshotManager;
+import org.apereo.cas.services.snapshot.RegisteredServicesSnapshotServiceRegistryPostProcessor;
+import org.apereo.cas.services.snapshot.RegisteredServicesSnapshotStore;
 import org.apereo.cas.util.PublisherIdentifier;
 import org.apereo.cas.util.cache.DistributedCacheManager;
 import org.apereo.cas.util.cache.DistributedCacheObject;
@@ -17,7 +20,9 @@ import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeature;
 
 import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
@@ -37,7 +42,54 @@ import org.springframework.context.annotation.ScopedProxyMode;
 @Configuration(value = "CasServicesStreamingConfiguration", proxyBeanMethods = false)
 public class CasServicesStreamingConfiguration {
     private static final BeanCondition CONDITION = BeanCondition.on("cas.service-registry.stream.core.enabled").isTrue().evenIfMissing();
-    
+
+    private static final BeanCondition SNAPSHOT_CONDITION = BeanCondition.on("cas.service-registry.stream.snapshot.enabled").isTrue();
+
+    /**
+     * Create the post processor that lets the service registry
+     * serve definitions from published snapshots.
+     * Note that {@code BeanPostProcessor} beans should be static.
+     *
+     * @param applicationContext                the application context
+     * @param registeredServicesSnapshotManager the snapshot manager
+     * @return the bean post processor
+     */
+    @Bean
+    public static BeanPostProcessor registeredServicesSnapshotServiceRegistryPostProcessor(
+        final ConfigurableApplicationContext applicationContext,
+        @Qualifier("registeredServicesSnapshotManager")
+        final ObjectProvider<RegisteredServicesSnapshotManager> registeredServicesSnapshotManager) {
+        return BeanSupplier.of(BeanPostProcessor.class)
+            .when(SNAPSHOT_CONDITION.given(applicationContext.getEnvironment()))
+            .supply(() -> new RegisteredServicesSnapshotServiceRegistryPostProcessor(registeredServicesSnapshotManager))
+            .otherwise(() -> new BeanPostProcessor() {
+            })
+            .get();
+    }
+
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    public RegisteredServicesSnapshotManager registeredServicesSnapshotManager(
+        final ConfigurableApplicationContext applicationContext,
+        @Qualifier(RegisteredServicesSnapshotStore.BEAN_NAME)
+        final RegisteredServicesSnapshotStore registeredServicesSnapshotStore,
+        @Qualifier("casRegisteredServiceStreamPublisherIdentifier")
+        final PublisherIdentifier casRegisteredServiceStreamPublisherIdentifier) {
+        return BeanSupplier.of(RegisteredServicesSnapshotManager.class)
+            .when(SNAPSHOT_CONDITION.given(applicationContext.getEnvironment()))
+            .supply(() -> new RegisteredServicesSnapshotManager(registeredServicesSnapshotStore,
+                casRegisteredServiceStreamPublisherIdentifier, applicationContext).initialize())
+            .otherwiseProxy()
+            .get();
+    }
+
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @ConditionalOnMissingBean(name = RegisteredServicesSnapshotStore.BEAN_NAME)
+    public RegisteredServicesSnapshotStore registeredServicesSnapshotStore() {
+        return RegisteredServicesSnapshotStore.noOp();
+    }
+
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     public CasServicesRegistryStreamingEventListener casServicesRegistryStreamingEventListener(
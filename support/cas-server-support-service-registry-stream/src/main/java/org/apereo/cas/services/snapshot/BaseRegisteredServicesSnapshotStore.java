@@ -0,0 +1,41 @@
+package org.apereo.cas.services.snapshot;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link BaseRegisteredServicesSnapshotStore}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+public abstract class BaseRegisteredServicesSnapshotStore implements RegisteredServicesSnapshotStore {
+    private final List<Consumer<RegisteredServicesSnapshot>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void subscribe(final Consumer<RegisteredServicesSnapshot> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Notify subscribers that a snapshot is received from the cluster.
+     *
+     * @param snapshot the snapshot
+     */
+    protected void notifySnapshotReceived(final RegisteredServicesSnapshot snapshot) {
+        LOGGER.debug("Received service definitions snapshot [{}]", snapshot);
+        listeners.forEach(listener -> {
+            try {
+                listener.accept(snapshot);
+            } catch (final Exception e) {
+                LoggingUtils.error(LOGGER, e);
+            }
+        });
+    }
+}
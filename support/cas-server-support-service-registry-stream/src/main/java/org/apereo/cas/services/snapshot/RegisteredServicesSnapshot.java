@@ -0,0 +1,121 @@
+package org.apereo.cas.services.snapshot;
+
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.util.RegisteredServiceJsonSerializer;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * This is {@link RegisteredServicesSnapshot}.
+ * Captures the full collection of service definitions loaded by the publishing node
+ * as compressed JSON, one definition per line, along with a version that increases
+ * with every published change.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(exclude = "content")
+public class RegisteredServicesSnapshot implements Serializable {
+    private static final long serialVersionUID = -2386204376310577434L;
+
+    private static final RegisteredServiceJsonSerializer SERIALIZER = new RegisteredServiceJsonSerializer(new MinimalPrettyPrinter());
+
+    private long version;
+
+    private String publisher;
+
+    private long timestamp;
+
+    private int count;
+
+    private String digest;
+
+    private byte[] content;
+
+    /**
+     * Build a snapshot from the given services.
+     *
+     * @param version   the version
+     * @param publisher the publisher
+     * @param services  the services
+     * @return the snapshot
+     */
+    public static RegisteredServicesSnapshot of(final long version, final String publisher,
+                                                final Collection<? extends RegisteredService> services) {
+        val json = toJson(services);
+        return new RegisteredServicesSnapshot(version, publisher, System.currentTimeMillis(),
+            services.size(), digest(json), compress(json));
+    }
+
+    /**
+     * Calculate the digest of the given service definitions
+     * to detect whether anything has changed since the last snapshot.
+     *
+     * @param services the services
+     * @return the digest
+     */
+    public static String digest(final Collection<? extends RegisteredService> services) {
+        return digest(toJson(services));
+    }
+
+    private static String toJson(final Collection<? extends RegisteredService> services) {
+        return services
+            .stream()
+            .map(SERIALIZER::toString)
+            .collect(Collectors.joining("\n"));
+    }
+
+    private static String digest(final String json) {
+        return DigestUtils.sha256(json);
+    }
+
+    private static byte[] compress(final String json) {
+        return FunctionUtils.doUnchecked(() -> {
+            val bytes = new ByteArrayOutputStream();
+            try (val zip = new GZIPOutputStream(bytes)) {
+                zip.write(json.getBytes(StandardCharsets.UTF_8));
+            }
+            return bytes.toByteArray();
+        });
+    }
+
+    /**
+     * Decompress and deserialize the service definitions captured by this snapshot.
+     *
+     * @return the registered services
+     */
+    public List<RegisteredService> toRegisteredServices() {
+        return FunctionUtils.doUnchecked(() -> {
+            try (val zip = new GZIPInputStream(new ByteArrayInputStream(content))) {
+                val json = new String(zip.readAllBytes(), StandardCharsets.UTF_8);
+                return json.lines()
+                    .filter(StringUtils::isNotBlank)
+                    .map(SERIALIZER::from)
+                    .collect(Collectors.toList());
+            }
+        });
+    }
+}
@@ -0,0 +1,172 @@
+package org.apereo.cas.services.snapshot;
+
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
+import org.apereo.cas.util.PublisherIdentifier;
+import org.apereo.cas.util.spring.CasEventListener;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link RegisteredServicesSnapshotManager}.
+ * The elected node publishes a new snapshot every time service definitions are loaded
+ * from the service registry and have changed since the last publication. All other nodes
+ * serve service definitions from the latest snapshot and reload the services manager
+ * whenever a newer snapshot arrives, which swaps the services cache in one step.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RegisteredServicesSnapshotManager implements CasEventListener, MeterBinder {
+    private final RegisteredServicesSnapshotStore snapshotStore;
+
+    private final PublisherIdentifier publisherIdentifier;
+
+    private final ApplicationContext applicationContext;
+
+    private final AtomicReference<RegisteredServicesSnapshot> publishedSnapshot = new AtomicReference<>();
+
+    private final AtomicReference<AppliedSnapshot> appliedSnapshot = new AtomicReference<>();
+
+    private final LongAdder publishedSnapshots = new LongAdder();
+
+    private final LongAdder appliedSnapshots = new LongAdder();
+
+    /**
+     * Initialize the manager and subscribe to snapshots received from the cluster.
+     *
+     * @return the manager
+     */
+    public RegisteredServicesSnapshotManager initialize() {
+        snapshotStore.subscribe(this::handleSnapshotReceived);
+        return this;
+    }
+
+    /**
+     * Publish a snapshot once services are loaded from the service registry by the leader.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void handleRegisteredServicesLoadedEvent(final CasRegisteredServicesLoadedEvent event) {
+        if (snapshotStore.isLeader()) {
+            publish(event.getServices());
+        }
+    }
+
+    /**
+     * Publish the given services as a new snapshot, unless nothing has changed
+     * since the last snapshot published by this node.
+     *
+     * @param services the services
+     * @return the published snapshot, if any
+     */
+    public Optional<RegisteredServicesSnapshot> publish(final Collection<RegisteredService> services) {
+        val digest = RegisteredServicesSnapshot.digest(services);
+        val previous = publishedSnapshot.get();
+        if (previous != null && previous.getDigest().equals(digest)) {
+            LOGGER.trace("Service definitions have not changed since snapshot version [{}]", previous.getVersion());
+            return Optional.empty();
+        }
+        val latestVersion = snapshotStore.getLatestSnapshot()
+            .map(RegisteredServicesSnapshot::getVersion)
+            .orElse(0L);
+        val version = Math.max(System.currentTimeMillis(), Math.max(latestVersion, previous == null ? 0 : previous.getVersion()) + 1);
+        val snapshot = RegisteredServicesSnapshot.of(version, publisherIdentifier.getId(), services);
+        LOGGER.debug("Publishing [{}] service definition(s) as snapshot version [{}] with [{}] byte(s)",
+            snapshot.getCount(), version, snapshot.getContent().length);
+        snapshotStore.publish(snapshot);
+        publishedSnapshot.set(snapshot);
+        publishedSnapshots.increment();
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * Gets the services captured by the latest snapshot when this node is not the leader.
+     * An empty result indicates that services should be loaded from the service registry.
+     *
+     * @return the services
+     */
+    public Optional<List<RegisteredService>> getSnapshotServices() {
+        if (snapshotStore.isLeader()) {
+            return Optional.empty();
+        }
+        return snapshotStore.getLatestSnapshot().map(this::apply);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("cas.service.registry.snapshots", publishedSnapshots, LongAdder::sum)
+            .tag("operation", "published")
+            .description("Service definition snapshots published to the cluster")
+            .register(registry);
+        FunctionCounter.builder("cas.service.registry.snapshots", appliedSnapshots, LongAdder::sum)
+            .tag("operation", "applied")
+            .description("Service definition snapshots applied from the cluster")
+            .register(registry);
+        Gauge.builder("cas.service.registry.snapshot.version", this, RegisteredServicesSnapshotManager::getCurrentVersion)
+            .description("Version of the service definition snapshot published or applied by this node")
+            .register(registry);
+    }
+
+    /**
+     * Gets the version of the snapshot published or applied by this node.
+     *
+     * @return the version
+     */
+    public long getCurrentVersion() {
+        val applied = Optional.ofNullable(appliedSnapshot.get()).map(AppliedSnapshot::getVersion).orElse(0L);
+        val published = Optional.ofNullable(publishedSnapshot.get()).map(RegisteredServicesSnapshot::getVersion).orElse(0L);
+        return Math.max(applied, published);
+    }
+
+    private void handleSnapshotReceived(final RegisteredServicesSnapshot snapshot) {
+        if (snapshotStore.isLeader() || publisherIdentifier.getId().equals(snapshot.getPublisher())) {
+            return;
+        }
+        val current = appliedSnapshot.get();
+        if (current == null || snapshot.getVersion() > current.getVersion()) {
+            LOGGER.info("Reloading service definitions from snapshot version [{}] published by [{}]",
+                snapshot.getVersion(), snapshot.getPublisher());
+            applicationContext.getBean(ServicesManager.BEAN_NAME, ServicesManager.class).load();
+        }
+    }
+
+    private synchronized List<RegisteredService> apply(final RegisteredServicesSnapshot snapshot) {
+        val current = appliedSnapshot.get();
+        if (current != null && current.getVersion() >= snapshot.getVersion()) {
+            return current.getServices();
+        }
+        LOGGER.debug("Applying service definitions snapshot [{}]", snapshot);
+        val applied = new AppliedSnapshot(snapshot.getVersion(), snapshot.toRegisteredServices());
+        appliedSnapshot.set(applied);
+        appliedSnapshots.increment();
+        return applied.getServices();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class AppliedSnapshot {
+        private final long version;
+
+        private final List<RegisteredService> services;
+    }
+}
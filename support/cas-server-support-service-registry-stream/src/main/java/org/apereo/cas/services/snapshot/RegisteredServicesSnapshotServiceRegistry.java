@@ -0,0 +1,122 @@
+package org.apereo.cas.services.snapshot;
+
+import org.apereo.cas.services.ChainingServiceRegistry;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.ServiceRegistry;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link RegisteredServicesSnapshotServiceRegistry}.
+ * Decorates the chaining service registry so that nodes other than the leader
+ * read service definitions from the latest published snapshot, instead of the
+ * service registry storage. Write operations are always passed through to the storage.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class RegisteredServicesSnapshotServiceRegistry implements ChainingServiceRegistry {
+    private final ChainingServiceRegistry delegate;
+
+    private final Supplier<RegisteredServicesSnapshotManager> snapshotManager;
+
+    @Override
+    public long countServiceRegistries() {
+        return delegate.countServiceRegistries();
+    }
+
+    @Override
+    public void addServiceRegistries(final Collection<ServiceRegistry> registries) {
+        delegate.addServiceRegistries(registries);
+    }
+
+    @Override
+    public List<ServiceRegistry> getServiceRegistries() {
+        return delegate.getServiceRegistries();
+    }
+
+    @Override
+    public void synchronize(final RegisteredService service) {
+        delegate.synchronize(service);
+    }
+
+    @Override
+    public RegisteredService save(final RegisteredService registeredService) {
+        return delegate.save(registeredService);
+    }
+
+    @Override
+    public boolean delete(final RegisteredService registeredService) {
+        return delegate.delete(registeredService);
+    }
+
+    @Override
+    public void deleteAll() {
+        delegate.deleteAll();
+    }
+
+    @Override
+    public Collection<RegisteredService> load() {
+        val services = snapshotManager.get().getSnapshotServices();
+        if (services.isPresent()) {
+            return new ArrayList<>(services.get());
+        }
+        return delegate.load();
+    }
+
+    @Override
+    public RegisteredService findServiceById(final long id) {
+        return findSnapshotServiceBy(service -> service.getId() == id, () -> delegate.findServiceById(id));
+    }
+
+    @Override
+    public RegisteredService findServiceBy(final String id) {
+        return findSnapshotServiceBy(service -> service.matches(id), () -> delegate.findServiceBy(id));
+    }
+
+    @Override
+    public RegisteredService findServiceByExactServiceId(final String id) {
+        return findSnapshotServiceBy(service -> Objects.equals(service.getServiceId(), id), () -> delegate.findServiceByExactServiceId(id));
+    }
+
+    @Override
+    public RegisteredService findServiceByExactServiceName(final String name) {
+        return findSnapshotServiceBy(service -> Objects.equals(service.getName(), name), () -> delegate.findServiceByExactServiceName(name));
+    }
+
+    @Override
+    public long size() {
+        return snapshotManager.get().getSnapshotServices()
+            .map(services -> (long) services.size())
+            .orElseGet(delegate::size);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    private RegisteredService findSnapshotServiceBy(final Predicate<RegisteredService> predicate,
+                                                    final Supplier<RegisteredService> registryLookup) {
+        val services = snapshotManager.get().getSnapshotServices();
+        if (services.isPresent()) {
+            return services.get()
+                .stream()
+                .filter(predicate)
+                .findFirst()
+                .orElse(null);
+        }
+        return registryLookup.get();
+    }
+}
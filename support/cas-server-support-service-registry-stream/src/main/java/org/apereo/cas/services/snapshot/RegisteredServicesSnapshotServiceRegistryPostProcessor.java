@@ -0,0 +1,33 @@
+package org.apereo.cas.services.snapshot;
+
+import org.apereo.cas.services.ChainingServiceRegistry;
+import org.apereo.cas.services.ServiceRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * This is {@link RegisteredServicesSnapshotServiceRegistryPostProcessor}.
+ * Wraps the chaining service registry into a {@link RegisteredServicesSnapshotServiceRegistry}
+ * so that the services manager picks up definitions from published snapshots.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RegisteredServicesSnapshotServiceRegistryPostProcessor implements BeanPostProcessor {
+    private final ObjectProvider<RegisteredServicesSnapshotManager> snapshotManager;
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (ServiceRegistry.BEAN_NAME.equals(beanName) && bean instanceof ChainingServiceRegistry
+            && !(bean instanceof RegisteredServicesSnapshotServiceRegistry)) {
+            LOGGER.debug("Service registry [{}] will read service definitions from published snapshots", beanName);
+            return new RegisteredServicesSnapshotServiceRegistry((ChainingServiceRegistry) bean, snapshotManager::getObject);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,72 @@
+package org.apereo.cas.services.snapshot;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link RegisteredServicesSnapshotStore}.
+ * Transports service definition snapshots across the cluster and decides
+ * which node is responsible for loading and publishing them.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+public interface RegisteredServicesSnapshotStore {
+
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "registeredServicesSnapshotStore";
+
+    /**
+     * Publish the snapshot to the cluster.
+     *
+     * @param snapshot the snapshot
+     */
+    void publish(RegisteredServicesSnapshot snapshot);
+
+    /**
+     * Gets latest snapshot published to the cluster, if any.
+     *
+     * @return the latest snapshot
+     */
+    Optional<RegisteredServicesSnapshot> getLatestSnapshot();
+
+    /**
+     * Whether this node is responsible for loading service definitions
+     * from the service registry and publishing snapshots.
+     *
+     * @return true/false
+     */
+    boolean isLeader();
+
+    /**
+     * Subscribe to snapshots received from the cluster.
+     *
+     * @param listener the listener
+     */
+    void subscribe(Consumer<RegisteredServicesSnapshot> listener);
+
+    /**
+     * Store that keeps this node as the leader and never publishes anything.
+     *
+     * @return the store
+     */
+    static RegisteredServicesSnapshotStore noOp() {
+        return new BaseRegisteredServicesSnapshotStore() {
+            @Override
+            public void publish(final RegisteredServicesSnapshot snapshot) {
+            }
+
+            @Override
+            public Optional<RegisteredServicesSnapshot> getLatestSnapshot() {
+                return Optional.empty();
+            }
+
+            @Override
+            public boolean isLeader() {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,130 @@
+package org.apereo.cas.services.snapshot;
+
+import org.apereo.cas.services.ChainingServiceRegistry;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
+import org.apereo.cas.util.PublisherIdentifier;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link RegisteredServicesSnapshotManagerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 6.6.0
+ */
+@Tag("RegisteredService")
+public class RegisteredServicesSnapshotManagerTests {
+
+    @Test
+    public void verifySnapshotRoundTrip() {
+        val services = List.<RegisteredService>of(
+            RegisteredServiceTestUtils.getRegisteredService("https://app1.example.org"),
+            RegisteredServiceTestUtils.getRegisteredService("https://app2.example.org"));
+        val snapshot = RegisteredServicesSnapshot.of(1, "publisher", services);
+        assertEquals(2, snapshot.getCount());
+        assertEquals(RegisteredServicesSnapshot.digest(services), snapshot.getDigest());
+        val results = snapshot.toRegisteredServices();
+        assertEquals(2, results.size());
+        assertEquals(services.get(0).getId(), results.get(0).getId());
+        assertEquals(services.get(1).getServiceId(), results.get(1).getServiceId());
+    }
+
+    @Test
+    public void verifyLeaderPublishesOnlyChanges() {
+        val store = new InMemorySnapshotStore(true);
+        val manager = new RegisteredServicesSnapshotManager(store, new PublisherIdentifier(), new StaticApplicationContext()).initialize();
+        val services = List.<RegisteredService>of(RegisteredServiceTestUtils.getRegisteredService("https://app.example.org"));
+        manager.handleRegisteredServicesLoadedEvent(new CasRegisteredServicesLoadedEvent(this, services));
+        assertTrue(store.getLatestSnapshot().isPresent());
+        val version = store.getLatestSnapshot().get().getVersion();
+        assertTrue(manager.publish(services).isEmpty());
+        assertEquals(version, store.getLatestSnapshot().get().getVersion());
+
+        val updated = List.<RegisteredService>of(RegisteredServiceTestUtils.getRegisteredService("https://app.example.org"),
+            RegisteredServiceTestUtils.getRegisteredService("https://app2.example.org"));
+        assertTrue(manager.publish(updated).isPresent());
+        assertTrue(store.getLatestSnapshot().get().getVersion() > version);
+        assertTrue(manager.getSnapshotServices().isEmpty());
+
+        val registry = new SimpleMeterRegistry();
+        manager.bindTo(registry);
+        assertEquals(2, registry.get("cas.service.registry.snapshots").tag("operation", "published").functionCounter().count());
+    }
+
+    @Test
+    public void verifyFollowerAppliesSnapshot() {
+        val servicesManager = mock(ServicesManager.class);
+        val applicationContext = new StaticApplicationContext();
+        applicationContext.getBeanFactory().registerSingleton(ServicesManager.BEAN_NAME, servicesManager);
+        applicationContext.refresh();
+
+        val store = new InMemorySnapshotStore(false);
+        val manager = new RegisteredServicesSnapshotManager(store, new PublisherIdentifier(), applicationContext).initialize();
+        val delegate = mock(ChainingServiceRegistry.class);
+        val registry = new RegisteredServicesSnapshotServiceRegistry(delegate, () -> manager);
+        registry.load();
+        verify(delegate).load();
+
+        val service = RegisteredServiceTestUtils.getRegisteredService("https://app.example.org");
+        store.receive(RegisteredServicesSnapshot.of(1, "leader", List.of(service)));
+        verify(servicesManager).load();
+
+        val loaded = registry.load();
+        assertEquals(1, loaded.size());
+        assertEquals(service.getId(), loaded.iterator().next().getId());
+        assertEquals(1, registry.size());
+        assertNotNull(registry.findServiceById(service.getId()));
+        assertNotNull(registry.findServiceByExactServiceId(service.getServiceId()));
+        assertNull(registry.findServiceByExactServiceName("unknown"));
+        verify(delegate, times(1)).load();
+        verify(delegate, never()).findServiceByExactServiceName(anyString());
+        assertEquals(1, manager.getCurrentVersion());
+
+        store.receive(RegisteredServicesSnapshot.of(1, "leader", List.of(service)));
+        verify(servicesManager, times(1)).load();
+    }
+
+    private static class InMemorySnapshotStore extends BaseRegisteredServicesSnapshotStore {
+        private final boolean leader;
+
+        private final AtomicReference<RegisteredServicesSnapshot> snapshot = new AtomicReference<>();
+
+        InMemorySnapshotStore(final boolean leader) {
+            this.leader = leader;
+        }
+
+        @Override
+        public void publish(final RegisteredServicesSnapshot snapshot) {
+            this.snapshot.set(snapshot);
+        }
+
+        @Override
+        public Optional<RegisteredServicesSnapshot> getLatestSnapshot() {
+            return Optional.ofNullable(snapshot.get());
+        }
+
+        @Override
+        public boolean isLeader() {
+            return leader;
+        }
+
+        void receive(final RegisteredServicesSnapshot snapshot) {
+            this.snapshot.set(snapshot);
+            notifySnapshotReceived(snapshot);
+        }
+    }
+}